@@ -0,0 +1,73 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.benchmark;
+
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+
+
+/**
+ * benchmark agent
+ */
+public final class CAgent extends IBaseAgent<CAgent>
+{
+    /**
+     * id of the agent
+     */
+    private final int m_id;
+
+
+    /**
+     * ctor
+     *
+     * @param p_configuration agent configuration
+     */
+    public CAgent( final IAgentConfiguration<CAgent> p_configuration )
+    {
+        this( 0, p_configuration );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_id id of the agent
+     * @param p_configuration agent configuration
+     */
+    public CAgent( final int p_id, final IAgentConfiguration<CAgent> p_configuration )
+    {
+        super( p_configuration );
+        m_id = p_id;
+    }
+
+    /**
+     * returns the id of the agent
+     *
+     * @return id
+     */
+    public final int id()
+    {
+        return m_id;
+    }
+
+}
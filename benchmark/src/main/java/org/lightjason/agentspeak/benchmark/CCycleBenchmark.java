@@ -0,0 +1,105 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.benchmark;
+
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * benchmark of a single agent cycle with
+ * different numbers of beliefs, plans and trigger
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 10, time = 1 )
+@Fork( 2 )
+public class CCycleBenchmark extends IBaseBenchmark
+{
+    /**
+     * number of beliefs
+     */
+    @Param( { "0", "100", "1000" } )
+    public int m_beliefs;
+    /**
+     * number of plans
+     */
+    @Param( { "1", "10", "100" } )
+    public int m_plans;
+    /**
+     * number of trigger of each cycle
+     */
+    @Param( { "0", "1", "10", "100" } )
+    public int m_trigger;
+    /**
+     * agent
+     */
+    private CAgent m_agent;
+    /**
+     * trigger of each cycle
+     */
+    private ITrigger[] m_triggerlist;
+
+
+    /**
+     * initialize the agent
+     *
+     * @throws Exception on parsing error
+     */
+    @Setup
+    public void initialize() throws Exception
+    {
+        m_agent = generator( m_beliefs, m_plans ).generatesingle();
+        m_triggerlist = trigger( m_trigger, m_plans );
+    }
+
+    /**
+     * adds the trigger and runs one cycle
+     *
+     * @return agent
+     * @throws Exception on execution error
+     */
+    @Benchmark
+    public CAgent cycle() throws Exception
+    {
+        for ( final ITrigger l_trigger : m_triggerlist )
+            m_agent.trigger( l_trigger );
+        return m_agent.call();
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.benchmark;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.score.IAggregation;
+
+import java.io.InputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * agent generator of the benchmarks
+ */
+public final class CGenerator extends IBaseAgentGenerator<CAgent>
+{
+
+    /**
+     * ctor
+     *
+     * @param p_stream asl stream
+     * @throws Exception on any error
+     */
+    public CGenerator( final InputStream p_stream ) throws Exception
+    {
+        this( p_stream, Stream.of(), IVariableBuilder.EMPTY );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_stream asl stream
+     * @param p_action additional actions
+     * @param p_variablebuilder variable builder
+     * @throws Exception on any error
+     */
+    public CGenerator( final InputStream p_stream, final Stream<IAction> p_action, final IVariableBuilder p_variablebuilder ) throws Exception
+    {
+        super(
+            p_stream,
+            Stream.concat( CCommon.actionsFromPackage(), p_action ).collect( Collectors.toSet() ),
+            IAggregation.EMPTY,
+            p_variablebuilder
+        );
+    }
+
+    @Override
+    public final CAgent generatesingle( final Object... p_data )
+    {
+        // first data element is the agent id
+        return new CAgent(
+            ( p_data != null ) && ( p_data.length > 0 ) ? ( (Number) p_data[0] ).intValue() : 0,
+            m_configuration
+        );
+    }
+
+}
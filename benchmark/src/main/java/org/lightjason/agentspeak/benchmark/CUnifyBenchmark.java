@@ -0,0 +1,128 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.benchmark;
+
+import org.lightjason.agentspeak.agent.unify.CArray;
+import org.lightjason.agentspeak.agent.unify.CHash;
+import org.lightjason.agentspeak.agent.unify.CRecursive;
+import org.lightjason.agentspeak.agent.unify.CUnifier;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.action.unify.IUnifier;
+import org.lightjason.agentspeak.language.variable.CVariable;
+import org.lightjason.agentspeak.language.variable.IVariable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+
+/**
+ * benchmark of the literal unification with the
+ * stream-based and the array-based algorithm, the
+ * literal contains raw values, variables and a
+ * nested literal with the same structure
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 10, time = 1 )
+@Fork( 2 )
+public class CUnifyBenchmark
+{
+    /**
+     * unification algorithm
+     */
+    @Param( { "stream", "array" } )
+    public String m_algorithm;
+    /**
+     * number of literal values
+     */
+    @Param( { "1", "10", "100" } )
+    public int m_values;
+    /**
+     * unifier
+     */
+    private IUnifier m_unifier;
+    /**
+     * literal with values
+     */
+    private ILiteral m_source;
+    /**
+     * literal with variables
+     */
+    private ILiteral m_target;
+
+
+    /**
+     * initialize the unifier and the literals
+     */
+    @Setup
+    public void initialize()
+    {
+        m_unifier = "array".equals( m_algorithm )
+                    ? new CUnifier( new CArray(), new CArray() )
+                    : new CUnifier( new CHash(), new CRecursive() );
+
+        m_source = CLiteral.from(
+            "foo",
+            CLiteral.from( "bar", IntStream.range( 0, m_values ).mapToObj( i -> CRawTerm.from( i ) ).toArray( ITerm[]::new ) ),
+            CRawTerm.from( m_values )
+        );
+        m_target = CLiteral.from(
+            "foo",
+            CLiteral.from(
+                "bar",
+                IntStream.range( 0, m_values ).mapToObj( i -> i % 2 == 0 ? new CVariable<>( "X" + i ) : CRawTerm.from( i ) ).toArray( ITerm[]::new )
+            ),
+            new CVariable<>( "Y" )
+        );
+    }
+
+    /**
+     * unifies the literal
+     *
+     * @return unified variables
+     */
+    @Benchmark
+    public Set<IVariable<?>> unify()
+    {
+        return m_unifier.literal( (ILiteral) m_target.deepcopy(), m_source );
+    }
+
+}
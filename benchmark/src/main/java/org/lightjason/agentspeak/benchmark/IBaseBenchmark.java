@@ -0,0 +1,106 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.benchmark;
+
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.LogManager;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * base benchmark with a generated agent script,
+ * the script contains beliefs "value(i)" and plans
+ * "+!plan(i)(X)", so the size of the beliefbase and
+ * the plan library can be scaled independently
+ */
+public abstract class IBaseBenchmark
+{
+
+    static
+    {
+        // disable logger
+        LogManager.getLogManager().reset();
+    }
+
+    /**
+     * creates the agent generator
+     *
+     * @param p_beliefs number of beliefs
+     * @param p_plans number of plans
+     * @return generator
+     * @throws Exception on parsing error
+     */
+    protected static CGenerator generator( final int p_beliefs, final int p_plans ) throws Exception
+    {
+        try
+            (
+                final InputStream l_stream = new ByteArrayInputStream( script( p_beliefs, p_plans ).getBytes( StandardCharsets.UTF_8 ) );
+            )
+        {
+            return new CGenerator( l_stream );
+        }
+    }
+
+    /**
+     * creates the trigger, which are distributed over all plans
+     *
+     * @param p_trigger number of trigger
+     * @param p_plans number of plans
+     * @return trigger array
+     */
+    protected static ITrigger[] trigger( final int p_trigger, final int p_plans )
+    {
+        return IntStream.range( 0, p_trigger )
+                        .mapToObj( i -> CTrigger.from(
+                            ITrigger.EType.ADDGOAL,
+                            CLiteral.from( "plan" + i % Math.max( 1, p_plans ), CRawTerm.from( i ) )
+                        ) )
+                        .toArray( ITrigger[]::new );
+    }
+
+    /**
+     * creates the agent script
+     *
+     * @param p_beliefs number of beliefs
+     * @param p_plans number of plans
+     * @return asl script
+     */
+    private static String script( final int p_beliefs, final int p_plans )
+    {
+        return Stream.concat(
+            IntStream.range( 0, p_beliefs ).mapToObj( i -> "value(" + i + ")." ),
+            IntStream.range( 0, p_plans ).mapToObj( i -> "+!plan" + i + "(X) <- Y = X + 1." )
+        ).collect( Collectors.joining( "\n" ) );
+    }
+
+}
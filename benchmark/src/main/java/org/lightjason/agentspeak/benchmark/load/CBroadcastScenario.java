@@ -0,0 +1,128 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.benchmark.load;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.benchmark.CAgent;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
+import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * broadcast messaging, each agent sends in each
+ * cycle a message to the following agents of the
+ * population (fanout zero sends to all agents),
+ * the message is received as goal "+!message/receive(Sender, Value)"
+ */
+public final class CBroadcastScenario extends IBaseScenario
+{
+    /**
+     * number of receivers
+     */
+    private final int m_fanout;
+    /**
+     * population
+     */
+    private volatile List<CAgent> m_agents = Collections.emptyList();
+
+
+    /**
+     * ctor
+     *
+     * @param p_option option "fanout"
+     */
+    public CBroadcastScenario( final Map<String, String> p_option )
+    {
+        super( "broadcast", p_option );
+        m_fanout = Math.max( 0, this.option( "fanout", 0 ) );
+    }
+
+    @Override
+    protected final Stream<IAction> actions()
+    {
+        return Stream.of( new CBroadcast() );
+    }
+
+    @Override
+    protected final void initialize( final List<CAgent> p_agents )
+    {
+        m_agents = p_agents;
+    }
+
+
+    /**
+     * broadcast action
+     */
+    private final class CBroadcast extends IBaseAction
+    {
+
+        @Override
+        public final IPath name()
+        {
+            return CPath.from( "message/broadcast" );
+        }
+
+        @Override
+        public final int minimalArgumentNumber()
+        {
+            return 1;
+        }
+
+        @Override
+        public final IFuzzyValue<Boolean> execute( final IContext p_context, final boolean p_parallel, final List<ITerm> p_argument, final List<ITerm> p_return,
+                                                   final List<ITerm> p_annotation
+        )
+        {
+            final List<CAgent> l_agents = m_agents;
+            final int l_sender = p_context.agent().<CAgent>raw().id();
+            final int l_fanout = m_fanout == 0 ? l_agents.size() - 1 : Math.min( m_fanout, l_agents.size() - 1 );
+            final ITrigger l_message = CTrigger.from(
+                ITrigger.EType.ADDGOAL,
+                CLiteral.from( "message/receive", CRawTerm.from( l_sender ), CRawTerm.from( p_argument.get( 0 ).<Object>raw() ) )
+            );
+
+            IntStream.rangeClosed( 1, l_fanout )
+                     .mapToObj( i -> l_agents.get( ( l_sender + i ) % l_agents.size() ) )
+                     .forEach( i -> i.trigger( l_message ) );
+
+            return CFuzzyValue.from( true );
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.benchmark.load;
+
+import org.lightjason.agentspeak.language.variable.CConstant;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+
+/**
+ * deep goal chain, each agent runs in each cycle a
+ * chain of immediately executed sub-goals of the
+ * given depth
+ */
+public final class CChainScenario extends IBaseScenario
+{
+    /**
+     * depth of the chain
+     */
+    private final int m_depth;
+
+
+    /**
+     * ctor
+     *
+     * @param p_option option "depth"
+     */
+    public CChainScenario( final Map<String, String> p_option )
+    {
+        super( "chain", p_option );
+        m_depth = Math.max( 1, this.option( "depth", 10 ) );
+    }
+
+    @Override
+    protected final Stream<IVariable<?>> constants()
+    {
+        return Stream.of( new CConstant<>( "ChainDepth", m_depth ) );
+    }
+
+}
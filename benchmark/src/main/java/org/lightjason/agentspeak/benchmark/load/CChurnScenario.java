@@ -0,0 +1,64 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.benchmark.load;
+
+import org.lightjason.agentspeak.language.variable.CConstant;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+
+/**
+ * belief churn, each agent adds a belief in each
+ * cycle and removes the belief which is older than
+ * the window, so the beliefbase size is constant
+ * but creates add and delete events on each cycle
+ */
+public final class CChurnScenario extends IBaseScenario
+{
+    /**
+     * window size
+     */
+    private final int m_window;
+
+
+    /**
+     * ctor
+     *
+     * @param p_option option "window"
+     */
+    public CChurnScenario( final Map<String, String> p_option )
+    {
+        super( "churn", p_option );
+        m_window = Math.max( 1, this.option( "window", 100 ) );
+    }
+
+    @Override
+    protected final Stream<IVariable<?>> constants()
+    {
+        return Stream.of( new CConstant<>( "ChurnWindow", m_window ) );
+    }
+
+}
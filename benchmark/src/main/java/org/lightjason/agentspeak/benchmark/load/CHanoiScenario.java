@@ -0,0 +1,315 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.benchmark.load;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.benchmark.CAgent;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
+import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.variable.CConstant;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Stack;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * towers of hanoi, all agents play on the
+ * same towers and move the slices clockwise
+ * without end, so the towers are the shared
+ * coordination resource of the population
+ *
+ * @see https://en.wikipedia.org/wiki/Tower_of_Hanoi
+ */
+public final class CHanoiScenario extends IBaseScenario
+{
+    /**
+     * probability for failing push actions
+     */
+    private static final double FAILPROBABILITY = 0.33;
+    /**
+     * number of towers
+     */
+    private final int m_towernumber;
+    /**
+     * number of slices
+     */
+    private final int m_slicenumber;
+    /**
+     * towers
+     */
+    private final CTower[] m_tower;
+
+
+    /**
+     * ctor
+     *
+     * @param p_option options "towers" and "slices"
+     */
+    public CHanoiScenario( final Map<String, String> p_option )
+    {
+        super( "hanoi", p_option );
+        m_towernumber = Math.max( 3, this.option( "towers", 3 ) );
+        m_slicenumber = Math.max( 1, this.option( "slices", 3 ) );
+        m_tower = IntStream.range( 0, m_towernumber ).mapToObj( i -> new CTower() ).toArray( CTower[]::new );
+    }
+
+    @Override
+    protected final Stream<IAction> actions()
+    {
+        return Stream.of( new CTowerPush(), new CTowerPop(), new CTowerSize() );
+    }
+
+    @Override
+    protected final Stream<IVariable<?>> constants()
+    {
+        return Stream.of(
+            new CConstant<>( "TowerCount", m_towernumber ),
+            new CConstant<>( "TowerMaxIndex", m_towernumber - 1 ),
+            new CConstant<>( "SliceCount", m_slicenumber )
+        );
+    }
+
+    @Override
+    protected final void initialize( final List<CAgent> p_agents )
+    {
+        IntStream.range( 0, m_slicenumber ).forEach( i -> m_tower[0].push( new CSlice( m_slicenumber - i ) ) );
+    }
+
+    /**
+     * returns a tower
+     *
+     * @param p_index index term
+     * @return tower or null
+     */
+    private CTower tower( final ITerm p_index )
+    {
+        final int l_index = p_index.<Number>raw().intValue();
+        return ( l_index < 0 ) || ( l_index >= m_tower.length ) ? null : m_tower[l_index];
+    }
+
+
+    /**
+     * returns the number of elements of an tower
+     */
+    private final class CTowerSize extends IBaseAction
+    {
+
+        @Override
+        public final IPath name()
+        {
+            return CPath.from( "tower/size" );
+        }
+
+        @Override
+        public final int minimalArgumentNumber()
+        {
+            return 1;
+        }
+
+        @Override
+        public final IFuzzyValue<Boolean> execute( final IContext p_context, final boolean p_parallel, final List<ITerm> p_argument, final List<ITerm> p_return,
+                                                   final List<ITerm> p_annotation
+        )
+        {
+            final CTower l_tower = CHanoiScenario.this.tower( p_argument.get( 0 ) );
+            if ( l_tower == null )
+                return CFuzzyValue.from( false );
+
+            p_return.add( CRawTerm.from( l_tower.size() ) );
+            return CFuzzyValue.from( true );
+        }
+    }
+
+    /**
+     * pushs a slice to a tower
+     */
+    private final class CTowerPush extends IBaseAction
+    {
+
+        @Override
+        public final IPath name()
+        {
+            return CPath.from( "tower/push" );
+        }
+
+        @Override
+        public final int minimalArgumentNumber()
+        {
+            return 2;
+        }
+
+        @Override
+        public final IFuzzyValue<Boolean> execute( final IContext p_context, final boolean p_parallel, final List<ITerm> p_argument, final List<ITerm> p_return,
+                                                   final List<ITerm> p_annotation
+        )
+        {
+            final CTower l_tower = CHanoiScenario.this.tower( p_argument.get( 0 ) );
+            if ( ( l_tower == null ) || ( ThreadLocalRandom.current().nextDouble() < FAILPROBABILITY ) )
+                return CFuzzyValue.from( false );
+
+            try
+            {
+                l_tower.push( p_argument.get( 1 ).<CSlice>raw() );
+                return CFuzzyValue.from( true );
+            }
+            catch ( final IllegalStateException l_exception )
+            {
+                return CFuzzyValue.from( false );
+            }
+        }
+    }
+
+    /**
+     * pops an elements from a tower
+     */
+    private final class CTowerPop extends IBaseAction
+    {
+
+        @Override
+        public final IPath name()
+        {
+            return CPath.from( "tower/pop" );
+        }
+
+        @Override
+        public final int minimalArgumentNumber()
+        {
+            return 1;
+        }
+
+        @Override
+        public final IFuzzyValue<Boolean> execute( final IContext p_context, final boolean p_parallel, final List<ITerm> p_argument, final List<ITerm> p_return,
+                                                   final List<ITerm> p_annotation
+        )
+        {
+            final CTower l_tower = CHanoiScenario.this.tower( p_argument.get( 0 ) );
+            if ( l_tower == null )
+                return CFuzzyValue.from( false );
+
+            try
+            {
+                p_return.add( CRawTerm.from( l_tower.pop() ) );
+                return CFuzzyValue.from( true );
+            }
+            catch ( final IllegalStateException l_exception )
+            {
+                return CFuzzyValue.from( false );
+            }
+        }
+    }
+
+
+    /**
+     * defines a slice
+     */
+    private static final class CSlice
+    {
+        /**
+         * slice size
+         */
+        private final int m_size;
+
+        /**
+         * ctor
+         *
+         * @param p_size slice size
+         */
+        CSlice( final int p_size )
+        {
+            m_size = p_size;
+        }
+
+        @Override
+        public String toString()
+        {
+            return MessageFormat.format( "slice {0}", m_size );
+        }
+
+        /**
+         * returns the size
+         *
+         * @return slice size
+         */
+        final int size()
+        {
+            return m_size;
+        }
+    }
+
+    /**
+     * tower
+     */
+    @SuppressWarnings( "serial" )
+    private static final class CTower extends Stack<CSlice>
+    {
+        @Override
+        public final synchronized CSlice push( final CSlice p_item )
+        {
+            if ( ( this.size() > 0 ) && ( this.peek().size() < p_item.size() ) )
+                throw new IllegalStateException();
+
+            return super.push( p_item );
+        }
+
+        @Override
+        public final synchronized CSlice pop()
+        {
+            if ( this.isEmpty() )
+                throw new IllegalStateException();
+
+            return super.pop();
+        }
+
+        @Override
+        public final synchronized CSlice peek()
+        {
+            return super.peek();
+        }
+
+        @Override
+        public final synchronized boolean empty()
+        {
+            return super.empty();
+        }
+
+        @Override
+        public final synchronized int search( final Object p_object )
+        {
+            return super.search( p_object );
+        }
+    }
+
+}
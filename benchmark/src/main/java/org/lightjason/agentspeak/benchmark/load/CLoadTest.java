@@ -0,0 +1,287 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.benchmark.load;
+
+import org.lightjason.agentspeak.agent.scheduler.CScheduler;
+import org.lightjason.agentspeak.agent.scheduler.IScheduler;
+import org.lightjason.agentspeak.benchmark.CAgent;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.text.MessageFormat;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.logging.LogManager;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * load test, runs a population of N agents for M cycles
+ * with the scheduler and appends throughput, latency
+ * percentiles, allocation and garbage collection to a
+ * csv file, arguments are key-value pairs, e.g.
+ * "scenario=hanoi agents=1000 cycles=500 output=hanoi.csv",
+ * keys which are not used by the load test are
+ * passed to the scenario
+ */
+public final class CLoadTest
+{
+    /**
+     * csv header
+     */
+    private static final String HEADER = String.join(
+        ",",
+        "scenario", "agents", "cycles", "workers", "batchsize", "time_ms", "agentcycles_per_s", "cycles_per_s",
+        "latency_mean_us", "latency_p50_us", "latency_p90_us", "latency_p99_us", "latency_max_us",
+        "allocated_mb", "allocation_mb_per_s", "gc_count", "gc_time_ms", "options"
+    );
+    /**
+     * scenarios
+     */
+    private static final Map<String, Function<Map<String, String>, IScenario>> SCENARIOS = Collections.unmodifiableMap(
+        Stream.of(
+            new AbstractMap.SimpleImmutableEntry<String, Function<Map<String, String>, IScenario>>( "hanoi", CHanoiScenario::new ),
+            new AbstractMap.SimpleImmutableEntry<String, Function<Map<String, String>, IScenario>>( "churn", CChurnScenario::new ),
+            new AbstractMap.SimpleImmutableEntry<String, Function<Map<String, String>, IScenario>>( "chain", CChainScenario::new ),
+            new AbstractMap.SimpleImmutableEntry<String, Function<Map<String, String>, IScenario>>( "broadcast", CBroadcastScenario::new )
+        ).collect( Collectors.toMap( Map.Entry::getKey, Map.Entry::getValue ) )
+    );
+
+    static
+    {
+        // disable logger
+        LogManager.getLogManager().reset();
+    }
+
+
+    /**
+     * ctor
+     */
+    private CLoadTest()
+    {
+    }
+
+    /**
+     * main method
+     *
+     * @param p_args key-value arguments
+     * @throws Exception on any error
+     */
+    public static void main( final String[] p_args ) throws Exception
+    {
+        final Map<String, String> l_option = new HashMap<>();
+        Arrays.stream( p_args )
+              .map( i -> i.split( "=", 2 ) )
+              .filter( i -> i.length == 2 )
+              .forEach( i -> l_option.put( i[0].trim().toLowerCase( Locale.ROOT ), i[1].trim() ) );
+
+        final String l_name = l_option.getOrDefault( "scenario", "hanoi" ).toLowerCase( Locale.ROOT );
+        final int l_agents = Integer.parseInt( l_option.getOrDefault( "agents", "100" ) );
+        final int l_cycles = Integer.parseInt( l_option.getOrDefault( "cycles", "1000" ) );
+        final int l_warmup = Integer.parseInt( l_option.getOrDefault( "warmup", "100" ) );
+        final int l_workers = Integer.parseInt( l_option.getOrDefault( "workers", String.valueOf( Runtime.getRuntime().availableProcessors() ) ) );
+        final int l_batchsize = Integer.parseInt( l_option.getOrDefault( "batchsize", String.valueOf( CScheduler.DEFAULTBATCHSIZE ) ) );
+        final String l_output = l_option.getOrDefault( "output", "loadtest.csv" );
+
+        final Function<Map<String, String>, IScenario> l_factory = SCENARIOS.get( l_name );
+        if ( l_factory == null )
+            throw new IllegalArgumentException( MessageFormat.format( "scenario [{0}] not found, scenarios are {1}", l_name, SCENARIOS.keySet() ) );
+
+        final String l_result = run( l_factory.apply( l_option ), l_agents, l_cycles, l_warmup, l_workers, l_batchsize, l_option );
+        System.out.println( HEADER );
+        System.out.println( l_result );
+        write( new File( l_output ), l_result );
+    }
+
+    /**
+     * runs the load test
+     *
+     * @param p_scenario scenario
+     * @param p_agents number of agents
+     * @param p_cycles number of measured cycles
+     * @param p_warmup number of warmup cycles
+     * @param p_workers number of worker threads
+     * @param p_batchsize batch size of the scheduler
+     * @param p_option all options
+     * @return csv line
+     * @throws Exception on generating error
+     */
+    private static String run( final IScenario p_scenario, final int p_agents, final int p_cycles, final int p_warmup,
+                               final int p_workers, final int p_batchsize, final Map<String, String> p_option ) throws Exception
+    {
+        final List<CAgent> l_agents = p_scenario.generate( p_agents );
+        final IScheduler<CAgent> l_scheduler = new CScheduler<>( p_workers, p_batchsize, 0, TimeUnit.NANOSECONDS );
+        l_scheduler.add( l_agents.stream() );
+
+        try
+        {
+            for ( int i = 0; i < p_warmup; i++ )
+                l_scheduler.step();
+
+            // worker threads are alive, so the allocation counter of all threads contains the cycle allocation
+            final long[] l_latency = new long[Math.max( 1, p_cycles )];
+            final long l_allocation = allocation();
+            final long l_gccount = gccount();
+            final long l_gctime = gctime();
+            final long l_start = System.nanoTime();
+
+            for ( int i = 0; i < l_latency.length; i++ )
+            {
+                final long l_cycle = System.nanoTime();
+                l_scheduler.step();
+                l_latency[i] = System.nanoTime() - l_cycle;
+            }
+
+            final double l_time = ( System.nanoTime() - l_start ) / 1e9;
+            final double l_allocated = ( allocation() - l_allocation ) / 1024.0 / 1024.0;
+            Arrays.sort( l_latency );
+
+            return String.join(
+                ",",
+                p_scenario.name(),
+                String.valueOf( p_agents ),
+                String.valueOf( l_latency.length ),
+                String.valueOf( p_workers ),
+                String.valueOf( p_batchsize ),
+                number( l_time * 1e3 ),
+                number( (double) p_agents * l_latency.length / l_time ),
+                number( l_latency.length / l_time ),
+                number( Arrays.stream( l_latency ).average().orElse( 0 ) / 1e3 ),
+                number( percentile( l_latency, 0.5 ) / 1e3 ),
+                number( percentile( l_latency, 0.9 ) / 1e3 ),
+                number( percentile( l_latency, 0.99 ) / 1e3 ),
+                number( l_latency[l_latency.length - 1] / 1e3 ),
+                number( l_allocated ),
+                number( l_allocated / l_time ),
+                String.valueOf( gccount() - l_gccount ),
+                String.valueOf( gctime() - l_gctime ),
+                p_option.entrySet().stream()
+                        .map( i -> i.getKey() + "=" + i.getValue() )
+                        .sorted()
+                        .collect( Collectors.joining( " " ) )
+            );
+        }
+        finally
+        {
+            l_scheduler.stop();
+        }
+    }
+
+    /**
+     * appends the result to the csv file,
+     * the header is written on a new file
+     *
+     * @param p_file csv file
+     * @param p_result csv line
+     * @throws IOException on writing error
+     */
+    private static void write( final File p_file, final String p_result ) throws IOException
+    {
+        final boolean l_header = !p_file.exists() || ( p_file.length() == 0 );
+        try
+            (
+                final PrintWriter l_writer = new PrintWriter( new FileWriter( p_file, true ) );
+            )
+        {
+            if ( l_header )
+                l_writer.println( HEADER );
+            l_writer.println( p_result );
+        }
+    }
+
+    /**
+     * returns the percentile of sorted values
+     *
+     * @param p_sorted sorted values
+     * @param p_percentile percentile in [0,1]
+     * @return value
+     */
+    private static double percentile( final long[] p_sorted, final double p_percentile )
+    {
+        return p_sorted[Math.max( 0, Math.min( p_sorted.length - 1, (int) Math.ceil( p_percentile * p_sorted.length ) - 1 ) )];
+    }
+
+    /**
+     * formats a number for the csv file
+     *
+     * @param p_value value
+     * @return string
+     */
+    private static String number( final double p_value )
+    {
+        return String.format( Locale.ROOT, "%.3f", p_value );
+    }
+
+    /**
+     * returns the allocated bytes of all living threads
+     *
+     * @return bytes or zero if the jvm does not support allocation counting
+     */
+    private static long allocation()
+    {
+        final ThreadMXBean l_bean = ManagementFactory.getThreadMXBean();
+        if ( !( l_bean instanceof com.sun.management.ThreadMXBean ) )
+            return 0;
+
+        final com.sun.management.ThreadMXBean l_allocation = (com.sun.management.ThreadMXBean) l_bean;
+        if ( !l_allocation.isThreadAllocatedMemorySupported() || !l_allocation.isThreadAllocatedMemoryEnabled() )
+            return 0;
+
+        return Arrays.stream( l_allocation.getThreadAllocatedBytes( l_allocation.getAllThreadIds() ) ).filter( i -> i > 0 ).sum();
+    }
+
+    /**
+     * returns the number of garbage collections
+     *
+     * @return count
+     */
+    private static long gccount()
+    {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream().mapToLong( GarbageCollectorMXBean::getCollectionCount ).filter( i -> i > 0 ).sum();
+    }
+
+    /**
+     * returns the time of garbage collections
+     *
+     * @return time in milliseconds
+     */
+    private static long gctime()
+    {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream().mapToLong( GarbageCollectorMXBean::getCollectionTime ).filter( i -> i > 0 ).sum();
+    }
+
+}
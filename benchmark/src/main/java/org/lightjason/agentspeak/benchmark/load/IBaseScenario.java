@@ -0,0 +1,157 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.benchmark.load;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.benchmark.CAgent;
+import org.lightjason.agentspeak.benchmark.CGenerator;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.instantiable.IInstantiable;
+import org.lightjason.agentspeak.language.variable.CConstant;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * scenario with an agent script of the
+ * resources, the script gets the constant
+ * "MyID" and the constants of the scenario
+ */
+public abstract class IBaseScenario implements IScenario
+{
+    /**
+     * scenario name
+     */
+    private final String m_name;
+    /**
+     * scenario options
+     */
+    private final Map<String, String> m_option;
+
+
+    /**
+     * ctor
+     *
+     * @param p_name scenario name, the script is the resource "<name>.asl"
+     * @param p_option scenario options
+     */
+    protected IBaseScenario( final String p_name, final Map<String, String> p_option )
+    {
+        m_name = p_name;
+        m_option = Collections.unmodifiableMap( p_option );
+    }
+
+    @Override
+    public final String name()
+    {
+        return m_name;
+    }
+
+    @Override
+    public final List<CAgent> generate( final int p_agents ) throws Exception
+    {
+        try
+            (
+                final InputStream l_stream = this.getClass().getResourceAsStream( m_name + ".asl" );
+            )
+        {
+            final CGenerator l_generator = new CGenerator( l_stream, this.actions(), new CVariableBuilder() );
+            final List<CAgent> l_agents = Collections.unmodifiableList(
+                IntStream.range( 0, p_agents ).mapToObj( l_generator::generatesingle ).collect( Collectors.toList() )
+            );
+
+            this.initialize( l_agents );
+            return l_agents;
+        }
+    }
+
+    /**
+     * returns a numeric option
+     *
+     * @param p_name option name
+     * @param p_default default value
+     * @return value
+     */
+    protected final int option( final String p_name, final int p_default )
+    {
+        final String l_value = m_option.get( p_name );
+        return l_value == null ? p_default : Integer.parseInt( l_value );
+    }
+
+    /**
+     * actions of the scenario
+     *
+     * @return action stream
+     */
+    protected Stream<IAction> actions()
+    {
+        return Stream.of();
+    }
+
+    /**
+     * constants of the scenario
+     *
+     * @return constant stream
+     */
+    protected Stream<IVariable<?>> constants()
+    {
+        return Stream.of();
+    }
+
+    /**
+     * initialize call after the population is generated
+     *
+     * @param p_agents agent population
+     */
+    protected void initialize( final List<CAgent> p_agents )
+    {
+    }
+
+
+    /**
+     * variable builder
+     */
+    private final class CVariableBuilder implements IVariableBuilder
+    {
+
+        @Override
+        public final Stream<IVariable<?>> generate( final IAgent<?> p_agent, final IInstantiable p_runningcontext )
+        {
+            return Stream.concat(
+                Stream.of( new CConstant<>( "MyID", p_agent.<CAgent>raw().id() ) ),
+                IBaseScenario.this.constants()
+            );
+        }
+
+    }
+
+}
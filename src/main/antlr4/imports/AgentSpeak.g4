@@ -103,10 +103,11 @@ annotations :
     ;
 
 /**
- * atomic annotations (without parameter)
+ * atomic annotations (without parameter),
+ * tabling applies to all clauses of the rule functor
  **/
 annotation_atom :
-    AT (ATOMIC | PARALLEL)
+    AT (ATOMIC | PARALLEL | TABLING)
     ;
 
 /**
@@ -265,11 +265,12 @@ variablelist :
 
 /**
  * atoms are defined like Prolog atoms
- * @note internal action in Jason can begin with a dot, but here it is removed
+ * @note internal action in Jason can begin with a dot, but here it is removed,
+ * the tabling annotation keyword is lexed as token, so it is part of the atom
  **/
 atom :
-    LOWERCASELETTER
-    ( LOWERCASELETTER | UPPERCASELETTER | UNDERSCORE | DIGIT | SLASH | MINUS )*
+    ( LOWERCASELETTER | TABLING )
+    ( LOWERCASELETTER | UPPERCASELETTER | UNDERSCORE | DIGIT | SLASH | MINUS | TABLING )*
     ;
 
 /**
@@ -77,6 +77,7 @@ RIGHTSHIFT                 : '>>';
  **/
 PARALLEL                   : 'parallel';
 ATOMIC                     : 'atomic';
+TABLING                    : 'tabling';
 SCORE                      : 'score';
 
 
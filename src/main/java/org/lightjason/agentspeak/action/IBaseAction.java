@@ -35,6 +35,10 @@ import java.util.stream.Stream;
  */
 public abstract class IBaseAction implements IAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5288998885328238551L;
 
     @Override
     public final int hashCode()
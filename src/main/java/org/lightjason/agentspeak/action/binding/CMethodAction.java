@@ -47,6 +47,10 @@ import java.util.stream.Stream;
  */
 public final class CMethodAction extends IBaseAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 9708546955500468L;
     /**
      * name of the action
      */
@@ -44,6 +44,10 @@ public abstract class IBuildinAction extends IBaseAction
      * logger
      */
     protected static final Logger LOGGER = CCommon.logger( IBuildinAction.class );
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2010838769311490325L;
 
     /**
      * action name
@@ -46,6 +46,11 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 public final class CAddPlan extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -7275060592812136893L;
+
     @Override
     public int minimalArgumentNumber()
     {
@@ -51,6 +51,10 @@ import java.util.stream.Collectors;
  */
 public final class CBeliefList extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5372460586975893721L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CClearBeliefbase extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2218964316810751965L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -43,6 +43,10 @@ import java.util.List;
  */
 public class CCycleTime extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 7236501886192014775L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -55,6 +55,10 @@ import java.util.List;
 @SuppressFBWarnings( "GC_UNRELATED_TYPES" )
 public final class CGetPlan extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5994324128625264888L;
 
     @Override
     public final int minimalArgumentNumber()
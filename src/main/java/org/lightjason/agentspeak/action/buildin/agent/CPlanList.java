@@ -46,6 +46,10 @@ import java.util.stream.Collectors;
  */
 public final class CPlanList extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -5842195461084048417L;
 
     @Override
     public final int minimalArgumentNumber()
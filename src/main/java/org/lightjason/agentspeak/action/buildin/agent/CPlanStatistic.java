@@ -50,6 +50,10 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 public final class CPlanStatistic extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -300762119736220267L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -51,6 +51,11 @@ import java.util.List;
 @SuppressFBWarnings( "GC_UNRELATED_TYPES" )
 public final class CRemovePlan extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 9125280165899225391L;
+
     @Override
     public final int minimalArgumentNumber()
     {
@@ -96,7 +101,7 @@ public final class CRemovePlan extends IBuildinAction
 
 
         final ITrigger l_trigger = CTrigger.from( p_trigger, l_literal );
-        if ( !p_agent.plans().containsKey( l_literal ) )
+        if ( !p_agent.plans().containsKey( l_trigger ) )
             return false;
 
         p_agent.plans().removeAll( l_trigger );
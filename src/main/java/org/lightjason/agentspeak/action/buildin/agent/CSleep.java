@@ -44,6 +44,10 @@ import java.util.stream.Stream;
  */
 public final class CSleep extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4751962549964811775L;
 
     @Override
     public final int minimalArgumentNumber()
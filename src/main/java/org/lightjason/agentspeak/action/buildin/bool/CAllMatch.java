@@ -46,6 +46,10 @@ import java.util.stream.Collectors;
  */
 public final class CAllMatch extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1835603696536254558L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CAnd extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 8815770320855178979L;
 
     @Override
     public final int minimalArgumentNumber()
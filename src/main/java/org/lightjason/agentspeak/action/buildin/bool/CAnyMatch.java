@@ -46,6 +46,10 @@ import java.util.stream.Collectors;
  */
 public final class CAnyMatch extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4671233749959973667L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -43,6 +43,10 @@ import java.util.List;
  */
 public final class CCountFalse extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -10028271680533319L;
 
     @Override
     public final int minimalArgumentNumber()
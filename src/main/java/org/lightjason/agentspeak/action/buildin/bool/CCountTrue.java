@@ -42,6 +42,10 @@ import java.util.List;
  */
 public final class CCountTrue extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3996500985270208756L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -47,6 +47,10 @@ import java.util.stream.Collectors;
  */
 public final class CEqual extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2643821890656550538L;
 
     @Override
     public final int minimalArgumentNumber()
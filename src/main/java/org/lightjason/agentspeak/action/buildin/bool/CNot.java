@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CNot extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 8238168601796591717L;
 
     @Override
     public final int minimalArgumentNumber()
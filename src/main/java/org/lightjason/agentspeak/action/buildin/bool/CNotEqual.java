@@ -47,6 +47,10 @@ import java.util.stream.Collectors;
  */
 public final class CNotEqual extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2715887586760486813L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class COr extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5650964009974364564L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CXor extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1347627700907920468L;
 
     @Override
     public final int minimalArgumentNumber()
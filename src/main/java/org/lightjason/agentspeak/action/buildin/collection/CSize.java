@@ -46,6 +46,10 @@ import java.util.Map;
  */
 public final class CSize extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 8979054585463032109L;
 
     @Override
     public final int minimalArgumentNumber()
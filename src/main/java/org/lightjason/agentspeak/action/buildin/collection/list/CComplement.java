@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CComplement extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2060739573780539377L;
     /**
      * ctor
      */
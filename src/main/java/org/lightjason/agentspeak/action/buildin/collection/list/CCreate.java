@@ -48,6 +48,10 @@ import java.util.stream.Collectors;
  */
 public final class CCreate extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 1549733815322611469L;
     /**
      * ctor
      */
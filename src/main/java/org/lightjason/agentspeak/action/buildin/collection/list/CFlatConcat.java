@@ -42,6 +42,10 @@ import java.util.List;
  */
 public final class CFlatConcat extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 8532854455557047116L;
     /**
      * ctor
      */
@@ -46,6 +46,10 @@ import java.util.stream.Collectors;
  */
 public final class CGet extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3712109642961355630L;
     /**
      * ctor
      */
@@ -46,6 +46,10 @@ import java.util.stream.Collectors;
  */
 public final class CIntersect extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2729259680210056360L;
     /**
      * ctor
      */
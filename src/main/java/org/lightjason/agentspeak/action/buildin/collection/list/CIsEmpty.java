@@ -43,6 +43,10 @@ import java.util.List;
  */
 public final class CIsEmpty extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5284438065060069834L;
     /**
      * ctor
      */
@@ -46,6 +46,10 @@ import java.util.stream.IntStream;
  */
 public final class CRange extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2963730860929598867L;
     /**
      * ctor
      */
@@ -42,6 +42,10 @@ import java.util.List;
  */
 public final class CRemove extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 1088203286692723488L;
     /**
      * ctor
      */
@@ -45,6 +45,10 @@ import java.util.stream.Collectors;
  */
 public final class CReverse extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 8351910004730340823L;
     /**
      * ctor
      */
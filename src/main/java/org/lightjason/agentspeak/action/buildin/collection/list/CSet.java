@@ -42,6 +42,10 @@ import java.util.List;
  */
 public final class CSet extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1062333581469181196L;
     /**
      * ctor
      */
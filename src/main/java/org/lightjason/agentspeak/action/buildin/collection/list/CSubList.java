@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CSubList extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2363783926476007813L;
     /**
      * ctor
      */
@@ -49,6 +49,10 @@ import java.util.stream.Collectors;
  */
 public final class CSymmetricDifference extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6215824318854935720L;
     /**
      * ctor
      */
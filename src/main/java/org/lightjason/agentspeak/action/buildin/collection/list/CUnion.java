@@ -45,6 +45,10 @@ import java.util.stream.Collectors;
  */
 public final class CUnion extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8770153771331254744L;
     /**
      * ctor
      */
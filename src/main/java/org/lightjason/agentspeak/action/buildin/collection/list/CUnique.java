@@ -46,6 +46,10 @@ import java.util.stream.Collectors;
  */
 public final class CUnique extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3068534078575659960L;
     /**
      * ctor
      */
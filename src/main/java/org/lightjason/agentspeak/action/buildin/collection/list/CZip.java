@@ -48,6 +48,10 @@ import java.util.stream.Collectors;
  */
 public final class CZip extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 7322219951863279879L;
     /**
      * ctor
      */
@@ -49,6 +49,10 @@ import java.util.stream.Collectors;
  */
 public final class CCreate extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 205480672060495062L;
     /**
      * ctor
      */
@@ -49,6 +49,10 @@ import java.util.stream.Collectors;
  */
 public final class CGet extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4431855233305146326L;
     /**
      * ctor
      */
@@ -43,6 +43,10 @@ import java.util.Map;
  */
 public final class CPut extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6721046100951213750L;
     /**
      * ctor
      */
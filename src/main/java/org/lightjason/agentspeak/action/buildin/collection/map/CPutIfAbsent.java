@@ -43,6 +43,10 @@ import java.util.Map;
  */
 public final class CPutIfAbsent extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6415805455464025531L;
     /**
      * ctor
      */
@@ -45,6 +45,10 @@ import java.util.Map;
  */
 public final class CRemove extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -771498275533284065L;
     /**
      * ctor
      */
@@ -46,6 +46,10 @@ import java.util.stream.Collectors;
  */
 public final class CValues extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 8613302136261667520L;
     /**
      * ctor
      */
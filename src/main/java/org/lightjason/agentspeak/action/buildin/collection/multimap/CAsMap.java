@@ -46,6 +46,10 @@ import java.util.List;
  */
 public final class CAsMap extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4739111737768053391L;
     /**
      * ctor
      */
@@ -50,6 +50,10 @@ import java.util.stream.Collectors;
  */
 public final class CCreate extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -7151956152963339614L;
     /**
      * ctor
      */
@@ -47,6 +47,10 @@ import java.util.stream.Collectors;
  */
 public final class CGet extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2021871405688353695L;
     /**
      * ctor
      */
@@ -45,6 +45,10 @@ import java.util.stream.Collectors;
  */
 public final class CKeys extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6827476515714640937L;
     /**
      * ctor
      */
@@ -43,6 +43,10 @@ import java.util.List;
  */
 public final class CPut extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6734665044401019700L;
     /**
      * ctor
      */
@@ -46,6 +46,10 @@ import java.util.List;
  */
 public final class CCreate extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3364312640568590509L;
     /**
      * ctor
      */
@@ -45,6 +45,10 @@ import java.util.stream.Stream;
  */
 public final class CFlat extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -798147039202253474L;
     /**
      * ctor
      */
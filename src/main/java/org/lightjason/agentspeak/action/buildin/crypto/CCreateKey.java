@@ -49,6 +49,10 @@ import java.util.List;
  */
 public final class CCreateKey extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1834483514152583386L;
 
     @Override
     public final int minimalArgumentNumber()
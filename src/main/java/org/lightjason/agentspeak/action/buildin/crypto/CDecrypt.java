@@ -51,6 +51,10 @@ import java.util.List;
  */
 public final class CDecrypt extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3080117186577339563L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -51,6 +51,10 @@ import java.util.List;
  */
 public final class CEncrypt extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 878742001294372343L;
 
     @Override
     public final int minimalArgumentNumber()
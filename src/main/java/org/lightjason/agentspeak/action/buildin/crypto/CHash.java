@@ -60,6 +60,10 @@ import java.util.Locale;
  */
 public final class CHash extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 7287603445604562883L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -42,6 +42,10 @@ import java.util.stream.Stream;
  */
 public final class CApplyDays extends IPlusMinus
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2885812047623467290L;
 
     @Override
     protected final Stream<?> applyminus( final Stream<ZonedDateTime> p_datetime, final long p_value )
@@ -42,6 +42,10 @@ import java.util.stream.Stream;
  */
 public final class CApplyHours extends IPlusMinus
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5143563546889986303L;
 
     @Override
     protected final Stream<?> applyminus( final Stream<ZonedDateTime> p_datetime, final long p_value )
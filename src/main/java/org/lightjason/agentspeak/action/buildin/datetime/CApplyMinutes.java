@@ -42,6 +42,10 @@ import java.util.stream.Stream;
  */
 public final class CApplyMinutes extends IPlusMinus
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -572111168898622239L;
 
     @Override
     protected final Stream<?> applyminus( final Stream<ZonedDateTime> p_datetime, final long p_value )
@@ -42,6 +42,10 @@ import java.util.stream.Stream;
  */
 public final class CApplyMonths extends IPlusMinus
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 7832801991688710533L;
 
     @Override
     protected final Stream<?> applyminus( final Stream<ZonedDateTime> p_datetime, final long p_value )
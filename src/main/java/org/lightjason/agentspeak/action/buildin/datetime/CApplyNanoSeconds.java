@@ -42,6 +42,10 @@ import java.util.stream.Stream;
  */
 public final class CApplyNanoSeconds extends IPlusMinus
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6372470747556969039L;
 
     @Override
     protected final Stream<?> applyminus( final Stream<ZonedDateTime> p_datetime, final long p_value )
@@ -42,6 +42,10 @@ import java.util.stream.Stream;
  */
 public final class CApplySeconds extends IPlusMinus
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -688036659212700929L;
 
     @Override
     protected final Stream<?> applyminus( final Stream<ZonedDateTime> p_datetime, final long p_value )
@@ -42,6 +42,10 @@ import java.util.stream.Stream;
  */
 public final class CApplyYears extends IPlusMinus
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2790401351550884571L;
 
     @Override
     protected final Stream<?> applyminus( final Stream<ZonedDateTime> p_datetime, final long p_value )
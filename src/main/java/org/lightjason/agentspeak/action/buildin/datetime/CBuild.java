@@ -48,6 +48,11 @@ import java.util.List;
  */
 public final class CBuild extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6809207117383942174L;
+
     @Override
     public final int minimalArgumentNumber()
     {
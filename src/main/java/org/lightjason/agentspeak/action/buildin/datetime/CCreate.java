@@ -42,6 +42,10 @@ import java.util.List;
  */
 public final class CCreate extends IDateTime
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 9177183916043629955L;
 
     @Override
     protected final boolean elements( final ZonedDateTime p_datetime, final List<ITerm> p_return )
@@ -42,6 +42,10 @@ import java.util.List;
  */
 public final class CDate extends IDateTime
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4490065527882057197L;
 
     @Override
     protected final boolean elements( final ZonedDateTime p_datetime, final List<ITerm> p_return )
@@ -41,6 +41,10 @@ import java.util.stream.Stream;
  */
 public final class CDaysBetween extends IBetween
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2204654538944733054L;
 
     @Override
     protected final Stream<?> apply( final Stream<List<Instant>> p_datetime )
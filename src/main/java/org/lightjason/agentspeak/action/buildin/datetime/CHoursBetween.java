@@ -41,6 +41,10 @@ import java.util.stream.Stream;
  */
 public final class CHoursBetween extends IBetween
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2772776076412167604L;
 
     @Override
     protected final Stream<?> apply( final Stream<List<Instant>> p_datetime )
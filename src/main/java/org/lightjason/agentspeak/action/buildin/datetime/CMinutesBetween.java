@@ -41,6 +41,10 @@ import java.util.stream.Stream;
  */
 public final class CMinutesBetween extends IBetween
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2915775037746512831L;
 
     @Override
     protected final Stream<?> apply( final Stream<List<Instant>> p_datetime )
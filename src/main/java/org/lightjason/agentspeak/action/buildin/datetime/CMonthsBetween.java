@@ -41,6 +41,10 @@ import java.util.stream.Stream;
  */
 public final class CMonthsBetween extends IBetween
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2944582586117925207L;
 
     @Override
     protected final Stream<?> apply( final Stream<List<Instant>> p_datetime )
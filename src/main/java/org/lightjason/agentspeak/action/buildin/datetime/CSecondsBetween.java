@@ -41,6 +41,10 @@ import java.util.stream.Stream;
  */
 public final class CSecondsBetween extends IBetween
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3287313602403467271L;
 
     @Override
     protected final Stream<?> apply( final Stream<List<Instant>> p_datetime )
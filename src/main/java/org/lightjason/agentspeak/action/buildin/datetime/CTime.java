@@ -42,6 +42,10 @@ import java.util.List;
  */
 public final class CTime extends IDateTime
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -5507360709996185053L;
 
     @Override
     protected final boolean elements( final ZonedDateTime p_datetime, final List<ITerm> p_return )
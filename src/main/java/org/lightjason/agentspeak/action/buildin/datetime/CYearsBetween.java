@@ -41,6 +41,10 @@ import java.util.stream.Stream;
  */
 public final class CYearsBetween extends IBetween
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6456145317414317167L;
 
     @Override
     protected final Stream<?> apply( final Stream<List<Instant>> p_datetime )
@@ -44,6 +44,10 @@ import java.util.stream.Stream;
  */
 public abstract class IBetween extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2635256498955176776L;
     /**
      * ctor
      */
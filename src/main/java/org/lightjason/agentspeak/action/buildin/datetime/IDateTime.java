@@ -42,6 +42,10 @@ import java.util.stream.Stream;
  */
 public abstract class IDateTime extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2978090119525452683L;
 
     /**
      * ctor
@@ -45,6 +45,10 @@ import java.util.stream.Stream;
  */
 public abstract class IPlusMinus extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8064709292107745840L;
     /**
      * ctor
      */
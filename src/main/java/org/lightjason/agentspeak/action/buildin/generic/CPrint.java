@@ -51,6 +51,10 @@ import java.util.stream.Collectors;
  */
 public final class CPrint extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3428890628015022136L;
 
     /**
      * output stream
@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CThrow extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 7857266233682511213L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CCreateLiteral extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6763317505589377818L;
     /**
      * ctor
      */
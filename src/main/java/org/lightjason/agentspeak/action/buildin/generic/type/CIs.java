@@ -50,6 +50,10 @@ import java.util.stream.Collectors;
  */
 public final class CIs extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -823227867724954513L;
 
     /**
      * ctor
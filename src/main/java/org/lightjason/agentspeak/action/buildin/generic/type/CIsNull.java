@@ -44,6 +44,10 @@ import java.util.Objects;
  */
 public final class CIsNull extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4897025577326436408L;
 
     /**
      * ctor
@@ -43,6 +43,10 @@ import java.util.List;
  */
 public final class CIsNumeric extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2307776132134554768L;
 
     /**
      * ctor
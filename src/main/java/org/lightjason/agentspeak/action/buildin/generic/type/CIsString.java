@@ -42,6 +42,10 @@ import java.util.List;
  */
 public final class CIsString extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8343330705247927369L;
 
     /**
      * ctor
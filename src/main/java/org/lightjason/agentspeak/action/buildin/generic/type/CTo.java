@@ -45,6 +45,10 @@ import java.util.stream.Collectors;
  */
 public final class CTo extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2546326422067531704L;
 
     /**
      * ctor
@@ -38,6 +38,10 @@ import java.util.List;
  */
 public final class CToFloat extends ICast
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -5468250343047542012L;
 
     @Override
     protected final boolean cast( final ITerm p_value, final List<ITerm> p_return )
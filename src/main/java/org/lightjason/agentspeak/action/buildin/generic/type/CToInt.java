@@ -38,6 +38,10 @@ import java.util.List;
  */
 public final class CToInt extends ICast
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3552457175331059713L;
 
     @Override
     protected final boolean cast( final ITerm p_value, final List<ITerm> p_return )
@@ -43,6 +43,10 @@ import java.util.List;
  */
 public abstract class ICast extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -763578421021882477L;
 
     /**
      * ctor
@@ -39,6 +39,10 @@ import java.util.Map;
  */
 public abstract class IParse extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -9026461958045524800L;
     /**
      * ctor
      */
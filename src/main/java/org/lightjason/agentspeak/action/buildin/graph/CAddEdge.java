@@ -46,6 +46,11 @@ import java.util.stream.Collectors;
  */
 public final class CAddEdge extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 1562226308718151896L;
+
     @Override
     public final int minimalArgumentNumber()
     {
@@ -44,6 +44,11 @@ import java.util.List;
  */
 public final class CAddVertex extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3166881647108656493L;
+
     @Override
     public final int minimalArgumentNumber()
     {
@@ -73,6 +73,11 @@ import java.util.stream.Stream;
  */
 public final class CAdjacencyMatrix extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 9189066801115613794L;
+
     @Override
     public final int minimalArgumentNumber()
     {
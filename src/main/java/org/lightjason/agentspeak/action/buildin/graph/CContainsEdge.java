@@ -47,6 +47,11 @@ import java.util.stream.Collectors;
  */
 public final class CContainsEdge extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6955242412906139749L;
+
     @Override
     public final int minimalArgumentNumber()
     {
@@ -47,6 +47,11 @@ import java.util.stream.Collectors;
  */
 public final class CContainsVertex extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8079495066830206652L;
+
     @Override
     public final int minimalArgumentNumber()
     {
@@ -61,6 +61,11 @@ import java.util.stream.Collectors;
  */
 public class CCreate extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4332681719201190855L;
+
     @Override
     public final int minimalArgumentNumber()
     {
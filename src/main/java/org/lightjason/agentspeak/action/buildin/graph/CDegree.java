@@ -46,6 +46,11 @@ import java.util.stream.Collectors;
  */
 public final class CDegree extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 909970664365163769L;
+
     @Override
     public final int minimalArgumentNumber()
     {
@@ -55,6 +55,11 @@ import java.util.stream.Collectors;
  */
 public class CDistancePath extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6092988893594009217L;
+
     @Override
     public final int minimalArgumentNumber()
     {
@@ -45,6 +45,11 @@ import java.util.List;
  */
 public final class CEdgeCount extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2230424038294372067L;
+
     @Override
     public final int minimalArgumentNumber()
     {
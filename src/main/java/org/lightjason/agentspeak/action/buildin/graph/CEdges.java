@@ -46,6 +46,11 @@ import java.util.List;
  */
 public final class CEdges extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6467315666190162499L;
+
     @Override
     public final int minimalArgumentNumber()
     {
@@ -47,6 +47,11 @@ import java.util.stream.Collectors;
  */
 public final class CEndPoint extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3763703915475675442L;
+
     @Override
     public final int minimalArgumentNumber()
     {
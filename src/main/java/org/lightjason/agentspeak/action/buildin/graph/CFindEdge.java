@@ -46,6 +46,11 @@ import java.util.stream.Collectors;
  */
 public final class CFindEdge extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6376450572677687254L;
+
     @Override
     public final int minimalArgumentNumber()
     {
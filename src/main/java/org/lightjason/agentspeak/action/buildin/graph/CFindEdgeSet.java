@@ -48,6 +48,11 @@ import java.util.stream.Collectors;
  */
 public final class CFindEdgeSet extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5060736249756603610L;
+
     @Override
     public final int minimalArgumentNumber()
     {
@@ -46,6 +46,11 @@ import java.util.stream.Collectors;
  */
 public final class CInDegree extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 8775089330624062249L;
+
     @Override
     public final int minimalArgumentNumber()
     {
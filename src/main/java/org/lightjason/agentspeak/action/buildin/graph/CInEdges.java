@@ -49,6 +49,11 @@ import java.util.stream.Collectors;
  */
 public final class CInEdges extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4744365358394326196L;
+
     @Override
     public final int minimalArgumentNumber()
     {
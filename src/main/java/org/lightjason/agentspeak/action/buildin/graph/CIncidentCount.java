@@ -45,6 +45,10 @@ import java.util.stream.Collectors;
  */
 public final class CIncidentCount extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -5621281911107777459L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -47,6 +47,11 @@ import java.util.stream.Collectors;
  */
 public final class CIncidentVertices extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4603025327133889074L;
+
     @Override
     public final int minimalArgumentNumber()
     {
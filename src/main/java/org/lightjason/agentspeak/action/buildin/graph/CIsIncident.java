@@ -46,6 +46,10 @@ import java.util.stream.Collectors;
  */
 public final class CIsIncident extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 1594378626856508789L;
 
     @Override
     public final int minimalArgumentNumber()
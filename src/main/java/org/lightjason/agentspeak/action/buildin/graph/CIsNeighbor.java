@@ -46,6 +46,10 @@ import java.util.stream.Collectors;
  */
 public final class CIsNeighbor extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1755992787077930075L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -46,6 +46,10 @@ import java.util.stream.Collectors;
  */
 public final class CIsPredecessor extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -9196323991957552288L;
 
     @Override
     public final int minimalArgumentNumber()
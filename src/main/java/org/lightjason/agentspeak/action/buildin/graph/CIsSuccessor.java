@@ -46,6 +46,10 @@ import java.util.stream.Collectors;
  */
 public final class CIsSuccessor extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8526197618739055727L;
 
     @Override
     public final int minimalArgumentNumber()
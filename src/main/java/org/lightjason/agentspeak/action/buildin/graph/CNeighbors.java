@@ -49,6 +49,11 @@ import java.util.stream.Collectors;
  */
 public final class CNeighbors extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8502691998549460222L;
+
     @Override
     public final int minimalArgumentNumber()
     {
@@ -48,6 +48,11 @@ import java.util.stream.Collectors;
  */
 public final class CNeighborsCount extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8213960286109700730L;
+
     @Override
     public final int minimalArgumentNumber()
     {
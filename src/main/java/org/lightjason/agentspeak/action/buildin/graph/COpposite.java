@@ -47,6 +47,11 @@ import java.util.stream.Collectors;
  */
 public final class COpposite extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3620268800181751213L;
+
     @Override
     public final int minimalArgumentNumber()
     {
@@ -46,6 +46,11 @@ import java.util.stream.Collectors;
  */
 public final class COutDegree extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -5419636266531239660L;
+
     @Override
     public final int minimalArgumentNumber()
     {
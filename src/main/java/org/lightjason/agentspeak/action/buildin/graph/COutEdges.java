@@ -49,6 +49,11 @@ import java.util.stream.Collectors;
  */
 public final class COutEdges extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 1055726323338723942L;
+
     @Override
     public final int minimalArgumentNumber()
     {
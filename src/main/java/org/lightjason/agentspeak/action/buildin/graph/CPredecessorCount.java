@@ -46,6 +46,10 @@ import java.util.stream.Collectors;
  */
 public final class CPredecessorCount extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4770092546922021216L;
 
     @Override
     public final int minimalArgumentNumber()
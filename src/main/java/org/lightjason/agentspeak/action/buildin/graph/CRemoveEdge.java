@@ -45,6 +45,10 @@ import java.util.stream.Collectors;
  */
 public final class CRemoveEdge extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2684623906459478864L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -45,6 +45,10 @@ import java.util.stream.Collectors;
  */
 public final class CRemoveVertex extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3185484346600717046L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -55,6 +55,11 @@ import java.util.stream.Collectors;
  */
 public final class CShortestPath extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4253202085052789463L;
+
     @Override
     public final int minimalArgumentNumber()
     {
@@ -53,6 +53,11 @@ import java.util.stream.Collectors;
  */
 public final class CSpanningTree extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5180280216517412473L;
+
     @Override
     public final int minimalArgumentNumber()
     {
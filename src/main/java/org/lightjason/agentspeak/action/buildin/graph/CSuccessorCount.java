@@ -46,6 +46,10 @@ import java.util.stream.Collectors;
  */
 public final class CSuccessorCount extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8152959429661663766L;
 
     @Override
     public final int minimalArgumentNumber()
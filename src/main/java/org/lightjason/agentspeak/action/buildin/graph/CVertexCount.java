@@ -45,6 +45,11 @@ import java.util.List;
  */
 public final class CVertexCount extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5819372899393660795L;
+
     @Override
     public final int minimalArgumentNumber()
     {
@@ -45,6 +45,11 @@ import java.util.List;
  */
 public final class CVertices extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5811820252593634524L;
+
     @Override
     public final int minimalArgumentNumber()
     {
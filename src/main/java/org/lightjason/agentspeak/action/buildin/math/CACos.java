@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CACos extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8365543762946481411L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CASin extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4521482171533710342L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CATan extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 599914874879055786L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -43,6 +43,10 @@ import java.util.List;
  */
 public final class CAbs extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -7847357615477052800L;
 
     @Override
     public final int minimalArgumentNumber()
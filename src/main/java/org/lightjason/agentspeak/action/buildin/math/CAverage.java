@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CAverage extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1637396117820845562L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -47,6 +47,10 @@ import java.util.List;
  */
 public final class CBinomial extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8154918358291965890L;
 
     @Override
     public final int minimalArgumentNumber()
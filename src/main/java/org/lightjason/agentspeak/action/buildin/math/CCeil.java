@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CCeil extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 319325908503381146L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -43,6 +43,10 @@ import java.util.List;
  */
 public final class CCos extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 8567754472469893942L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CCosh extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6120957215023359343L;
 
     @Override
     public final int minimalArgumentNumber()
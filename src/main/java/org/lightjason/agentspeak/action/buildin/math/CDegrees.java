@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CDegrees extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1832749715643614991L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CExp extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -7053422959639874532L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CFactorial extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2058291735379100953L;
 
     @Override
     public final int minimalArgumentNumber()
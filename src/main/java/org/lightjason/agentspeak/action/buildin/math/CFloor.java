@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CFloor extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 131798178902724486L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CGeometricMean extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2293089759736548258L;
 
     @Override
     public final int minimalArgumentNumber()
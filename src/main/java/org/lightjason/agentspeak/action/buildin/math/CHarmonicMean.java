@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CHarmonicMean extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6803625685376106192L;
 
     @Override
     public final int minimalArgumentNumber()
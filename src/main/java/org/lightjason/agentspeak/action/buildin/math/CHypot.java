@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CHypot extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 7139726764096840026L;
 
     @Override
     public final int minimalArgumentNumber()
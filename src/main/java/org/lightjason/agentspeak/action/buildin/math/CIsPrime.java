@@ -46,6 +46,10 @@ import java.util.List;
  */
 public final class CIsPrime extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8812213644012620957L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CLog extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8674073040228859232L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CLog10 extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 1722276275017496408L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CMax extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6907833766908072319L;
 
     @Override
     public final int minimalArgumentNumber()
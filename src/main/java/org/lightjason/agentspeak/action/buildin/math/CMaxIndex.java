@@ -47,6 +47,10 @@ import java.util.stream.IntStream;
  */
 public final class CMaxIndex extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6366333574529507797L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CMin extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8800218610248760562L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -47,6 +47,10 @@ import java.util.stream.IntStream;
  */
 public final class CMinIndex extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3440717352053580833L;
 
     @Override
     public final int minimalArgumentNumber()
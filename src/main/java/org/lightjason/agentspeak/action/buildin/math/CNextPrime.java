@@ -46,6 +46,10 @@ import java.util.List;
  */
 public final class CNextPrime extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3087073991843554932L;
 
     @Override
     public final int minimalArgumentNumber()
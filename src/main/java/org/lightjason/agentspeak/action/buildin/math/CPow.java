@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CPow extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 8780103058161734165L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -47,6 +47,10 @@ import java.util.stream.Collectors;
  */
 public final class CPrimeFactors extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4824847290213936067L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CRadians extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 8498570609330779812L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CRound extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3285631120440425042L;
 
     @Override
     public final int minimalArgumentNumber()
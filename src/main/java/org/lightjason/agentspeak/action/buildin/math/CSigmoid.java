@@ -48,6 +48,10 @@ import java.util.function.Function;
  */
 public final class CSigmoid extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3519315332628946049L;
 
     @Override
     public final int minimalArgumentNumber()
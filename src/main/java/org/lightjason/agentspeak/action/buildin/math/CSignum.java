@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CSignum extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2450898291071166661L;
 
     @Override
     public final int minimalArgumentNumber()
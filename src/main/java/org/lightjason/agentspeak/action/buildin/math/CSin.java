@@ -43,6 +43,10 @@ import java.util.List;
  */
 public final class CSin extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6014490071244102032L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CSinh extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4476689733185036962L;
 
     @Override
     public final int minimalArgumentNumber()
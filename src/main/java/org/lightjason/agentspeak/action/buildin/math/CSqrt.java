@@ -43,6 +43,10 @@ import java.util.List;
  */
 public final class CSqrt extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6330134815358304270L;
 
     @Override
     public final int minimalArgumentNumber()
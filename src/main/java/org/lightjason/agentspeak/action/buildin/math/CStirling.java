@@ -48,6 +48,10 @@ import java.util.List;
  */
 public final class CStirling extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2792056180690454452L;
 
     @Override
     public final int minimalArgumentNumber()
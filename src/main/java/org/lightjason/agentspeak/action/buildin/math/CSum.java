@@ -42,6 +42,10 @@ import java.util.List;
  */
 public final class CSum extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5239535520444473395L;
 
     @Override
     public final int minimalArgumentNumber()
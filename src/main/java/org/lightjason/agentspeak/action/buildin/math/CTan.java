@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CTan extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4655783246277407340L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CTanh extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -161532172772332426L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -37,6 +37,10 @@ import cern.colt.bitvector.BitMatrix;
  */
 public final class CAnd extends IOperator
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2066423986360578344L;
 
     @Override
     protected final void apply( final BitMatrix p_target, final BitMatrix p_source )
@@ -48,6 +48,10 @@ import java.util.stream.Collectors;
  */
 public final class CBoolValue extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1308296860844682260L;
     /**
      * ctor
      */
@@ -39,6 +39,10 @@ import java.util.stream.IntStream;
  */
 public final class CColumn extends IRowColumn
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6865043145578397469L;
 
     @Override
     protected final BitVector extract( final BitMatrix p_matrix, final int p_index )
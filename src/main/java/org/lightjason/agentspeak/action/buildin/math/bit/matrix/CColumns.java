@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CColumns extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3140787171080925435L;
     /**
      * ctor
      */
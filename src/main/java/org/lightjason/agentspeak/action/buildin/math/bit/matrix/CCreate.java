@@ -46,6 +46,10 @@ import java.util.List;
  */
 public final class CCreate extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -5624812200072707926L;
     /**
      * ctor
      */
@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CDimension extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 7592655082442212961L;
     /**
      * ctor
      */
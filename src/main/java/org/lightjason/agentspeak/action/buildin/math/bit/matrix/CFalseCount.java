@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CFalseCount extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3052917695509998550L;
     /**
      * ctor
      */
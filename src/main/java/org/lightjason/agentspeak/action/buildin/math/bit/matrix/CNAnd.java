@@ -37,6 +37,10 @@ import cern.colt.bitvector.BitMatrix;
  */
 public final class CNAnd extends IOperator
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -7249602421941027908L;
 
     @Override
     protected final void apply( final BitMatrix p_target, final BitMatrix p_source )
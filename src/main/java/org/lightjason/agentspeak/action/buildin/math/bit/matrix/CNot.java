@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CNot extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -788808661166788622L;
     /**
      * ctor
      */
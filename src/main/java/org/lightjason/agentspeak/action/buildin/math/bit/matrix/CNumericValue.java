@@ -48,6 +48,10 @@ import java.util.stream.Collectors;
  */
 public final class CNumericValue extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3816236775525355383L;
     /**
      * ctor
      */
@@ -37,6 +37,10 @@ import cern.colt.bitvector.BitMatrix;
  */
 public final class COr extends IOperator
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5187948216900030916L;
 
     @Override
     protected final void apply( final BitMatrix p_target, final BitMatrix p_source )
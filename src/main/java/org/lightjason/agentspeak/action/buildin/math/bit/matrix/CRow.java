@@ -40,6 +40,10 @@ import java.util.stream.IntStream;
  */
 public final class CRow extends IRowColumn
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2175597824653679358L;
 
     @Override
     protected final BitVector extract( final BitMatrix p_matrix, final int p_index )
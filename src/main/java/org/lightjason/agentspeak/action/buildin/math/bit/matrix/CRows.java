@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CRows extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 573031878573835155L;
     /**
      * ctor
      */
@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CSize extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 8531851112004806101L;
     /**
      * ctor
      */
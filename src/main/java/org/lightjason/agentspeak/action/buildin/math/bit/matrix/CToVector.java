@@ -48,6 +48,11 @@ import java.util.stream.IntStream;
  */
 public final class CToVector extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -7386372393518552286L;
+
     @Override
     public final int minimalArgumentNumber()
     {
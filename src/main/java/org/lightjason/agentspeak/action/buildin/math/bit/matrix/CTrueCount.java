@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CTrueCount extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 787973586595534440L;
     /**
      * ctor
      */
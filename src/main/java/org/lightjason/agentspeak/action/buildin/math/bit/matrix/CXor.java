@@ -37,6 +37,10 @@ import cern.colt.bitvector.BitMatrix;
  */
 public final class CXor extends IOperator
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1472108124053352992L;
 
     @Override
     protected final void apply( final BitMatrix p_target, final BitMatrix p_source )
@@ -40,6 +40,10 @@ import java.util.stream.Collectors;
  */
 public abstract class IOperator extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -507158047718706657L;
 
     /**
      * ctor
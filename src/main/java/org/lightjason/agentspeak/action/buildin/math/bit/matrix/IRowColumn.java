@@ -43,6 +43,10 @@ import java.util.stream.Collectors;
  */
 public abstract class IRowColumn extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4462291095021161192L;
 
     /**
      * ctor
@@ -37,6 +37,10 @@ import cern.colt.bitvector.BitVector;
  */
 public final class CAnd extends IOperator
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1930882384385872200L;
 
     @Override
     protected final void apply( final BitVector p_target, final BitVector p_source )
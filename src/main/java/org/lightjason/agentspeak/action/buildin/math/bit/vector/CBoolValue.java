@@ -46,6 +46,10 @@ import java.util.stream.Collectors;
  */
 public final class CBoolValue extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4985217297542373109L;
     /**
      * ctor
      */
@@ -46,6 +46,10 @@ import java.util.stream.Collectors;
  */
 public final class CClear extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 8841355590052514078L;
     /**
      * ctor
      */
@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CCreate extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4004941761210845447L;
     /**
      * ctor
      */
@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CFalseCount extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 7941651521478102725L;
     /**
      * ctor
      */
@@ -47,6 +47,11 @@ import java.util.stream.Collectors;
  */
 public final class CHammingDistance extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 7192271153920344965L;
+
     @Override
     public final int minimalArgumentNumber()
     {
@@ -37,6 +37,10 @@ import cern.colt.bitvector.BitVector;
  */
 public final class CNAnd extends IOperator
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3934894253651233928L;
 
     @Override
     protected final void apply( final BitVector p_target, final BitVector p_source )
@@ -47,6 +47,10 @@ import java.util.stream.Collectors;
  */
 public final class CNumericValue extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6626093301175686596L;
     /**
      * ctor
      */
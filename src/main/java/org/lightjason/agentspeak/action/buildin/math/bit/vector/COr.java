@@ -37,6 +37,10 @@ import cern.colt.bitvector.BitVector;
  */
 public final class COr extends IOperator
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6715779810485553911L;
 
     @Override
     protected final void apply( final BitVector p_target, final BitVector p_source )
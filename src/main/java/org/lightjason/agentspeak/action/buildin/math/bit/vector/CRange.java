@@ -49,6 +49,10 @@ import java.util.stream.Collectors;
  */
 public final class CRange extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3942128147286971999L;
     /**
      * ctor
      */
@@ -47,6 +47,10 @@ import java.util.stream.Collectors;
  */
 public final class CSet extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 1844372048305343146L;
     /**
      * ctor
      */
@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CSize extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 7302690742230382688L;
     /**
      * ctor
      */
@@ -51,6 +51,10 @@ import java.util.stream.Collectors;
  */
 public final class CToBlas extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 753254455906285555L;
     /**
      * ctor
      */
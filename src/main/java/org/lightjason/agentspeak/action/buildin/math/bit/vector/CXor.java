@@ -37,6 +37,10 @@ import cern.colt.bitvector.BitVector;
  */
 public final class CXor extends IOperator
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -7584158870243206800L;
 
     @Override
     protected final void apply( final BitVector p_target, final BitVector p_source )
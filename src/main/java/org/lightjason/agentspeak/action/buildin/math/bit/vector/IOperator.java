@@ -40,6 +40,10 @@ import java.util.stream.Collectors;
  */
 public abstract class IOperator extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3459137627426794028L;
 
     /**
      * ctor
@@ -51,6 +51,10 @@ import java.util.function.BiFunction;
  */
 public class CElementWise extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6611457509389198837L;
 
     @Override
     public final int minimalArgumentNumber()
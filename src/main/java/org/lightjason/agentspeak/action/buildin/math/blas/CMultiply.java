@@ -47,6 +47,10 @@ import java.util.function.BiFunction;
  */
 public final class CMultiply extends IAlgebra
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6460347661935585403L;
     /**
      * ctor
      */
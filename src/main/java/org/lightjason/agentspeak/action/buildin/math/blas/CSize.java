@@ -43,6 +43,10 @@ import java.util.List;
  */
 public final class CSize extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 837796097944381848L;
 
     /**
      * ctor
@@ -37,6 +37,10 @@ public abstract class IAlgebra extends IBuildinAction
      * algebra reference
      */
     protected static final Algebra ALGEBRA = new Algebra();
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3424320338633120653L;
 
     /**
      * ctor
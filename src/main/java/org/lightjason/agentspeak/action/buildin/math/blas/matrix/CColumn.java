@@ -46,6 +46,10 @@ import java.util.stream.Collectors;
  */
 public final class CColumn extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2459715143450076883L;
 
     /**
      * ctor
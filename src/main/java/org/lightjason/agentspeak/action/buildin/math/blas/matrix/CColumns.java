@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CColumns extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8917528004286038565L;
     /**
      * ctor
      */
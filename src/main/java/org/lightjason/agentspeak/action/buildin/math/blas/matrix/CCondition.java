@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CCondition extends IAlgebra
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3468863539489466287L;
 
     /**
      * ctor
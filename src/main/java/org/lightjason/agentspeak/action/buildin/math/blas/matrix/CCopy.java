@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CCopy extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 1051350153034976950L;
     /**
      * ctor
      */
@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CDeterminant extends IAlgebra
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3557260833948633744L;
 
     /**
      * ctor
@@ -47,6 +47,10 @@ import java.util.List;
  */
 public final class CEigen extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1001821230791154217L;
     /**
      * ctor
      */
@@ -48,6 +48,10 @@ import java.util.stream.Collectors;
  */
 public final class CGet extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4371900539825120540L;
     /**
      * ctor
      */
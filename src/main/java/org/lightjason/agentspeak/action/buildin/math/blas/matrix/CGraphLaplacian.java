@@ -48,6 +48,10 @@ import java.util.List;
  */
 public final class CGraphLaplacian extends IAlgebra
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 916230904869046340L;
 
     /**
      * ctor
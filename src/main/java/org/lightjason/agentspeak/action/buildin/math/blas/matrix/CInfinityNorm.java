@@ -46,6 +46,10 @@ import java.util.List;
  */
 public final class CInfinityNorm extends IAlgebra
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 7861162172676340211L;
 
     /**
      * ctor
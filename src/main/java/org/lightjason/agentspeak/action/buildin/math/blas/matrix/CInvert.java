@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CInvert extends IAlgebra
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -7179335383192524869L;
 
     /**
      * ctor
@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CMatrixNorm extends IAlgebra
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3130297810254212895L;
 
     /**
      * ctor
@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CNonZero extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4869759099058891010L;
     /**
      * ctor
      */
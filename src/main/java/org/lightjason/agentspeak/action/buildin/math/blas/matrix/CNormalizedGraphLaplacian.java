@@ -48,6 +48,10 @@ import java.util.List;
  */
 public final class CNormalizedGraphLaplacian extends IAlgebra
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 782462855028000424L;
 
     /**
      * ctor
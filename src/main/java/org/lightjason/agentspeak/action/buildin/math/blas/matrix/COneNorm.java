@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class COneNorm extends IAlgebra
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8753487788773261546L;
 
     /**
      * ctor
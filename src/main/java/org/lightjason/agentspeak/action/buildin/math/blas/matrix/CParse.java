@@ -54,6 +54,10 @@ import java.util.stream.IntStream;
  */
 public final class CParse extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 7828873979173169975L;
     /**
      * ctor
      */
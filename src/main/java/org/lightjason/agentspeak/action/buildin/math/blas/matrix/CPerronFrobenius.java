@@ -55,6 +55,10 @@ import java.util.stream.IntStream;
  */
 public final class CPerronFrobenius extends IAlgebra
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -5583152015873106909L;
 
     /**
      * ctor
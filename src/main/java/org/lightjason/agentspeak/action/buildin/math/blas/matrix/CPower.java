@@ -48,6 +48,10 @@ import java.util.stream.Collectors;
  */
 public final class CPower extends IAlgebra
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -9069616442050861340L;
 
     /**
      * ctor
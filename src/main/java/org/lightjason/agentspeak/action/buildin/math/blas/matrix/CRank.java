@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CRank extends IAlgebra
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3497887422372449000L;
 
     /**
      * ctor
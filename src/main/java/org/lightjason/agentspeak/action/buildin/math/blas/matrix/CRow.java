@@ -47,6 +47,10 @@ import java.util.stream.Collectors;
  */
 public final class CRow extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2565377938285610237L;
     /**
      * ctor
      */
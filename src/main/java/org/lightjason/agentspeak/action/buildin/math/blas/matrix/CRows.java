@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CRows extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8688804059835984523L;
     /**
      * ctor
      */
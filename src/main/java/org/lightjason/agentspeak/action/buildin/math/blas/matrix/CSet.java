@@ -46,6 +46,10 @@ import java.util.stream.Collectors;
  */
 public final class CSet extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6916024021047511349L;
     /**
      * ctor
      */
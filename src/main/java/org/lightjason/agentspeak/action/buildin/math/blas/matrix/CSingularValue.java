@@ -48,6 +48,10 @@ import java.util.List;
  */
 public final class CSingularValue extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4639964740706894902L;
     /**
      * ctor
      */
@@ -50,6 +50,11 @@ import java.util.List;
  */
 public final class CSolve extends IAlgebra
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 1598332809346070227L;
+
     @Override
     public final int minimalArgumentNumber()
     {
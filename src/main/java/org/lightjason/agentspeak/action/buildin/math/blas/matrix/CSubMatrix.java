@@ -46,6 +46,10 @@ import java.util.stream.Collectors;
  */
 public final class CSubMatrix extends IAlgebra
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6919039483638750851L;
     /**
      * ctor
      */
@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CTrace extends IAlgebra
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 1673590898934324375L;
 
     /**
      * ctor
@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CTranspose extends IAlgebra
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5901001586538416194L;
 
     /**
      * ctor
@@ -46,6 +46,10 @@ import java.util.List;
  */
 public final class CTwoNorm extends IAlgebra
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2418842502555699452L;
 
     /**
      * ctor
@@ -48,6 +48,10 @@ import java.util.stream.Collectors;
  */
 public final class CAssign extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 9035807435832355622L;
 
     /**
      * ctor
@@ -48,6 +48,10 @@ import java.util.stream.Collectors;
  */
 public final class CDotProduct extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6376584500094310161L;
     /**
      * ctor
      */
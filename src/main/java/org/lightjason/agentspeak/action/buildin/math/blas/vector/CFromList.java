@@ -49,6 +49,10 @@ import java.util.List;
  */
 public final class CFromList extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -7853385855354137151L;
     /**
      * ctor
      */
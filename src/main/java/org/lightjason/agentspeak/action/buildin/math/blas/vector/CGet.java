@@ -46,6 +46,10 @@ import java.util.stream.Collectors;
  */
 public final class CGet extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4690671499782885716L;
     /**
      * ctor
      */
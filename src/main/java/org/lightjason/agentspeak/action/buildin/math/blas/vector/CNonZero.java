@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CNonZero extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 7266145139898503151L;
     /**
      * ctor
      */
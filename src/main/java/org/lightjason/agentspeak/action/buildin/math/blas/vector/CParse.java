@@ -50,6 +50,10 @@ import java.util.stream.Collectors;
  */
 public final class CParse extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 1273022168975979826L;
     /**
      * ctor
      */
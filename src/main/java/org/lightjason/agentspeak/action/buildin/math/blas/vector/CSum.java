@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CSum extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2785558546322158758L;
     /**
      * ctor
      */
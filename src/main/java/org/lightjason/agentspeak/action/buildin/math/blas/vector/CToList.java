@@ -47,6 +47,10 @@ import java.util.stream.Collectors;
  */
 public final class CToList extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1646027325251130277L;
     /**
      * ctor
      */
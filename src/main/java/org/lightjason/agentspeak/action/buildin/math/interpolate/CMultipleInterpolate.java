@@ -48,6 +48,10 @@ import java.util.stream.Collectors;
  */
 public final class CMultipleInterpolate extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1196499077168032381L;
 
     /**
      * ctor
@@ -48,6 +48,10 @@ import java.util.stream.Collectors;
  */
 public final class CSingleInterpolate extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2539839537486954480L;
 
     /**
      * ctor
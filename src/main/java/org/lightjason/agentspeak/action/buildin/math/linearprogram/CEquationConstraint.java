@@ -58,6 +58,10 @@ import java.util.stream.IntStream;
  */
 public final class CEquationConstraint extends IConstraint
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5675950204030637060L;
 
     /**
      * ctor
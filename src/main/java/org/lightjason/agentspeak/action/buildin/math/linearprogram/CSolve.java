@@ -69,6 +69,10 @@ import java.util.Objects;
  */
 public final class CSolve extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6664728925295363135L;
 
     /**
      * ctor
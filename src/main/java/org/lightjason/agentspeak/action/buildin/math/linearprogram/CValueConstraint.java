@@ -58,6 +58,10 @@ import java.util.stream.Collectors;
  */
 public final class CValueConstraint extends IConstraint
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6564327121884539988L;
 
     /**
      * ctor
@@ -36,6 +36,10 @@ import java.util.Locale;
  */
 public abstract class IConstraint extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8112418561832813001L;
 
     /**
      * ctor
@@ -48,6 +48,10 @@ import java.util.stream.Collectors;
  */
 public final class CInCircle extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 8965920421400889100L;
 
     /**
      * ctor
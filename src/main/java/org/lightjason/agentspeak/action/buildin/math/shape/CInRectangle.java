@@ -48,6 +48,10 @@ import java.util.stream.Collectors;
  */
 public final class CInRectangle extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6066262930715476859L;
 
     /**
      * ctor
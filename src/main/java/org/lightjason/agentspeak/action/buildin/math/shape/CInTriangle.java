@@ -47,6 +47,10 @@ import java.util.stream.Collectors;
  */
 public final class CInTriangle extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -984699961766364755L;
 
     /**
      * ctor
@@ -50,6 +50,10 @@ import java.util.stream.Collectors;
  */
 public final class CAddStatisticValue extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2946445027717690296L;
 
     /**
      * ctor
@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CClearStatistic extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 9106003193560981952L;
 
     /**
      * ctor
@@ -140,6 +140,10 @@ import java.util.stream.IntStream;
  */
 public final class CCreateDistribution extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -9151821612316839444L;
 
     /**
      * ctor
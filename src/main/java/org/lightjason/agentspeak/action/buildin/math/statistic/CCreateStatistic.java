@@ -54,6 +54,10 @@ import java.util.stream.Stream;
  */
 public final class CCreateStatistic extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -9014845979565235386L;
 
     /**
      * ctor
@@ -42,6 +42,10 @@ import java.util.stream.Stream;
  */
 public final class CExponentialSelection extends ISelection
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3201836991110634082L;
 
     @Override
     protected final List<Double> weight( final List<?> p_items, final Stream<Double> p_values, final List<ITerm> p_argument, final List<ITerm> p_annotation )
@@ -49,6 +49,10 @@ import java.util.stream.Collectors;
  */
 public final class CMultipleStatisticValue extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3251066615507600807L;
 
     /**
      * ctor
@@ -50,6 +50,10 @@ import java.util.stream.Stream;
  */
 public final class CRandomSample extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -5778394821224018086L;
 
     /**
      * ctor
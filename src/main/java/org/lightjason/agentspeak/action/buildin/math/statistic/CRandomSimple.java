@@ -51,6 +51,10 @@ import java.util.stream.Stream;
  */
 public final class CRandomSimple extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6482916169623081620L;
     /**
      * random instance
      */
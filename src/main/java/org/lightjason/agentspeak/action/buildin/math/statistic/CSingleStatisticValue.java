@@ -49,6 +49,10 @@ import java.util.stream.Collectors;
  */
 public final class CSingleStatisticValue extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 8633493362411282977L;
 
     /**
      * ctor
@@ -41,6 +41,10 @@ import java.util.stream.Stream;
  */
 public abstract class ISelection extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2528965365375305778L;
     /**
      * random instance
      */
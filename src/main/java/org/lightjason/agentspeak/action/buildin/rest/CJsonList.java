@@ -47,6 +47,10 @@ import java.util.Map;
  */
 public final class CJsonList extends IBaseRest
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -9155739618435838712L;
 
     @Override
     @SuppressWarnings( "unchecked" )
@@ -46,6 +46,10 @@ import java.util.Map;
  */
 public final class CJsonObject extends IBaseRest
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 959717439263804218L;
 
     @Override
     @SuppressWarnings( "unchecked" )
@@ -46,6 +46,11 @@ import java.util.Map;
  */
 public class CXMLObject extends IBaseRest
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -258815902197041645L;
+
     @Override
     public final IFuzzyValue<Boolean> execute( final IContext p_context, final boolean p_parallel, final List<ITerm> p_argument, final List<ITerm> p_return,
                                                final List<ITerm> p_annotation
@@ -56,6 +56,10 @@ import java.util.stream.Stream;
  */
 public abstract class IBaseRest extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3792922339834836531L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CAdd extends IStorage
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -7072471243137259933L;
 
     /**
      * ctor
@@ -43,6 +43,10 @@ import java.util.List;
  */
 public final class CClear extends IStorage
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -5423195142337793637L;
 
     /**
      * ctor
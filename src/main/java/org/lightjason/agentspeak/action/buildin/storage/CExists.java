@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CExists extends IStorage
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2073356048683824371L;
 
     /**
      * ctor
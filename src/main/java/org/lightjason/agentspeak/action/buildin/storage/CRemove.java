@@ -47,6 +47,10 @@ import java.util.List;
  */
 public final class CRemove extends IStorage
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2143754590580254483L;
 
     /**
      * ctor
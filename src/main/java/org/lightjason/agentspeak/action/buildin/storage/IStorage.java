@@ -36,6 +36,10 @@ import java.util.concurrent.ConcurrentSkipListSet;
  */
 public abstract class IStorage extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2097587060376613247L;
 
     /**
      * set with forbidden keys
@@ -49,6 +49,10 @@ import java.util.List;
  */
 public final class CBase64Decode extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2405678205509398746L;
 
     @Override
     public final int minimalArgumentNumber()
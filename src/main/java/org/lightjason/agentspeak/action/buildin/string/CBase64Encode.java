@@ -46,6 +46,10 @@ import java.util.List;
  */
 public final class CBase64Encode extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 1157757631181625528L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -44,6 +44,10 @@ import java.util.stream.Collectors;
  */
 public final class CConcat extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4747784534644207585L;
 
     @Override
     public final int minimalArgumentNumber()
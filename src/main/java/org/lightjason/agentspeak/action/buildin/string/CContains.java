@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CContains extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3856075216131739461L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CEndsWith extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 8954686991188346964L;
 
     @Override
     public final int minimalArgumentNumber()
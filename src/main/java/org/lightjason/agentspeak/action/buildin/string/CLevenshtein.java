@@ -50,6 +50,11 @@ import java.util.stream.IntStream;
  */
 public final class CLevenshtein extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2050447850995830883L;
+
     @Override
     public final int minimalArgumentNumber()
     {
@@ -43,6 +43,10 @@ import java.util.List;
  */
 public final class CLower extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -9095700675045978040L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -48,6 +48,11 @@ import java.util.stream.Collectors;
  */
 public final class CNCD extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3929837787837204369L;
+
     @Override
     public final int minimalArgumentNumber()
     {
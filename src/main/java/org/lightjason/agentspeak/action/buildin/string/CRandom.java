@@ -45,6 +45,10 @@ import java.util.List;
  */
 public final class CRandom extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -5820123641748565806L;
 
     @Override
     public final int minimalArgumentNumber()
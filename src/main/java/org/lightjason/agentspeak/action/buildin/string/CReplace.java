@@ -46,6 +46,10 @@ import java.util.List;
  */
 public final class CReplace extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2414674934276948806L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -43,6 +43,10 @@ import java.util.List;
  */
 public final class CReverse extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2247802351085970191L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -43,6 +43,10 @@ import java.util.List;
  */
 public final class CSize extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 8735110947760034081L;
 
     @Override
     public final int minimalArgumentNumber()
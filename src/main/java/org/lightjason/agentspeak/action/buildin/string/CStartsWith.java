@@ -44,6 +44,10 @@ import java.util.List;
  */
 public final class CStartsWith extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1539355505391323036L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -43,6 +43,10 @@ import java.util.List;
  */
 public final class CUpper extends IBuildinAction
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2904997559715944688L;
 
     @Override
     public final int minimalArgumentNumber()
@@ -26,6 +26,8 @@ package org.lightjason.agentspeak.agent;
 import com.google.common.collect.Multimap;
 import org.apache.commons.lang3.tuple.Triple;
 import org.lightjason.agentspeak.agent.fuzzy.IFuzzy;
+import org.lightjason.agentspeak.agent.metric.ICycleMetric;
+import org.lightjason.agentspeak.agent.policy.IExecutionPolicy;
 import org.lightjason.agentspeak.beliefbase.view.IView;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.ILiteral;
@@ -35,12 +37,14 @@ import org.lightjason.agentspeak.language.execution.action.unify.IUnifier;
 import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
 import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
-import org.lightjason.agentspeak.language.instantiable.rule.IRule;
+import org.lightjason.agentspeak.language.instantiable.rule.CRuleMultimap;
+import org.lightjason.agentspeak.language.instantiable.rule.CRuleTable;
 import org.lightjason.agentspeak.language.score.IAggregation;
 
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 
@@ -67,7 +71,7 @@ public interface IAgent<T extends IAgent<?>> extends Callable<T>
      * @param p_immediately run element immediately
      * @return execution finished correctly
      *
-     * @note the trigger is ignored iif the agent is sleeping
+     * @note a sleeping agent is woken up by the trigger
      */
     IFuzzyValue<Boolean> trigger( final ITrigger p_trigger, final boolean... p_immediately );
 
@@ -92,6 +96,23 @@ public interface IAgent<T extends IAgent<?>> extends Callable<T>
      */
     boolean sleeping();
 
+    /**
+     * returns the number of remaining sleeping cycles
+     *
+     * @return number of cycles, zero if the agent is active and Long.MAX_VALUE on infinity sleeping
+     */
+    long sleepingcycles();
+
+    /**
+     * passes sleeping cycles without running the agent cycle,
+     * the sleeping cycles are decremented but the last sleeping
+     * cycle is passed by the next agent cycle
+     *
+     * @param p_cycles number of passed cycles
+     * @return agent reference
+     */
+    IAgent<T> elapse( final long p_cycles );
+
     /**
      * pushs the agent into sleeping state
      *
@@ -126,6 +147,15 @@ public interface IAgent<T extends IAgent<?>> extends Callable<T>
      */
     IAgent<T> wakeup( final Stream<ITerm> p_term );
 
+    /**
+     * sets the wake-up listener, which is called
+     * after the agent is woken up
+     *
+     * @param p_listener listener
+     * @return agent reference
+     */
+    IAgent<T> wakeuplistener( final Consumer<IAgent<?>> p_listener );
+
 
     /**
      * storage access
@@ -184,13 +214,34 @@ public interface IAgent<T extends IAgent<?>> extends Callable<T>
      */
     IVariableBuilder variablebuilder();
 
+    /**
+     * returns the execution policy
+     *
+     * @return execution policy
+     */
+    IExecutionPolicy executionpolicy();
+
+    /**
+     * returns the metric of the cycle
+     *
+     * @return cycle metric
+     */
+    ICycleMetric metric();
+
     /**
      * returns amultimap with literal-rule functor
      * and rle objects
      *
      * @return multimap
      */
-    Multimap<IPath, IRule> rules();
+    CRuleMultimap rules();
+
+    /**
+     * returns the table of the rule answers
+     *
+     * @return rule table
+     */
+    CRuleTable ruletable();
 
     /**
      * cast the interface agent object
@@ -26,7 +26,6 @@ package org.lightjason.agentspeak.agent;
 import com.codepoetics.protonpack.StreamUtils;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
 import org.apache.commons.lang3.StringUtils;
@@ -35,6 +34,9 @@ import org.apache.commons.lang3.tuple.ImmutableTriple;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 import org.lightjason.agentspeak.agent.fuzzy.IFuzzy;
+import org.lightjason.agentspeak.agent.metric.ICycleMetric;
+import org.lightjason.agentspeak.agent.policy.IExecutionPolicy;
+import org.lightjason.agentspeak.beliefbase.CBeliefSubscription;
 import org.lightjason.agentspeak.beliefbase.view.IView;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.configuration.IAgentConfiguration;
@@ -48,22 +50,28 @@ import org.lightjason.agentspeak.language.execution.IVariableBuilder;
 import org.lightjason.agentspeak.language.execution.action.unify.IUnifier;
 import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
 import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.instantiable.plan.CPlanMultimap;
 import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTriggerInbox;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
-import org.lightjason.agentspeak.language.instantiable.rule.IRule;
+import org.lightjason.agentspeak.language.instantiable.rule.CRuleMultimap;
+import org.lightjason.agentspeak.language.instantiable.rule.CRuleTable;
 import org.lightjason.agentspeak.language.score.IAggregation;
+import org.lightjason.agentspeak.language.variable.IVariable;
 
 import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -86,17 +94,18 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
      */
     protected final Map<String, ?> m_storage = new ConcurrentHashMap<>();
     /**
-     * execution trigger with content hash
+     * lock-free inbox of execution trigger, duplicates are removed on draining
      */
-    protected final Map<Integer, ITrigger> m_trigger = new ConcurrentHashMap<>();
+    protected final CTriggerInbox m_trigger = new CTriggerInbox();
     /**
-     * multimap with rules
+     * multimap with rules, shared with all agents of the configuration until it is modified
      */
-    protected final Multimap<IPath, IRule> m_rules = Multimaps.synchronizedMultimap( LinkedHashMultimap.create() );
+    protected final CRuleMultimap m_rules;
     /**
-     * map with all existing plans and successful / fail runs
+     * map with all existing plans and successful / fail runs,
+     * plans are shared with all agents of the configuration until it is modified
      */
-    protected final Multimap<ITrigger, Triple<IPlan, AtomicLong, AtomicLong>> m_plans = Multimaps.synchronizedMultimap( HashMultimap.create() );
+    protected final CPlanMultimap m_plans;
     /**
      * curent agent cycle
      */
@@ -132,10 +141,26 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
      * fuzzy result collector
      */
     private final IFuzzy<Boolean, T> m_fuzzy;
+    /**
+     * execution policy
+     */
+    private final IExecutionPolicy m_executionpolicy;
+    /**
+     * cycle metric
+     */
+    private final ICycleMetric m_metric;
+    /**
+     * table of rule answers
+     */
+    private final CRuleTable m_ruletable = new CRuleTable();
     /**
      * running plans (thread-safe)
      */
     private final Multimap<IPath, ILiteral> m_runningplans = Multimaps.synchronizedSetMultimap( HashMultimap.create() );
+    /**
+     * wake-up listener
+     */
+    private volatile Consumer<IAgent<?>> m_wakeuplistener = i -> { };
 
 
     /**
@@ -151,15 +176,18 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
         m_aggregation = p_configuration.aggregation();
         m_variablebuilder = p_configuration.variablebuilder();
         m_fuzzy = p_configuration.fuzzy();
+        m_executionpolicy = p_configuration.executionpolicy();
+        m_metric = p_configuration.metric();
+
+        // initial plans and rules are read from the shared library, the agent stores the plan statistic only
+        m_plans = new CPlanMultimap( p_configuration.library() );
+        m_rules = new CRuleMultimap( p_configuration.library().ruleindex() );
 
-        // initial plans and rules
-        p_configuration.plans().parallelStream()
-                       .forEach( i -> m_plans.put( i.getTrigger(), new ImmutableTriple<>( i, new AtomicLong( 0 ), new AtomicLong( 0 ) ) ) );
-        p_configuration.rules().parallelStream()
-                       .forEach( i -> m_rules.put( i.getIdentifier().fqnfunctor(), i ) );
+        // belief events without a plan are dropped by the beliefbase
+        m_beliefbase.subscribe( new CBeliefSubscription( m_plans ) );
 
         if ( p_configuration.initialgoal() != null )
-            m_trigger.put( p_configuration.initialgoal().contenthash(), p_configuration.initialgoal() );
+            m_trigger.push( p_configuration.initialgoal() );
     }
 
     @Override
@@ -175,16 +203,16 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
         if ( p_inspector == null )
             return Stream.of();
 
-        return Arrays.stream( p_inspector ).parallel().map( i -> {
+        return m_executionpolicy.stream( Arrays.asList( p_inspector ) ).map( i -> {
             i.inspectcycle( m_cycle.get() );
             i.inspectsleeping( m_sleepingcycles.get() );
-            i.inspectbelief( m_beliefbase.stream().parallel() );
-            i.inspectplans( m_plans.entries().parallelStream().map( j -> new ImmutableTriple<>( j.getValue().getLeft(), j.getValue().getMiddle().get(),
+            i.inspectbelief( m_executionpolicy.stream( m_beliefbase.stream() ) );
+            i.inspectplans( m_executionpolicy.stream( m_plans.entries() ).map( j -> new ImmutableTriple<>( j.getValue().getLeft(), j.getValue().getMiddle().get(),
                                                                                                 j.getValue().getRight().get()
             ) ) );
-            i.inspectrunningplans( m_runningplans.values().parallelStream() );
-            i.inspectstorage( m_storage.entrySet().parallelStream() );
-            i.inspectrules( m_rules.values().parallelStream() );
+            i.inspectrunningplans( m_executionpolicy.stream( m_runningplans.values() ) );
+            i.inspectstorage( m_executionpolicy.stream( m_storage.entrySet() ) );
+            i.inspectrules( m_executionpolicy.stream( m_rules.values() ) );
             return i;
         } );
     }
@@ -201,6 +229,19 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
         return m_sleepingcycles.get() > 0;
     }
 
+    @Override
+    public final long sleepingcycles()
+    {
+        return Math.max( 0, m_sleepingcycles.get() );
+    }
+
+    @Override
+    public final IAgent<T> elapse( final long p_cycles )
+    {
+        m_sleepingcycles.getAndUpdate( i -> ( i <= 1 ) || ( i == Long.MAX_VALUE ) ? i : Math.max( 1, i - Math.max( 0, p_cycles ) ) );
+        return this;
+    }
+
     @Override
     public final IAgent<T> sleep( final long p_cycles, final ITerm... p_term )
     {
@@ -235,6 +276,14 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
     {
         p_term.forEach( m_sleepingterm::add );
         this.active( true );
+        m_wakeuplistener.accept( this );
+        return this;
+    }
+
+    @Override
+    public final IAgent<T> wakeuplistener( final Consumer<IAgent<?>> p_listener )
+    {
+        m_wakeuplistener = p_listener == null ? i -> { } : p_listener;
         return this;
     }
 
@@ -287,7 +336,25 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
     }
 
     @Override
-    public final Multimap<IPath, IRule> rules()
+    public final IExecutionPolicy executionpolicy()
+    {
+        return m_executionpolicy;
+    }
+
+    @Override
+    public final ICycleMetric metric()
+    {
+        return m_metric;
+    }
+
+    @Override
+    public final CRuleTable ruletable()
+    {
+        return m_ruletable;
+    }
+
+    @Override
+    public final CRuleMultimap rules()
     {
         return m_rules;
     }
@@ -309,7 +376,7 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
             StringUtils.join(
                 StreamUtils.zip(
                     Stream.of( "Trigger", "Running Plans", "Beliefbase" ),
-                    Stream.of( m_trigger.values(), m_runningplans.keySet(), m_beliefbase ),
+                    Stream.of( m_trigger.snapshot(), m_runningplans.keySet(), m_beliefbase ),
                     ( l, c ) -> MessageFormat.format( "{0}: {1}", l, c )
                 ).toArray(),
                 " / "
@@ -320,31 +387,46 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
     @Override
     public final IFuzzyValue<Boolean> trigger( final ITrigger p_trigger, final boolean... p_immediately )
     {
-        if ( m_sleepingcycles.get() > 0 )
-            return CFuzzyValue.from( false );
-
         // check if literal does not store any variables
         if ( p_trigger.getLiteral().hasVariable() )
             throw new CIllegalArgumentException( org.lightjason.agentspeak.common.CCommon.languagestring( this, "literalvariable", p_trigger ) );
 
+        // a trigger wakes up a sleeping agent, so a parked agent is scheduled again
+        if ( m_sleepingcycles.get() > 0 )
+            this.wakeup();
+
         // run plan immediatly and return
         if ( ( p_immediately != null ) && ( p_immediately.length > 0 ) && ( p_immediately[0] ) )
             return this.execute( this.generateexecution( Stream.of( p_trigger ) ) );
 
-        // add trigger for the next cycle must be synchronized to avoid indeterministic state during execution
-        synchronized ( this )
-        {
-            m_trigger.putIfAbsent( p_trigger.contenthash(), p_trigger );
-        }
+        // add trigger for the next cycle, the inbox is lock-free so the running cycle is not blocked
+        m_trigger.push( p_trigger );
         return CFuzzyValue.from( true );
     }
 
     @Override
-    @SuppressWarnings( "unchecked" )
     public T call() throws Exception
     {
+        // parallel streams of the cycle run within the pool of the execution policy
+        return m_executionpolicy.evaluate( this::runcycle );
+    }
+
+    /**
+     * runs the agent cycle
+     *
+     * @return agent reference
+     */
+    @SuppressWarnings( "unchecked" )
+    private T runcycle()
+    {
+        final long l_cycle = m_metric.start();
+
         // run beliefbase update, because environment can be changed and decrement sleeping value
         m_beliefbase.update( (T) this );
+        m_metric.record( ICycleMetric.EPhase.UPDATE, l_cycle );
+
+        // tabled rule answers are valid within one cycle only, because the beliefbase can be changed by the update
+        m_ruletable.clear();
         if ( !this.active( false ) )
             // check wakup-event otherwise suspend
             return (T) this;
@@ -353,12 +435,16 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
         m_fuzzy.getDefuzzyfication().update( (T) this );
 
         // clear running plan- and trigger list and execute elements
-        this.execute( this.generateexecutionlist() );
+        final Collection<Pair<Triple<IPlan, AtomicLong, AtomicLong>, IContext>> l_execution = this.generateexecutionlist();
+        final long l_execute = m_metric.start();
+        this.execute( l_execution );
+        m_metric.record( ICycleMetric.EPhase.EXECUTE, l_execute );
 
 
         // increment cycle and set the cycle time
         m_cycle.incrementAndGet();
         m_cycletime.set( System.nanoTime() );
+        m_metric.record( ICycleMetric.EPhase.CYCLE, l_cycle );
 
         return (T) this;
     }
@@ -366,22 +452,25 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
     /**
      * create the plan executionlist with clearing internal structures
      *
-     * @note must be synchronized for avoid indeterministic trigger list
+     * @note the trigger inbox is drained atomically, so trigger
+     * which are added during the execution are used in the next cycle
      *
      * @return collection with execution plan and context
      */
-    private synchronized Collection<Pair<Triple<IPlan, AtomicLong, AtomicLong>, IContext>> generateexecutionlist()
+    private Collection<Pair<Triple<IPlan, AtomicLong, AtomicLong>, IContext>> generateexecutionlist()
     {
         m_runningplans.clear();
-        final Collection<Pair<Triple<IPlan, AtomicLong, AtomicLong>, IContext>> l_execution = this.generateexecution(
-            Stream.concat(
-                m_trigger.values().parallelStream(),
-                m_beliefbase.trigger().parallel()
-            )
-        );
-        m_trigger.clear();
 
-        return l_execution;
+        // the trigger are collected, so the trigger phase contains
+        // the draining of the inbox and the beliefbase events
+        final long l_start = m_metric.start();
+        final List<ITrigger> l_trigger = Stream.concat(
+            m_executionpolicy.stream( m_trigger.drain() ),
+            m_executionpolicy.stream( m_beliefbase.trigger() )
+        ).collect( Collectors.toList() );
+        m_metric.record( ICycleMetric.EPhase.TRIGGER, l_start );
+
+        return this.generateexecution( m_executionpolicy.stream( l_trigger ) );
     }
 
 
@@ -395,17 +484,26 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
     {
         return p_trigger
             .filter( Objects::nonNull )
+            .peek( i -> m_metric.count( ICycleMetric.ECounter.TRIGGER, 1 ) )
             .flatMap( i -> {
-                final Collection<Triple<IPlan, AtomicLong, AtomicLong>> l_plans = m_plans.get( i );
+                // trigger index returns only plans which can structurally match
+                final Collection<Triple<IPlan, AtomicLong, AtomicLong>> l_plans = m_plans.match( i );
 
                 return l_plans == null
                        ? Stream.of()
-                       : l_plans
-                           .parallelStream()
+                       : m_executionpolicy.stream( l_plans )
 
                            // tries to unify trigger literal and filter of valid unification (returns set of unified variables)
-                           .map( j -> new ImmutablePair<>( j, CCommon.unifytrigger( m_unifier, i, j.getLeft().getTrigger() ) ) )
+                           .map( j -> {
+                               final long l_start = m_metric.start();
+                               final Pair<Triple<IPlan, AtomicLong, AtomicLong>, Pair<Boolean, Set<IVariable<?>>>> l_unify = new ImmutablePair<>(
+                                   j, j.getLeft().matcher().match( m_unifier, i )
+                               );
+                               m_metric.record( ICycleMetric.EPhase.UNIFY, l_start );
+                               return l_unify;
+                           } )
                            .filter( j -> j.getRight().getLeft() )
+                           .peek( j -> m_metric.count( ICycleMetric.ECounter.MATCHED, 1 ) )
 
                            // initialize context
                            .map( j -> new ImmutablePair<>(
@@ -420,7 +518,14 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
                            ) )
 
                            // check plan condition
-                           .filter( j -> m_fuzzy.getDefuzzyfication().defuzzify( j.getLeft().getLeft().condition( j.getRight() ) ) );
+                           .filter( j -> {
+                               final long l_start = m_metric.start();
+                               final boolean l_condition = m_fuzzy.getDefuzzyfication().defuzzify( j.getLeft().getLeft().condition( j.getRight() ) );
+                               m_metric.record( ICycleMetric.EPhase.CONDITION, l_start );
+                               if ( !l_condition )
+                                   m_metric.count( ICycleMetric.ECounter.REJECTED, 1 );
+                               return l_condition;
+                           } );
             }
         )
         // collectors-call must be toList not toSet because plan-execution can be have equal elements
@@ -438,21 +543,25 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
     private IFuzzyValue<Boolean> execute( final Collection<Pair<Triple<IPlan, AtomicLong, AtomicLong>, IContext>> p_execution )
     {
         // update executable plan list, so that test-goals are defined all the time
-        p_execution.parallelStream().forEach( i -> m_runningplans.put(
+        m_executionpolicy.stream( p_execution ).forEach( i -> m_runningplans.put(
             i.getLeft().getLeft().getTrigger().getLiteral().fqnfunctor(),
             i.getLeft().getLeft().getTrigger().getLiteral().unify( i.getRight() )
         ) );
 
         // execute plan and return values and return execution result
-        return p_execution.parallelStream().map( i -> {
+        return m_executionpolicy.stream( p_execution ).map( i -> {
 
             final IFuzzyValue<Boolean> l_result = i.getLeft().getLeft().execute( i.getRight(), false, null, null, null );
+            m_metric.count( ICycleMetric.ECounter.EXECUTED, 1 );
             if ( m_fuzzy.getDefuzzyfication().defuzzify( l_result ) )
                 // increment successful runs
                 i.getLeft().getMiddle().getAndIncrement();
             else
+            {
                 // increment failed runs and create delete goal-event
                 i.getLeft().getRight().getAndIncrement();
+                m_metric.count( ICycleMetric.ECounter.FAILED, 1 );
+            }
 
             return l_result;
         } ).collect( m_fuzzy.getResultOperator() );
@@ -479,15 +588,19 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
                     )
                 ) )
 
-                : m_sleepingterm.parallelStream()
-                                .map( i -> CTrigger.from(
-                                    ITrigger.EType.ADDGOAL,
-                                    CLiteral.from( "wakeup", i )
-                                ) )
+                : m_executionpolicy.stream( m_sleepingterm )
+                                   .map( i -> CTrigger.from(
+                                       ITrigger.EType.ADDGOAL,
+                                       CLiteral.from( "wakeup", i )
+                                   ) )
 
-            ).forEach( i -> m_trigger.put( i.contenthash(), i ) );
+            ).forEach( m_trigger::push );
 
             m_sleepingterm.clear();
+
+            // a wake-up call finishes the sleeping phase
+            if ( p_immediatly )
+                m_sleepingcycles.set( Long.MIN_VALUE );
         }
 
         // if the sleeping time is not infinity decrese the counter
@@ -0,0 +1,100 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.metric;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+
+/**
+ * cycle metric with lock-free counters and histograms,
+ * can be shared between agents to get a metric of
+ * the whole population
+ */
+public final class CCycleMetric implements ICycleMetric
+{
+    /**
+     * histograms of the phases
+     */
+    private final CHistogram[] m_histogram = Arrays.stream( EPhase.values() ).map( i -> new CHistogram() ).toArray( CHistogram[]::new );
+    /**
+     * counters
+     */
+    private final LongAdder[] m_counter = Arrays.stream( ECounter.values() ).map( i -> new LongAdder() ).toArray( LongAdder[]::new );
+
+
+    @Override
+    public final long start()
+    {
+        return System.nanoTime();
+    }
+
+    @Override
+    public final ICycleMetric record( final EPhase p_phase, final long p_start )
+    {
+        m_histogram[p_phase.ordinal()].record( System.nanoTime() - p_start );
+        return this;
+    }
+
+    @Override
+    public final ICycleMetric count( final ECounter p_counter, final long p_value )
+    {
+        m_counter[p_counter.ordinal()].add( p_value );
+        return this;
+    }
+
+    @Override
+    public final long counter( final ECounter p_counter )
+    {
+        return m_counter[p_counter.ordinal()].sum();
+    }
+
+    @Override
+    public final CHistogram histogram( final EPhase p_phase )
+    {
+        return m_histogram[p_phase.ordinal()];
+    }
+
+    @Override
+    public final ICycleMetric clear()
+    {
+        Arrays.stream( m_histogram ).forEach( CHistogram::clear );
+        Arrays.stream( m_counter ).forEach( LongAdder::reset );
+        return this;
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format(
+            "{0} ( {1} / {2} )",
+            super.toString(),
+            Arrays.stream( ECounter.values() ).map( i -> MessageFormat.format( "{0}: {1}", i, this.counter( i ) ) ).collect( Collectors.joining( " / " ) ),
+            Arrays.stream( EPhase.values() ).map( i -> MessageFormat.format( "{0}: [{1}]", i, this.histogram( i ) ) ).collect( Collectors.joining( " / " ) )
+        );
+    }
+
+}
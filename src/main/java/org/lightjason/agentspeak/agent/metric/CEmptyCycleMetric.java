@@ -0,0 +1,69 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.metric;
+
+
+/**
+ * disabled metric, which does not read any clock
+ */
+final class CEmptyCycleMetric implements ICycleMetric
+{
+
+    @Override
+    public final long start()
+    {
+        return 0;
+    }
+
+    @Override
+    public final ICycleMetric record( final EPhase p_phase, final long p_start )
+    {
+        return this;
+    }
+
+    @Override
+    public final ICycleMetric count( final ECounter p_counter, final long p_value )
+    {
+        return this;
+    }
+
+    @Override
+    public final long counter( final ECounter p_counter )
+    {
+        return 0;
+    }
+
+    @Override
+    public final CHistogram histogram( final EPhase p_phase )
+    {
+        return CHistogram.EMPTY;
+    }
+
+    @Override
+    public final ICycleMetric clear()
+    {
+        return this;
+    }
+
+}
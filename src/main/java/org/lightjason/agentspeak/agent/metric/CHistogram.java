@@ -0,0 +1,238 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.metric;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+
+/**
+ * cumulative histogram with logarithmic buckets (power of two),
+ * the i-th bucket stores values within [2^(i-1), 2^i - 1], so
+ * recording needs only a bit-count and an increment
+ *
+ * @note thread-safe and lock-free
+ */
+public final class CHistogram
+{
+    /**
+     * number of buckets
+     */
+    public static final int BUCKETS = Long.SIZE;
+    /**
+     * shared empty histogram, which does not record any value
+     */
+    public static final CHistogram EMPTY = new CHistogram( true );
+    /**
+     * bucket counter
+     */
+    private final LongAdder[] m_buckets = IntStream.range( 0, BUCKETS ).mapToObj( i -> new LongAdder() ).toArray( LongAdder[]::new );
+    /**
+     * sum of all values
+     */
+    private final LongAdder m_sum = new LongAdder();
+    /**
+     * maximum value
+     */
+    private final LongAccumulator m_max = new LongAccumulator( Long::max, 0 );
+    /**
+     * read-only flag
+     */
+    private final boolean m_readonly;
+
+    /**
+     * ctor
+     */
+    public CHistogram()
+    {
+        this( false );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_readonly read-only flag
+     */
+    private CHistogram( final boolean p_readonly )
+    {
+        m_readonly = p_readonly;
+    }
+
+    /**
+     * records a value
+     *
+     * @param p_value value, negative values are recorded as zero
+     * @return self reference
+     */
+    public final CHistogram record( final long p_value )
+    {
+        if ( m_readonly )
+            return this;
+
+        final long l_value = Math.max( 0, p_value );
+        m_buckets[bucket( l_value )].increment();
+        m_sum.add( l_value );
+        m_max.accumulate( l_value );
+        return this;
+    }
+
+    /**
+     * number of recorded values
+     *
+     * @return count
+     */
+    public final long count()
+    {
+        return Arrays.stream( m_buckets ).mapToLong( LongAdder::sum ).sum();
+    }
+
+    /**
+     * sum of all recorded values
+     *
+     * @return sum
+     */
+    public final long sum()
+    {
+        return m_sum.sum();
+    }
+
+    /**
+     * maximum recorded value
+     *
+     * @return maximum
+     */
+    public final long max()
+    {
+        return m_max.get();
+    }
+
+    /**
+     * mean of all recorded values
+     *
+     * @return mean
+     */
+    public final double mean()
+    {
+        final long l_count = this.count();
+        return l_count == 0 ? 0 : m_sum.sum() / (double) l_count;
+    }
+
+    /**
+     * returns the upper bound of the
+     * bucket which contains the percentile
+     *
+     * @param p_percentile percentile in [0,1]
+     * @return value
+     */
+    public final long percentile( final double p_percentile )
+    {
+        final long[] l_buckets = this.buckets();
+        final long l_count = Arrays.stream( l_buckets ).sum();
+        if ( l_count == 0 )
+            return 0;
+
+        final long l_rank = Math.max( 1, (long) Math.ceil( Math.max( 0, Math.min( 1, p_percentile ) ) * l_count ) );
+        long l_sum = 0;
+        for ( int i = 0; i < l_buckets.length; i++ )
+        {
+            l_sum += l_buckets[i];
+            if ( l_sum >= l_rank )
+                return Math.min( upperbound( i ), this.max() );
+        }
+
+        return this.max();
+    }
+
+    /**
+     * returns the number of values of each bucket
+     *
+     * @return bucket counts
+     */
+    public final long[] buckets()
+    {
+        return Arrays.stream( m_buckets ).mapToLong( LongAdder::sum ).toArray();
+    }
+
+    /**
+     * returns the cumulative bucket counts, the i-th
+     * value is the number of values less or equal the
+     * upper bound of the i-th bucket
+     *
+     * @return cumulative counts
+     */
+    public final long[] cumulative()
+    {
+        final long[] l_buckets = this.buckets();
+        Arrays.parallelPrefix( l_buckets, Long::sum );
+        return l_buckets;
+    }
+
+    /**
+     * clears the histogram
+     *
+     * @return self reference
+     */
+    public final CHistogram clear()
+    {
+        Arrays.stream( m_buckets ).forEach( LongAdder::reset );
+        m_sum.reset();
+        m_max.reset();
+        return this;
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format(
+            "count: {0} / mean: {1} / p50: {2} / p99: {3} / max: {4}",
+            this.count(), this.mean(), this.percentile( 0.5 ), this.percentile( 0.99 ), this.max()
+        );
+    }
+
+    /**
+     * returns the upper bound of a bucket
+     *
+     * @param p_bucket bucket index
+     * @return upper bound (inclusive)
+     */
+    public static long upperbound( final int p_bucket )
+    {
+        return p_bucket >= Long.SIZE - 1 ? Long.MAX_VALUE : ( 1L << p_bucket ) - 1;
+    }
+
+    /**
+     * returns the bucket index of a value
+     *
+     * @param p_value non-negative value
+     * @return bucket index
+     */
+    private static int bucket( final long p_value )
+    {
+        return Long.SIZE - Long.numberOfLeadingZeros( p_value );
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.metric;
+
+
+/**
+ * metric of the agent cycle with timers of each
+ * phase and counters of the plan processing, the
+ * empty metric does not read any clock, so a disabled
+ * metric is removed by the jit on the hot path
+ */
+public interface ICycleMetric
+{
+    /**
+     * disabled metric
+     */
+    ICycleMetric EMPTY = new CEmptyCycleMetric();
+
+
+    /**
+     * returns the start time of a phase
+     *
+     * @return time in nano seconds
+     */
+    long start();
+
+    /**
+     * records the duration of a phase
+     *
+     * @param p_phase phase
+     * @param p_start start time of the phase
+     * @return self reference
+     */
+    ICycleMetric record( final EPhase p_phase, final long p_start );
+
+    /**
+     * increments a counter
+     *
+     * @param p_counter counter
+     * @param p_value increment
+     * @return self reference
+     */
+    ICycleMetric count( final ECounter p_counter, final long p_value );
+
+    /**
+     * returns the value of a counter
+     *
+     * @param p_counter counter
+     * @return value
+     */
+    long counter( final ECounter p_counter );
+
+    /**
+     * returns the cumulative histogram
+     * of the phase duration
+     *
+     * @param p_phase phase
+     * @return histogram with nano seconds
+     */
+    CHistogram histogram( final EPhase p_phase );
+
+    /**
+     * clears all timers and counters
+     *
+     * @return self reference
+     */
+    ICycleMetric clear();
+
+
+    /**
+     * phases of the cycle
+     *
+     * @note cycle is the whole cycle and contains all other phases,
+     * update, trigger and execute are recorded once for each cycle,
+     * unify and condition are recorded for each plan candidate, so
+     * their count is the number of candidates and not of cycles
+     */
+    enum EPhase
+    {
+        CYCLE,
+        UPDATE,
+        TRIGGER,
+        UNIFY,
+        CONDITION,
+        EXECUTE;
+    }
+
+    /**
+     * counters of the cycle
+     */
+    enum ECounter
+    {
+        TRIGGER,
+        MATCHED,
+        REJECTED,
+        EXECUTED,
+        FAILED,
+        TABLEHIT,
+        TABLEMISS;
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.policy;
+
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.error.CIllegalArgumentException;
+
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * adaptive execution policy, a stream runs in parallel
+ * iif the number of elements reaches the threshold,
+ * so small collections avoid the task-splitting overhead
+ */
+public final class CAdaptivePolicy implements IExecutionPolicy
+{
+    /**
+     * default threshold
+     */
+    public static final int DEFAULTTHRESHOLD = 64;
+    /**
+     * number of elements for parallel execution
+     */
+    private final long m_threshold;
+    /**
+     * parallel policy
+     */
+    private final IExecutionPolicy m_parallel;
+
+    /**
+     * ctor, uses the default threshold and the common pool
+     */
+    public CAdaptivePolicy()
+    {
+        this( DEFAULTTHRESHOLD, ForkJoinPool.commonPool() );
+    }
+
+    /**
+     * ctor, uses the common pool
+     *
+     * @param p_threshold number of elements for parallel execution
+     */
+    public CAdaptivePolicy( final int p_threshold )
+    {
+        this( p_threshold, ForkJoinPool.commonPool() );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_threshold number of elements for parallel execution
+     * @param p_pool fork-join pool of the parallel execution
+     */
+    public CAdaptivePolicy( final int p_threshold, final ForkJoinPool p_pool )
+    {
+        if ( p_threshold < 1 )
+            throw new CIllegalArgumentException( CCommon.languagestring( this, "threshold", p_threshold ) );
+
+        m_threshold = p_threshold;
+        m_parallel = new CParallelPolicy( p_pool );
+    }
+
+    @Override
+    public final <T> Stream<T> stream( final Collection<T> p_collection )
+    {
+        return p_collection.size() < m_threshold ? p_collection.stream() : m_parallel.stream( p_collection );
+    }
+
+    @Override
+    public final <T> Stream<T> stream( final Stream<T> p_stream )
+    {
+        // the size is estimated by the spliterator, on unknown size the execution mode of the stream is kept
+        final boolean l_parallel = p_stream.isParallel();
+        final Spliterator<T> l_spliterator = p_stream.spliterator();
+        final long l_size = l_spliterator.estimateSize();
+
+        return StreamSupport.stream( l_spliterator, l_size == Long.MAX_VALUE ? l_parallel : l_size >= m_threshold );
+    }
+
+    @Override
+    public final <R> R evaluate( final Supplier<R> p_task )
+    {
+        return m_parallel.evaluate( p_task );
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format( "adaptive ( threshold: {0} / {1} )", m_threshold, m_parallel );
+    }
+
+}
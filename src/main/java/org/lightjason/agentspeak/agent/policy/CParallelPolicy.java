@@ -0,0 +1,101 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.policy;
+
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.error.CIllegalArgumentException;
+
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+
+/**
+ * parallel execution policy, all streams run in parallel
+ * on a fork-join pool, a dedicated pool avoids contention
+ * with other tasks of the common pool, the policy does not
+ * create or shut down any pool
+ */
+public final class CParallelPolicy implements IExecutionPolicy
+{
+    /**
+     * fork-join pool
+     */
+    private final ForkJoinPool m_pool;
+
+    /**
+     * ctor, uses the common pool
+     */
+    public CParallelPolicy()
+    {
+        this( ForkJoinPool.commonPool() );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_pool fork-join pool, the pool is owned by the caller
+     * and must be shut down by the caller
+     */
+    public CParallelPolicy( final ForkJoinPool p_pool )
+    {
+        if ( p_pool == null )
+            throw new CIllegalArgumentException( CCommon.languagestring( this, "poolempty" ) );
+
+        m_pool = p_pool;
+    }
+
+    @Override
+    public final <T> Stream<T> stream( final Collection<T> p_collection )
+    {
+        return p_collection.parallelStream();
+    }
+
+    @Override
+    public final <T> Stream<T> stream( final Stream<T> p_stream )
+    {
+        return p_stream.parallel();
+    }
+
+    @Override
+    public final <R> R evaluate( final Supplier<R> p_task )
+    {
+        // parallel streams use the common pool or the pool of the current task by default
+        if ( ( m_pool == ForkJoinPool.commonPool() ) || ( ( ForkJoinTask.inForkJoinPool() ) && ( ForkJoinTask.getPool() == m_pool ) ) )
+            return p_task.get();
+
+        return m_pool.invoke( ForkJoinTask.adapt( (Callable<R>) p_task::get ) );
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format( "parallel ( parallelism: {0} )", m_pool.getParallelism() );
+    }
+
+}
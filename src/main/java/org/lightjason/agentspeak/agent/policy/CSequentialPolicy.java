@@ -0,0 +1,62 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.policy;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+
+/**
+ * sequential execution policy, all
+ * streams run within the calling thread
+ */
+public final class CSequentialPolicy implements IExecutionPolicy
+{
+
+    @Override
+    public final <T> Stream<T> stream( final Collection<T> p_collection )
+    {
+        return p_collection.stream();
+    }
+
+    @Override
+    public final <T> Stream<T> stream( final Stream<T> p_stream )
+    {
+        return p_stream.sequential();
+    }
+
+    @Override
+    public final <R> R evaluate( final Supplier<R> p_task )
+    {
+        return p_task.get();
+    }
+
+    @Override
+    public final String toString()
+    {
+        return "sequential";
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.policy;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+
+/**
+ * execution policy of the internal streams
+ * of the agent, beliefbase and unifier
+ */
+public interface IExecutionPolicy
+{
+    /**
+     * sequential execution
+     */
+    IExecutionPolicy SEQUENTIAL = new CSequentialPolicy();
+    /**
+     * adaptive execution on the common pool
+     */
+    IExecutionPolicy ADAPTIVE = new CAdaptivePolicy();
+
+    /**
+     * creates a stream of a collection
+     *
+     * @param p_collection collection
+     * @return sequential or parallel stream
+     * @tparam T element type
+     */
+    <T> Stream<T> stream( final Collection<T> p_collection );
+
+    /**
+     * applies the policy to a stream
+     *
+     * @param p_stream stream
+     * @return sequential or parallel stream
+     * @tparam T element type
+     */
+    <T> Stream<T> stream( final Stream<T> p_stream );
+
+    /**
+     * evaluates a task, so that all parallel
+     * streams of the task run within the pool
+     * of the policy
+     *
+     * @param p_task task
+     * @return task result
+     * @tparam R result type
+     */
+    <R> R evaluate( final Supplier<R> p_task );
+
+}
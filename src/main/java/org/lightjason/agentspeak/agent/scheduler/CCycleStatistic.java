@@ -0,0 +1,191 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.scheduler;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * statistic of the cycle execution, stores the latency
+ * of the last cycles within a ring-buffer
+ *
+ * @note thread-safe
+ */
+public final class CCycleStatistic
+{
+    /**
+     * default number of stored cycles
+     */
+    public static final int DEFAULTWINDOW = 1024;
+    /**
+     * ring-buffer with cycle duration (nano seconds)
+     */
+    private final long[] m_duration;
+    /**
+     * ring-buffer with finishing time (nano seconds)
+     */
+    private final long[] m_finish;
+    /**
+     * number of all recorded cycles
+     */
+    private long m_count;
+
+
+    /**
+     * ctor
+     */
+    public CCycleStatistic()
+    {
+        this( DEFAULTWINDOW );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_window number of cycles which are used for the statistic
+     */
+    public CCycleStatistic( final int p_window )
+    {
+        m_duration = new long[Math.max( 2, p_window )];
+        m_finish = new long[m_duration.length];
+    }
+
+    /**
+     * records a cycle
+     *
+     * @param p_start start time in nano seconds
+     * @param p_finish finish time in nano seconds
+     * @return self reference
+     */
+    public final synchronized CCycleStatistic record( final long p_start, final long p_finish )
+    {
+        final int l_index = (int) ( m_count % m_duration.length );
+        m_duration[l_index] = p_finish - p_start;
+        m_finish[l_index] = p_finish;
+        m_count++;
+        return this;
+    }
+
+    /**
+     * number of all recorded cycles
+     *
+     * @return cycle count
+     */
+    public final synchronized long count()
+    {
+        return m_count;
+    }
+
+    /**
+     * returns the number of cycles per second
+     * within the statistic window
+     *
+     * @return cycles per second
+     */
+    public final synchronized double cyclespersecond()
+    {
+        final int l_size = this.size();
+        if ( l_size < 2 )
+            return 0;
+
+        final long l_time = m_finish[this.index( l_size - 1 )] - m_finish[this.index( 0 )];
+        return l_time <= 0 ? 0 : ( l_size - 1 ) * (double) TimeUnit.SECONDS.toNanos( 1 ) / l_time;
+    }
+
+    /**
+     * returns the latency percentile
+     *
+     * @param p_percentile percentile in [0,1]
+     * @return latency in nano seconds
+     */
+    public final synchronized long percentile( final double p_percentile )
+    {
+        final int l_size = this.size();
+        if ( l_size == 0 )
+            return 0;
+
+        final long[] l_sorted = Arrays.copyOf( m_duration, l_size );
+        Arrays.sort( l_sorted );
+        return l_sorted[Math.max( 0, Math.min( l_size - 1, (int) Math.ceil( p_percentile * l_size ) - 1 ) )];
+    }
+
+    /**
+     * returns the mean latency
+     *
+     * @return latency in nano seconds
+     */
+    public final synchronized double mean()
+    {
+        final int l_size = this.size();
+        return l_size == 0 ? 0 : Arrays.stream( m_duration, 0, l_size ).sum() / (double) l_size;
+    }
+
+    /**
+     * clears the statistic
+     *
+     * @return self reference
+     */
+    public final synchronized CCycleStatistic clear()
+    {
+        m_count = 0;
+        Arrays.fill( m_duration, 0 );
+        Arrays.fill( m_finish, 0 );
+        return this;
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format(
+            "cycles: {0} / cycles per second: {1} / p50: {2}ns / p99: {3}ns",
+            this.count(), this.cyclespersecond(), this.percentile( 0.5 ), this.percentile( 0.99 )
+        );
+    }
+
+    /**
+     * number of stored cycles
+     *
+     * @return size
+     */
+    private int size()
+    {
+        return (int) Math.min( m_count, m_duration.length );
+    }
+
+    /**
+     * returns the buffer index of the i-th oldest stored cycle
+     *
+     * @param p_position position (0 is the oldest element)
+     * @return buffer index
+     */
+    private int index( final int p_position )
+    {
+        return m_count <= m_duration.length
+               ? p_position
+               : (int) ( ( m_count + p_position ) % m_duration.length );
+    }
+
+}
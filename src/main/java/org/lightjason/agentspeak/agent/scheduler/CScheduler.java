@@ -0,0 +1,589 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.scheduler;
+
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.error.CIllegalArgumentException;
+import org.lightjason.agentspeak.error.CIllegalStateException;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * population scheduler, the agents are split into partitions and
+ * each worker thread owns one partition, so an agent is executed
+ * on the same worker in each cycle (cache affinity of the agent data),
+ * a partition is processed in batches and a worker which has finished
+ * its own partition steals batches of the other partitions,
+ * sleeping agents are parked within a timing wheel and are
+ * not executed until the sleeping time ends or the agent
+ * is woken up
+ *
+ * @tparam T agent type
+ */
+public final class CScheduler<T extends IAgent<?>> implements IScheduler<T>
+{
+    /**
+     * default number of agents within a batch
+     */
+    public static final int DEFAULTBATCHSIZE = 64;
+    /**
+     * logger
+     */
+    private static final Logger LOGGER = CCommon.logger( CScheduler.class );
+    /**
+     * number of worker threads
+     */
+    private final int m_workers;
+    /**
+     * number of agents within a batch
+     */
+    private final int m_batchsize;
+    /**
+     * period of a cycle in nano seconds, zero runs as fast as possible
+     */
+    private final long m_period;
+    /**
+     * agent partitions, one partition for each worker
+     *
+     * @note modified by the coordinator only between two cycles
+     */
+    private final List<List<T>> m_partitions;
+    /**
+     * index of the next unprocessed agent of each partition
+     */
+    private final AtomicInteger[] m_claim;
+    /**
+     * map with agent and partition index
+     */
+    private final Map<T, Integer> m_assignment = new HashMap<>();
+    /**
+     * map with runnable agent and index within the partition
+     */
+    private final Map<T, Integer> m_position = new HashMap<>();
+    /**
+     * map with parked agent and the first cycle which is passed
+     */
+    private final Map<T, Long> m_parked = new HashMap<>();
+    /**
+     * timing wheel of the parked agents
+     */
+    private final CTimingWheel<T> m_wheel = new CTimingWheel<>();
+    /**
+     * agents which are sleeping after the last cycle
+     */
+    private final Queue<T> m_sleeping = new ConcurrentLinkedQueue<>();
+    /**
+     * agents which are woken up
+     */
+    private final Queue<T> m_woken = new ConcurrentLinkedQueue<>();
+    /**
+     * agents which will be added before the next cycle
+     */
+    private final Queue<T> m_added = new ConcurrentLinkedQueue<>();
+    /**
+     * agents which will be removed before the next cycle
+     */
+    private final Queue<T> m_removed = new ConcurrentLinkedQueue<>();
+    /**
+     * cycle counter
+     */
+    private final AtomicLong m_cycle = new AtomicLong();
+    /**
+     * running flag of the continuous execution
+     */
+    private final AtomicBoolean m_running = new AtomicBoolean();
+    /**
+     * cycle statistic
+     */
+    private final CCycleStatistic m_statistic = new CCycleStatistic();
+    /**
+     * number of agents
+     */
+    private volatile int m_size;
+    /**
+     * number of parked agents
+     */
+    private volatile int m_parkedsize;
+    /**
+     * shutdown flag of the worker threads
+     */
+    private volatile boolean m_shutdown;
+    /**
+     * thread of the continuous execution
+     */
+    private volatile Thread m_loop;
+    /**
+     * synchronization of coordinator and workers, null iif no worker is running
+     */
+    private Phaser m_phaser;
+    /**
+     * worker threads
+     */
+    private volatile Thread[] m_threads = new Thread[0];
+
+
+    /**
+     * ctor, uses a worker for each processor and
+     * runs the cycles as fast as possible
+     */
+    public CScheduler()
+    {
+        this( 0, TimeUnit.NANOSECONDS );
+    }
+
+    /**
+     * ctor, uses a worker for each processor
+     *
+     * @param p_period period of a cycle (zero runs as fast as possible)
+     * @param p_unit time unit of the period
+     */
+    public CScheduler( final long p_period, final TimeUnit p_unit )
+    {
+        this( Runtime.getRuntime().availableProcessors(), DEFAULTBATCHSIZE, p_period, p_unit );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_workers number of worker threads
+     * @param p_batchsize number of agents within a batch
+     * @param p_period period of a cycle (zero runs as fast as possible)
+     * @param p_unit time unit of the period
+     */
+    public CScheduler( final int p_workers, final int p_batchsize, final long p_period, final TimeUnit p_unit )
+    {
+        if ( ( p_workers < 1 ) || ( p_batchsize < 1 ) || ( p_period < 0 ) )
+            throw new CIllegalArgumentException( CCommon.languagestring( this, "argument", p_workers, p_batchsize, p_period ) );
+
+        m_workers = p_workers;
+        m_batchsize = p_batchsize;
+        m_period = p_unit.toNanos( p_period );
+        m_partitions = IntStream.range( 0, m_workers ).mapToObj( i -> new ArrayList<T>() ).collect( Collectors.toList() );
+        m_claim = IntStream.range( 0, m_workers ).mapToObj( i -> new AtomicInteger() ).toArray( AtomicInteger[]::new );
+    }
+
+    @Override
+    public final IScheduler<T> add( final Stream<T> p_agent )
+    {
+        p_agent.forEach( m_added::add );
+        return this;
+    }
+
+    @Override
+    public final IScheduler<T> remove( final Stream<T> p_agent )
+    {
+        p_agent.forEach( m_removed::add );
+        return this;
+    }
+
+    @Override
+    public final IScheduler<T> start()
+    {
+        if ( !m_running.compareAndSet( false, true ) )
+            throw new CIllegalStateException( CCommon.languagestring( this, "running" ) );
+
+        m_loop = new Thread( this::loop, MessageFormat.format( "{0}-loop", this.getClass().getSimpleName() ) );
+        m_loop.start();
+        return this;
+    }
+
+    @Override
+    public final IScheduler<T> stop()
+    {
+        m_running.set( false );
+
+        // stop call within an agent cycle, so the loop finishes after the current cycle
+        if ( Arrays.stream( m_threads ).anyMatch( i -> i == Thread.currentThread() ) )
+            return this;
+
+        final Thread l_loop = m_loop;
+        if ( ( l_loop != null ) && ( l_loop != Thread.currentThread() ) )
+        {
+            LockSupport.unpark( l_loop );
+            CScheduler.join( l_loop );
+        }
+        m_loop = null;
+
+        synchronized ( this )
+        {
+            this.stopworkers();
+        }
+        return this;
+    }
+
+    @Override
+    public final synchronized IScheduler<T> step()
+    {
+        this.population();
+        if ( m_phaser == null )
+            this.startworkers();
+
+        final long l_start = System.nanoTime();
+        Arrays.stream( m_claim ).forEach( i -> i.set( 0 ) );
+
+        // first phase releases the workers, second phase waits until all workers are finished
+        m_phaser.arriveAndAwaitAdvance();
+        m_phaser.arriveAndAwaitAdvance();
+
+        m_statistic.record( l_start, System.nanoTime() );
+        m_cycle.incrementAndGet();
+        return this;
+    }
+
+    @Override
+    public final boolean running()
+    {
+        return m_running.get();
+    }
+
+    @Override
+    public final long cycle()
+    {
+        return m_cycle.get();
+    }
+
+    @Override
+    public final int size()
+    {
+        return m_size;
+    }
+
+    @Override
+    public final int sleeping()
+    {
+        return m_parkedsize;
+    }
+
+    @Override
+    public final CCycleStatistic statistic()
+    {
+        return m_statistic;
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format(
+            "{0} ( workers: {1} / batch size: {2} / agents: {3} / sleeping: {4} / {5} )",
+            super.toString(), m_workers, m_batchsize, m_size, m_parkedsize, m_statistic
+        );
+    }
+
+    /**
+     * continuous execution loop, the workers are stopped
+     * on leaving, so a stop call within an agent cycle
+     * shuts down the workers also
+     */
+    private void loop()
+    {
+        try
+        {
+            long l_next = System.nanoTime();
+            while ( m_running.get() )
+            {
+                this.step();
+                if ( m_period == 0 )
+                    continue;
+
+                // fixed-rate execution, if a cycle is overdue the next cycle starts immediately
+                l_next += m_period;
+                for ( long l_wait = l_next - System.nanoTime(); ( l_wait > 0 ) && ( m_running.get() ); l_wait = l_next - System.nanoTime() )
+                    LockSupport.parkNanos( l_wait );
+            }
+        }
+        finally
+        {
+            synchronized ( this )
+            {
+                this.stopworkers();
+            }
+            if ( m_loop == Thread.currentThread() )
+                m_loop = null;
+        }
+    }
+
+    /**
+     * updates the partitions with the added, removed,
+     * sleeping and woken agents
+     */
+    private void population()
+    {
+        T l_agent;
+        while ( ( l_agent = m_removed.poll() ) != null )
+        {
+            final Integer l_partition = m_assignment.remove( l_agent );
+            if ( l_partition == null )
+                continue;
+
+            l_agent.wakeuplistener( null );
+            m_wheel.cancel( l_agent );
+            m_parked.remove( l_agent );
+            this.unlink( l_agent, l_partition );
+        }
+
+        while ( ( l_agent = m_added.poll() ) != null )
+            this.assign( l_agent );
+
+        // the wheel follows the cycle, agents which deadline is reached are runnable again
+        while ( m_wheel.time() < m_cycle.get() )
+            m_wheel.advance().forEach( this::unpark );
+
+        while ( ( l_agent = m_sleeping.poll() ) != null )
+            this.park( l_agent );
+
+        while ( ( l_agent = m_woken.poll() ) != null )
+            if ( m_wheel.cancel( l_agent ) )
+                this.unpark( l_agent );
+
+        m_size = m_assignment.size();
+        m_parkedsize = m_parked.size();
+    }
+
+    /**
+     * assigns an agent to the smallest partition
+     *
+     * @param p_agent agent
+     */
+    private void assign( final T p_agent )
+    {
+        if ( m_assignment.containsKey( p_agent ) )
+            return;
+
+        final int l_partition = IntStream.range( 0, m_workers )
+                                         .boxed()
+                                         .min( Comparator.comparingInt( i -> m_partitions.get( i ).size() ) )
+                                         .orElse( 0 );
+        m_assignment.put( p_agent, l_partition );
+        this.link( p_agent, l_partition );
+        p_agent.wakeuplistener( i -> m_woken.add( p_agent ) );
+    }
+
+    /**
+     * parks a sleeping agent within the timing wheel
+     *
+     * @param p_agent agent
+     */
+    private void park( final T p_agent )
+    {
+        // the agent passes the last sleeping cycle by its own cycle, so an agent is parked for more than one cycle only
+        final long l_cycles = p_agent.sleepingcycles();
+        if ( ( l_cycles < 2 ) || ( !m_position.containsKey( p_agent ) ) )
+            return;
+
+        final long l_cycle = m_cycle.get();
+        this.unlink( p_agent, m_assignment.get( p_agent ) );
+        m_parked.put( p_agent, l_cycle );
+        m_wheel.schedule( p_agent, l_cycles - 1 >= CTimingWheel.INFINITY - l_cycle ? CTimingWheel.INFINITY : l_cycle + l_cycles - 1 );
+    }
+
+    /**
+     * moves a parked agent into the runnable agents and
+     * passes the sleeping cycles of the parking time
+     *
+     * @param p_agent agent
+     */
+    private void unpark( final T p_agent )
+    {
+        final Long l_cycle = m_parked.remove( p_agent );
+        if ( l_cycle == null )
+            return;
+
+        p_agent.elapse( m_cycle.get() - l_cycle );
+        this.link( p_agent, m_assignment.get( p_agent ) );
+    }
+
+    /**
+     * appends a runnable agent to a partition
+     *
+     * @param p_agent agent
+     * @param p_partition partition index
+     */
+    private void link( final T p_agent, final int p_partition )
+    {
+        final List<T> l_agents = m_partitions.get( p_partition );
+        m_position.put( p_agent, l_agents.size() );
+        l_agents.add( p_agent );
+    }
+
+    /**
+     * removes a runnable agent from a partition,
+     * the last agent of the partition is moved
+     * to the position of the removed agent
+     *
+     * @param p_agent agent
+     * @param p_partition partition index
+     */
+    private void unlink( final T p_agent, final int p_partition )
+    {
+        final Integer l_position = m_position.remove( p_agent );
+        if ( l_position == null )
+            return;
+
+        final List<T> l_agents = m_partitions.get( p_partition );
+        final T l_last = l_agents.remove( l_agents.size() - 1 );
+        if ( l_position >= l_agents.size() )
+            return;
+
+        l_agents.set( l_position, l_last );
+        m_position.put( l_last, l_position );
+    }
+
+    /**
+     * creates and starts the worker threads
+     */
+    private void startworkers()
+    {
+        m_shutdown = false;
+        m_phaser = new Phaser( m_workers + 1 );
+
+        final Phaser l_phaser = m_phaser;
+        m_threads = IntStream.range( 0, m_workers )
+                             .mapToObj( i -> {
+                                 final Thread l_thread = new Thread(
+                                     () -> this.worker( i, l_phaser ),
+                                     MessageFormat.format( "{0}-worker-{1}", this.getClass().getSimpleName(), i )
+                                 );
+                                 l_thread.setDaemon( true );
+                                 l_thread.start();
+                                 return l_thread;
+                             } )
+                             .toArray( Thread[]::new );
+    }
+
+    /**
+     * stops all worker threads
+     */
+    private void stopworkers()
+    {
+        if ( m_phaser == null )
+            return;
+
+        m_shutdown = true;
+        m_phaser.arriveAndDeregister();
+        Arrays.stream( m_threads ).forEach( CScheduler::join );
+
+        m_threads = new Thread[0];
+        m_phaser = null;
+    }
+
+    /**
+     * worker execution
+     *
+     * @param p_worker worker index
+     * @param p_phaser phaser of the workers
+     */
+    private void worker( final int p_worker, final Phaser p_phaser )
+    {
+        while ( true )
+        {
+            p_phaser.arriveAndAwaitAdvance();
+            if ( m_shutdown )
+            {
+                p_phaser.arriveAndDeregister();
+                return;
+            }
+
+            // own partition first, than stealing of the other partitions
+            for ( int i = 0; i < m_workers; i++ )
+                this.drain( ( p_worker + i ) % m_workers );
+
+            p_phaser.arriveAndAwaitAdvance();
+        }
+    }
+
+    /**
+     * executes the agents of a partition batch-wise
+     *
+     * @param p_partition partition index
+     */
+    private void drain( final int p_partition )
+    {
+        final List<T> l_agents = m_partitions.get( p_partition );
+        final AtomicInteger l_claim = m_claim[p_partition];
+
+        for ( int l_start = l_claim.getAndAdd( m_batchsize ); l_start < l_agents.size(); l_start = l_claim.getAndAdd( m_batchsize ) )
+            for ( int j = l_start; j < Math.min( l_start + m_batchsize, l_agents.size() ); j++ )
+            {
+                final T l_agent = l_agents.get( j );
+                CScheduler.call( l_agent );
+                if ( l_agent.sleepingcycles() > 1 )
+                    m_sleeping.add( l_agent );
+            }
+    }
+
+    /**
+     * runs the cycle of a single agent
+     *
+     * @param p_agent agent
+     */
+    private static void call( final IAgent<?> p_agent )
+    {
+        try
+        {
+            p_agent.call();
+        }
+        catch ( final Exception l_exception )
+        {
+            LOGGER.warning( CCommon.languagestring( CScheduler.class, "execution", p_agent, l_exception ) );
+        }
+    }
+
+    /**
+     * joins a thread
+     *
+     * @param p_thread thread
+     */
+    private static void join( final Thread p_thread )
+    {
+        try
+        {
+            p_thread.join();
+        }
+        catch ( final InterruptedException l_exception )
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
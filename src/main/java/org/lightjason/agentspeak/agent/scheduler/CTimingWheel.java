@@ -0,0 +1,281 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.scheduler;
+
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.error.CIllegalArgumentException;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * hierarchical timing wheel keyed on the cycle number,
+ * each level contains 64 slots and a slot of the level n
+ * covers 64^n cycles, elements of a higher level are
+ * cascaded into the lower levels if the slot is reached,
+ * so scheduling, cancelling and advancing is amortized O(1)
+ *
+ * @tparam T element type
+ * @note the wheel is not thread-safe
+ */
+public final class CTimingWheel<T>
+{
+    /**
+     * cycle value of an infinity deadline
+     */
+    public static final long INFINITY = Long.MAX_VALUE;
+    /**
+     * number of bits of a slot index
+     */
+    private static final int BITS = 6;
+    /**
+     * number of slots of each level
+     */
+    private static final int SLOTS = 1 << BITS;
+    /**
+     * bit mask of a slot index
+     */
+    private static final long MASK = SLOTS - 1;
+    /**
+     * number of levels (covers the full long range)
+     */
+    private static final int LEVELS = ( Long.SIZE + BITS - 1 ) / BITS;
+    /**
+     * slots of all levels
+     */
+    private final List<Set<T>> m_slots;
+    /**
+     * elements with infinity deadline
+     */
+    private final Set<T> m_infinity = new HashSet<>();
+    /**
+     * map with element and slot
+     */
+    private final Map<T, Set<T>> m_position = new HashMap<>();
+    /**
+     * map with element and deadline
+     */
+    private final Map<T, Long> m_deadline = new HashMap<>();
+    /**
+     * current cycle of the wheel
+     */
+    private long m_time;
+
+
+    /**
+     * ctor
+     */
+    public CTimingWheel()
+    {
+        this( 0 );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_time initial cycle
+     */
+    public CTimingWheel( final long p_time )
+    {
+        if ( p_time < 0 )
+            throw new CIllegalArgumentException( CCommon.languagestring( this, "time", p_time ) );
+
+        m_time = p_time;
+        m_slots = IntStream.range( 0, LEVELS * SLOTS ).mapToObj( i -> new HashSet<T>() ).collect( Collectors.toList() );
+    }
+
+    /**
+     * returns the current cycle
+     *
+     * @return cycle
+     */
+    public final long time()
+    {
+        return m_time;
+    }
+
+    /**
+     * returns the number of elements
+     *
+     * @return number of elements
+     */
+    public final int size()
+    {
+        return m_position.size();
+    }
+
+    /**
+     * checks if an element is scheduled
+     *
+     * @param p_element element
+     * @return existing flag
+     */
+    public final boolean contains( final T p_element )
+    {
+        return m_position.containsKey( p_element );
+    }
+
+    /**
+     * schedules an element, an existing
+     * element is rescheduled
+     *
+     * @param p_element element
+     * @param p_deadline cycle of the deadline (must be greater than the current cycle), INFINITY never expires
+     * @return self reference
+     */
+    public final CTimingWheel<T> schedule( final T p_element, final long p_deadline )
+    {
+        if ( p_deadline <= m_time )
+            throw new CIllegalArgumentException( CCommon.languagestring( this, "deadline", p_deadline, m_time ) );
+
+        this.cancel( p_element );
+        this.insert( p_element, p_deadline );
+        return this;
+    }
+
+    /**
+     * removes an element
+     *
+     * @param p_element element
+     * @return flag if the element was scheduled
+     */
+    public final boolean cancel( final T p_element )
+    {
+        final Set<T> l_slot = m_position.remove( p_element );
+        if ( l_slot == null )
+            return false;
+
+        l_slot.remove( p_element );
+        m_deadline.remove( p_element );
+        return true;
+    }
+
+    /**
+     * moves the wheel to the next cycle
+     *
+     * @return collection with the elements, which deadline is reached
+     */
+    public final Collection<T> advance()
+    {
+        m_time++;
+
+        // cascade all higher levels which slots are reached, starting at the highest level
+        for ( int i = this.cascadelevel(); i > 0; i-- )
+        {
+            final Set<T> l_slot = this.slot( i, m_time );
+            if ( l_slot.isEmpty() )
+                continue;
+
+            final List<T> l_elements = new ArrayList<>( l_slot );
+            l_slot.clear();
+            l_elements.forEach( j -> this.insert( j, m_deadline.remove( j ) ) );
+        }
+
+        final Set<T> l_slot = this.slot( 0, m_time );
+        if ( l_slot.isEmpty() )
+            return Collections.emptyList();
+
+        final List<T> l_expired = new ArrayList<>( l_slot );
+        l_slot.clear();
+        l_expired.forEach( i -> {
+            m_position.remove( i );
+            m_deadline.remove( i );
+        } );
+        return l_expired;
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format( "{0} ( time: {1} / elements: {2} )", super.toString(), m_time, m_position.size() );
+    }
+
+    /**
+     * inserts an element into the matching level
+     *
+     * @param p_element element
+     * @param p_deadline deadline
+     */
+    private void insert( final T p_element, final long p_deadline )
+    {
+        final Set<T> l_slot = p_deadline == INFINITY ? m_infinity : this.slot( this.level( p_deadline ), p_deadline );
+        l_slot.add( p_element );
+        m_position.put( p_element, l_slot );
+        m_deadline.put( p_element, p_deadline );
+    }
+
+    /**
+     * returns the level of a deadline, the level is
+     * the lowest level on which the deadline and the
+     * current cycle are within the same block of the
+     * next level
+     *
+     * @param p_deadline deadline
+     * @return level
+     */
+    private int level( final long p_deadline )
+    {
+        int l_level = 0;
+        while ( ( l_level < LEVELS - 1 ) && ( ( p_deadline >>> ( BITS * ( l_level + 1 ) ) ) != ( m_time >>> ( BITS * ( l_level + 1 ) ) ) ) )
+            l_level++;
+        return l_level;
+    }
+
+    /**
+     * returns the highest level, which slot
+     * is reached by the current cycle
+     *
+     * @return level
+     */
+    private int cascadelevel()
+    {
+        int l_level = 0;
+        while ( ( l_level < LEVELS - 1 ) && ( ( ( m_time >>> ( BITS * ( l_level + 1 ) ) ) << ( BITS * ( l_level + 1 ) ) ) == m_time ) )
+            l_level++;
+        return l_level;
+    }
+
+    /**
+     * returns the slot of a level and cycle
+     *
+     * @param p_level level
+     * @param p_time cycle
+     * @return slot
+     */
+    private Set<T> slot( final int p_level, final long p_time )
+    {
+        return m_slots.get( p_level * SLOTS + (int) ( ( p_time >>> ( BITS * p_level ) ) & MASK ) );
+    }
+
+}
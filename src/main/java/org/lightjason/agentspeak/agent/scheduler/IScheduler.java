@@ -0,0 +1,119 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.scheduler;
+
+import org.lightjason.agentspeak.agent.IAgent;
+
+import java.util.stream.Stream;
+
+
+/**
+ * scheduler interface to run the cycles
+ * of an agent population
+ *
+ * @tparam T agent type
+ */
+public interface IScheduler<T extends IAgent<?>>
+{
+
+    /**
+     * adds agents to the population,
+     * agents are added before the next cycle runs
+     *
+     * @note an agent can be part of a single scheduler only
+     *
+     * @param p_agent agent stream
+     * @return self reference
+     */
+    IScheduler<T> add( final Stream<T> p_agent );
+
+    /**
+     * removes agents from the population,
+     * agents are removed before the next cycle runs
+     *
+     * @param p_agent agent stream
+     * @return self reference
+     */
+    IScheduler<T> remove( final Stream<T> p_agent );
+
+    /**
+     * starts the continuous execution of cycles
+     *
+     * @return self reference
+     */
+    IScheduler<T> start();
+
+    /**
+     * stops the continuous execution and
+     * releases all worker threads
+     *
+     * @return self reference
+     */
+    IScheduler<T> stop();
+
+    /**
+     * runs a single cycle of all agents and
+     * blocks until the cycle is finished
+     *
+     * @return self reference
+     */
+    IScheduler<T> step();
+
+    /**
+     * returns the running state
+     *
+     * @return running flag
+     */
+    boolean running();
+
+    /**
+     * returns the number of executed cycles
+     *
+     * @return cycle
+     */
+    long cycle();
+
+    /**
+     * returns the number of agents
+     *
+     * @return population size
+     */
+    int size();
+
+    /**
+     * returns the number of sleeping agents,
+     * which are parked and not executed
+     *
+     * @return number of sleeping agents
+     */
+    int sleeping();
+
+    /**
+     * returns the cycle statistic
+     *
+     * @return statistic
+     */
+    CCycleStatistic statistic();
+
+}
@@ -0,0 +1,123 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.unify;
+
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.IRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.variable.CRelocateMutexVariable;
+import org.lightjason.agentspeak.language.variable.CRelocateVariable;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+
+/**
+ * index-based unify, the terms are walked in order without
+ * collecting the streams and literals are unified recursively
+ * on the ordered values, copies of the target variables are
+ * bound into a frame, which is added to the result only on
+ * success, so a failed unification does not modify any variable
+ */
+public final class CArray implements IAlgorithm
+{
+
+    @Override
+    public final <T extends ITerm> boolean unify( final Set<IVariable<?>> p_variables, final Stream<T> p_source, final Stream<T> p_target )
+    {
+        final List<IVariable<?>> l_frame = new ArrayList<>();
+        if ( !CArray.unify( l_frame, p_source.iterator(), p_target.iterator() ) )
+            return false;
+
+        p_variables.addAll( l_frame );
+        return true;
+    }
+
+    /**
+     * binds a source term to a copy of the target variable
+     *
+     * @param p_source source term
+     * @param p_target target variable
+     * @return bound variable
+     */
+    @SuppressWarnings( "unchecked" )
+    private static IVariable<?> bind( final ITerm p_source, final IVariable<?> p_target )
+    {
+        // if source and target are variables create a realocated variable for backtracking
+        if ( p_source instanceof IVariable<?> )
+            return p_target.mutex()
+                   ? new CRelocateMutexVariable<>( p_target.fqnfunctor(), (IVariable<?>) p_source )
+                   : new CRelocateVariable<>( p_target.fqnfunctor(), (IVariable<?>) p_source );
+
+        return ( (IVariable<Object>) p_target.shallowcopy() ).set( p_source );
+    }
+
+    /**
+     * unifies the terms in order
+     *
+     * @param p_frame variable frame
+     * @param p_source source terms
+     * @param p_target target terms with variables
+     * @return boolean of unify success
+     */
+    private static boolean unify( final List<IVariable<?>> p_frame, final Iterator<? extends ITerm> p_source, final Iterator<? extends ITerm> p_target )
+    {
+        if ( ( !p_target.hasNext() ) || ( !p_source.hasNext() ) )
+            return true;
+
+        while ( p_source.hasNext() && p_target.hasNext() )
+        {
+            final ITerm l_source = p_source.next();
+            final ITerm l_target = p_target.next();
+
+            if ( l_target instanceof IVariable<?> )
+            {
+                p_frame.add( CArray.bind( l_source, (IVariable<?>) l_target ) );
+                continue;
+            }
+
+            // if a raw value exists -> equality check
+            if ( ( l_source instanceof IRawTerm<?> ) || ( l_target instanceof IRawTerm<?> ) )
+            {
+                if ( !l_source.equals( l_target ) )
+                    return false;
+                continue;
+            }
+
+            // if a literal exists -> source and target literal must be equal with the functor -> recursive descent
+            if ( !( ( l_source instanceof ILiteral ) && ( l_target instanceof ILiteral )
+                    && ( l_source.fqnfunctor().equals( l_target.fqnfunctor() ) )
+                    && ( CArray.unify( p_frame, ( (ILiteral) l_source ).orderedvaluelist().iterator(), ( (ILiteral) l_target ).orderedvaluelist().iterator() ) ) ) )
+                return false;
+        }
+
+        // both sides must have the same number of terms
+        return ( !p_source.hasNext() ) && ( !p_target.hasNext() );
+    }
+
+}
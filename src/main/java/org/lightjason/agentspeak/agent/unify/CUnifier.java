@@ -23,7 +23,7 @@
 
 package org.lightjason.agentspeak.agent.unify;
 
-import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.policy.IExecutionPolicy;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.ITerm;
@@ -39,8 +39,10 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 
 /**
@@ -83,12 +85,13 @@ public final class CUnifier implements IUnifier
     @Override
     public final IFuzzyValue<Boolean> unify( final IContext p_context, final ILiteral p_literal, final long p_variablenumber )
     {
-        // get all possible variables
-        final List<Set<IVariable<?>>> l_variables = this.unify( p_context.agent(), p_literal, p_variablenumber );
-        if ( l_variables.isEmpty() )
+        // the candidates are unified lazily, so the first solution stops the search
+        final Optional<Set<IVariable<?>>> l_result = this.unify( p_context.agent().beliefbase().stream( p_literal ).sequential(), p_literal, p_variablenumber )
+                                                         .findFirst();
+        if ( !l_result.isPresent() )
             return CFuzzyValue.from( false );
 
-        CCommon.updatecontext( p_context, l_variables.get( 0 ).parallelStream() );
+        CCommon.updatecontext( p_context, p_context.agent().executionpolicy().stream( l_result.get() ) );
         return CFuzzyValue.from( true );
     }
 
@@ -97,35 +100,26 @@ public final class CUnifier implements IUnifier
                                                 final IExpression p_expression
     )
     {
-        // get all possible variables
-        final List<Set<IVariable<?>>> l_variables = this.unify( p_context.agent(), p_literal, p_variablenumber );
-        if ( l_variables.isEmpty() )
-            return CFuzzyValue.from( false );
-
-        // otherwise the expression must be checked, first match will be used
-        final Set<IVariable<?>> l_result = l_variables.parallelStream()
-                                                      .filter( i -> {
-                                                          final List<ITerm> l_return = new LinkedList<>();
-                                                          p_expression.execute(
-                                                              CCommon.updatecontext(
-                                                                  p_context.duplicate(),
-                                                                  i.parallelStream()
-                                                              ),
-                                                              false,
-                                                              Collections.<ITerm>emptyList(),
-                                                              l_return,
-                                                              Collections.<ITerm>emptyList()
-                                                          );
-                                                          return ( l_return.size() == 1 ) && ( l_return.get( 0 ).<Boolean>raw() );
-                                                      } )
-                                                      .findFirst()
-                                                      .orElse( Collections.<IVariable<?>>emptySet() );
+        // the candidates are unified and checked on the policy, the flag cancels the remaining
+        // work of all workers, if any worker finds a solution
+        final IExecutionPolicy l_policy = p_context.agent().executionpolicy();
+        final AtomicBoolean l_found = new AtomicBoolean();
+        final Optional<Set<IVariable<?>>> l_result = l_policy.evaluate(
+            () -> this.unify(
+                        l_policy.stream( p_context.agent().beliefbase().stream( p_literal ) ).filter( i -> !l_found.get() ),
+                        p_literal,
+                        p_variablenumber
+                    )
+                    .filter( i -> ( !l_found.get() ) && ( CUnifier.constraint( p_context, p_expression, i ) ) )
+                    .peek( i -> l_found.set( true ) )
+                    .findAny()
+        );
 
         // if no match
-        if ( l_result.isEmpty() )
+        if ( !l_result.isPresent() )
             return CFuzzyValue.from( false );
 
-        CCommon.updatecontext( p_context, l_result.parallelStream() );
+        CCommon.updatecontext( p_context, l_policy.stream( l_result.get() ) );
         return CFuzzyValue.from( true );
     }
 
@@ -134,35 +128,16 @@ public final class CUnifier implements IUnifier
                                                   final IExpression p_expression
     )
     {
-        // get all possible variables
-        final List<Set<IVariable<?>>> l_variables = this.unify( p_context.agent(), p_literal, p_variablenumber );
-        if ( l_variables.isEmpty() )
-            return CFuzzyValue.from( false );
-
-        // otherwise the expression must be checked, first match will be used
-        final Set<IVariable<?>> l_result = l_variables.stream()
-                                                      .filter( i -> {
-                                                          final List<ITerm> l_return = new LinkedList<>();
-                                                          p_expression.execute(
-                                                              CCommon.updatecontext(
-                                                                  p_context.duplicate(),
-                                                                  i.parallelStream()
-                                                              ),
-                                                              false,
-                                                              Collections.<ITerm>emptyList(),
-                                                              l_return,
-                                                              Collections.<ITerm>emptyList()
-                                                          );
-                                                          return ( l_return.size() == 1 ) && ( l_return.get( 0 ).<Boolean>raw() );
-                                                      } )
-                                                      .findFirst()
-                                                      .orElse( Collections.<IVariable<?>>emptySet() );
+        // the candidates are unified and checked lazily, first match will be used
+        final Optional<Set<IVariable<?>>> l_result = this.unify( p_context.agent().beliefbase().stream( p_literal ).sequential(), p_literal, p_variablenumber )
+                                                         .filter( i -> CUnifier.constraint( p_context, p_expression, i ) )
+                                                         .findFirst();
 
         // if no match
-        if ( l_result.isEmpty() )
+        if ( !l_result.isPresent() )
             return CFuzzyValue.from( false );
 
-        CCommon.updatecontext( p_context, l_result.parallelStream() );
+        CCommon.updatecontext( p_context, p_context.agent().executionpolicy().stream( l_result.get() ) );
         return CFuzzyValue.from( true );
     }
 
@@ -230,22 +205,42 @@ public final class CUnifier implements IUnifier
     }
 
     /**
-     * search all relevant literals within the agent beliefbase and unifies the variables
+     * unifies the variables with the relevant literals of the agent beliefbase,
+     * the stream is lazy, so a short-circuit operation stops the unification
      *
-     * @param p_agent agent
+     * @param p_candidates stream of candidate literals
      * @param p_literal literal search
      * @param p_variablenumber number of unified variables
-     * @return list of literal sets
+     * @return stream of variable sets
      **/
-    @SuppressWarnings( "unchecked" )
-    private List<Set<IVariable<?>>> unify( final IAgent<?> p_agent, final ILiteral p_literal, final long p_variablenumber )
+    private Stream<Set<IVariable<?>>> unify( final Stream<ILiteral> p_candidates, final ILiteral p_literal, final long p_variablenumber )
+    {
+        return p_candidates.filter( i -> ( i.emptyValues() == p_literal.emptyValues() ) && ( i.emptyAnnotations() == p_literal.emptyAnnotations() ) )
+                           .map( i -> this.literal( (ILiteral) p_literal.deepcopy(), i ) )
+                           .filter( i -> p_variablenumber == i.size() );
+    }
+
+    /**
+     * checks the constraint expression on the unified variables
+     *
+     * @param p_context running context
+     * @param p_expression constraint expression
+     * @param p_variables unified variables
+     * @return constraint result
+     */
+    private static boolean constraint( final IContext p_context, final IExpression p_expression, final Set<IVariable<?>> p_variables )
     {
-        return p_agent.beliefbase()
-                      .stream( p_literal.negated(), p_literal.fqnfunctor() )
-                      .parallel()
-                      .filter( i -> ( i.emptyValues() == p_literal.emptyValues() ) && ( i.emptyAnnotations() == p_literal.emptyAnnotations() ) )
-                      .map( i -> this.literal( (ILiteral) p_literal.deepcopy(), i ) )
-                      .filter( i -> p_variablenumber == i.size() )
-                      .collect( Collectors.toList() );
+        final List<ITerm> l_return = new LinkedList<>();
+        p_expression.execute(
+            CCommon.updatecontext(
+                p_context.duplicate(),
+                p_context.agent().executionpolicy().stream( p_variables )
+            ),
+            false,
+            Collections.<ITerm>emptyList(),
+            l_return,
+            Collections.<ITerm>emptyList()
+        );
+        return ( l_return.size() == 1 ) && ( l_return.get( 0 ).<Boolean>raw() );
     }
 }
@@ -0,0 +1,376 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.beliefbase;
+
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.error.CIllegalArgumentException;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.IRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * argument index of literals, the literals of a functor are
+ * indexed by the first argument and by optional composite
+ * indexes of argument positions, so literals with bound (raw)
+ * arguments can be found without a full scan, the storage is
+ * modified within the lock of the functor, so storage and
+ * index are changed together
+ */
+public final class CArgumentIndex
+{
+    /**
+     * first argument index position
+     */
+    private static final List<Integer> FIRSTARGUMENT = Collections.singletonList( 0 );
+    /**
+     * composite index positions of each functor
+     */
+    private final Map<String, List<List<Integer>>> m_composite;
+    /**
+     * index of each functor
+     */
+    private final Map<String, CFunctorIndex> m_index = new ConcurrentHashMap<>();
+    /**
+     * lock of the literal modifications (shared) and the clearing (exclusive)
+     */
+    private final ReadWriteLock m_lock = new ReentrantReadWriteLock();
+
+    /**
+     * ctor
+     */
+    public CArgumentIndex()
+    {
+        this( Collections.emptyMap() );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_composite map with functor and composite indexes of argument positions
+     */
+    public CArgumentIndex( final Map<String, ? extends Collection<List<Integer>>> p_composite )
+    {
+        m_composite = Collections.unmodifiableMap(
+            p_composite.entrySet()
+                       .stream()
+                       .collect(
+                           Collectors.toMap(
+                               Map.Entry::getKey,
+                               i -> Stream.concat( i.getValue().stream().map( CArgumentIndex::position ), Stream.of( FIRSTARGUMENT ) )
+                                          .distinct()
+                                          .sorted( Comparator.<List<Integer>>comparingInt( List::size ).reversed() )
+                                          .collect( Collectors.toList() )
+                           )
+                       )
+        );
+    }
+
+    /**
+     * adds a literal
+     *
+     * @param p_literal literal
+     */
+    public final void add( final ILiteral p_literal )
+    {
+        this.add( p_literal, () -> true );
+    }
+
+    /**
+     * adds a literal together with the storage, the storage and the index
+     * are modified under the lock of the functor, so concurrent modifications
+     * of the same functor cannot desynchronize storage and index
+     *
+     * @param p_literal literal
+     * @param p_storage storage modification, the literal is indexed if the modification returns true
+     * @return result of the storage modification
+     */
+    public final boolean add( final ILiteral p_literal, final BooleanSupplier p_storage )
+    {
+        m_lock.readLock().lock();
+        try
+        {
+            final CFunctorIndex l_index = this.functor( p_literal.functor() );
+            synchronized ( l_index )
+            {
+                if ( !p_storage.getAsBoolean() )
+                    return false;
+
+                l_index.add( p_literal );
+                return true;
+            }
+        }
+        finally
+        {
+            m_lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * removes a literal
+     *
+     * @param p_literal literal
+     */
+    public final void remove( final ILiteral p_literal )
+    {
+        this.remove( p_literal, () -> true );
+    }
+
+    /**
+     * removes a literal together with the storage under the lock of the functor
+     *
+     * @param p_literal literal
+     * @param p_storage storage modification, the literal is removed from the index if the modification returns true
+     * @return result of the storage modification
+     */
+    public final boolean remove( final ILiteral p_literal, final BooleanSupplier p_storage )
+    {
+        m_lock.readLock().lock();
+        try
+        {
+            final CFunctorIndex l_index = this.functor( p_literal.functor() );
+            synchronized ( l_index )
+            {
+                if ( !p_storage.getAsBoolean() )
+                    return false;
+
+                l_index.remove( p_literal );
+                return true;
+            }
+        }
+        finally
+        {
+            m_lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * clears the index
+     */
+    public final void clear()
+    {
+        this.clear( () -> { } );
+    }
+
+    /**
+     * clears the index together with the storage, all
+     * modifications of literals are blocked during clearing
+     *
+     * @param p_storage storage modification
+     */
+    public final void clear( final Runnable p_storage )
+    {
+        m_lock.writeLock().lock();
+        try
+        {
+            p_storage.run();
+            m_index.clear();
+        }
+        finally
+        {
+            m_lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * returns the literals, which can be unified with the bound
+     * arguments of the literal
+     *
+     * @param p_key functor key
+     * @param p_literal literal with bound and unbound arguments
+     * @param p_default literals, which are returned if no index can be used
+     * @return literal collection
+     */
+    public final Collection<ILiteral> candidates( final String p_key, final ILiteral p_literal, final Collection<ILiteral> p_default )
+    {
+        final CFunctorIndex l_index = m_index.get( p_key );
+        if ( ( l_index == null ) || ( p_literal.emptyValues() ) )
+            return p_default;
+
+        final Collection<ILiteral> l_candidates = l_index.candidates( p_literal.orderedvalues().collect( Collectors.toList() ) );
+        return l_candidates == null ? p_default : l_candidates;
+    }
+
+    /**
+     * returns the index of a functor
+     *
+     * @param p_functor functor
+     * @return functor index
+     */
+    private CFunctorIndex functor( final String p_functor )
+    {
+        return m_index.computeIfAbsent(
+            p_functor,
+            i -> new CFunctorIndex( m_composite.getOrDefault( i, Collections.singletonList( FIRSTARGUMENT ) ) )
+        );
+    }
+
+    /**
+     * validates index positions
+     *
+     * @param p_position positions
+     * @return unmodifiable positions
+     */
+    private static List<Integer> position( final List<Integer> p_position )
+    {
+        if ( ( p_position.isEmpty() ) || ( p_position.stream().anyMatch( i -> ( i == null ) || ( i < 0 ) ) ) )
+            throw new CIllegalArgumentException( CCommon.languagestring( CArgumentIndex.class, "position", p_position ) );
+
+        return Collections.unmodifiableList( new ArrayList<>( p_position ) );
+    }
+
+    /**
+     * builds the index key of argument values
+     *
+     * @param p_values argument values
+     * @param p_position argument positions
+     * @return key or null if an argument is not a raw value
+     */
+    private static List<ITerm> key( final List<ITerm> p_values, final List<Integer> p_position )
+    {
+        final List<ITerm> l_key = new ArrayList<>( p_position.size() );
+        for ( final int l_index : p_position )
+        {
+            if ( ( l_index >= p_values.size() ) || ( !( p_values.get( l_index ) instanceof IRawTerm<?> ) ) )
+                return null;
+            l_key.add( p_values.get( l_index ) );
+        }
+        return l_key;
+    }
+
+
+    /**
+     * index of a single functor
+     */
+    private static final class CFunctorIndex
+    {
+        /**
+         * index positions, largest first
+         */
+        private final List<List<Integer>> m_position;
+        /**
+         * literals of each position and key
+         */
+        private final List<Map<List<ITerm>, Set<ILiteral>>> m_bucket;
+        /**
+         * literals of each position which cannot be indexed
+         */
+        private final List<Set<ILiteral>> m_unindexed;
+
+        /**
+         * ctor
+         *
+         * @param p_position index positions
+         */
+        CFunctorIndex( final List<List<Integer>> p_position )
+        {
+            m_position = p_position;
+            m_bucket = p_position.stream().map( i -> new HashMap<List<ITerm>, Set<ILiteral>>() ).collect( Collectors.toList() );
+            m_unindexed = p_position.stream().map( i -> new HashSet<ILiteral>() ).collect( Collectors.toList() );
+        }
+
+        /**
+         * adds a literal
+         *
+         * @param p_literal literal
+         */
+        synchronized void add( final ILiteral p_literal )
+        {
+            final List<ITerm> l_values = p_literal.orderedvalues().collect( Collectors.toList() );
+            for ( int i = 0; i < m_position.size(); i++ )
+            {
+                final List<ITerm> l_key = key( l_values, m_position.get( i ) );
+                if ( l_key == null )
+                    m_unindexed.get( i ).add( p_literal );
+                else
+                    m_bucket.get( i ).computeIfAbsent( l_key, j -> new HashSet<>() ).add( p_literal );
+            }
+        }
+
+        /**
+         * removes a literal
+         *
+         * @param p_literal literal
+         */
+        synchronized void remove( final ILiteral p_literal )
+        {
+            final List<ITerm> l_values = p_literal.orderedvalues().collect( Collectors.toList() );
+            for ( int i = 0; i < m_position.size(); i++ )
+            {
+                final List<ITerm> l_key = key( l_values, m_position.get( i ) );
+                if ( l_key == null )
+                {
+                    m_unindexed.get( i ).remove( p_literal );
+                    continue;
+                }
+
+                final Set<ILiteral> l_bucket = m_bucket.get( i ).get( l_key );
+                if ( ( l_bucket != null ) && ( l_bucket.remove( p_literal ) ) && ( l_bucket.isEmpty() ) )
+                    m_bucket.get( i ).remove( l_key );
+            }
+        }
+
+        /**
+         * returns the literals of the largest index,
+         * which arguments are bound
+         *
+         * @param p_values argument values
+         * @return literal collection or null if no index can be used
+         */
+        synchronized Collection<ILiteral> candidates( final List<ITerm> p_values )
+        {
+            for ( int i = 0; i < m_position.size(); i++ )
+            {
+                final List<ITerm> l_key = key( p_values, m_position.get( i ) );
+                if ( l_key == null )
+                    continue;
+
+                final Set<ILiteral> l_bucket = m_bucket.get( i ).getOrDefault( l_key, Collections.emptySet() );
+                final List<ILiteral> l_result = new ArrayList<>( l_bucket.size() + m_unindexed.get( i ).size() );
+                l_result.addAll( l_bucket );
+                l_result.addAll( m_unindexed.get( i ) );
+                return l_result;
+            }
+
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.beliefbase;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.instantiable.plan.CPlanMultimap;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+
+/**
+ * belief subscription of the plan triggers of an agent,
+ * an event is subscribed if a plan exists with equal event
+ * type and functor name, the functor names are rebuilt
+ * on a modification of the plans
+ *
+ * @note the functor name without path is used, because the
+ * beliefbase stores the literals relative to the view, so
+ * the subscription can pass events without a plan, but never
+ * drops an event with a plan
+ */
+public final class CBeliefSubscription implements IBeliefSubscription
+{
+    /**
+     * plans of the agent
+     */
+    private final CPlanMultimap m_plans;
+    /**
+     * plan version and functor names of each event type
+     */
+    private volatile Pair<Long, Map<ITrigger.EType, Set<String>>> m_functor;
+
+    /**
+     * ctor
+     *
+     * @param p_plans plans of the agent
+     */
+    public CBeliefSubscription( final CPlanMultimap p_plans )
+    {
+        m_plans = p_plans;
+        m_functor = functor( p_plans );
+    }
+
+    @Override
+    public final boolean subscribed( final ITrigger.EType p_event, final ILiteral p_literal )
+    {
+        Pair<Long, Map<ITrigger.EType, Set<String>>> l_functor = m_functor;
+        if ( l_functor.getLeft() != m_plans.version() )
+        {
+            l_functor = functor( m_plans );
+            m_functor = l_functor;
+        }
+
+        return l_functor.getRight().getOrDefault( p_event, Collections.emptySet() ).contains( p_literal.functor() );
+    }
+
+    /**
+     * builds the functor names of each event type
+     *
+     * @param p_plans plans
+     * @return pair of plan version and functor names
+     */
+    private static Pair<Long, Map<ITrigger.EType, Set<String>>> functor( final CPlanMultimap p_plans )
+    {
+        // the version is read first, so a concurrent modification creates a rebuild on the next call
+        final long l_version = p_plans.version();
+        return new ImmutablePair<>(
+            l_version,
+            p_plans.triggers()
+                   .stream()
+                   .collect( Collectors.groupingBy( ITrigger::getType, Collectors.mapping( i -> i.getLiteral().functor(), Collectors.toSet() ) ) )
+        );
+    }
+
+}
@@ -0,0 +1,192 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.beliefbase;
+
+import org.lightjason.agentspeak.agent.policy.IExecutionPolicy;
+import org.lightjason.agentspeak.language.ITermPool;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * immutable options of a beliefbase, each
+ * setter returns a changed copy of the options
+ */
+public final class CBeliefbaseOptions
+{
+    /**
+     * default options
+     */
+    public static final CBeliefbaseOptions DEFAULT = new CBeliefbaseOptions( IExecutionPolicy.ADAPTIVE, ITermPool.EMPTY, Collections.emptyMap(), false );
+    /**
+     * execution policy
+     */
+    private final IExecutionPolicy m_executionpolicy;
+    /**
+     * pool, which interns the added literals
+     */
+    private final ITermPool m_termpool;
+    /**
+     * composite index positions of each functor
+     */
+    private final Map<String, List<List<Integer>>> m_composite;
+    /**
+     * coalesce flag of the events
+     */
+    private final boolean m_coalesce;
+
+    /**
+     * ctor
+     *
+     * @param p_executionpolicy execution policy
+     * @param p_termpool pool, which interns the added literals
+     * @param p_composite composite index positions of each functor
+     * @param p_coalesce coalesce flag of the events
+     */
+    private CBeliefbaseOptions( final IExecutionPolicy p_executionpolicy, final ITermPool p_termpool, final Map<String, List<List<Integer>>> p_composite,
+                                final boolean p_coalesce
+    )
+    {
+        m_executionpolicy = p_executionpolicy;
+        m_termpool = p_termpool;
+        m_composite = Collections.unmodifiableMap( p_composite );
+        m_coalesce = p_coalesce;
+    }
+
+    /**
+     * returns the execution policy
+     *
+     * @return execution policy
+     */
+    public final IExecutionPolicy executionpolicy()
+    {
+        return m_executionpolicy;
+    }
+
+    /**
+     * sets the execution policy
+     *
+     * @param p_executionpolicy execution policy
+     * @return changed options
+     */
+    public final CBeliefbaseOptions executionpolicy( final IExecutionPolicy p_executionpolicy )
+    {
+        return new CBeliefbaseOptions( p_executionpolicy, m_termpool, m_composite, m_coalesce );
+    }
+
+    /**
+     * returns the term pool
+     *
+     * @return pool, which interns the added literals
+     */
+    public final ITermPool termpool()
+    {
+        return m_termpool;
+    }
+
+    /**
+     * sets the term pool
+     *
+     * @param p_termpool pool, which interns the added literals
+     * @return changed options
+     */
+    public final CBeliefbaseOptions termpool( final ITermPool p_termpool )
+    {
+        return new CBeliefbaseOptions( m_executionpolicy, p_termpool, m_composite, m_coalesce );
+    }
+
+    /**
+     * returns the coalesce flag
+     *
+     * @return flag, that add and delete events of equal literals are coalesced
+     */
+    public final boolean coalesce()
+    {
+        return m_coalesce;
+    }
+
+    /**
+     * sets the coalesce flag
+     *
+     * @param p_coalesce coalesce the add and delete events of equal literals, so only the net change is triggered
+     * @return changed options
+     */
+    public final CBeliefbaseOptions coalesce( final boolean p_coalesce )
+    {
+        return new CBeliefbaseOptions( m_executionpolicy, m_termpool, m_composite, p_coalesce );
+    }
+
+    /**
+     * returns the composite index positions
+     *
+     * @return unmodifiable map with functor and argument positions
+     */
+    public final Map<String, List<List<Integer>>> composite()
+    {
+        return m_composite;
+    }
+
+    /**
+     * adds a composite index of argument positions
+     *
+     * @param p_functor functor of the literals
+     * @param p_position argument positions
+     * @return changed options
+     */
+    public final CBeliefbaseOptions composite( final String p_functor, final Integer... p_position )
+    {
+        final Map<String, List<List<Integer>>> l_composite = new HashMap<>( m_composite );
+        final List<List<Integer>> l_position = new ArrayList<>( l_composite.getOrDefault( p_functor, Collections.emptyList() ) );
+        l_position.add( Collections.unmodifiableList( Arrays.asList( p_position ) ) );
+        l_composite.put( p_functor, Collections.unmodifiableList( l_position ) );
+
+        return new CBeliefbaseOptions( m_executionpolicy, m_termpool, l_composite, m_coalesce );
+    }
+
+    /**
+     * creates a new argument index
+     *
+     * @return argument index
+     */
+    public final CArgumentIndex index()
+    {
+        return new CArgumentIndex( m_composite );
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format(
+            "execution: {0} / term pool: {1} / composite index: {2} / coalesce: {3}",
+            m_executionpolicy, m_termpool, m_composite, m_coalesce
+        );
+    }
+
+}
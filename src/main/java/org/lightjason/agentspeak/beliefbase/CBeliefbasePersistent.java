@@ -29,10 +29,12 @@ import org.lightjason.agentspeak.beliefbase.view.IView;
 import org.lightjason.agentspeak.common.CCommon;
 import org.lightjason.agentspeak.error.CIllegalArgumentException;
 import org.lightjason.agentspeak.language.ILiteral;
-import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.ITermPool;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
@@ -45,6 +47,18 @@ public final class CBeliefbasePersistent<T extends IAgent<?>> extends IBaseBelie
      * storage with data
      */
     private final IStorage<ILiteral, IView<T>, T> m_storage;
+    /**
+     * pool of literals
+     */
+    private final ITermPool m_termpool;
+    /**
+     * argument index of the literals
+     */
+    private final CArgumentIndex m_index;
+    /**
+     * coalesce flag of the events
+     */
+    private final boolean m_coalesce;
 
     /**
      * ctor
@@ -53,9 +67,24 @@ public final class CBeliefbasePersistent<T extends IAgent<?>> extends IBaseBelie
      */
     public CBeliefbasePersistent( final IStorage<ILiteral, IView<T>, T> p_storage )
     {
+        this( p_storage, CBeliefbaseOptions.DEFAULT );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_storage storage
+     * @param p_options beliefbase options
+     */
+    public CBeliefbasePersistent( final IStorage<ILiteral, IView<T>, T> p_storage, final CBeliefbaseOptions p_options )
+    {
+        super( p_options.executionpolicy(), p_options.coalesce() );
         if ( p_storage == null )
             throw new CIllegalArgumentException( CCommon.languagestring( this, "empty" ) );
         m_storage = p_storage;
+        m_termpool = p_options.termpool();
+        m_index = p_options.index();
+        m_coalesce = p_options.coalesce();
     }
 
     @Override
@@ -73,15 +102,25 @@ public final class CBeliefbasePersistent<T extends IAgent<?>> extends IBaseBelie
     @Override
     public final ILiteral add( final ILiteral p_literal )
     {
-        if ( m_storage.putMultiElement( p_literal.functor(), p_literal ) )
-            super.add( p_literal );
-        return p_literal;
+        final ILiteral l_literal = m_termpool.intern( p_literal );
+        final boolean l_added = m_index.add( l_literal, () -> m_storage.putMultiElement( l_literal.functor(), l_literal ) );
+
+        // on coalescing only an inserted literal creates an add event, so an add and
+        // a delete event cancel out only if the literal was not existing before
+        if ( l_added || !m_coalesce )
+            super.add( l_literal );
+        return l_literal;
     }
 
     @Override
     public final IView<T> add( final IView<T> p_view )
     {
-        m_storage.putSingleElement( p_view.name(), p_view );
+        // only a structural change marks the beliefbase and invalidates the path cache
+        if ( m_storage.putSingleElement( p_view.name(), p_view ) )
+        {
+            this.markDirty();
+            this.invalidate();
+        }
         return p_view;
     }
 
@@ -89,14 +128,18 @@ public final class CBeliefbasePersistent<T extends IAgent<?>> extends IBaseBelie
     public final IView<T> remove( final IView<T> p_view )
     {
         m_events.remove( p_view );
-        m_storage.removeSingleElement( p_view.name() );
+        if ( m_storage.removeSingleElement( p_view.name() ) )
+        {
+            this.markDirty();
+            this.invalidate();
+        }
         return p_view;
     }
 
     @Override
     public final ILiteral remove( final ILiteral p_literal )
     {
-        if ( m_storage.removeMultiElement( p_literal.functor(), p_literal ) )
+        if ( m_index.remove( p_literal, () -> m_storage.removeMultiElement( p_literal.functor(), p_literal ) ) )
             super.remove( p_literal );
         return p_literal;
     }
@@ -131,29 +174,41 @@ public final class CBeliefbasePersistent<T extends IAgent<?>> extends IBaseBelie
         return m_storage.getMultiElement( p_key );
     }
 
+    @Override
+    public final Collection<ILiteral> literal( final String p_key, final ILiteral p_literal )
+    {
+        return m_index.candidates( p_key, p_literal, m_storage.getMultiElement( p_key ) );
+    }
+
     @Override
     public final T update( final T p_agent )
     {
+        // unchanged subtrees are skipped
+        if ( !this.cleanDirty() )
+            return p_agent;
+
         super.update( p_agent );
-        m_storage.streamSingleElements().parallel().forEach( i -> i.update( p_agent ) );
-        return m_storage.update( p_agent );
+        final List<IView<T>> l_dirty = m_storage.streamSingleElements().filter( IView::dirty ).collect( Collectors.toList() );
+        m_executionpolicy.stream( l_dirty ).forEach( i -> i.update( p_agent ) );
+        final T l_agent = m_storage.update( p_agent );
+
+        // polling storages and dirty child views (e.g. on-demand beliefbases) must be updated on the next cycle
+        if ( ( m_storage.polling() ) || ( l_dirty.stream().anyMatch( IView::dirty ) ) )
+            this.markDirty();
+
+        return l_agent;
     }
 
     @Override
     public final IBeliefbase<T> clear()
     {
         // create delete-event for all literals
-        m_storage
-            .streamMultiElements()
-            .parallel()
-            .forEach(
-                i -> m_events
-                    .keySet()
-                    .forEach( j -> m_events.put( j, CTrigger.from( ITrigger.EType.DELETEBELIEF, i ) ) )
-            );
-
-        m_storage.streamSingleElements().parallel().forEach( i -> i.clear() );
-        m_storage.clear();
+        m_executionpolicy
+            .stream( m_storage.streamMultiElements() )
+            .forEach( i -> this.event( ITrigger.EType.DELETEBELIEF, i ) );
+
+        m_executionpolicy.stream( m_storage.streamSingleElements() ).forEach( i -> i.clear() );
+        m_index.clear( m_storage::clear );
 
         return this;
     }
@@ -167,15 +222,15 @@ public final class CBeliefbasePersistent<T extends IAgent<?>> extends IBaseBelie
     @Override
     public final int size()
     {
-        return m_storage.size() + m_storage.streamSingleElements().parallel().mapToInt( IStructure::size ).sum();
+        return m_storage.size() + m_executionpolicy.stream( m_storage.streamSingleElements() ).mapToInt( IStructure::size ).sum();
     }
 
     @Override
     public final Stream<ITrigger> trigger( final IView<T> p_view )
     {
         return Stream.concat(
-            super.trigger( p_view ).parallel(),
-            m_storage.streamSingleElements().parallel().flatMap( IView::trigger )
+            super.trigger( p_view ),
+            m_executionpolicy.stream( m_storage.streamSingleElements() ).flatMap( IView::trigger )
         );
     }
 
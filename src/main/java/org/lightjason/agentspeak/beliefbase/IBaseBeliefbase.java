@@ -26,6 +26,7 @@ package org.lightjason.agentspeak.beliefbase;
 import com.google.common.collect.Sets;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.policy.IExecutionPolicy;
 import org.lightjason.agentspeak.beliefbase.view.CView;
 import org.lightjason.agentspeak.beliefbase.view.IView;
 import org.lightjason.agentspeak.language.ILiteral;
@@ -35,12 +36,15 @@ import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
 import java.lang.ref.PhantomReference;
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 
@@ -60,12 +64,50 @@ public abstract class IBaseBeliefbase<T extends IAgent<?>> implements IBeliefbas
     /**
      * map with events for a mask
      */
-    protected final CEventMap m_events = new CEventMap();
+    protected final CEventMap m_events;
+    /**
+     * execution policy
+     */
+    protected final IExecutionPolicy m_executionpolicy;
     /**
      * weak reference queue of all masks to avoid memory-leaks of belief events
      */
     private final ReferenceQueue<IView<T>> m_maskreference = new ReferenceQueue<>();
+    /**
+     * dirty flag, the beliefbase or a child view must be updated
+     */
+    private final AtomicBoolean m_dirty = new AtomicBoolean( true );
+
+
+    /**
+     * ctor
+     */
+    protected IBaseBeliefbase()
+    {
+        this( IExecutionPolicy.ADAPTIVE );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_executionpolicy execution policy
+     */
+    protected IBaseBeliefbase( final IExecutionPolicy p_executionpolicy )
+    {
+        this( p_executionpolicy, false );
+    }
 
+    /**
+     * ctor
+     *
+     * @param p_executionpolicy execution policy
+     * @param p_coalesce coalesce the add and delete events of equal literals until the trigger are read
+     */
+    protected IBaseBeliefbase( final IExecutionPolicy p_executionpolicy, final boolean p_coalesce )
+    {
+        m_executionpolicy = p_executionpolicy;
+        m_events = new CEventMap( p_coalesce );
+    }
 
     @Override
     public final IView<T> create( final String p_name )
@@ -79,6 +121,12 @@ public abstract class IBaseBeliefbase<T extends IAgent<?>> implements IBeliefbas
         return this.eventreference( new CView<>( p_name, this, p_parent ) );
     }
 
+    @Override
+    public final IExecutionPolicy executionpolicy()
+    {
+        return m_executionpolicy;
+    }
+
     @Override
     public ILiteral add( final ILiteral p_literal )
     {
@@ -106,24 +154,67 @@ public abstract class IBaseBeliefbase<T extends IAgent<?>> implements IBeliefbas
         return p_agent;
     }
 
+    @Override
+    public boolean dirty()
+    {
+        return m_dirty.get();
+    }
+
+    @Override
+    public final IBeliefbase<T> markDirty()
+    {
+        // parents are already dirty if the flag is set
+        if ( !m_dirty.getAndSet( true ) )
+            m_events.keySet()
+                    .stream()
+                    .map( IView::parent )
+                    .filter( Objects::nonNull )
+                    .forEach( i -> i.beliefbase().markDirty() );
+        return this;
+    }
+
     @Override
     public Stream<ITrigger> trigger( final IView<T> p_view )
     {
-        return this.getAndClearTrigger( p_view ).parallel();
+        return m_executionpolicy.stream( this.getAndClearTrigger( p_view ) );
     }
 
     /**
-     * push an event and literal to the event map
+     * push an event and literal to the event map, the
+     * trigger is created only for views which subscribe the event
      *
      * @param p_event event
      * @param p_literal literal
      */
     protected ILiteral event( final ITrigger.EType p_event, final ILiteral p_literal )
     {
-        m_events.keySet().forEach( i -> m_events.put( i, CTrigger.from( p_event, p_literal ) ) );
+        this.markDirty();
+        m_events.keySet()
+                .stream()
+                .filter( i -> i.subscription().subscribed( p_event, p_literal ) )
+                .forEach( i -> m_events.put( i, CTrigger.from( p_event, p_literal ) ) );
         return p_literal;
     }
 
+    /**
+     * invalidates the cached path lookups of all
+     * views of this beliefbase and their parents
+     */
+    protected final void invalidate()
+    {
+        m_events.keySet().forEach( IView::invalidate );
+    }
+
+    /**
+     * resets the dirty flag
+     *
+     * @return previous dirty flag
+     */
+    protected final boolean cleanDirty()
+    {
+        return m_dirty.getAndSet( false );
+    }
+
     /**
      * adds a view to the event referencing structure
      *
@@ -145,10 +236,8 @@ public abstract class IBaseBeliefbase<T extends IAgent<?>> implements IBeliefbas
      */
     protected final Stream<ITrigger> getAndClearTrigger( final IView<T> p_view )
     {
-        final Collection<ITrigger> l_trigger = m_events.getOrDefault( p_view, Collections.<ITrigger>emptySet() );
-        final Set<ITrigger> l_result = new HashSet<>( l_trigger );
-        l_trigger.clear();
-        return l_result.stream();
+        final CEvents l_events = m_events.get( p_view );
+        return l_events == null ? Stream.of() : l_events.drain().stream();
     }
 
 
@@ -157,31 +246,122 @@ public abstract class IBaseBeliefbase<T extends IAgent<?>> implements IBeliefbas
      */
     @SuppressWarnings( "serial" )
     @SuppressFBWarnings( "SE_NO_SERIALVERSIONID" )
-    protected final class CEventMap extends ConcurrentHashMap<IView<T>, Set<ITrigger>> implements Map<IView<T>, Set<ITrigger>>
+    protected final class CEventMap extends ConcurrentHashMap<IView<T>, CEvents> implements Map<IView<T>, CEvents>
     {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = -1194998463101970131L;
+        /**
+         * coalescing flag
+         */
+        private final boolean m_coalesce;
+
+        /**
+         * ctor
+         *
+         * @param p_coalesce coalescing flag
+         */
+        CEventMap( final boolean p_coalesce )
+        {
+            m_coalesce = p_coalesce;
+        }
+
         /**
          * add an empty key structure
          *
          * @param p_key key object
          * @return value
          */
-        public synchronized Set<ITrigger> put( final IView<T> p_key  )
+        public synchronized CEvents put( final IView<T> p_key  )
         {
-            return super.put( p_key, Sets.newConcurrentHashSet() );
+            return super.put( p_key, new CEvents( m_coalesce ) );
         }
 
         /**
-         * puts a trigger into the set
+         * puts a trigger into the events
          *
          * @param p_key key object
          * @param p_value trigger value
-         * @return set
+         * @return events
+         */
+        public CEvents put( final IView<T> p_key, final ITrigger p_value )
+        {
+            final CEvents l_events = this.computeIfAbsent( p_key, i -> new CEvents( m_coalesce ) );
+            l_events.add( p_value );
+            return l_events;
+        }
+    }
+
+
+    /**
+     * events of a view, on coalescing only the net
+     * change of each literal is stored, so an add event
+     * and a delete event of an equal literal cancel out
+     */
+    protected static final class CEvents
+    {
+        /**
+         * trigger without coalescing
+         */
+        private final Set<ITrigger> m_trigger;
+        /**
+         * net trigger of each literal with coalescing
          */
-        public Set<ITrigger> put( final IView<T> p_key, final ITrigger p_value )
+        private final Map<ILiteral, ITrigger> m_net;
+
+        /**
+         * ctor
+         *
+         * @param p_coalesce coalescing flag
+         */
+        CEvents( final boolean p_coalesce )
         {
-            final Set<ITrigger> l_set = m_events.getOrDefault( p_key, Sets.newConcurrentHashSet() );
-            l_set.add( p_value );
-            return this.putIfAbsent( p_key, l_set );
+            m_trigger = p_coalesce ? null : Sets.newConcurrentHashSet();
+            m_net = p_coalesce ? new HashMap<>() : null;
+        }
+
+        /**
+         * adds a trigger
+         *
+         * @param p_trigger trigger
+         */
+        final void add( final ITrigger p_trigger )
+        {
+            if ( m_net == null )
+            {
+                m_trigger.add( p_trigger );
+                return;
+            }
+
+            synchronized ( this )
+            {
+                final ITrigger l_pending = m_net.putIfAbsent( p_trigger.getLiteral(), p_trigger );
+                if ( ( l_pending != null ) && ( l_pending.getType() != p_trigger.getType() ) )
+                    m_net.remove( p_trigger.getLiteral() );
+            }
+        }
+
+        /**
+         * returns and clears all trigger
+         *
+         * @return trigger collection
+         */
+        final Collection<ITrigger> drain()
+        {
+            if ( m_net == null )
+            {
+                final Set<ITrigger> l_result = new HashSet<>( m_trigger );
+                m_trigger.removeAll( l_result );
+                return l_result;
+            }
+
+            synchronized ( this )
+            {
+                final Collection<ITrigger> l_result = new ArrayList<>( m_net.values() );
+                m_net.clear();
+                return l_result;
+            }
         }
     }
 
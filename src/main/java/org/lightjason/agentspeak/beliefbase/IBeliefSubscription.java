@@ -0,0 +1,59 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.beliefbase;
+
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+
+
+/**
+ * subscription of belief events, events which
+ * are not subscribed are dropped by the beliefbase
+ * before the trigger is created
+ */
+public interface IBeliefSubscription
+{
+    /**
+     * subscription of all events
+     */
+    IBeliefSubscription ALL = new IBeliefSubscription()
+    {
+        @Override
+        public final boolean subscribed( final ITrigger.EType p_event, final ILiteral p_literal )
+        {
+            return true;
+        }
+    };
+
+
+    /**
+     * checks if an event is subscribed
+     *
+     * @param p_event event type
+     * @param p_literal literal of the event
+     * @return subscribed flag
+     */
+    boolean subscribed( final ITrigger.EType p_event, final ILiteral p_literal );
+
+}
@@ -24,6 +24,7 @@
 package org.lightjason.agentspeak.beliefbase;
 
 import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.policy.IExecutionPolicy;
 import org.lightjason.agentspeak.beliefbase.view.IView;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
@@ -146,6 +147,16 @@ public interface IBeliefbase<T extends IAgent<?>> extends IStructure<T>
      */
     Collection<ILiteral> literal( final String p_key );
 
+    /**
+     * returns the literals by the name, which can
+     * be unified with the bound arguments of the literal
+     *
+     * @param p_key name of the literal
+     * @param p_literal literal with bound and unbound arguments
+     * @return collection of literals
+     */
+    Collection<ILiteral> literal( final String p_key, final ILiteral p_literal );
+
     /**
      * returns a view element
      *
@@ -174,4 +185,28 @@ public interface IBeliefbase<T extends IAgent<?>> extends IStructure<T>
      */
     IView<T> create( final String p_name, final IView<T> p_parent );
 
+    /**
+     * returns the execution policy
+     * of the beliefbase streams
+     *
+     * @return execution policy
+     */
+    IExecutionPolicy executionpolicy();
+
+    /**
+     * returns if the beliefbase or a beliefbase
+     * of a child view must be updated
+     *
+     * @return dirty flag
+     */
+    boolean dirty();
+
+    /**
+     * marks the beliefbase and the beliefbases
+     * of all parent views as dirty
+     *
+     * @return self reference
+     */
+    IBeliefbase<T> markDirty();
+
 }
@@ -41,6 +41,13 @@ import java.util.stream.Stream;
 public abstract class IBeliefbaseOnDemand<T extends IAgent<?>> extends IBaseBeliefbase<T>
 {
 
+    @Override
+    public final boolean dirty()
+    {
+        // on-demand beliefbases are polled on each cycle
+        return true;
+    }
+
     @Override
     public boolean empty()
     {
@@ -83,6 +90,12 @@ public abstract class IBeliefbaseOnDemand<T extends IAgent<?>> extends IBaseBeli
         return Collections.<ILiteral>emptySet();
     }
 
+    @Override
+    public Collection<ILiteral> literal( final String p_key, final ILiteral p_literal )
+    {
+        return this.literal( p_key );
+    }
+
 
     @Override
     public final IView<T> view( final String p_key )
@@ -29,6 +29,7 @@ import com.google.common.collect.SetMultimap;
 import org.lightjason.agentspeak.agent.IAgent;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -58,7 +59,11 @@ public final class CMultiStorage<N, M, T extends IAgent<?>> extends IBaseStorage
     @Override
     public final Stream<N> streamMultiElements()
     {
-        return m_multielements.values().stream();
+        // the synchronized view must be locked during iteration
+        synchronized ( m_multielements )
+        {
+            return new ArrayList<>( m_multielements.values() ).stream();
+        }
     }
 
     @Override
@@ -82,7 +87,7 @@ public final class CMultiStorage<N, M, T extends IAgent<?>> extends IBaseStorage
     @Override
     public final boolean putMultiElement( final String p_key, final N p_value )
     {
-        return !p_value.equals( m_multielements.put( p_key, p_value ) );
+        return m_multielements.put( p_key, p_value );
     }
 
     @Override
@@ -143,7 +148,13 @@ public final class CMultiStorage<N, M, T extends IAgent<?>> extends IBaseStorage
     @Override
     public final int size()
     {
-        return m_multielements.asMap().values().stream().mapToInt( Collection::size ).sum();
+        return m_multielements.size();
+    }
+
+    @Override
+    public final boolean polling()
+    {
+        return false;
     }
 
     @Override
@@ -154,6 +154,12 @@ public final class CSingleStorage<N, M, T extends IAgent<?>> extends IBaseStorag
     }
 
 
+    @Override
+    public final boolean polling()
+    {
+        return false;
+    }
+
     @Override
     public final String toString()
     {
@@ -38,4 +38,10 @@ public abstract class IBaseStorage<N, M, T extends IAgent<?>> implements IStorag
         return p_agent;
     }
 
+    @Override
+    public boolean polling()
+    {
+        return true;
+    }
+
 }
@@ -75,7 +75,7 @@ public interface IStorage<N, M, T extends IAgent<?>>
      *
      * @param p_key key
      * @param p_value multi-element
-     * @return boolean if the element can be stored
+     * @return boolean if the element is stored and was not existing before
      */
     boolean putMultiElement( final String p_key, final N p_value );
 
@@ -166,4 +166,15 @@ public interface IStorage<N, M, T extends IAgent<?>>
      */
     int size();
 
+    /**
+     * returns if the storage must be updated
+     * on each cycle, also if nothing is changed
+     *
+     * @return polling flag
+     */
+    default boolean polling()
+    {
+        return false;
+    }
+
 }
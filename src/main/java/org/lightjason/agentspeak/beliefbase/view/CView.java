@@ -23,7 +23,11 @@
 
 package org.lightjason.agentspeak.beliefbase.view;
 
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
 import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.policy.IExecutionPolicy;
+import org.lightjason.agentspeak.beliefbase.IBeliefSubscription;
 import org.lightjason.agentspeak.beliefbase.IBeliefbase;
 import org.lightjason.agentspeak.common.CCommon;
 import org.lightjason.agentspeak.common.CPath;
@@ -34,7 +38,10 @@ import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
 
 import java.text.MessageFormat;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 
@@ -57,6 +64,22 @@ public final class CView<T extends IAgent<?>> implements IView<T>
      * parent name
      */
     private final IView<T> m_parent;
+    /**
+     * subscription of belief events
+     */
+    private volatile IBeliefSubscription m_subscription;
+    /**
+     * cached path of the view
+     */
+    private volatile IPath m_path;
+    /**
+     * structure version, which is changed on adding or removing views
+     */
+    private final AtomicLong m_version = new AtomicLong();
+    /**
+     * cache of resolved paths with structure version and leaf view
+     */
+    private final Map<IPath, Pair<Long, IView<T>>> m_leaf = new ConcurrentHashMap<>();
 
 
 
@@ -104,6 +127,33 @@ public final class CView<T extends IAgent<?>> implements IView<T>
         return m_beliefbase.trigger( this ).map( i -> i.shallowcopy( l_path ) );
     }
 
+    @Override
+    public final IView<T> invalidate()
+    {
+        m_version.incrementAndGet();
+        m_leaf.clear();
+        if ( m_parent != null )
+            m_parent.invalidate();
+        return this;
+    }
+
+    @Override
+    public final IView<T> subscribe( final IBeliefSubscription p_subscription )
+    {
+        m_subscription = p_subscription;
+        return this;
+    }
+
+    @Override
+    public final IBeliefSubscription subscription()
+    {
+        final IBeliefSubscription l_subscription = m_subscription;
+        if ( l_subscription != null )
+            return l_subscription;
+
+        return m_parent == null ? IBeliefSubscription.ALL : m_parent.subscription();
+    }
+
     @Override
     public final T update( final T p_agent )
     {
@@ -119,8 +169,8 @@ public final class CView<T extends IAgent<?>> implements IView<T>
     @Override
     public final IView<T> add( final Stream<ILiteral> p_literal )
     {
-        p_literal.parallel()
-            .forEach( i -> this.leafview( this.walk( i.functorpath() ) ).beliefbase().add( i.shallowcopysuffix() ) );
+        m_beliefbase.executionpolicy().stream( p_literal )
+                    .forEach( i -> this.leaf( i.functorpath() ).beliefbase().add( i.shallowcopysuffix() ) );
         return this;
     }
 
@@ -134,9 +184,8 @@ public final class CView<T extends IAgent<?>> implements IView<T>
     @SuppressWarnings( "unchecked" )
     public final IView<T> add( final IPath p_path, final IView<T>... p_view )
     {
-        Arrays.stream( p_view )
-              .parallel()
-              .forEach( i -> this.leafview( this.walk( p_path ) ).add( i ) );
+        m_beliefbase.executionpolicy().stream( Arrays.asList( p_view ) )
+                    .forEach( i -> this.leaf( p_path ).add( i ) );
         return this;
     }
 
@@ -144,18 +193,17 @@ public final class CView<T extends IAgent<?>> implements IView<T>
     @SafeVarargs
     public final IView<T> add( final IView<T>... p_view )
     {
-        Arrays.stream( p_view )
-              .parallel()
-              .forEach( i ->
-              {
-                  this.root()
-                      .filter( j -> i.beliefbase().equals( this.beliefbase() ) )
-                      .findAny()
-                      .ifPresent( j -> {
-                          throw new CIllegalArgumentException( CCommon.languagestring( this, "equal", i.path(), j.path() ) );
-                      } );
-                  m_beliefbase.add( i );
-              } );
+        m_beliefbase.executionpolicy().stream( Arrays.asList( p_view ) )
+                    .forEach( i ->
+                    {
+                        this.root()
+                            .filter( j -> i.beliefbase().equals( this.beliefbase() ) )
+                            .findAny()
+                            .ifPresent( j -> {
+                                throw new CIllegalArgumentException( CCommon.languagestring( this, "equal", i.path(), j.path() ) );
+                            } );
+                        m_beliefbase.add( i );
+                    } );
         return this;
     }
 
@@ -169,8 +217,8 @@ public final class CView<T extends IAgent<?>> implements IView<T>
     @Override
     public final IView<T> remove( final Stream<ILiteral> p_literal )
     {
-        p_literal.parallel()
-            .forEach( i -> this.leafview( this.walk( i.functorpath() ) ).beliefbase().remove( i.shallowcopysuffix() ) );
+        m_beliefbase.executionpolicy().stream( p_literal )
+                    .forEach( i -> this.leaf( i.functorpath() ).beliefbase().remove( i.shallowcopysuffix() ) );
         return this;
     }
 
@@ -186,8 +234,8 @@ public final class CView<T extends IAgent<?>> implements IView<T>
         if ( ( p_path == null ) || ( p_path.length == 0 ) )
             m_beliefbase.clear();
         else
-            Arrays.stream( p_path ).parallel()
-                  .forEach( i -> this.leafview( this.walk( i ) ).clear() );
+            m_beliefbase.executionpolicy().stream( Arrays.asList( p_path ) )
+                        .forEach( i -> this.leaf( i ).clear() );
 
         return this;
     }
@@ -198,7 +246,7 @@ public final class CView<T extends IAgent<?>> implements IView<T>
         return p_path.isEmpty()
                || ( p_path.size() == 1
                     ? m_beliefbase.containsView( p_path.get( 0 ) )
-                    : this.leafview( this.walk( p_path.getSubPath( 0, p_path.size() - 1 ) ) )
+                    : this.leaf( p_path.getSubPath( 0, p_path.size() - 1 ) )
                         .containsView( p_path.getSubPath( p_path.size() - 1, p_path.size() ) )
                );
     }
@@ -209,7 +257,7 @@ public final class CView<T extends IAgent<?>> implements IView<T>
         return p_path.isEmpty()
                || ( p_path.size() == 1
                     ? m_beliefbase.containsLiteral( p_path.get( 0 ) )
-                    : this.leafview( this.walk( p_path.getSubPath( 0, p_path.size() - 1 ) ) )
+                    : this.leaf( p_path.getSubPath( 0, p_path.size() - 1 ) )
                         .containsLiteral( p_path.getSubPath( p_path.size() - 1, p_path.size() ) )
                );
     }
@@ -226,21 +274,20 @@ public final class CView<T extends IAgent<?>> implements IView<T>
     {
         // build path relative to this view
         final IPath l_path = this.path().getSubPath( 1 );
+        final IExecutionPolicy l_policy = m_beliefbase.executionpolicy();
         return ( p_path == null ) || ( p_path.length == 0 )
 
                ?
                Stream.concat(
-                   m_beliefbase.streamLiteral().parallel().map( i -> i.shallowcopy( l_path ) ),
-                   m_beliefbase.streamView().parallel().flatMap( i -> i.stream().parallel().map( j -> j.shallowcopy( l_path ) )
+                   l_policy.stream( m_beliefbase.streamLiteral() ).map( i -> i.shallowcopy( l_path ) ),
+                   l_policy.stream( m_beliefbase.streamView() ).flatMap( i -> i.stream().map( j -> j.shallowcopy( l_path ) )
                    )
                )
 
                :
-               Arrays.stream( p_path )
-                     .parallel()
-                     .flatMap( i -> this.leafview( this.walk( i.getSubPath( 0, -1 ) ) ).beliefbase().literal( i.getSuffix() )
-                                        .parallelStream()
-                                        .map( j -> j.shallowcopy( l_path ) ) );
+               l_policy.stream( Arrays.asList( p_path ) )
+                       .flatMap( i -> l_policy.stream( this.leaf( i.getSubPath( 0, -1 ) ).beliefbase().literal( i.getSuffix() ) )
+                                              .map( j -> j.shallowcopy( l_path ) ) );
     }
 
     @Override
@@ -248,21 +295,32 @@ public final class CView<T extends IAgent<?>> implements IView<T>
     {
         // build path relative to this view
         final IPath l_path = this.path().getSubPath( 1 );
+        final IExecutionPolicy l_policy = m_beliefbase.executionpolicy();
         return ( p_path == null ) || ( p_path.length == 0 )
 
                ? Stream.concat(
-                    m_beliefbase.streamLiteral().parallel()
+                    l_policy.stream( m_beliefbase.streamLiteral() )
                         .filter( i -> i.negated() == p_negated )
                         .map( i -> i.shallowcopy( l_path ) ),
-                    m_beliefbase.streamView().parallel().flatMap( i -> i.stream( p_negated ).parallel().map( j -> j.shallowcopy( l_path ) ) )
+                    l_policy.stream( m_beliefbase.streamView() ).flatMap( i -> i.stream( p_negated ).map( j -> j.shallowcopy( l_path ) ) )
                )
 
-               : Arrays.stream( p_path )
-                    .parallel()
-                    .flatMap( i -> this.leafview( this.walk( i.getSubPath( 0, -1 ) ) ).beliefbase().literal( i.getSuffix() )
-                                       .parallelStream()
-                                       .filter( j -> j.negated() == p_negated )
-                                       .map( j -> j.shallowcopy( l_path ) ) );
+               : l_policy.stream( Arrays.asList( p_path ) )
+                    .flatMap( i -> l_policy.stream( this.leaf( i.getSubPath( 0, -1 ) ).beliefbase().literal( i.getSuffix() ) )
+                                           .filter( j -> j.negated() == p_negated )
+                                           .map( j -> j.shallowcopy( l_path ) ) );
+    }
+
+    @Override
+    public final Stream<ILiteral> stream( final ILiteral p_literal )
+    {
+        // build path relative to this view
+        final IPath l_path = this.path().getSubPath( 1 );
+        final IPath l_functor = p_literal.fqnfunctor();
+        return m_beliefbase.executionpolicy()
+                           .stream( this.leaf( l_functor.getSubPath( 0, -1 ) ).beliefbase().literal( l_functor.getSuffix(), p_literal ) )
+                           .filter( i -> i.negated() == p_literal.negated() )
+                           .map( i -> i.shallowcopy( l_path ) );
     }
 
     @Override
@@ -275,9 +333,8 @@ public final class CView<T extends IAgent<?>> implements IView<T>
     @Override
     public final IView<T> generate( final IViewGenerator<T> p_generator, final IPath... p_paths )
     {
-        Arrays.stream( p_paths )
-            .parallel()
-            .forEach( i -> this.walk( i, p_generator ) );
+        m_beliefbase.executionpolicy().stream( Arrays.asList( p_paths ) )
+                    .forEach( i -> this.walk( i, p_generator ) );
         return this;
     }
 
@@ -298,16 +355,12 @@ public final class CView<T extends IAgent<?>> implements IView<T>
         final String l_root = p_path.get( 0 );
         synchronized ( this )
         {
-            // add is run here for avoid overwriting view with a new object reference
-            l_view = m_beliefbase.add(
-                        m_beliefbase.viewOrDefault(
-                            l_root,
-
-                            p_generator == null || p_generator.length == 0
-                            ? null
-                            : p_generator[0].apply( l_root, this )
-                        )
-            );
+            // an existing view is not added again, so the structure (and the path cache) is
+            // only changed if a view is generated, the lock avoids overwriting the view with a new object reference
+            final IView<T> l_existing = m_beliefbase.view( l_root );
+            l_view = ( l_existing != null ) || ( p_generator == null ) || ( p_generator.length == 0 )
+                     ? l_existing
+                     : m_beliefbase.add( p_generator[0].apply( l_root, this ) );
         }
         if ( l_view == null )
             throw new CIllegalArgumentException( CCommon.languagestring( this, "notfound", l_root, this.path() ) );
@@ -319,16 +372,30 @@ public final class CView<T extends IAgent<?>> implements IView<T>
     }
 
     /**
-     * returns the leaf of a view path
+     * returns the leaf view of a path, the resolved leaf is
+     * cached until the structure of the views is changed
      *
-     * @param p_stream stream of views
-     * @return last / leaf view
+     * @param p_path path
+     * @return leaf view
      */
-    private IView<T> leafview( final Stream<IView<T>> p_stream )
+    private IView<T> leaf( final IPath p_path )
     {
-        return p_stream
-            .reduce( ( i, j ) -> j )
-            .orElse( this );
+        if ( ( p_path == null ) || ( p_path.isEmpty() ) )
+            return this;
+
+        // the version is read before the walk, so a concurrent change invalidates the entry
+        final long l_version = m_version.get();
+        final Pair<Long, IView<T>> l_cached = m_leaf.get( p_path );
+        if ( ( l_cached != null ) && ( l_cached.getLeft() == l_version ) )
+            return l_cached.getRight();
+
+        final IView<T> l_leaf = this.walkdown( p_path ).reduce( ( i, j ) -> j ).orElse( this );
+
+        // only immutable paths can be used as key
+        if ( p_path instanceof CPath )
+            m_leaf.put( p_path, new ImmutablePair<>( l_version, l_leaf ) );
+
+        return l_leaf;
     }
 
     // ---------------------------------------------------------------------------------------------------------------------------------------------------------
@@ -373,8 +440,13 @@ public final class CView<T extends IAgent<?>> implements IView<T>
     @Override
     public final IPath path()
     {
-        final IPath l_path = new CPath();
-        this.root().forEach( i -> l_path.pushfront( i.name() ) );
+        // name and parent are immutable, so the path is cached
+        IPath l_path = m_path;
+        if ( l_path == null )
+        {
+            l_path = m_parent == null ? new CPath( m_name ) : new CPath( m_parent.name(), m_name );
+            m_path = l_path;
+        }
         return l_path;
     }
 
@@ -384,6 +456,12 @@ public final class CView<T extends IAgent<?>> implements IView<T>
         return m_parent;
     }
 
+    @Override
+    public final boolean dirty()
+    {
+        return m_beliefbase.dirty();
+    }
+
     @Override
     public final boolean hasParent()
     {
@@ -24,6 +24,7 @@
 package org.lightjason.agentspeak.beliefbase.view;
 
 import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.beliefbase.IBeliefSubscription;
 import org.lightjason.agentspeak.beliefbase.IBeliefbase;
 import org.lightjason.agentspeak.beliefbase.IStructure;
 import org.lightjason.agentspeak.common.IPath;
@@ -103,6 +104,13 @@ public interface IView<T extends IAgent<?>> extends IStructure<T>
      */
     boolean hasParent();
 
+    /**
+     * returns if the view or a child view must be updated
+     *
+     * @return dirty flag
+     */
+    boolean dirty();
+
 
 
     /**
@@ -112,6 +120,32 @@ public interface IView<T extends IAgent<?>> extends IStructure<T>
      */
     Stream<ITrigger> trigger();
 
+    /**
+     * sets the subscription of belief events,
+     * which is used by this view and all child views
+     *
+     * @param p_subscription subscription
+     * @return self reference
+     */
+    IView<T> subscribe( final IBeliefSubscription p_subscription );
+
+    /**
+     * invalidates the cached path lookups of
+     * this view and all parent views, it is called
+     * if views are added or removed
+     *
+     * @return self reference
+     */
+    IView<T> invalidate();
+
+    /**
+     * returns the subscription of belief events, which is
+     * set on this view or on the nearest parent view
+     *
+     * @return subscription
+     */
+    IBeliefSubscription subscription();
+
 
 
     /**
@@ -131,6 +165,16 @@ public interface IView<T extends IAgent<?>> extends IStructure<T>
      */
     Stream<ILiteral> stream( final boolean p_negated, final IPath... p_path );
 
+    /**
+     * returns stream of literals with equal functor and negation,
+     * which can be unified with the literal, bound arguments of
+     * the literal are used for the argument index
+     *
+     * @param p_literal literal with bound and unbound arguments
+     * @return literal stream
+     */
+    Stream<ILiteral> stream( final ILiteral p_literal );
+
 
 
     /**
@@ -23,27 +23,23 @@
 
 package org.lightjason.agentspeak.common;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.apache.commons.lang3.StringUtils;
 import org.lightjason.agentspeak.error.CIllegalArgumentException;
 
+import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.function.BiConsumer;
-import java.util.function.BinaryOperator;
-import java.util.function.Function;
-import java.util.function.Supplier;
-import java.util.stream.Collector;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
 /**
- * class to create a path structure
+ * immutable path structure, the path elements are stored
+ * in an array, which is shared by sub-paths, the hash value
+ * is calculated once, methods which change the path return a new path
  */
 public final class CPath implements IPath
 {
@@ -53,13 +49,46 @@ public final class CPath implements IPath
      **/
     public static final IPath EMPTY = new CPath();
     /**
-     * list with path parts *
+     * serial id
      */
-    private final List<String> m_path;
+    private static final long serialVersionUID = -4331732579289814351L;
     /**
-     * separator of the path elements *
+     * empty elements
      */
-    private String m_separator = DEFAULTSEPERATOR;
+    private static final String[] NOELEMENTS = new String[0];
+    /**
+     * interning cache of the factory, paths
+     * are removed if they are not referenced anymore
+     */
+    private static final Cache<String, IPath> INTERN = CacheBuilder.newBuilder().weakValues().build();
+    /**
+     * path elements
+     */
+    private final String[] m_path;
+    /**
+     * start index within the elements
+     */
+    private final int m_start;
+    /**
+     * end index (exclusive) within the elements
+     */
+    private final int m_end;
+    /**
+     * separator of the path elements
+     */
+    private final String m_separator;
+    /**
+     * hash code
+     */
+    private final int m_hash;
+    /**
+     * cached string representation with the separator
+     */
+    private transient String m_string;
+    /**
+     * cached symbol identifier
+     */
+    private transient int m_symbol;
 
     /**
      * copy-ctor with arguments
@@ -69,9 +98,10 @@ public final class CPath implements IPath
      */
     public CPath( final IPath p_path, final String... p_varargs )
     {
-        this( p_path );
-        Arrays.stream( p_varargs ).forEach( m_path::add );
-        this.normalize();
+        this(
+            CPath.normalize( Stream.concat( p_path.stream(), Arrays.stream( p_varargs ) ).toArray( String[]::new ) ),
+            p_path.getSeparator()
+        );
     }
 
     /**
@@ -81,8 +111,7 @@ public final class CPath implements IPath
      */
     public CPath( final IPath p_path )
     {
-        m_path = p_path.stream().collect( CPath.collectorfactory() );
-        m_separator = p_path.getSeparator();
+        this( CPath.elements( p_path ), p_path.getSeparator() );
     }
 
     /**
@@ -92,18 +121,7 @@ public final class CPath implements IPath
      */
     public CPath( final String... p_varargs )
     {
-        if ( ( p_varargs == null ) || ( p_varargs.length == 0 ) )
-            m_path = CPath.listfactory();
-        else
-        {
-            m_path = Arrays.stream( StringUtils.join( p_varargs, m_separator ).split( m_separator ) )
-                           .map( String::trim )
-                           .filter( i -> !i.isEmpty() )
-                           .collect( CPath.collectorfactory() );
-            if ( m_path.size() == 0 )
-                throw new CIllegalArgumentException( CCommon.languagestring( this, "pathempty" ) );
-        }
-        this.normalize();
+        this( CPath.split( p_varargs ), DEFAULTSEPERATOR );
     }
 
     /**
@@ -113,8 +131,7 @@ public final class CPath implements IPath
      */
     public CPath( final Stream<String> p_stream )
     {
-        m_path = p_stream.collect( CPath.collectorfactory() );
-        this.normalize();
+        this( CPath.normalize( p_stream.toArray( String[]::new ) ), DEFAULTSEPERATOR );
     }
 
     /**
@@ -122,7 +139,42 @@ public final class CPath implements IPath
      */
     private CPath()
     {
-        m_path = Collections.emptyList();
+        this( new String[0], DEFAULTSEPERATOR );
+    }
+
+    /**
+     * private ctor
+     *
+     * @param p_path path elements
+     * @param p_separator separator
+     */
+    private CPath( final String[] p_path, final String p_separator )
+    {
+        this( p_path, 0, p_path.length, p_separator );
+    }
+
+    /**
+     * private ctor, which shares the elements
+     *
+     * @param p_path path elements
+     * @param p_start start index
+     * @param p_end end index (exclusive)
+     * @param p_separator separator
+     */
+    private CPath( final String[] p_path, final int p_start, final int p_end, final String p_separator )
+    {
+        if ( ( p_start < 0 ) || ( p_end > p_path.length ) || ( p_start > p_end ) )
+            throw new IndexOutOfBoundsException( MessageFormat.format( "[{0}, {1}) / {2}", p_start, p_end, p_path.length ) );
+
+        m_path = p_path;
+        m_start = p_start;
+        m_end = p_end;
+        m_separator = p_separator;
+
+        int l_hash = 0;
+        for ( int i = p_start; i < p_end; i++ )
+            l_hash += p_path[i].hashCode();
+        m_hash = l_hash;
     }
 
     /**
@@ -157,73 +209,119 @@ public final class CPath implements IPath
     }
 
     /**
-     * factor method to build path
+     * factor method to build path, equal
+     * strings return the same path instance
      *
      * @param p_string input string
      * @return path
      */
     public static IPath from( final String p_string )
     {
-        return ( p_string == null ) || ( p_string.isEmpty() ) ? EMPTY : createPathWithSeperator( DEFAULTSEPERATOR, p_string );
+        if ( ( p_string == null ) || ( p_string.isEmpty() ) )
+            return EMPTY;
+
+        // the path is created outside of the cache, because the
+        // computing map of the cache can block on parallel creation
+        final IPath l_path = INTERN.getIfPresent( p_string );
+        if ( l_path != null )
+            return l_path;
+
+        final IPath l_created = createPathWithSeperator( DEFAULTSEPERATOR, p_string );
+        final IPath l_existing = INTERN.asMap().putIfAbsent( p_string, l_created );
+        return l_existing == null ? l_created : l_existing;
     }
 
     @Override
     public final IPath append( final IPath p_path )
     {
-        return new CPath( this ).pushback( p_path );
+        if ( p_path.isEmpty() )
+            return this;
+
+        final String[] l_path = Arrays.copyOfRange( m_path, m_start, m_end + p_path.size() );
+        System.arraycopy( CPath.elements( p_path ), 0, l_path, this.size(), p_path.size() );
+        return new CPath( l_path, m_separator );
     }
 
     @Override
     public final IPath append( final String p_path )
     {
-        return new CPath( this ).pushback( p_path );
+        return this.append( new CPath( p_path ) );
     }
 
     @Override
     public final IPath remove( final int p_index )
     {
-        m_path.remove( p_index );
-        return this;
+        return this.remove( p_index, p_index + 1 );
     }
 
     @Override
     public final IPath remove( final int p_start, final int p_end )
     {
-        m_path.subList( p_start, p_end ).clear();
-        return this;
+        if ( ( p_start < 0 ) || ( p_end > this.size() ) || ( p_start > p_end ) )
+            throw new IndexOutOfBoundsException( MessageFormat.format( "[{0}, {1}) / {2}", p_start, p_end, this.size() ) );
+
+        if ( p_start == 0 )
+            return new CPath( m_path, m_start + p_end, m_end, m_separator );
+        if ( p_end == this.size() )
+            return new CPath( m_path, m_start, m_start + p_start, m_separator );
+
+        final String[] l_path = new String[this.size() - ( p_end - p_start )];
+        System.arraycopy( m_path, m_start, l_path, 0, p_start );
+        System.arraycopy( m_path, m_start + p_end, l_path, p_start, this.size() - p_end );
+        return new CPath( l_path, m_separator );
     }
 
     @Override
-    public final synchronized boolean endsWith( final IPath p_path )
+    public final boolean endsWith( final IPath p_path )
     {
-        return p_path.size() <= this.size()
-               && IntStream.range( 0, p_path.size() ).boxed().parallel().allMatch( i -> this.get( i - p_path.size() ).equals( p_path.get( i ) ) );
+        if ( p_path.size() > this.size() )
+            return false;
+
+        final int l_offset = m_end - p_path.size();
+        for ( int i = 0; i < p_path.size(); i++ )
+            if ( !m_path[l_offset + i].equals( p_path.get( i ) ) )
+                return false;
+        return true;
     }
 
     @Override
     public final boolean startsWith( final IPath p_path )
     {
-        return p_path.size() <= this.size()
-               && IntStream.range( 0, p_path.size() ).boxed().parallel().allMatch( i -> this.get( i ).equals( p_path.get( i ) ) );
+        if ( p_path.size() > this.size() )
+            return false;
 
+        for ( int i = 0; i < p_path.size(); i++ )
+            if ( !m_path[m_start + i].equals( p_path.get( i ) ) )
+                return false;
+        return true;
     }
 
     @Override
     public final String get( final int p_index )
     {
-        return p_index < 0 ? m_path.get( m_path.size() + p_index ) : m_path.get( p_index );
+        final int l_index = p_index < 0 ? m_end + p_index : m_start + p_index;
+        if ( ( l_index < m_start ) || ( l_index >= m_end ) )
+            throw new IndexOutOfBoundsException( MessageFormat.format( "{0} / {1}", p_index, this.size() ) );
+
+        return m_path[l_index];
     }
 
     @Override
     public final String getPath( final String p_separator )
     {
-        return StringUtils.join( m_path, p_separator );
+        return StringUtils.join( m_path, p_separator, m_start, m_end );
     }
 
     @Override
     public final String getPath()
     {
-        return StringUtils.join( m_path, m_separator );
+        String l_string = m_string;
+        if ( l_string == null )
+        {
+            l_string = this.getPath( m_separator );
+            m_string = l_string;
+        }
+        return l_string;
     }
 
     @Override
@@ -238,22 +336,19 @@ public final class CPath implements IPath
         if ( ( p_separator == null ) || ( p_separator.isEmpty() ) )
             throw new CIllegalArgumentException( CCommon.languagestring( this, "separatornotempty" ) );
 
-        m_separator = p_separator;
-        return this;
+        return new CPath( m_path, m_start, m_end, p_separator );
     }
 
     @Override
-    public final synchronized IPath toLower()
+    public final IPath toLower()
     {
-        IntStream.range( 0, m_path.size() ).boxed().parallel().forEach( i -> m_path.set( i, m_path.get( i ).toLowerCase() ) );
-        return this;
+        return new CPath( this.stream().map( String::toLowerCase ).toArray( String[]::new ), m_separator );
     }
 
     @Override
-    public final synchronized IPath toUpper()
+    public final IPath toUpper()
     {
-        IntStream.range( 0, m_path.size() ).boxed().parallel().forEach( i -> m_path.set( i, m_path.get( i ).toUpperCase() ) );
-        return this;
+        return new CPath( this.stream().map( String::toUpperCase ).toArray( String[]::new ), m_separator );
     }
 
     @Override
@@ -265,40 +360,52 @@ public final class CPath implements IPath
     @Override
     public final IPath getSubPath( final int p_fromIndex, final int p_toIndex )
     {
-        return new CPath(
-            p_toIndex == 0
-            ? Stream.of()
-            : IntStream.range(
-                p_fromIndex,
-                p_toIndex > 0 ? p_toIndex : this.size() + p_toIndex
-            )
-            .mapToObj( m_path::get )
-        ).setSeparator( m_separator );
+        final int l_start = m_start + p_fromIndex;
+        final int l_end = p_toIndex > 0 ? m_start + p_toIndex : m_end + p_toIndex;
+
+        return ( p_toIndex == 0 ) || ( l_end <= l_start )
+               ? new CPath( NOELEMENTS, m_separator )
+               : new CPath( m_path, l_start, l_end, m_separator );
     }
 
     @Override
-    public final synchronized String getSuffix()
+    public final String getSuffix()
     {
-        return m_path.isEmpty()
+        return this.isEmpty()
                ? ""
-               : m_path.get( m_path.size() - 1 );
+               : m_path[m_end - 1];
     }
 
     @Override
     public final int hashCode()
     {
-        return m_path.stream().mapToInt( String::hashCode ).sum();
+        return m_hash;
     }
 
     @Override
     @SuppressFBWarnings( "EQ_CHECK_FOR_OPERAND_NOT_COMPATIBLE_WITH_THIS" )
     public final boolean equals( final Object p_object )
     {
-        return ( p_object != null )
-               && (
-                    ( ( p_object instanceof IPath ) && ( this.hashCode() == p_object.hashCode() ) )
-                    || ( ( p_object instanceof String ) && ( this.getPath().hashCode() == p_object.hashCode() ) )
-               );
+        return ( this == p_object )
+               || ( ( p_object instanceof IPath ) && ( this.hashCode() == p_object.hashCode() ) && ( this.equalelements( (IPath) p_object ) ) )
+               || ( ( p_object instanceof String ) && ( this.getPath().equals( p_object ) ) );
+    }
+
+    /**
+     * compares the path elements
+     *
+     * @param p_path path
+     * @return equality of all elements
+     */
+    private boolean equalelements( final IPath p_path )
+    {
+        if ( this.size() != p_path.size() )
+            return false;
+
+        for ( int i = 0; i < this.size(); i++ )
+            if ( !m_path[m_start + i].equals( p_path.get( i ) ) )
+                return false;
+        return true;
     }
 
     @Override
@@ -307,69 +414,71 @@ public final class CPath implements IPath
         return this.getPath();
     }
 
-    /**
-     * check if the path is empty
-     *
-     * @return empty flag
-     */
+    @Override
     public final boolean isEmpty()
     {
-        return m_path.isEmpty();
+        return m_start == m_end;
     }
 
     @Override
     public final IPath pushback( final IPath p_path )
     {
-        p_path.stream().forEach( m_path::add );
-        return this;
+        return this.append( p_path );
     }
 
     @Override
     public final IPath pushback( final String p_path )
     {
-        this.pushback( new CPath( p_path ) );
-        return this;
+        return this.append( p_path );
     }
 
     @Override
     public final IPath pushfront( final String p_path )
     {
-        this.pushfront( new CPath( p_path ) );
-        return this;
+        return this.pushfront( new CPath( p_path ) );
     }
 
     @Override
-    public final synchronized IPath pushfront( final IPath p_path )
+    public final IPath pushfront( final IPath p_path )
     {
-        final List<String> l_path = Stream.concat( p_path.stream(), m_path.stream() ).collect( Collectors.toList() );
-        m_path.clear();
-        l_path.forEach( m_path::add );
-        return this;
+        return p_path.isEmpty()
+               ? this
+               : new CPath( Stream.concat( p_path.stream(), this.stream() ).toArray( String[]::new ), m_separator );
     }
 
     @Override
-    public final String removeSuffix()
+    public final IPath removeSuffix()
     {
-        if ( this.isEmpty() )
-            return null;
-
-        final String l_suffix = this.getSuffix();
-        if ( m_path.size() > 0 )
-            m_path.remove( m_path.size() - 1 );
-        return l_suffix;
+        return this.isEmpty()
+               ? this
+               : new CPath( m_path, m_start, m_end - 1, m_separator );
     }
 
     @Override
     public final IPath reverse()
     {
-        Collections.reverse( m_path );
-        return this;
+        final String[] l_path = new String[this.size()];
+        for ( int i = 0; i < l_path.length; i++ )
+            l_path[i] = m_path[m_end - 1 - i];
+        return new CPath( l_path, m_separator );
+    }
+
+    @Override
+    public final int symbol()
+    {
+        int l_symbol = m_symbol;
+        if ( l_symbol == CSymbolTable.UNKNOWN )
+        {
+            l_symbol = CSymbolTable.INSTANCE.symbol( this );
+            m_symbol = l_symbol;
+        }
+        return l_symbol;
     }
 
     @Override
     public final int size()
     {
-        return m_path.size();
+        return m_end - m_start;
     }
 
     @Override
@@ -381,13 +490,13 @@ public final class CPath implements IPath
     @Override
     public final Stream<String> stream()
     {
-        return m_path.stream();
+        return Arrays.stream( m_path, m_start, m_end );
     }
 
     @Override
     public final Stream<String> parallelStream()
     {
-        return m_path.parallelStream();
+        return this.stream().parallel();
     }
 
     @Override
@@ -397,86 +506,70 @@ public final class CPath implements IPath
     }
 
     /**
-     * normalize the internal path
+     * returns the elements of a path,
+     * the array must not be modified
+     *
+     * @param p_path path
+     * @return element array
      */
-    private synchronized void normalize()
+    private static String[] elements( final IPath p_path )
     {
-        if ( m_path.isEmpty() )
-            return;
-
-        // create path-copy and nomalize (remove dot, double-dot and empty values)
-        final List<String> l_dotremove = m_path.stream()
-                                               .filter( i -> ( i != null ) && ( !i.isEmpty() ) && ( !".".equals( i ) ) )
-                                               .collect( Collectors.toList() );
-        if ( l_dotremove.isEmpty() )
-            return;
+        if ( !( p_path instanceof CPath ) )
+            return p_path.stream().toArray( String[]::new );
 
-        final String l_last = l_dotremove.get( l_dotremove.size() - 1 );
-        final List<String> l_backremove = IntStream.range( 0, l_dotremove.size() - 1 )
-                                                   .boxed()
-                                                   .filter( i -> !l_dotremove.get( i + 1 ).equals( ".." ) )
-                                                   .map( l_dotremove::get )
-                                                   .collect( Collectors.toList() );
-        if ( !"..".equals( l_last ) )
-            l_backremove.add( l_last );
-
-        // clear internal path and add optimized path
-        m_path.clear();
-        l_backremove.forEach( m_path::add );
+        final CPath l_path = (CPath) p_path;
+        return ( l_path.m_start == 0 ) && ( l_path.m_end == l_path.m_path.length )
+               ? l_path.m_path
+               : Arrays.copyOfRange( l_path.m_path, l_path.m_start, l_path.m_end );
     }
 
     /**
-     * collector factory
+     * splits and trims the path components
      *
-     * @return collector
+     * @param p_varargs path components
+     * @return normalized path elements
      */
-    private static Collector<String, List<String>, List<String>> collectorfactory()
+    private static String[] split( final String... p_varargs )
     {
-        return new Collector<String, List<String>, List<String>>()
-        {
-            @Override
-            public final Supplier<List<String>> supplier()
-            {
-                return CopyOnWriteArrayList<String>::new;
-            }
-
-            @Override
-            public final BiConsumer<List<String>, String> accumulator()
-            {
-                return List::add;
-            }
-
-            @Override
-            public final BinaryOperator<List<String>> combiner()
-            {
-                return (i, j) -> {
-                    i.addAll( j );
-                    return i;
-                };
-            }
-
-            @Override
-            public final Function<List<String>, List<String>> finisher()
-            {
-                return i -> i;
-            }
-
-            @Override
-            public final Set<Characteristics> characteristics()
-            {
-                return Collections.emptySet();
-            }
-        };
+        if ( ( p_varargs == null ) || ( p_varargs.length == 0 ) )
+            return NOELEMENTS;
+
+        final String[] l_path = Arrays.stream( StringUtils.join( p_varargs, DEFAULTSEPERATOR ).split( DEFAULTSEPERATOR ) )
+                                      .map( String::trim )
+                                      .filter( i -> !i.isEmpty() )
+                                      .toArray( String[]::new );
+        if ( l_path.length == 0 )
+            throw new CIllegalArgumentException( CCommon.languagestring( CPath.class, "pathempty" ) );
+
+        return CPath.normalize( l_path );
     }
 
     /**
-     * list factory
+     * normalize the path elements (remove dot, double-dot and empty values)
      *
-     * @return list
+     * @param p_path path elements
+     * @return normalized path elements
      */
-    private static List<String> listfactory()
+    private static String[] normalize( final String[] p_path )
     {
-        return new CopyOnWriteArrayList<>();
+        if ( p_path.length == 0 )
+            return p_path;
+
+        final String[] l_dotremove = Arrays.stream( p_path )
+                                           .filter( i -> ( i != null ) && ( !i.isEmpty() ) && ( !".".equals( i ) ) )
+                                           .toArray( String[]::new );
+        if ( l_dotremove.length == 0 )
+            return p_path;
+
+        final List<String> l_backremove = new ArrayList<>( l_dotremove.length );
+        for ( int i = 0; i < l_dotremove.length - 1; i++ )
+            if ( !"..".equals( l_dotremove[i + 1] ) )
+                l_backremove.add( l_dotremove[i] );
+
+        if ( !"..".equals( l_dotremove[l_dotremove.length - 1] ) )
+            l_backremove.add( l_dotremove[l_dotremove.length - 1] );
+
+        return l_backremove.toArray( new String[l_backremove.size()] );
     }
 
 }
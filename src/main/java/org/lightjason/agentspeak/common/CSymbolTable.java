@@ -0,0 +1,195 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.common;
+
+import org.lightjason.agentspeak.error.CIllegalArgumentException;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+
+/**
+ * global symbol table, which maps path names to dense
+ * integer identifiers, so paths can be compared by an integer
+ * and identifiers can be used as array index
+ *
+ * @note the table is append-only, identifiers are never reused,
+ * identifiers are valid within the running process only, the
+ * number of symbols is bounded, names which are added after the
+ * table is full get the unknown identifier, so paths created at
+ * runtime cannot grow the table without bound
+ */
+public final class CSymbolTable
+{
+    /**
+     * maximum number of symbols of the global instance
+     */
+    public static final int CAPACITY = 1 << 16;
+    /**
+     * global instance
+     */
+    public static final CSymbolTable INSTANCE = new CSymbolTable( CAPACITY );
+    /**
+     * identifier of an unknown symbol
+     */
+    public static final int UNKNOWN = 0;
+    /**
+     * maximum number of symbols
+     */
+    private final int m_capacity;
+    /**
+     * map with names and identifiers
+     */
+    private final ConcurrentMap<String, Integer> m_symbols = new ConcurrentHashMap<>();
+    /**
+     * names indexed by the identifier
+     */
+    private volatile String[] m_names;
+    /**
+     * number of symbols
+     */
+    private int m_size;
+
+
+    /**
+     * ctor
+     *
+     * @param p_capacity maximum number of symbols
+     */
+    CSymbolTable( final int p_capacity )
+    {
+        if ( p_capacity < 1 )
+            throw new CIllegalArgumentException( CCommon.languagestring( this, "capacity", p_capacity ) );
+
+        m_capacity = p_capacity;
+        m_names = new String[Math.min( 64, p_capacity + 1 )];
+    }
+
+    /**
+     * returns the identifier of a name, the name
+     * is added if it does not exist
+     *
+     * @param p_name name
+     * @return identifier (greater than zero) or unknown if the table is full
+     */
+    public final int symbol( final String p_name )
+    {
+        final Integer l_symbol = m_symbols.get( p_name );
+        return l_symbol == null ? this.register( p_name ) : l_symbol;
+    }
+
+    /**
+     * returns the identifier of a path, the path
+     * is added if it does not exist
+     *
+     * @param p_path path
+     * @return identifier (greater than zero) or unknown if the table is full
+     */
+    public final int symbol( final IPath p_path )
+    {
+        return this.symbol( p_path.getPath( CPath.DEFAULTSEPERATOR ) );
+    }
+
+    /**
+     * adds a path to the table
+     *
+     * @param p_path path
+     * @return input path
+     * @tparam T path type
+     */
+    public final <T extends IPath> T add( final T p_path )
+    {
+        p_path.symbol();
+        return p_path;
+    }
+
+    /**
+     * returns the name of an identifier
+     *
+     * @param p_symbol identifier
+     * @return name
+     */
+    public final String name( final int p_symbol )
+    {
+        final String[] l_names = m_names;
+        if ( ( p_symbol <= UNKNOWN ) || ( p_symbol >= l_names.length ) || ( l_names[p_symbol] == null ) )
+            throw new CIllegalArgumentException( CCommon.languagestring( this, "unknown", p_symbol ) );
+
+        return l_names[p_symbol];
+    }
+
+    /**
+     * number of symbols
+     *
+     * @return size
+     */
+    public final synchronized int size()
+    {
+        return m_size;
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format( "{0} [{1} / {2}]", super.toString(), this.size(), m_capacity );
+    }
+
+    /**
+     * maximum number of symbols
+     *
+     * @return capacity
+     */
+    public final int capacity()
+    {
+        return m_capacity;
+    }
+
+    /**
+     * adds a new name
+     *
+     * @param p_name name
+     * @return identifier or unknown if the table is full
+     */
+    private synchronized int register( final String p_name )
+    {
+        final Integer l_symbol = m_symbols.get( p_name );
+        if ( l_symbol != null )
+            return l_symbol;
+
+        if ( m_size >= m_capacity )
+            return UNKNOWN;
+
+        final int l_next = m_size + 1;
+        final String[] l_names = l_next < m_names.length ? m_names : Arrays.copyOf( m_names, Math.min( m_names.length * 2, m_capacity + 1 ) );
+        l_names[l_next] = p_name;
+        m_names = l_names;
+
+        m_size = l_next;
+        m_symbols.put( p_name, l_next );
+        return l_next;
+    }
+
+}
@@ -23,6 +23,7 @@
 
 package org.lightjason.agentspeak.common;
 
+import java.io.Serializable;
 import java.util.stream.Stream;
 
 
@@ -30,8 +31,9 @@ import java.util.stream.Stream;
  * interface of a path
  *
  * @note implement equals with String object, so a path object can be checked to a String
+ * @note a path is immutable, all methods which change the path return a changed copy
  */
-public interface IPath extends Comparable<IPath>
+public interface IPath extends Serializable, Comparable<IPath>
 {
 
     /**
@@ -54,7 +56,7 @@ public interface IPath extends Comparable<IPath>
      * removes an element
      *
      * @param p_index index position
-     * @return return the changed object
+     * @return changed path
      */
     IPath remove( final int p_index );
 
@@ -63,7 +65,7 @@ public interface IPath extends Comparable<IPath>
      *
      * @param p_start start index
      * @param p_end end index (exclusive)
-     * @return return the changed object
+     * @return changed path
      */
     IPath remove( final int p_start, final int p_end );
 
@@ -116,21 +118,21 @@ public interface IPath extends Comparable<IPath>
      * sets the separator
      *
      * @param p_separator separator
-     * @return path object
+     * @return path with the separator
      */
     IPath setSeparator( final String p_separator );
 
     /**
      * changes all elements to lower-case
      *
-     * @return object
+     * @return lower-case path
      */
     IPath toLower();
 
     /**
      * changes all elements to uppercase
      *
-     * @return object
+     * @return upper-case path
      */
     IPath toUpper();
 
@@ -162,7 +164,7 @@ public interface IPath extends Comparable<IPath>
      * adds a path at the end
      *
      * @param p_path path
-     * @return return the changed object
+     * @return changed path
      */
     IPath pushback( final IPath p_path );
 
@@ -170,7 +172,7 @@ public interface IPath extends Comparable<IPath>
      * adds a path at the end
      *
      * @param p_path string path
-     * @return return the changed object
+     * @return changed path
      */
     IPath pushback( final String p_path );
 
@@ -178,7 +180,7 @@ public interface IPath extends Comparable<IPath>
      * adds a path at the front
      *
      * @param p_path string path
-     * @return return the changed object
+     * @return changed path
      */
     IPath pushfront( final String p_path );
 
@@ -186,24 +188,33 @@ public interface IPath extends Comparable<IPath>
      * adds a path to the front of the path
      *
      * @param p_path path
-     * @return return the changed object
+     * @return changed path
      */
     IPath pushfront( final IPath p_path );
 
     /**
-     * remove the suffix from the path
+     * removes the suffix from the path
      *
-     * @return last item of the path
+     * @return path without the last element
+     * @note the removed element is not returned, it can be read with getSuffix() before
      */
-    String removeSuffix();
+    IPath removeSuffix();
 
     /**
      * reverse path
      *
-     * @return return the changed object
+     * @return changed path
      */
     IPath reverse();
 
+    /**
+     * returns the symbol identifier of the path
+     *
+     * @return symbol identifier or unknown if the symbol table is full
+     * @see CSymbolTable
+     */
+    int symbol();
+
     /**
      * returns the number of path elements
      *
@@ -0,0 +1,182 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.configuration;
+
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.metric.ICycleMetric;
+import org.lightjason.agentspeak.agent.policy.IExecutionPolicy;
+import org.lightjason.agentspeak.beliefbase.CBeliefbaseOptions;
+import org.lightjason.agentspeak.beliefbase.storage.CMultiStorage;
+import org.lightjason.agentspeak.beliefbase.storage.IStorage;
+import org.lightjason.agentspeak.beliefbase.view.IView;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.ITermPool;
+
+import java.text.MessageFormat;
+import java.util.function.Supplier;
+
+
+/**
+ * immutable runtime options of an agent configuration,
+ * each setter returns a changed copy of the options
+ */
+public final class CAgentOptions<T extends IAgent<?>>
+{
+    /**
+     * cycle metric
+     */
+    private final ICycleMetric m_metric;
+    /**
+     * storage factory of the beliefbase
+     */
+    private final Supplier<IStorage<ILiteral, IView<T>, T>> m_storage;
+    /**
+     * beliefbase options
+     */
+    private final CBeliefbaseOptions m_beliefbase;
+
+    /**
+     * ctor with default options
+     */
+    public CAgentOptions()
+    {
+        this( ICycleMetric.EMPTY, CMultiStorage::new, CBeliefbaseOptions.DEFAULT );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_metric cycle metric
+     * @param p_storage storage factory of the beliefbase
+     * @param p_beliefbase beliefbase options
+     */
+    private CAgentOptions( final ICycleMetric p_metric, final Supplier<IStorage<ILiteral, IView<T>, T>> p_storage, final CBeliefbaseOptions p_beliefbase )
+    {
+        m_metric = p_metric;
+        m_storage = p_storage;
+        m_beliefbase = p_beliefbase;
+    }
+
+    /**
+     * returns the cycle metric
+     *
+     * @return metric
+     */
+    public final ICycleMetric metric()
+    {
+        return m_metric;
+    }
+
+    /**
+     * sets the cycle metric
+     *
+     * @param p_metric cycle metric
+     * @return changed options
+     */
+    public final CAgentOptions<T> metric( final ICycleMetric p_metric )
+    {
+        return new CAgentOptions<>( p_metric, m_storage, m_beliefbase );
+    }
+
+    /**
+     * returns the storage factory
+     *
+     * @return storage factory of the beliefbase
+     */
+    public final Supplier<IStorage<ILiteral, IView<T>, T>> storage()
+    {
+        return m_storage;
+    }
+
+    /**
+     * sets the storage factory
+     *
+     * @param p_storage storage factory of the beliefbase, e.g. CMultiStorage or CConcurrentMultiStorage
+     * @return changed options
+     */
+    public final CAgentOptions<T> storage( final Supplier<IStorage<ILiteral, IView<T>, T>> p_storage )
+    {
+        return new CAgentOptions<>( m_metric, p_storage, m_beliefbase );
+    }
+
+    /**
+     * returns the beliefbase options
+     *
+     * @return beliefbase options
+     */
+    public final CBeliefbaseOptions beliefbase()
+    {
+        return m_beliefbase;
+    }
+
+    /**
+     * sets the beliefbase options
+     *
+     * @param p_beliefbase beliefbase options
+     * @return changed options
+     */
+    public final CAgentOptions<T> beliefbase( final CBeliefbaseOptions p_beliefbase )
+    {
+        return new CAgentOptions<>( m_metric, m_storage, p_beliefbase );
+    }
+
+    /**
+     * returns the execution policy of the agent and the beliefbase
+     *
+     * @return execution policy
+     */
+    public final IExecutionPolicy executionpolicy()
+    {
+        return m_beliefbase.executionpolicy();
+    }
+
+    /**
+     * sets the execution policy of the agent and the beliefbase
+     *
+     * @param p_executionpolicy execution policy
+     * @return changed options
+     */
+    public final CAgentOptions<T> executionpolicy( final IExecutionPolicy p_executionpolicy )
+    {
+        return this.beliefbase( m_beliefbase.executionpolicy( p_executionpolicy ) );
+    }
+
+    /**
+     * sets the pool of belief literals
+     *
+     * @param p_termpool pool of belief literals, which is shared by all agents of the configuration
+     * @return changed options
+     */
+    public final CAgentOptions<T> termpool( final ITermPool p_termpool )
+    {
+        return this.beliefbase( m_beliefbase.termpool( p_termpool ) );
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format( "metric: {0} / beliefbase: {1}", m_metric, m_beliefbase );
+    }
+
+}
@@ -27,14 +27,16 @@ import org.apache.commons.lang3.StringUtils;
 import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.agent.fuzzy.CBoolFuzzy;
 import org.lightjason.agentspeak.agent.fuzzy.IFuzzy;
+import org.lightjason.agentspeak.agent.metric.ICycleMetric;
+import org.lightjason.agentspeak.agent.policy.IExecutionPolicy;
 import org.lightjason.agentspeak.agent.unify.CUnifier;
 import org.lightjason.agentspeak.beliefbase.CBeliefbasePersistent;
-import org.lightjason.agentspeak.beliefbase.storage.CMultiStorage;
 import org.lightjason.agentspeak.beliefbase.view.IView;
 import org.lightjason.agentspeak.common.CCommon;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.execution.IVariableBuilder;
 import org.lightjason.agentspeak.language.execution.action.unify.IUnifier;
+import org.lightjason.agentspeak.language.instantiable.CLibrary;
 import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
@@ -94,6 +96,14 @@ public class CDefaultAgentConfiguration<T extends IAgent<?>> implements IAgentCo
      * rules
      */
     protected final Set<IRule> m_rules;
+    /**
+     * runtime options
+     */
+    protected final CAgentOptions<T> m_options;
+    /**
+     * shared library of plans and rules
+     */
+    protected final CLibrary m_library;
 
 
     /**
@@ -145,16 +155,40 @@ public class CDefaultAgentConfiguration<T extends IAgent<?>> implements IAgentCo
                                        final ILiteral p_initialgoal, final IUnifier p_unifier, final IAggregation p_aggregation,
                                        final IVariableBuilder p_variablebuilder
     )
+    {
+        this( p_fuzzy, p_initalbeliefs, p_plans, p_rules, p_initialgoal, p_unifier, p_aggregation, p_variablebuilder, new CAgentOptions<>() );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_fuzzy fuzzy operator
+     * @param p_initalbeliefs set with initial beliefs
+     * @param p_plans plans
+     * @param p_rules rules
+     * @param p_initialgoal initial goal
+     * @param p_aggregation aggregation function
+     * @param p_unifier unifier component
+     * @param p_variablebuilder variable builder
+     * @param p_options runtime options (execution policy, metric and beliefbase options)
+     */
+    public CDefaultAgentConfiguration( final IFuzzy<Boolean, T> p_fuzzy, final Collection<ILiteral> p_initalbeliefs,
+                                       final Set<IPlan> p_plans, final Set<IRule> p_rules,
+                                       final ILiteral p_initialgoal, final IUnifier p_unifier, final IAggregation p_aggregation,
+                                       final IVariableBuilder p_variablebuilder, final CAgentOptions<T> p_options
+    )
     {
         m_unifier = p_unifier;
         m_aggregation = p_aggregation;
         m_fuzzy = p_fuzzy;
         m_variablebuilder = p_variablebuilder;
+        m_options = p_options;
 
         m_initialbeliefs = Collections.unmodifiableCollection( p_initalbeliefs );
 
         m_plans = Collections.unmodifiableSet( p_plans );
         m_rules = Collections.unmodifiableSet( p_rules );
+        m_library = new CLibrary( m_plans, m_rules );
         m_initialgoal = p_initialgoal != null ? CTrigger.from( ITrigger.EType.ADDGOAL, p_initialgoal ) : null;
 
         LOGGER.info( MessageFormat.format( "create agent configuration: {0}", this ) );
@@ -163,8 +197,8 @@ public class CDefaultAgentConfiguration<T extends IAgent<?>> implements IAgentCo
     @Override
     public IView<T> beliefbase()
     {
-        final IView<T> l_beliefbase = new CBeliefbasePersistent<T>( new CMultiStorage<>() ).create( BELIEFBASEROOTNAME );
-        m_initialbeliefs.parallelStream().forEach( i -> l_beliefbase.add( i.shallowcopy() ) );
+        final IView<T> l_beliefbase = new CBeliefbasePersistent<T>( m_options.storage().get(), m_options.beliefbase() ).create( BELIEFBASEROOTNAME );
+        m_options.executionpolicy().stream( m_initialbeliefs ).forEach( i -> l_beliefbase.add( i.shallowcopy() ) );
 
         // clear all events of the initial beliefs
         l_beliefbase.trigger();
@@ -208,6 +242,24 @@ public class CDefaultAgentConfiguration<T extends IAgent<?>> implements IAgentCo
         return m_initialbeliefs;
     }
 
+    @Override
+    public final IExecutionPolicy executionpolicy()
+    {
+        return m_options.executionpolicy();
+    }
+
+    @Override
+    public final ICycleMetric metric()
+    {
+        return m_options.metric();
+    }
+
+    @Override
+    public final CLibrary library()
+    {
+        return m_library;
+    }
+
     @Override
     public final Set<IPlan> plans()
     {
@@ -235,10 +287,11 @@ public class CDefaultAgentConfiguration<T extends IAgent<?>> implements IAgentCo
         ).trim();
 
         return MessageFormat.format(
-            "{0} ( unifier: {1} / aggregation {2} / {3} {4} )",
+            "{0} ( unifier: {1} / aggregation {2} / options {3} / {4} {5} )",
             super.toString(),
             m_unifier,
             m_aggregation,
+            m_options,
             m_fuzzy,
             l_elements.isEmpty() ? "" : l_elements
         ).trim();
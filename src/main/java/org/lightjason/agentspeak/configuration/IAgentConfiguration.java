@@ -25,10 +25,13 @@ package org.lightjason.agentspeak.configuration;
 
 import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.agent.fuzzy.IFuzzy;
+import org.lightjason.agentspeak.agent.metric.ICycleMetric;
+import org.lightjason.agentspeak.agent.policy.IExecutionPolicy;
 import org.lightjason.agentspeak.beliefbase.view.IView;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.execution.IVariableBuilder;
 import org.lightjason.agentspeak.language.execution.action.unify.IUnifier;
+import org.lightjason.agentspeak.language.instantiable.CLibrary;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
 import org.lightjason.agentspeak.language.score.IAggregation;
 
@@ -93,4 +96,27 @@ public interface IAgentConfiguration<T extends IAgent<?>> extends IConfiguration
      */
     Collection<ILiteral> initialbeliefs();
 
+    /**
+     * returns the execution policy
+     * of the internal streams
+     *
+     * @return execution policy
+     */
+    IExecutionPolicy executionpolicy();
+
+    /**
+     * returns the metric of the agent cycle
+     *
+     * @return cycle metric
+     */
+    ICycleMetric metric();
+
+    /**
+     * returns the library of plans and rules,
+     * which is shared by all agents of the configuration
+     *
+     * @return library
+     */
+    CLibrary library();
+
 }
@@ -32,8 +32,7 @@ import org.lightjason.agentspeak.agent.fuzzy.IFuzzy;
 import org.lightjason.agentspeak.agent.unify.CUnifier;
 import org.lightjason.agentspeak.configuration.CDefaultAgentConfiguration;
 import org.lightjason.agentspeak.configuration.IAgentConfiguration;
-import org.lightjason.agentspeak.grammar.CParserAgent;
-import org.lightjason.agentspeak.grammar.IASTVisitorAgent;
+import org.lightjason.agentspeak.grammar.CAgentImage;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.execution.IVariableBuilder;
 import org.lightjason.agentspeak.language.execution.action.unify.IUnifier;
@@ -42,6 +41,7 @@ import org.lightjason.agentspeak.language.instantiable.rule.IRule;
 import org.lightjason.agentspeak.language.score.IAggregation;
 
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
@@ -119,26 +119,60 @@ public abstract class IBaseAgentGenerator<T extends IAgent<?>> implements IAgent
     )
     throws Exception
     {
-        final IASTVisitorAgent l_visitor = new CParserAgent( p_actions ).parse( p_stream );
+        this( CAgentImage.parse( p_stream, p_actions ), p_aggregation, p_planbundle, p_variablebuilder );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_stream input stream
+     * @param p_image image file, the image is used if it matches the input stream and actions, otherwise it is rebuilt
+     * @param p_actions set with action
+     * @param p_aggregation aggregation function
+     * @param p_planbundle set with planbundles
+     * @param p_variablebuilder variable builder (can be set to null)
+     * @throws Exception thrown on error
+     */
+    public IBaseAgentGenerator( final InputStream p_stream, final Path p_image, final Set<IAction> p_actions,
+                                final IAggregation p_aggregation, final Set<IPlanBundle> p_planbundle,
+                                final IVariableBuilder p_variablebuilder
+    )
+    throws Exception
+    {
+        this( CAgentImage.load( p_stream, p_actions, p_image ), p_aggregation, p_planbundle, p_variablebuilder );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_image agent image
+     * @param p_aggregation aggregation function
+     * @param p_planbundle set with planbundles
+     * @param p_variablebuilder variable builder (can be set to null)
+     */
+    protected IBaseAgentGenerator( final CAgentImage p_image, final IAggregation p_aggregation, final Set<IPlanBundle> p_planbundle,
+                                   final IVariableBuilder p_variablebuilder
+    )
+    {
         m_configuration = this.configuration(
             new CBoolFuzzy<>(),
 
             Stream.concat(
-                l_visitor.initialbeliefs().stream(),
+                p_image.initialbeliefs().stream(),
                 p_planbundle.parallelStream().flatMap( i -> i.initialbeliefs().stream() )
             ).collect( Collectors.toSet() ),
 
             Stream.concat(
-                l_visitor.plans().stream(),
+                p_image.plans().stream(),
                 p_planbundle.parallelStream().flatMap( i -> i.plans().stream() )
             ).collect( Collectors.toSet() ),
 
             Stream.concat(
-                l_visitor.rules().stream(),
+                p_image.rules().stream(),
                 p_planbundle.parallelStream().flatMap( i -> i.rules().stream() )
             ).collect( Collectors.toSet() ),
 
-            l_visitor.initialgoal(),
+            p_image.initialgoal(),
 
             UNIFIER,
 
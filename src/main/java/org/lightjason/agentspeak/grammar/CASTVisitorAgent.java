@@ -31,6 +31,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.lightjason.agentspeak.action.IAction;
 import org.lightjason.agentspeak.common.CCommon;
 import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.CSymbolTable;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.CIllegalArgumentException;
 import org.lightjason.agentspeak.error.CSyntaxErrorException;
@@ -228,9 +229,10 @@ public final class CASTVisitorAgent extends AbstractParseTreeVisitor<Object> imp
     @Override
     public final Object visitLogicrule( final AgentParser.LogicruleContext p_context )
     {
+        final Set<IAnnotation<?>> l_annotation = (Set<IAnnotation<?>>) this.visitAnnotations( p_context.annotations() );
         final ILiteral l_literal = (ILiteral) this.visitLiteral( p_context.literal() );
         return p_context.logicalruledefinition().stream()
-                        .map( i -> new CRule( (ILiteral) l_literal.deepcopy(), (List<IExecution>) this.visitLogicalruledefinition( i ) ) )
+                        .map( i -> new CRule( (ILiteral) l_literal.deepcopy(), (List<IExecution>) this.visitLogicalruledefinition( i ), l_annotation ) )
                         .collect( Collectors.toList() );
     }
 
@@ -294,6 +296,9 @@ public final class CASTVisitorAgent extends AbstractParseTreeVisitor<Object> imp
         if ( p_context.PARALLEL() != null )
             return new CAtomAnnotation<>( IAnnotation.EType.PARALLEL );
 
+        if ( p_context.TABLING() != null )
+            return new CAtomAnnotation<>( IAnnotation.EType.TABLING );
+
         throw new CIllegalArgumentException( CCommon.languagestring( this, "atomannotation", p_context.getText() ) );
     }
 
@@ -622,7 +627,7 @@ public final class CASTVisitorAgent extends AbstractParseTreeVisitor<Object> imp
         return new CLiteral(
             p_context.AT() != null,
             p_context.STRONGNEGATION() != null,
-            CPath.from( this.visitAtom( p_context.atom() ).toString() ),
+            CSymbolTable.INSTANCE.add( CPath.from( this.visitAtom( p_context.atom() ).toString() ) ),
             (Collection<ITerm>) this.visitTermlist( p_context.termlist() ),
             (Collection<ILiteral>) this.visitLiteralset( p_context.literalset() )
         );
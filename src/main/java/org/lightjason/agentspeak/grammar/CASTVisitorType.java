@@ -28,6 +28,7 @@ import com.google.common.collect.Multimap;
 import org.antlr.v4.runtime.tree.AbstractParseTreeVisitor;
 import org.lightjason.agentspeak.action.IAction;
 import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.CSymbolTable;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.CIllegalArgumentException;
 import org.lightjason.agentspeak.error.CSyntaxErrorException;
@@ -241,7 +242,7 @@ public final class CASTVisitorType extends AbstractParseTreeVisitor<Object> impl
         return new CLiteral(
             p_context.AT() != null,
             p_context.STRONGNEGATION() != null,
-            CPath.from( this.visitAtom( p_context.atom() ).toString() ),
+            CSymbolTable.INSTANCE.add( CPath.from( this.visitAtom( p_context.atom() ).toString() ) ),
             (Collection<ITerm>) this.visitTermlist( p_context.termlist() ),
             (Collection<ILiteral>) this.visitLiteralset( p_context.literalset() )
         );
@@ -0,0 +1,365 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.grammar;
+
+import org.apache.commons.io.IOUtils;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.error.CIllegalStateException;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.execution.action.CActionInputStream;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.instantiable.rule.IRule;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+
+/**
+ * compiled agent image, which stores the parsed structure
+ * of an agent script (initial goal, initial beliefs, plans and rules),
+ * so the image can be loaded without parsing, the actions are bound
+ * on loading, so the image is identified by the script, the action signatures
+ * and the build version, the image is deserialized with a class filter, but it
+ * must be stored in a trusted location, because it is read with java serialization
+ */
+public final class CAgentImage implements IASTVisitorAgentSpeak
+{
+    /**
+     * logger
+     */
+    private static final Logger LOGGER = CCommon.logger( CAgentImage.class );
+    /**
+     * magic number of the image format
+     */
+    private static final int MAGIC = 0x4c4a4149;
+    /**
+     * version of the image format
+     */
+    private static final int VERSION = 3;
+    /**
+     * digest algorithm of the content hash
+     */
+    private static final String DIGEST = "SHA-256";
+    /**
+     * content hash
+     */
+    private final String m_hash;
+    /**
+     * initial goal
+     */
+    private final ILiteral m_initialgoal;
+    /**
+     * initial beliefs
+     */
+    private final Set<ILiteral> m_initialbeliefs;
+    /**
+     * plans
+     */
+    private final Set<IPlan> m_plans;
+    /**
+     * rules
+     */
+    private final Set<IRule> m_rules;
+
+
+    /**
+     * ctor
+     *
+     * @param p_hash content hash
+     * @param p_initialgoal initial goal or null
+     * @param p_initialbeliefs initial beliefs
+     * @param p_plans plans
+     * @param p_rules rules
+     */
+    private CAgentImage( final String p_hash, final ILiteral p_initialgoal, final Set<ILiteral> p_initialbeliefs,
+                         final Set<IPlan> p_plans, final Set<IRule> p_rules
+    )
+    {
+        m_hash = p_hash;
+        m_initialgoal = p_initialgoal;
+        m_initialbeliefs = Collections.unmodifiableSet( p_initialbeliefs );
+        m_plans = Collections.unmodifiableSet( p_plans );
+        m_rules = Collections.unmodifiableSet( p_rules );
+    }
+
+    /**
+     * returns the content hash
+     *
+     * @return hash of the script and actions
+     */
+    public final String hash()
+    {
+        return m_hash;
+    }
+
+    /**
+     * returns the initial goal
+     *
+     * @return literal or null
+     */
+    public final ILiteral initialgoal()
+    {
+        return m_initialgoal;
+    }
+
+    @Override
+    public final Set<ILiteral> initialbeliefs()
+    {
+        return m_initialbeliefs;
+    }
+
+    @Override
+    public final Set<IPlan> plans()
+    {
+        return m_plans;
+    }
+
+    @Override
+    public final Set<IRule> rules()
+    {
+        return m_rules;
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format( "{0} [{1}]: {2} / {3} / {4}", m_hash, m_initialgoal, m_initialbeliefs, m_plans, m_rules );
+    }
+
+    /**
+     * writes the image into a stream
+     *
+     * @param p_stream output stream
+     * @throws IOException on stream error
+     */
+    public final void write( final OutputStream p_stream ) throws IOException
+    {
+        final ObjectOutputStream l_stream = new ObjectOutputStream( p_stream );
+
+        l_stream.writeInt( MAGIC );
+        l_stream.writeInt( VERSION );
+        l_stream.writeUTF( m_hash );
+        l_stream.writeObject( m_initialgoal );
+        l_stream.writeObject( new ArrayList<>( m_initialbeliefs ) );
+        l_stream.writeObject( new ArrayList<>( m_plans ) );
+        l_stream.writeObject( new ArrayList<>( m_rules ) );
+        l_stream.flush();
+    }
+
+    /**
+     * writes the image into a file, the file
+     * is replaced after the image is written completely
+     *
+     * @param p_image image file
+     * @throws IOException on file error
+     */
+    public final void write( final Path p_image ) throws IOException
+    {
+        final Path l_directory = p_image.toAbsolutePath().getParent();
+        if ( l_directory != null )
+            Files.createDirectories( l_directory );
+
+        final Path l_temporary = Files.createTempFile( l_directory, p_image.getFileName().toString(), ".tmp" );
+        try
+        {
+            try ( final OutputStream l_stream = new BufferedOutputStream( Files.newOutputStream( l_temporary ) ) )
+            {
+                this.write( l_stream );
+            }
+            Files.move( l_temporary, p_image, StandardCopyOption.REPLACE_EXISTING );
+        }
+        finally
+        {
+            Files.deleteIfExists( l_temporary );
+        }
+    }
+
+    /**
+     * reads an image from a stream
+     *
+     * @param p_stream input stream
+     * @param p_actions set with actions
+     * @return image
+     * @throws IOException on stream error or if the actions cannot be bound
+     * @throws ClassNotFoundException on unknown class
+     */
+    public static CAgentImage read( final InputStream p_stream, final Set<IAction> p_actions ) throws IOException, ClassNotFoundException
+    {
+        final ObjectInputStream l_stream = new CActionInputStream( p_stream, p_actions );
+        return CAgentImage.read( l_stream, CAgentImage.header( l_stream ) );
+    }
+
+    /**
+     * parses an agent script
+     *
+     * @param p_stream script stream
+     * @param p_actions set with actions
+     * @return image
+     * @throws Exception on parsing error
+     */
+    public static CAgentImage parse( final InputStream p_stream, final Set<IAction> p_actions ) throws Exception
+    {
+        final byte[] l_script = IOUtils.toByteArray( p_stream );
+        return CAgentImage.parse( l_script, CAgentImage.hash( l_script, p_actions ), p_actions );
+    }
+
+    /**
+     * loads an agent script with an image, the image is used
+     * if the content hash matches, otherwise the script is parsed
+     * and the image is rebuild
+     *
+     * @param p_stream script stream
+     * @param p_actions set with actions
+     * @param p_image image file
+     * @return image
+     * @throws Exception on parsing or file error
+     */
+    public static CAgentImage load( final InputStream p_stream, final Set<IAction> p_actions, final Path p_image ) throws Exception
+    {
+        final byte[] l_script = IOUtils.toByteArray( p_stream );
+        final String l_hash = CAgentImage.hash( l_script, p_actions );
+
+        if ( Files.isRegularFile( p_image ) )
+        {
+            try ( final ObjectInputStream l_stream = new CActionInputStream( new BufferedInputStream( Files.newInputStream( p_image ) ), p_actions ) )
+            {
+                if ( l_hash.equals( CAgentImage.header( l_stream ) ) )
+                    return CAgentImage.read( l_stream, l_hash );
+            }
+            catch ( final IOException | ClassNotFoundException l_exception )
+            {
+                LOGGER.warning( CCommon.languagestring( CAgentImage.class, "imageinvalid", p_image, l_exception ) );
+            }
+        }
+
+        final CAgentImage l_image = CAgentImage.parse( l_script, l_hash, p_actions );
+        l_image.write( p_image );
+        return l_image;
+    }
+
+    /**
+     * calculates the content hash of a script, the action signatures
+     * and the build version, so an image of another build is rebuilt
+     *
+     * @param p_script script data
+     * @param p_actions set with actions
+     * @return hexadecimal hash
+     */
+    public static String hash( final byte[] p_script, final Set<IAction> p_actions )
+    {
+        try
+        {
+            final MessageDigest l_digest = MessageDigest.getInstance( DIGEST );
+            l_digest.update( p_script );
+            Stream.of( "version", "buildnumber", "buildcommit" )
+                  .map( i -> CCommon.configuration().getString( i ) )
+                  .forEachOrdered( i -> l_digest.update( ( "\n" + i ).getBytes( StandardCharsets.UTF_8 ) ) );
+            p_actions.stream()
+                     .map( i -> i.name().getPath() + "/" + i.minimalArgumentNumber() )
+                     .sorted()
+                     .forEachOrdered( i -> l_digest.update( ( "\n" + i ).getBytes( StandardCharsets.UTF_8 ) ) );
+
+            return String.format( "%064x", new BigInteger( 1, l_digest.digest() ) );
+        }
+        catch ( final NoSuchAlgorithmException l_exception )
+        {
+            throw new CIllegalStateException( l_exception );
+        }
+    }
+
+    /**
+     * parses the script data
+     *
+     * @param p_script script data
+     * @param p_hash content hash
+     * @param p_actions set with actions
+     * @return image
+     * @throws Exception on parsing error
+     */
+    private static CAgentImage parse( final byte[] p_script, final String p_hash, final Set<IAction> p_actions ) throws Exception
+    {
+        final IASTVisitorAgent l_visitor = new CParserAgent( p_actions ).parse( new ByteArrayInputStream( p_script ) );
+        return new CAgentImage( p_hash, l_visitor.initialgoal(), l_visitor.initialbeliefs(), l_visitor.plans(), l_visitor.rules() );
+    }
+
+    /**
+     * reads and checks the image header
+     *
+     * @param p_stream input stream
+     * @return content hash
+     * @throws IOException on stream error or wrong format
+     */
+    private static String header( final ObjectInputStream p_stream ) throws IOException
+    {
+        if ( ( p_stream.readInt() != MAGIC ) || ( p_stream.readInt() != VERSION ) )
+            throw new StreamCorruptedException( CCommon.languagestring( CAgentImage.class, "imageformat" ) );
+
+        return p_stream.readUTF();
+    }
+
+    /**
+     * reads the image content
+     *
+     * @param p_stream input stream
+     * @param p_hash content hash
+     * @return image
+     * @throws IOException on stream error
+     * @throws ClassNotFoundException on unknown class
+     */
+    @SuppressWarnings( "unchecked" )
+    private static CAgentImage read( final ObjectInputStream p_stream, final String p_hash ) throws IOException, ClassNotFoundException
+    {
+        return new CAgentImage(
+            p_hash,
+            (ILiteral) p_stream.readObject(),
+            new HashSet<>( (List<ILiteral>) p_stream.readObject() ),
+            new HashSet<>( (List<IPlan>) p_stream.readObject() ),
+            new HashSet<>( (List<IRule>) p_stream.readObject() )
+        );
+    }
+
+}
@@ -25,6 +25,7 @@ package org.lightjason.agentspeak.language;
 
 import com.google.common.base.Charsets;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.HashMultiset;
 import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSetMultimap;
@@ -46,10 +47,10 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -64,6 +65,10 @@ import java.util.stream.Stream;
  */
 public final class CLiteral implements ILiteral
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2223913183306510969L;
     /**
      * negation symbol
      */
@@ -108,6 +113,10 @@ public final class CLiteral implements ILiteral
      * hash of the values
      */
     private final int m_valuehash;
+    /**
+     * pool of the literal, if the literal is pooled
+     */
+    private transient volatile ITermPool m_pool;
 
 
     /**
@@ -125,8 +134,9 @@ public final class CLiteral implements ILiteral
     {
         m_at = p_at;
         m_negated = p_negated;
-        // create a full copy of the functor, because concurrency modification
-        m_functor = new CPath( p_functor );
+        // create a full copy of a mutable functor, because concurrency modification,
+        // an immutable functor can be shared
+        m_functor = p_functor instanceof CPath ? p_functor : new CPath( p_functor );
 
         // create immutable structures
         final Multimap<IPath, ILiteral> l_annotations = HashMultimap.create();
@@ -137,9 +147,10 @@ public final class CLiteral implements ILiteral
         p_values.forEach( i -> l_values.put( i.fqnfunctor(), i ) );
         m_values = ImmutableListMultimap.copyOf( l_values );
 
-        m_orderedvalues = Collections.unmodifiableList( new LinkedList<>( p_values ) );
+        m_orderedvalues = Collections.unmodifiableList( new ArrayList<>( p_values ) );
 
-        // calculates hash value
+        // calculates hash value, values are weighted by their position, so permuted
+        // argument lists differ, collisions are resolved by the structural equality
         m_hash = m_functor.hashCode()
                  ^ IntStream.range( 0, m_orderedvalues.size() ).boxed().mapToInt( i -> ( i + 1 ) * m_orderedvalues.get( i ).hashCode() ).sum()
                  ^ m_annotations.values().stream().mapToInt( Object::hashCode ).sum()
@@ -266,6 +277,12 @@ public final class CLiteral implements ILiteral
                            .flatMap( i -> ( (ILiteral) i ).values( Arrays.copyOfRange( p_path, 1, p_path.length ) ) );
     }
 
+    @Override
+    public final List<ITerm> orderedvaluelist()
+    {
+        return m_orderedvalues;
+    }
+
     @Override
     public final Stream<ITerm> orderedvalues( final IPath... p_path )
     {
@@ -339,7 +356,7 @@ public final class CLiteral implements ILiteral
     @SuppressWarnings( "unchecked" )
     public final ILiteral unify( final IContext p_context )
     {
-        return new CLiteral(
+        return this.pooled( new CLiteral(
             m_at,
             m_negated,
             m_functor,
@@ -356,13 +373,13 @@ public final class CLiteral implements ILiteral
                            } )
                            .collect( Collectors.toList() ),
             m_annotations.values().stream().map( i -> i.unify( p_context ) ).collect( Collectors.toSet() )
-        );
+        ) );
     }
 
     @Override
     public final ILiteral allocate( final IContext p_context )
     {
-        return new CLiteral(
+        return this.pooled( new CLiteral(
             m_at,
             m_negated,
             m_functor,
@@ -381,7 +398,7 @@ public final class CLiteral implements ILiteral
                            } )
                            .collect( Collectors.toList() ),
             m_annotations.values().stream().map( i -> i.unify( p_context ) ).collect( Collectors.toSet() )
-        );
+        ) );
     }
 
     @Override
@@ -418,35 +435,79 @@ public final class CLiteral implements ILiteral
     @Override
     public final boolean equals( final Object p_object )
     {
-        return ( p_object != null ) && ( p_object instanceof ILiteral ) && ( this.hashCode() == p_object.hashCode() );
+        return ( this == p_object )
+               || ( p_object instanceof ILiteral ) && ( this.hashCode() == p_object.hashCode() ) && ( this.equalstructure( (ILiteral) p_object ) );
+    }
+
+    /**
+     * compares the structure of the literals
+     *
+     * @param p_literal literal
+     * @return structural equality
+     */
+    private boolean equalstructure( final ILiteral p_literal )
+    {
+        if ( ( m_negated != p_literal.negated() ) || ( m_at != p_literal.hasAt() ) || ( !m_functor.equals( p_literal.fqnfunctor() ) ) )
+            return false;
+
+        if ( p_literal instanceof CLiteral )
+            return m_orderedvalues.equals( ( (CLiteral) p_literal ).m_orderedvalues ) && m_annotations.equals( ( (CLiteral) p_literal ).m_annotations );
+
+        return m_orderedvalues.equals( p_literal.orderedvalues().collect( Collectors.toList() ) )
+               && HashMultiset.create( m_annotations.values() ).equals( p_literal.annotations().collect( Collectors.toCollection( HashMultiset::create ) ) );
     }
 
     @Override
     public final ILiteral shallowcopy( final IPath... p_prefix )
     {
-        return ( p_prefix == null ) || ( p_prefix.length == 0 )
+        return this.pooled(
+            ( p_prefix == null ) || ( p_prefix.length == 0 )
 
-               ? new CLiteral(
-                   m_at, m_negated, m_functor,
-                   m_values.values(),
-                   m_annotations.values()
-               )
+            ? new CLiteral(
+                m_at, m_negated, m_functor,
+                m_values.values(),
+                m_annotations.values()
+            )
 
-               : new CLiteral(
-                   m_at, m_negated, p_prefix[0].append( m_functor ),
-                   m_values.values(),
-                   m_annotations.values()
-               );
+            : new CLiteral(
+                m_at, m_negated, p_prefix[0].append( m_functor ),
+                m_values.values(),
+                m_annotations.values()
+            )
+        );
     }
 
     @Override
     public final ILiteral shallowcopysuffix()
     {
-        return new CLiteral(
+        return this.pooled( new CLiteral(
             m_at, m_negated, CPath.from( m_functor.getSuffix() ),
             m_values.values(),
             m_annotations.values()
-        );
+        ) );
+    }
+
+    /**
+     * sets the pool of the literal
+     *
+     * @param p_pool pool, which contains the literal
+     */
+    final void pool( final ITermPool p_pool )
+    {
+        m_pool = p_pool;
+    }
+
+    /**
+     * interns a literal, which is created from this literal,
+     * into the pool of this literal
+     *
+     * @param p_literal created literal
+     * @return pooled literal or input literal
+     */
+    private ILiteral pooled( final ILiteral p_literal )
+    {
+        final ITermPool l_pool = m_pool;
+        return l_pool == null ? p_literal : l_pool.intern( p_literal );
     }
 
     @Override
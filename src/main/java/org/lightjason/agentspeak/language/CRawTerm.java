@@ -33,6 +33,7 @@ import org.lightjason.agentspeak.error.CIllegalStateException;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
 import java.util.Arrays;
+import java.util.Objects;
 
 
 /**
@@ -46,6 +47,10 @@ public final class CRawTerm<T> implements IRawTerm<T>
      * empty raw term
      */
     public static final ITerm EMPTY = new CRawTerm<>( null );
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4247516849305313794L;
     /**
      * value data
      */
@@ -106,20 +111,49 @@ public final class CRawTerm<T> implements IRawTerm<T>
         return m_hashcode;
     }
 
+    /**
+     * resolves the empty term on deserialization,
+     * because its hash value is object-based
+     *
+     * @return empty term or this
+     */
+    private Object readResolve()
+    {
+        return m_value == null ? EMPTY : this;
+    }
+
     @Override
     @SuppressWarnings( "unchecked" )
     @SuppressFBWarnings( "EQ_CHECK_FOR_OPERAND_NOT_COMPATIBLE_WITH_THIS" )
     public final boolean equals( final Object p_object )
     {
-        return ( p_object != null )
-               && (
-                   (
-                        ( p_object instanceof IVariable<?> )
-                        && ( ( (IVariable<?>) p_object ).allocated() )
-                        && ( this.hashCode() == ( (IVariable<?>) p_object ).raw().hashCode() )
-                   )
-                   || ( ( p_object instanceof ITerm ) && ( this.hashCode() == p_object.hashCode() ) )
-               );
+        return ( this == p_object )
+               || ( p_object != null )
+                  && (
+                      (
+                          ( p_object instanceof IVariable<?> )
+                          && ( ( (IVariable<?>) p_object ).allocated() )
+                          && ( this.hashCode() == ( (IVariable<?>) p_object ).raw().hashCode() )
+                          && ( this.equalvalue( ( (IVariable<?>) p_object ).raw() ) )
+                      )
+                      || ( ( p_object instanceof IRawTerm<?> ) && ( this.hashCode() == p_object.hashCode() ) && ( this.equalvalue( ( (IRawTerm<?>) p_object ).raw() ) ) )
+                  );
+    }
+
+    /**
+     * compares the raw value structurally, numbers
+     * of different types are equal on equal numeric value
+     *
+     * @param p_value other value
+     * @return equality
+     */
+    private boolean equalvalue( final Object p_value )
+    {
+        if ( Objects.equals( m_value, p_value ) )
+            return true;
+
+        return ( m_value instanceof Number ) && ( p_value instanceof Number )
+               && ( Double.compare( ( (Number) m_value ).doubleValue(), ( (Number) p_value ).doubleValue() ) == 0 );
     }
 
     @Override
@@ -0,0 +1,258 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language;
+
+import com.google.common.collect.ImmutableSet;
+import org.lightjason.agentspeak.common.CSymbolTable;
+import org.lightjason.agentspeak.common.IPath;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.MessageFormat;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+
+/**
+ * weak and concurrent interning pool of ground literals and raw terms,
+ * pooled terms are compared structurally and are removed if they are
+ * not referenced anymore, raw terms are pooled only if the value is immutable,
+ * literals, which are created from a pooled literal, are interned on creation,
+ * so equal literals are mostly compared by reference
+ */
+public final class CTermPool implements ITermPool
+{
+    /**
+     * immutable raw value types
+     */
+    private static final Set<Class<?>> IMMUTABLE = ImmutableSet.of(
+        String.class, Boolean.class, Character.class,
+        Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+        BigInteger.class, BigDecimal.class
+    );
+    /**
+     * reference queue of removed terms
+     */
+    private final ReferenceQueue<ITerm> m_queue = new ReferenceQueue<>();
+    /**
+     * pool
+     */
+    private final ConcurrentMap<CReference, CReference> m_pool = new ConcurrentHashMap<>();
+
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public final <T extends ITerm> T intern( final T p_term )
+    {
+        if ( !CTermPool.internable( p_term ) )
+            return p_term;
+
+        this.expunge();
+        final CReference l_reference = new CReference( p_term, m_queue );
+        while ( true )
+        {
+            final CReference l_pooled = m_pool.putIfAbsent( l_reference, l_reference );
+            if ( l_pooled == null )
+            {
+                if ( p_term instanceof CLiteral )
+                    ( (CLiteral) p_term ).pool( this );
+                return p_term;
+            }
+
+            final ITerm l_term = l_pooled.get();
+            if ( l_term != null )
+                return (T) l_term;
+
+            m_pool.remove( l_pooled, l_pooled );
+        }
+    }
+
+    @Override
+    public final int size()
+    {
+        this.expunge();
+        return m_pool.size();
+    }
+
+    @Override
+    public final ITermPool clear()
+    {
+        m_pool.clear();
+        this.expunge();
+        return this;
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format( "{0} [{1}]", super.toString(), m_pool.size() );
+    }
+
+    /**
+     * removes references of collected terms
+     */
+    private void expunge()
+    {
+        for ( Reference<? extends ITerm> l_reference = m_queue.poll(); l_reference != null; l_reference = m_queue.poll() )
+            m_pool.remove( l_reference, l_reference );
+    }
+
+    /**
+     * checks if a term can be pooled
+     *
+     * @param p_term term
+     * @return term is a ground literal or a raw term with immutable value
+     */
+    private static boolean internable( final ITerm p_term )
+    {
+        if ( p_term instanceof IRawTerm<?> )
+            return ( p_term.raw() == null ) || ( IMMUTABLE.contains( p_term.raw().getClass() ) );
+
+        if ( !( p_term instanceof ILiteral ) )
+            return false;
+
+        final ILiteral l_literal = (ILiteral) p_term;
+        return l_literal.orderedvalues().allMatch( CTermPool::internable ) && l_literal.annotations().allMatch( CTermPool::internable );
+    }
+
+    /**
+     * structural equality of pooled terms
+     *
+     * @param p_lhs left-hand term
+     * @param p_rhs right-hand term
+     * @return equality
+     */
+    private static boolean equal( final ITerm p_lhs, final ITerm p_rhs )
+    {
+        if ( p_lhs == p_rhs )
+            return true;
+
+        if ( ( p_lhs.getClass() != p_rhs.getClass() ) || ( p_lhs.hashCode() != p_rhs.hashCode() ) )
+            return false;
+
+        if ( p_lhs instanceof IRawTerm<?> )
+        {
+            final Object l_lhs = p_lhs.raw();
+            final Object l_rhs = p_rhs.raw();
+            return l_lhs == null
+                   ? l_rhs == null
+                   : ( l_rhs != null ) && ( l_lhs.getClass() == l_rhs.getClass() ) && ( l_lhs.equals( l_rhs ) );
+        }
+
+        final ILiteral l_lhs = (ILiteral) p_lhs;
+        final ILiteral l_rhs = (ILiteral) p_rhs;
+        return ( l_lhs.negated() == l_rhs.negated() )
+               && ( l_lhs.hasAt() == l_rhs.hasAt() )
+               && ( CTermPool.equal( l_lhs.fqnfunctor(), l_rhs.fqnfunctor() ) )
+               && ( CTermPool.equal( l_lhs.orderedvalues(), l_rhs.orderedvalues() ) )
+               && ( CTermPool.equal( l_lhs.annotations(), l_rhs.annotations() ) );
+    }
+
+    /**
+     * equality of functors, the symbol identifiers are
+     * compared if both functors are within the symbol table
+     *
+     * @param p_lhs left-hand functor
+     * @param p_rhs right-hand functor
+     * @return equality
+     */
+    private static boolean equal( final IPath p_lhs, final IPath p_rhs )
+    {
+        final int l_lhs = p_lhs.symbol();
+        final int l_rhs = p_rhs.symbol();
+        return ( l_lhs == CSymbolTable.UNKNOWN ) || ( l_rhs == CSymbolTable.UNKNOWN )
+               ? p_lhs.equals( p_rhs )
+               : l_lhs == l_rhs;
+    }
+
+    /**
+     * structural equality of term sequences
+     *
+     * @param p_lhs left-hand terms
+     * @param p_rhs right-hand terms
+     * @return equality
+     */
+    private static boolean equal( final Stream<? extends ITerm> p_lhs, final Stream<? extends ITerm> p_rhs )
+    {
+        final Iterator<? extends ITerm> l_lhs = p_lhs.iterator();
+        final Iterator<? extends ITerm> l_rhs = p_rhs.iterator();
+
+        while ( l_lhs.hasNext() && l_rhs.hasNext() )
+            if ( !CTermPool.equal( l_lhs.next(), l_rhs.next() ) )
+                return false;
+
+        return !l_lhs.hasNext() && !l_rhs.hasNext();
+    }
+
+
+    /**
+     * weak reference of a pooled term
+     */
+    private static final class CReference extends WeakReference<ITerm>
+    {
+        /**
+         * hash code of the term
+         */
+        private final int m_hash;
+
+        /**
+         * ctor
+         *
+         * @param p_term term
+         * @param p_queue reference queue
+         */
+        CReference( final ITerm p_term, final ReferenceQueue<ITerm> p_queue )
+        {
+            super( p_term, p_queue );
+            m_hash = p_term.hashCode();
+        }
+
+        @Override
+        public final int hashCode()
+        {
+            return m_hash;
+        }
+
+        @Override
+        public final boolean equals( final Object p_object )
+        {
+            if ( this == p_object )
+                return true;
+
+            if ( !( p_object instanceof CReference ) || ( m_hash != p_object.hashCode() ) )
+                return false;
+
+            final ITerm l_lhs = this.get();
+            final ITerm l_rhs = ( (CReference) p_object ).get();
+            return ( l_lhs != null ) && ( l_rhs != null ) && ( CTermPool.equal( l_lhs, l_rhs ) );
+        }
+    }
+
+}
@@ -26,6 +26,7 @@ package org.lightjason.agentspeak.language;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.execution.IContext;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 
@@ -52,6 +53,14 @@ public interface ILiteral extends ITerm, IShallowCopy<ILiteral>, Comparable<ILit
      */
     Stream<ITerm> orderedvalues( final IPath... p_path );
 
+    /**
+     * returns the ordered values as
+     * list with random access
+     *
+     * @return unmodifiable list
+     */
+    List<ITerm> orderedvaluelist();
+
     /**
      * returns a stream over annotation items
      *
@@ -25,11 +25,13 @@ package org.lightjason.agentspeak.language;
 
 import org.lightjason.agentspeak.common.IPath;
 
+import java.io.Serializable;
+
 
 /**
  * term interface
  */
-public interface ITerm extends IDeepCopy<ITerm>
+public interface ITerm extends Serializable, IDeepCopy<ITerm>
 {
 
     /**
@@ -0,0 +1,82 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language;
+
+
+/**
+ * interning pool of terms, equal terms
+ * are shared as one instance
+ */
+public interface ITermPool
+{
+    /**
+     * empty pool, which does not intern any term
+     */
+    ITermPool EMPTY = new ITermPool()
+    {
+        @Override
+        public final <T extends ITerm> T intern( final T p_term )
+        {
+            return p_term;
+        }
+
+        @Override
+        public final int size()
+        {
+            return 0;
+        }
+
+        @Override
+        public final ITermPool clear()
+        {
+            return this;
+        }
+    };
+
+
+    /**
+     * returns the pooled instance of a term,
+     * terms which cannot be pooled are returned unchanged
+     *
+     * @param p_term term
+     * @return pooled term or input term
+     * @tparam T term type
+     */
+    <T extends ITerm> T intern( final T p_term );
+
+    /**
+     * number of pooled terms
+     *
+     * @return size
+     */
+    int size();
+
+    /**
+     * removes all pooled terms
+     *
+     * @return self reference
+     */
+    ITermPool clear();
+
+}
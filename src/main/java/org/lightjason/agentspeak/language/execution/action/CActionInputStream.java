@@ -0,0 +1,113 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.action;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.common.IPath;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * object input stream, which binds the
+ * actions on deserialization of proxy actions,
+ * only classes of the agentspeak, java.lang, java.util
+ * and guava collection packages can be deserialized
+ */
+public final class CActionInputStream extends ObjectInputStream
+{
+    /**
+     * packages of the deserializable classes
+     */
+    private static final Set<String> PACKAGES = Collections.unmodifiableSet(
+        Stream.of( CCommon.PACKAGEROOT + ".", "java.lang.", "java.util.", "com.google.common.collect." ).collect( Collectors.toSet() )
+    );
+    /**
+     * map with actions
+     */
+    private final Map<IPath, IAction> m_actions;
+
+    /**
+     * ctor
+     *
+     * @param p_stream input stream
+     * @param p_actions set with actions
+     * @throws IOException on stream error
+     */
+    public CActionInputStream( final InputStream p_stream, final Set<IAction> p_actions ) throws IOException
+    {
+        super( p_stream );
+        m_actions = Collections.unmodifiableMap( p_actions.stream().collect( Collectors.toMap( IAction::name, i -> i ) ) );
+    }
+
+    /**
+     * returns the actions
+     *
+     * @return unmodifiable map with actions
+     */
+    public final Map<IPath, IAction> actions()
+    {
+        return m_actions;
+    }
+
+    @Override
+    protected final Class<?> resolveClass( final ObjectStreamClass p_class ) throws IOException, ClassNotFoundException
+    {
+        CActionInputStream.allowed( p_class.getName() );
+        return super.resolveClass( p_class );
+    }
+
+    @Override
+    protected final Class<?> resolveProxyClass( final String[] p_interfaces ) throws IOException, ClassNotFoundException
+    {
+        for ( final String l_interface : p_interfaces )
+            CActionInputStream.allowed( l_interface );
+        return super.resolveProxyClass( p_interfaces );
+    }
+
+    /**
+     * checks if a class can be deserialized
+     *
+     * @param p_name class name
+     * @throws InvalidClassException if the class is not allowed
+     */
+    private static void allowed( final String p_name ) throws InvalidClassException
+    {
+        // array names are encoded as [[Lname; or [I, primitive arrays are allowed
+        final String l_name = p_name.replaceFirst( "^\\[+(L(.+);)?", "$2" );
+        if ( !l_name.isEmpty() && PACKAGES.stream().noneMatch( l_name::startsWith ) )
+            throw new InvalidClassException( p_name, CCommon.languagestring( CActionInputStream.class, "classnotallowed" ) );
+    }
+
+}
@@ -39,6 +39,10 @@ import java.util.List;
  */
 public final class CBeliefAction extends IBaseExecution<ILiteral>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 372932839625277689L;
     /**
      * running action
      */
@@ -81,6 +85,9 @@ public final class CBeliefAction extends IBaseExecution<ILiteral>
                 throw new IllegalArgumentException( CCommon.languagestring( this, "unknownaction", m_action ) );
         }
 
+        // tabled rule answers can depend on the modified belief
+        p_context.agent().ruletable().clear();
+
         return CFuzzyValue.from( true );
     }
 
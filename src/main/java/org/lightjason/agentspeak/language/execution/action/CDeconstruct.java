@@ -45,6 +45,10 @@ import java.util.stream.Stream;
  */
 public final class CDeconstruct<M extends ITerm> extends IBaseExecution<List<IVariable<?>>>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1206742653972758988L;
     /**
      * right-hand argument (literal)
      */
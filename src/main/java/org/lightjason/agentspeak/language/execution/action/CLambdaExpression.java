@@ -51,6 +51,10 @@ import java.util.stream.Stream;
  */
 public final class CLambdaExpression extends IBaseExecution<IVariable<?>>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4504515147506205767L;
     /**
      * initialization expression
      */
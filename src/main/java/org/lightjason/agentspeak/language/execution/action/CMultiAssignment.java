@@ -45,6 +45,10 @@ import java.util.stream.Stream;
  */
 public final class CMultiAssignment<M extends IExecution> extends IBaseExecution<List<IVariable<?>>>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 1794200022066718788L;
     /**
      * right-hand argument
      */
@@ -40,6 +40,10 @@ import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
 import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.text.MessageFormat;
 import java.util.Collection;
 import java.util.Collections;
@@ -59,6 +63,14 @@ import java.util.stream.Stream;
  */
 public final class CProxyAction implements IExecution
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6147601383630218504L;
+    /**
+     * action literal
+     */
+    private final ILiteral m_literal;
     /**
      * execution
      */
@@ -78,6 +90,7 @@ public final class CProxyAction implements IExecution
     {
         // create cache for scoring action and define action
         final Multiset<IAction> l_scoringcache = HashMultiset.create();
+        m_literal = p_literal;
         m_execution = new CActionWrapper( p_literal, p_actions, l_scoringcache );
 
         // scoring set is created so build-up to an unmodifieable set
@@ -111,11 +124,101 @@ public final class CProxyAction implements IExecution
         return MessageFormat.format( "{0}", m_execution );
     }
 
+    /**
+     * actions cannot be serialized, so the
+     * proxy is stored with the action literal only
+     *
+     * @return serialization proxy
+     */
+    private Object writeReplace()
+    {
+        return new CSerializationProxy( m_literal );
+    }
+
+    /**
+     * proxy object must be deserialized with the serialization proxy
+     *
+     * @param p_stream input stream
+     * @throws InvalidObjectException is always thrown
+     */
+    private void readObject( final ObjectInputStream p_stream ) throws InvalidObjectException
+    {
+        throw new InvalidObjectException( org.lightjason.agentspeak.common.CCommon.languagestring( this, "serializationproxy" ) );
+    }
+
+    /**
+     * serialization proxy, which binds the
+     * actions of the input stream on deserialization
+     */
+    private static final class CSerializationProxy implements Serializable
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 6786905968289431967L;
+        /**
+         * action literal
+         */
+        private final ILiteral m_literal;
+        /**
+         * actions of the input stream
+         */
+        private transient Map<IPath, IAction> m_actions;
+
+        /**
+         * ctor
+         *
+         * @param p_literal action literal
+         */
+        CSerializationProxy( final ILiteral p_literal )
+        {
+            m_literal = p_literal;
+        }
+
+        /**
+         * reads the proxy and the actions of the stream
+         *
+         * @param p_stream input stream
+         * @throws IOException on stream error
+         * @throws ClassNotFoundException on unknown class
+         */
+        private void readObject( final ObjectInputStream p_stream ) throws IOException, ClassNotFoundException
+        {
+            if ( !( p_stream instanceof CActionInputStream ) )
+                throw new InvalidObjectException( org.lightjason.agentspeak.common.CCommon.languagestring( this, "actionstream" ) );
+
+            p_stream.defaultReadObject();
+            m_actions = ( (CActionInputStream) p_stream ).actions();
+        }
+
+        /**
+         * creates the proxy action with the bound actions
+         *
+         * @return proxy action
+         * @throws InvalidObjectException if the action cannot be bound
+         */
+        private Object readResolve() throws InvalidObjectException
+        {
+            try
+            {
+                return new CProxyAction( m_actions, m_literal );
+            }
+            catch ( final CIllegalArgumentException l_exception )
+            {
+                throw new InvalidObjectException( l_exception.getMessage() );
+            }
+        }
+    }
+
     /**
      * inner class for encapsulating term values (variable / raw terms)
      */
     private static class CTermWrapper<T extends ITerm> implements IExecution
     {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 4168690137814995415L;
         /**
          * term value
          */
@@ -190,6 +293,10 @@ public final class CProxyAction implements IExecution
      */
     private static class CActionWrapper implements IExecution
     {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 3140424013815880754L;
         /**
          * parallel execution flag
          */
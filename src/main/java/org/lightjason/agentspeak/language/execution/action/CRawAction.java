@@ -43,6 +43,10 @@ import java.util.stream.Stream;
  */
 public final class CRawAction<T> extends IBaseExecution<T>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6394112673153602789L;
     /**
      * ctor
      *
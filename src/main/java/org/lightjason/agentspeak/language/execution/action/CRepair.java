@@ -39,6 +39,10 @@ import java.util.stream.Stream;
  */
 public class CRepair extends IBaseExecution<IExecution>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2613286279108388244L;
     /**
      * fallback execution
      */
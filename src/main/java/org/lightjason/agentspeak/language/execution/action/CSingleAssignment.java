@@ -43,6 +43,10 @@ import java.util.stream.Stream;
  */
 public final class CSingleAssignment<M extends IExecution> extends IBaseExecution<IVariable<?>>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -574631977849714446L;
     /**
      * right-hand argument
      */
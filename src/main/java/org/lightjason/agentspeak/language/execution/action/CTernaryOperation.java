@@ -43,6 +43,10 @@ import java.util.stream.Stream;
  */
 public final class CTernaryOperation extends IBaseExecution<IExpression>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3529580538020739053L;
 
     /**
      * true execution block
@@ -40,6 +40,10 @@ import java.util.stream.Stream;
  */
 public abstract class IBaseExecution<T> implements IExecution
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8639980110295964514L;
     /**
      * data
      */
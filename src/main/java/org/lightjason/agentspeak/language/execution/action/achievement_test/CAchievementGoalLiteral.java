@@ -39,6 +39,10 @@ import java.util.List;
  */
 public final class CAchievementGoalLiteral extends IAchievementGoal<ILiteral>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1919658940112692558L;
 
     /**
      * ctor
@@ -41,6 +41,10 @@ import java.util.stream.Stream;
  */
 public final class CAchievementGoalVariable extends IAchievementGoal<IVariableEvaluate>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5983412280465629895L;
 
     /**
      * ctor
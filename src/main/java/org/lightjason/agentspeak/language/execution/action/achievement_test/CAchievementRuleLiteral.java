@@ -43,6 +43,10 @@ import java.util.stream.Stream;
  */
 public final class CAchievementRuleLiteral extends IAchievementRule<ILiteral>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 8584358609422477993L;
 
     /**
      * ctor
@@ -40,6 +40,10 @@ import java.util.stream.Stream;
  */
 public final class CAchievementRuleVariable extends IAchievementRule<IVariableEvaluate>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4510780810445809108L;
     /**
      * ctor
      *
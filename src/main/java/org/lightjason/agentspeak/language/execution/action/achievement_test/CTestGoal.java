@@ -38,6 +38,10 @@ import java.util.List;
  */
 public final class CTestGoal extends ITest
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3972712537268756293L;
 
     /**
      * ctor
@@ -37,6 +37,10 @@ import java.util.List;
  */
 public final class CTestRule extends ITest
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3421406163592932854L;
     /**
      * ctor
      *
@@ -35,6 +35,10 @@ import org.lightjason.agentspeak.language.execution.action.IBaseExecution;
  */
 abstract class IAchievementGoal<T extends ITerm> extends IBaseExecution<T>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 1941818582567304079L;
     /**
      * flag to run immediately
      */
@@ -31,12 +31,14 @@ import org.lightjason.agentspeak.language.execution.IExecution;
 import org.lightjason.agentspeak.language.execution.action.IBaseExecution;
 import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
 import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.instantiable.rule.CRuleIndex;
 import org.lightjason.agentspeak.language.instantiable.rule.IRule;
 import org.lightjason.agentspeak.language.variable.IRelocateVariable;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 
@@ -45,6 +47,10 @@ import java.util.Set;
  */
 abstract class IAchievementRule<T extends ITerm> extends IBaseExecution<T>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3073184228920407603L;
     /**
      * ctor
      *
@@ -66,23 +72,47 @@ abstract class IAchievementRule<T extends ITerm> extends IBaseExecution<T>
     @SuppressWarnings( "unchecked" )
     protected static IFuzzyValue<Boolean> execute( final IContext p_context, final ILiteral p_value, final boolean p_parallel )
     {
-        // read current rules, if not exists execution fails
-        final Collection<IRule> l_rules = p_context.agent().rules().get( p_value.fqnfunctor() );
-        if ( l_rules == null )
-            return CFuzzyValue.from( false );
-
         // first step is the unification of the caller literal, so variables will be set from the current execution context
         final ILiteral l_unified = p_value.allocate( p_context );
 
-        // second step execute backtracking rules sequential / parallel
+        // read the clauses, which can unify the caller literal, from the current rule snapshot, if not exists execution fails
+        final CRuleIndex l_index = p_context.agent().rules().index();
+        final List<IRule> l_rules = l_index.candidates( l_unified );
+        if ( l_rules.isEmpty() )
+            return CFuzzyValue.from( false );
+
+        // second step execute backtracking rules sequential / parallel, if the rule is tabled the answer is read from the table
+        return l_index.tabling( l_unified.fqnfunctor() )
+               ? p_context.agent().ruletable().execute( p_context, l_unified, () -> IAchievementRule.execute( p_context, l_index, l_rules, l_unified, p_parallel ) )
+               : IAchievementRule.execute( p_context, l_index, l_rules, l_unified, p_parallel );
+    }
+
+    /**
+     * executes the rules with backtracking
+     *
+     * @param p_context execution context
+     * @param p_index rule snapshot
+     * @param p_rules rules
+     * @param p_unified allocated execution literal
+     * @param p_parallel parallel execution
+     * @return boolean result
+     */
+    private static IFuzzyValue<Boolean> execute( final IContext p_context, final CRuleIndex p_index, final Collection<IRule> p_rules,
+                                                 final ILiteral p_unified, final boolean p_parallel
+    )
+    {
         return (
             p_parallel
-            ? l_rules.parallelStream()
-            : l_rules.stream()
+            ? p_rules.parallelStream()
+            : p_rules.stream()
         ).map( i -> {
 
             // instantiate variables by unification of the rule literal
-            final Set<IVariable<?>> l_variables = p_context.agent().unifier().literal( i.getIdentifier(), l_unified );
+            final Set<IVariable<?>> l_variables = p_context.agent().unifier().literal( i.getIdentifier(), p_unified );
+
+            // a rule, which literal cannot be unified completely, is skipped without instantiating a context
+            if ( l_variables.size() != p_index.variables( i ) )
+                return new ImmutableTriple<>( false, CFuzzyValue.from( false ), l_variables );
 
             // execute rule
             final IFuzzyValue<Boolean> l_return = i.execute(
@@ -32,6 +32,10 @@ import org.lightjason.agentspeak.language.execution.action.IBaseExecution;
  */
 abstract class ITest extends IBaseExecution<IPath>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 500291351344481097L;
     /**
      * ctor
      *
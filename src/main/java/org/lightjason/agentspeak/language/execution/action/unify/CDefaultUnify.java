@@ -45,6 +45,10 @@ import java.util.stream.Stream;
  */
 public class CDefaultUnify extends IBaseExecution<ILiteral>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -7084552894449246051L;
     /**
      * parallel unification
      */
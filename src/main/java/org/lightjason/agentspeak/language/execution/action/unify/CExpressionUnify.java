@@ -40,6 +40,10 @@ import java.util.stream.Stream;
  */
 public final class CExpressionUnify extends CDefaultUnify
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4549465525018254483L;
     /**
      * unification expression
      */
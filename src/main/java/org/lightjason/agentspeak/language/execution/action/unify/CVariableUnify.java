@@ -42,6 +42,10 @@ import java.util.stream.Stream;
  */
 public final class CVariableUnify extends CDefaultUnify
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4593764185208251048L;
     /**
      * unification variable with literal
      */
@@ -29,6 +29,10 @@ package org.lightjason.agentspeak.language.execution.annotation;
  */
 public final class CAtomAnnotation<T> extends IBaseAnnotation<T>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 1400096350028826089L;
 
     /**
      * ctor
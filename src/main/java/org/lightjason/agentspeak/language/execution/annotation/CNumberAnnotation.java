@@ -31,6 +31,10 @@ import java.text.MessageFormat;
  */
 public final class CNumberAnnotation<T extends Number> extends IBaseAnnotation<T>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5010463095071714958L;
     /**
      * ctor
      *
@@ -23,13 +23,15 @@
 
 package org.lightjason.agentspeak.language.execution.annotation;
 
+import java.io.Serializable;
+
 
 /**
  * annotation interface
  *
  * @tparam T annotation data type
  */
-public interface IAnnotation<T>
+public interface IAnnotation<T> extends Serializable
 {
     /**
      * returns the type of the annotation
@@ -61,7 +63,8 @@ public interface IAnnotation<T>
     {
         SCORE( "@Score" ),
         ATOMIC( "@Atomic" ),
-        PARALLEL( "@Parallel" );
+        PARALLEL( "@Parallel" ),
+        TABLING( "@Tabling" );
 
         /**
          * text name of the enum
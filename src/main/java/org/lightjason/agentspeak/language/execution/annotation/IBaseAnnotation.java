@@ -33,6 +33,10 @@ import java.util.Arrays;
  */
 public abstract class IBaseAnnotation<T> implements IAnnotation<T>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 1216966464943550217L;
     /**
      * number data
      */
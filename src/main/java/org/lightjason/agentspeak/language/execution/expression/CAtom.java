@@ -41,6 +41,10 @@ import java.util.stream.Stream;
  */
 public class CAtom implements IExpression
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -546147033933913201L;
     /**
      * value
      */
@@ -41,6 +41,10 @@ import java.util.stream.Stream;
  */
 public final class CProxyReturnExpression<T extends IExecution> implements IExpression
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2724584642796765743L;
     /**
      * execution
      */
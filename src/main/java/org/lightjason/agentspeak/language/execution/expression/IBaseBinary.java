@@ -41,6 +41,10 @@ import java.util.stream.Stream;
  */
 public abstract class IBaseBinary implements IBinaryExpression
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2820311068427962852L;
     /**
      * expression operator
      */
@@ -37,6 +37,10 @@ import java.util.stream.Stream;
  */
 public abstract class IBaseUnary implements IUnaryExpression
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 7156141364338775267L;
     /**
      * expression operator
      */
@@ -42,6 +42,10 @@ import java.util.List;
  */
 public final class CBinary extends IBaseBinary
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2513486431587630181L;
 
     /**
      * ctor
@@ -43,6 +43,10 @@ import java.util.List;
  */
 public final class CUnary extends IBaseUnary
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2835605807743338628L;
 
     /**
      * ctor
@@ -43,6 +43,10 @@ import java.util.List;
  */
 public final class CAdditive extends IBaseBinary
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -7697928728535053512L;
 
     /**
      * ctor
@@ -42,6 +42,10 @@ import java.util.List;
  */
 public final class CComparable extends IBaseBinary
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -9115195604822261004L;
 
     /**
      * ctor
@@ -43,6 +43,10 @@ import java.util.List;
  */
 public final class CMultiplicative extends IBaseBinary
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4056415952273997151L;
 
     /**
      * ctor
@@ -42,6 +42,10 @@ import java.util.List;
  */
 public final class CPower extends IBaseBinary
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8305860003778956260L;
 
     /**
      * ctor
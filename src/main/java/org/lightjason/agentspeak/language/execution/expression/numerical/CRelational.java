@@ -43,6 +43,10 @@ import java.util.List;
  */
 public final class CRelational extends IBaseBinary
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1481469119131171446L;
     /**
      * ctor
      *
@@ -41,6 +41,10 @@ import java.util.stream.Stream;
  */
 public final class CDecrement<T extends Number> implements IOperator<T>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8918394300300377163L;
     /**
      * variable
      */
@@ -41,6 +41,10 @@ import java.util.stream.Stream;
  */
 public final class CIncrement<T extends Number> implements IOperator<T>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2350538980897578260L;
     /**
      * variable
      */
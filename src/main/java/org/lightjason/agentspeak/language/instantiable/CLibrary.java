@@ -0,0 +1,178 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.instantiable;
+
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableSetMultimap;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTriggerIndex;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.instantiable.rule.CRuleIndex;
+import org.lightjason.agentspeak.language.instantiable.rule.IRule;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+
+/**
+ * immutable library of plans and rules, which is
+ * created once for each configuration and shared
+ * by all agents of the configuration, plans are
+ * identified by their position, so an agent stores
+ * only the plan statistic
+ *
+ * @note thread-safe, the library is not modified after construction
+ */
+public final class CLibrary
+{
+    /**
+     * empty library
+     */
+    public static final CLibrary EMPTY = new CLibrary( Collections.emptyList(), Collections.emptyList() );
+    /**
+     * plans
+     */
+    private final List<IPlan> m_plans;
+    /**
+     * plan positions with trigger
+     */
+    private final ImmutableListMultimap<ITrigger, Integer> m_trigger;
+    /**
+     * trigger index of the plan positions
+     */
+    private final CTriggerIndex<Integer> m_index = new CTriggerIndex<>();
+    /**
+     * rules with clause index
+     */
+    private final CRuleIndex m_rules;
+
+
+    /**
+     * ctor
+     *
+     * @param p_plans plans
+     * @param p_rules rules
+     */
+    public CLibrary( final Collection<IPlan> p_plans, final Collection<IRule> p_rules )
+    {
+        m_plans = Collections.unmodifiableList( CLibrary.distinct( p_plans ) );
+
+        final ImmutableListMultimap.Builder<ITrigger, Integer> l_trigger = ImmutableListMultimap.builder();
+        IntStream.range( 0, m_plans.size() ).forEach( i -> {
+            l_trigger.put( m_plans.get( i ).getTrigger(), i );
+            m_index.add( m_plans.get( i ).getTrigger(), i );
+        } );
+        m_trigger = l_trigger.build();
+
+        final ImmutableSetMultimap.Builder<IPath, IRule> l_rules = ImmutableSetMultimap.builder();
+        p_rules.forEach( i -> l_rules.put( i.getIdentifier().fqnfunctor(), i ) );
+        m_rules = new CRuleIndex( l_rules.build() );
+    }
+
+    /**
+     * returns the plans
+     *
+     * @return plan list, the index is the plan position
+     */
+    public final List<IPlan> plans()
+    {
+        return m_plans;
+    }
+
+    /**
+     * returns the plan positions with trigger
+     *
+     * @return multimap with trigger and plan positions
+     */
+    public final ImmutableListMultimap<ITrigger, Integer> trigger()
+    {
+        return m_trigger;
+    }
+
+    /**
+     * returns the positions of all plans
+     * which can match the trigger
+     *
+     * @param p_trigger trigger
+     * @return collection of plan positions
+     */
+    public final Collection<Integer> match( final ITrigger p_trigger )
+    {
+        return m_index.match( p_trigger );
+    }
+
+    /**
+     * returns the rules
+     *
+     * @return multimap with rule identifier and rules
+     */
+    public final ImmutableSetMultimap<IPath, IRule> rules()
+    {
+        return m_rules.rules();
+    }
+
+    /**
+     * returns the rules with clause index
+     *
+     * @return rule index
+     */
+    public final CRuleIndex ruleindex()
+    {
+        return m_rules;
+    }
+
+    /**
+     * removes duplicated plans, the body elements of a plan are
+     * compared and hashed by reference, so equal plans of different
+     * parsing runs are not equal, the structure of a plan is defined
+     * by the trigger and the string representation without the object
+     * identity prefix, the order of the plans is kept
+     *
+     * @param p_plans plans
+     * @return plan list without duplicates
+     */
+    private static List<IPlan> distinct( final Collection<IPlan> p_plans )
+    {
+        final Map<Pair<ITrigger, String>, IPlan> l_plans = new LinkedHashMap<>();
+        p_plans.forEach( i -> l_plans.putIfAbsent( new ImmutablePair<>( i.getTrigger(), StringUtils.substringAfter( i.toString(), " " ) ), i ) );
+        return new ArrayList<>( l_plans.values() );
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format( "{0} ( plans: {1} / rules: {2} )", super.toString(), m_plans.size(), m_rules.rules().size() );
+    }
+
+}
@@ -48,6 +48,10 @@ import java.util.stream.Stream;
  */
 public abstract class IBaseInstantiable implements IInstantiable
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6814377486781225686L;
     /**
      * action list
      */
@@ -85,9 +89,19 @@ public abstract class IBaseInstantiable implements IInstantiable
     @Override
     public final boolean equals( final Object p_object )
     {
-        return ( p_object != null ) && ( p_object instanceof IInstantiable ) && ( this.hashCode() == p_object.hashCode() );
+        return ( this == p_object )
+               || ( p_object instanceof IInstantiable ) && ( this.hashCode() == p_object.hashCode() ) && ( this.equalstructure( (IInstantiable) p_object ) );
     }
 
+    /**
+     * structural comparison, which is called
+     * only if both hash values are equal
+     *
+     * @param p_instantiable other instantiable
+     * @return structural equality
+     */
+    protected abstract boolean equalstructure( final IInstantiable p_instantiable );
+
     @Override
     public double score( final IAgent<?> p_agent )
     {
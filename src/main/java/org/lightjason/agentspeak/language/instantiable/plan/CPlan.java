@@ -34,15 +34,19 @@ import org.lightjason.agentspeak.language.execution.expression.IExpression;
 import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
 import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
 import org.lightjason.agentspeak.language.instantiable.IBaseInstantiable;
+import org.lightjason.agentspeak.language.instantiable.IInstantiable;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTriggerMatcher;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
 import java.text.MessageFormat;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -52,6 +56,10 @@ import java.util.stream.Stream;
  */
 public final class CPlan extends IBaseInstantiable implements IPlan
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2070979107970012311L;
     /**
      * trigger event
      */
@@ -60,6 +68,10 @@ public final class CPlan extends IBaseInstantiable implements IPlan
      * execution condition / expression
      */
     private final IExpression m_condition;
+    /**
+     * compiled trigger matcher
+     */
+    private final transient CTriggerMatcher m_matcher;
 
 
     /**
@@ -97,6 +109,29 @@ public final class CPlan extends IBaseInstantiable implements IPlan
 
         m_triggerevent = p_event;
         m_condition = p_condition;
+        m_matcher = new CTriggerMatcher( p_event );
+    }
+
+    /**
+     * rebuilds the plan on deserialization for
+     * recalculating the cached hash value
+     *
+     * @return new plan
+     */
+    private Object readResolve()
+    {
+        return new CPlan( m_triggerevent, m_condition, m_action, new HashSet<>( m_annotation.values() ) );
+    }
+
+    @Override
+    protected final boolean equalstructure( final IInstantiable p_instantiable )
+    {
+        return ( p_instantiable instanceof CPlan )
+               && ( m_triggerevent.getType() == ( (CPlan) p_instantiable ).m_triggerevent.getType() )
+               && ( m_triggerevent.getLiteral().equals( ( (CPlan) p_instantiable ).m_triggerevent.getLiteral() ) )
+               && ( Objects.equals( m_condition, ( (CPlan) p_instantiable ).m_condition ) )
+               && ( m_action.equals( ( (CPlan) p_instantiable ).m_action ) )
+               && ( m_annotation.equals( ( (CPlan) p_instantiable ).m_annotation ) );
     }
 
     @Override
@@ -105,6 +140,12 @@ public final class CPlan extends IBaseInstantiable implements IPlan
         return m_triggerevent;
     }
 
+    @Override
+    public final CTriggerMatcher matcher()
+    {
+        return m_matcher;
+    }
+
     @Override
     public final Collection<IAnnotation<?>> getAnnotations()
     {
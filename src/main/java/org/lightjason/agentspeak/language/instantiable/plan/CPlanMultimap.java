@@ -0,0 +1,253 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.instantiable.plan;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ForwardingMultimap;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
+import org.apache.commons.lang3.tuple.ImmutableTriple;
+import org.apache.commons.lang3.tuple.Triple;
+import org.lightjason.agentspeak.language.instantiable.CLibrary;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTriggerMultimap;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * plan multimap of an agent with plan statistic (successful
+ * and failed runs), the plans and the trigger index are read
+ * from a shared library, so the agent stores only the statistic,
+ * modifications are stored within a small overlay of added plans
+ * and removed library plans (copy-on-write), which is merged with
+ * the library on matching, views of the multimap are read-only
+ */
+public final class CPlanMultimap extends ForwardingMultimap<ITrigger, Triple<IPlan, AtomicLong, AtomicLong>>
+{
+    /**
+     * shared library
+     */
+    private final CLibrary m_library;
+    /**
+     * plan statistic, the index is the plan position of the library
+     */
+    private final List<Triple<IPlan, AtomicLong, AtomicLong>> m_statistic;
+    /**
+     * read-only view of the library with statistic
+     */
+    private final Multimap<ITrigger, Triple<IPlan, AtomicLong, AtomicLong>> m_view;
+    /**
+     * plans, which are added by the agent
+     */
+    private final CTriggerMultimap<Triple<IPlan, AtomicLong, AtomicLong>> m_added = new CTriggerMultimap<>();
+    /**
+     * library plans, which are removed by the agent
+     */
+    private final Set<Triple<IPlan, AtomicLong, AtomicLong>> m_removed = Collections.newSetFromMap( new ConcurrentHashMap<>() );
+    /**
+     * modification version
+     */
+    private final AtomicLong m_version = new AtomicLong();
+
+
+    /**
+     * ctor
+     *
+     * @param p_library shared library
+     */
+    public CPlanMultimap( final CLibrary p_library )
+    {
+        m_library = p_library;
+        m_statistic = Collections.unmodifiableList(
+            p_library.plans()
+                     .stream()
+                     .<Triple<IPlan, AtomicLong, AtomicLong>>map( i -> new ImmutableTriple<>( i, new AtomicLong(), new AtomicLong() ) )
+                     .collect( Collectors.toList() )
+        );
+        m_view = Multimaps.unmodifiableMultimap( Multimaps.transformValues( p_library.trigger(), m_statistic::get ) );
+    }
+
+    /**
+     * returns all plans which can match the trigger
+     *
+     * @param p_trigger trigger
+     * @return collection of plans with statistic
+     */
+    public final Collection<Triple<IPlan, AtomicLong, AtomicLong>> match( final ITrigger p_trigger )
+    {
+        if ( this.shared() )
+            return m_library.match( p_trigger ).stream().map( m_statistic::get ).collect( Collectors.toList() );
+
+        return Stream.concat(
+            m_library.match( p_trigger ).stream().map( m_statistic::get ).filter( i -> !m_removed.contains( i ) ),
+            m_added.match( p_trigger ).stream()
+        ).collect( Collectors.toList() );
+    }
+
+    /**
+     * returns if the shared library is used without modification
+     *
+     * @return shared flag
+     */
+    public final boolean shared()
+    {
+        return m_added.isEmpty() && m_removed.isEmpty();
+    }
+
+    /**
+     * returns the modification version, which
+     * is changed on each modification
+     *
+     * @return version
+     */
+    public final long version()
+    {
+        return m_version.get();
+    }
+
+    /**
+     * returns a copy of all plan trigger
+     *
+     * @return trigger set
+     */
+    public final synchronized Set<ITrigger> triggers()
+    {
+        return new HashSet<>( this.delegate().keySet() );
+    }
+
+    @Override
+    public final Collection<Triple<IPlan, AtomicLong, AtomicLong>> get( final ITrigger p_key )
+    {
+        if ( this.shared() )
+            return m_view.get( p_key );
+
+        return Collections.unmodifiableList(
+            Stream.concat(
+                m_view.get( p_key ).stream().filter( i -> !m_removed.contains( i ) ),
+                m_added.get( p_key ).stream()
+            ).collect( Collectors.toList() )
+        );
+    }
+
+    @Override
+    public final boolean containsKey( final Object p_key )
+    {
+        return ( p_key instanceof ITrigger ) && ( !this.get( (ITrigger) p_key ).isEmpty() );
+    }
+
+    @Override
+    public final synchronized boolean put( final ITrigger p_key, final Triple<IPlan, AtomicLong, AtomicLong> p_value )
+    {
+        // a removed library plan is restored, otherwise the plan is added to the overlay
+        final boolean l_result = m_view.containsEntry( p_key, p_value )
+                                 ? m_removed.remove( p_value )
+                                 : m_added.put( p_key, p_value );
+        m_version.incrementAndGet();
+        return l_result;
+    }
+
+    @Override
+    public final synchronized boolean putAll( final ITrigger p_key, final Iterable<? extends Triple<IPlan, AtomicLong, AtomicLong>> p_values )
+    {
+        boolean l_result = false;
+        for ( final Triple<IPlan, AtomicLong, AtomicLong> l_value : p_values )
+            l_result |= this.put( p_key, l_value );
+        return l_result;
+    }
+
+    @Override
+    public final synchronized boolean putAll( final Multimap<? extends ITrigger, ? extends Triple<IPlan, AtomicLong, AtomicLong>> p_multimap )
+    {
+        boolean l_result = false;
+        for ( final Map.Entry<? extends ITrigger, ? extends Triple<IPlan, AtomicLong, AtomicLong>> l_entry : p_multimap.entries() )
+            l_result |= this.put( l_entry.getKey(), l_entry.getValue() );
+        return l_result;
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public final synchronized boolean remove( final Object p_key, final Object p_value )
+    {
+        final boolean l_result = ( m_added.remove( p_key, p_value ) )
+                                 || ( m_view.containsEntry( p_key, p_value ) && m_removed.add( (Triple<IPlan, AtomicLong, AtomicLong>) p_value ) );
+        m_version.incrementAndGet();
+        return l_result;
+    }
+
+    @Override
+    public final synchronized Collection<Triple<IPlan, AtomicLong, AtomicLong>> removeAll( final Object p_key )
+    {
+        if ( !( p_key instanceof ITrigger ) )
+            return Collections.emptyList();
+
+        final Collection<Triple<IPlan, AtomicLong, AtomicLong>> l_result = new ArrayList<>( this.get( (ITrigger) p_key ) );
+        m_added.removeAll( p_key );
+        m_removed.addAll( m_view.get( (ITrigger) p_key ) );
+        m_version.incrementAndGet();
+        return l_result;
+    }
+
+    @Override
+    public final synchronized Collection<Triple<IPlan, AtomicLong, AtomicLong>> replaceValues( final ITrigger p_key,
+                                                                                            final Iterable<? extends Triple<IPlan, AtomicLong, AtomicLong>> p_values
+    )
+    {
+        final Collection<Triple<IPlan, AtomicLong, AtomicLong>> l_result = this.removeAll( p_key );
+        this.putAll( p_key, p_values );
+        return l_result;
+    }
+
+    @Override
+    public final synchronized void clear()
+    {
+        m_added.clear();
+        m_removed.addAll( m_statistic );
+        m_version.incrementAndGet();
+    }
+
+    @Override
+    protected final Multimap<ITrigger, Triple<IPlan, AtomicLong, AtomicLong>> delegate()
+    {
+        if ( this.shared() )
+            return m_view;
+
+        // the merged multimap is created on each call and is not stored, so the agent keeps the overlay only
+        final Multimap<ITrigger, Triple<IPlan, AtomicLong, AtomicLong>> l_merged = ArrayListMultimap.create();
+        m_view.entries().stream().filter( i -> !m_removed.contains( i.getValue() ) ).forEach( i -> l_merged.put( i.getKey(), i.getValue() ) );
+        l_merged.putAll( m_added );
+        return Multimaps.unmodifiableMultimap( l_merged );
+    }
+
+}
@@ -28,6 +28,7 @@ import org.lightjason.agentspeak.language.execution.IExecution;
 import org.lightjason.agentspeak.language.execution.annotation.IAnnotation;
 import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
 import org.lightjason.agentspeak.language.instantiable.IInstantiable;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTriggerMatcher;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
 
 import java.util.Collection;
@@ -47,6 +48,13 @@ public interface IPlan extends IInstantiable
      */
     ITrigger getTrigger();
 
+    /**
+     * returns the compiled matcher of the trigger
+     *
+     * @return trigger matcher
+     */
+    CTriggerMatcher matcher();
+
     /**
      * return unmodifieable annotation set
      *
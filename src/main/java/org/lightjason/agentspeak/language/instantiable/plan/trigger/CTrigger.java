@@ -36,6 +36,10 @@ import java.text.MessageFormat;
  */
 public final class CTrigger implements ITrigger
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8208603475706522261L;
     /**
      * variable number
      */
@@ -56,6 +60,14 @@ public final class CTrigger implements ITrigger
      * content hashcode
      */
     private final int m_contenthash;
+    /**
+     * number of literal values
+     */
+    private final int m_valuecount;
+    /**
+     * number of literal annotations
+     */
+    private final int m_annotationcount;
 
     /**
      * ctor
@@ -73,8 +85,10 @@ public final class CTrigger implements ITrigger
         m_event = p_event;
         m_literal = p_literal;
         m_variables = CCommon.variablefrequency( p_literal ).size();
-        m_hashcode = m_event.hashCode() ^ m_literal.fqnfunctor().hashCode() ^ (int) p_literal.values().count() ^ (int) p_literal.annotations().count();
-        m_contenthash = m_event.hashCode() ^ m_literal.hashCode();
+        m_valuecount = (int) p_literal.values().count();
+        m_annotationcount = (int) p_literal.annotations().count();
+        m_hashcode = 31 * ( 31 * ( 31 * m_event.hashCode() + m_literal.fqnfunctor().hashCode() ) + m_valuecount ) + m_annotationcount;
+        m_contenthash = 31 * m_event.hashCode() + m_literal.hashCode();
     }
 
     /**
@@ -98,7 +112,35 @@ public final class CTrigger implements ITrigger
     @Override
     public final boolean equals( final Object p_object )
     {
-        return ( p_object != null ) && ( p_object instanceof ITrigger ) && ( this.hashCode() == p_object.hashCode() );
+        return ( this == p_object )
+               || ( p_object instanceof ITrigger ) && ( this.hashCode() == p_object.hashCode() ) && ( this.equalstructure( (ITrigger) p_object ) );
+    }
+
+    /**
+     * compares the trigger structure (type, functor and number of values and annotations)
+     *
+     * @param p_trigger trigger
+     * @return structural equality
+     */
+    private boolean equalstructure( final ITrigger p_trigger )
+    {
+        if ( ( m_event != p_trigger.getType() ) || ( !m_literal.fqnfunctor().equals( p_trigger.getLiteral().fqnfunctor() ) ) )
+            return false;
+
+        return p_trigger instanceof CTrigger
+               ? ( m_valuecount == ( (CTrigger) p_trigger ).m_valuecount ) && ( m_annotationcount == ( (CTrigger) p_trigger ).m_annotationcount )
+               : ( m_valuecount == p_trigger.getLiteral().values().count() ) && ( m_annotationcount == p_trigger.getLiteral().annotations().count() );
+    }
+
+    /**
+     * rebuilds the trigger on deserialization,
+     * because the cached hash values depends on the enum hash
+     *
+     * @return new trigger
+     */
+    private Object readResolve()
+    {
+        return new CTrigger( m_event, m_literal );
     }
 
     @Override
@@ -0,0 +1,180 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.instantiable.plan.trigger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * lock-free multi-producer / single-consumer inbox of trigger,
+ * producers push with a single compare-and-set on the head of
+ * a linked stack, the consumer takes the whole batch with one
+ * atomic swap, so adding a trigger never contends with the
+ * running cycle, duplicated trigger (equal content hash) are
+ * removed on draining
+ */
+public final class CTriggerInbox
+{
+    /**
+     * head of the stack (newest element)
+     */
+    private final AtomicReference<CNode> m_head = new AtomicReference<>();
+
+
+    /**
+     * adds a trigger
+     *
+     * @param p_trigger trigger
+     * @return self reference
+     */
+    public final CTriggerInbox push( final ITrigger p_trigger )
+    {
+        final CNode l_node = new CNode( p_trigger );
+        CNode l_head;
+        do
+        {
+            l_head = m_head.get();
+            l_node.m_next = l_head;
+        } while ( !m_head.compareAndSet( l_head, l_node ) );
+
+        return this;
+    }
+
+    /**
+     * removes all trigger and returns them in
+     * insertion order without duplicates
+     *
+     * @return collection of trigger
+     */
+    public final Collection<ITrigger> drain()
+    {
+        return unique( m_head.getAndSet( null ) );
+    }
+
+    /**
+     * returns the current trigger without removing
+     *
+     * @return collection of trigger
+     */
+    public final Collection<ITrigger> snapshot()
+    {
+        return unique( m_head.get() );
+    }
+
+    /**
+     * checks if the inbox is empty
+     *
+     * @return empty flag
+     */
+    public final boolean isEmpty()
+    {
+        return m_head.get() == null;
+    }
+
+    /**
+     * removes all trigger
+     */
+    public final void clear()
+    {
+        m_head.set( null );
+    }
+
+    @Override
+    public final String toString()
+    {
+        return this.snapshot().toString();
+    }
+
+    /**
+     * reverses a stack and removes duplicates
+     *
+     * @param p_head head node
+     * @return collection of trigger in insertion order
+     */
+    private static Collection<ITrigger> unique( final CNode p_head )
+    {
+        if ( p_head == null )
+            return Collections.emptyList();
+
+        if ( p_head.m_next == null )
+            return Collections.singletonList( p_head.m_trigger );
+
+        final List<ITrigger> l_stack = new ArrayList<>();
+        for ( CNode l_node = p_head; l_node != null; l_node = l_node.m_next )
+            l_stack.add( l_node.m_trigger );
+
+        // first pushed trigger wins, equal to put-if-absent, the content hash is
+        // checked first and triggers with equal hash are compared by type and literal
+        final Map<Integer, List<ITrigger>> l_buckets = new HashMap<>( l_stack.size() * 2 );
+        final List<ITrigger> l_unique = new ArrayList<>( l_stack.size() );
+        for ( int i = l_stack.size() - 1; i >= 0; i-- )
+        {
+            final ITrigger l_trigger = l_stack.get( i );
+            final List<ITrigger> l_bucket = l_buckets.computeIfAbsent( l_trigger.contenthash(), j -> new ArrayList<>( 1 ) );
+            if ( l_bucket.stream().noneMatch( j -> ( j.getType() == l_trigger.getType() ) && ( j.getLiteral().equals( l_trigger.getLiteral() ) ) ) )
+            {
+                l_bucket.add( l_trigger );
+                l_unique.add( l_trigger );
+            }
+        }
+
+        return l_unique;
+    }
+
+
+    /**
+     * stack node
+     *
+     * @note next reference is written before the node is
+     * published with compare-and-set, so it is visible without volatile
+     */
+    private static final class CNode
+    {
+        /**
+         * trigger
+         */
+        private final ITrigger m_trigger;
+        /**
+         * next (older) node
+         */
+        private CNode m_next;
+
+        /**
+         * ctor
+         *
+         * @param p_trigger trigger
+         */
+        CNode( final ITrigger p_trigger )
+        {
+            m_trigger = p_trigger;
+        }
+    }
+
+}
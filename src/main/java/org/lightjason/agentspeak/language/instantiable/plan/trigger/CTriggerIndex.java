@@ -0,0 +1,487 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.instantiable.plan.trigger;
+
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+
+/**
+ * discrimination tree over the argument structure of trigger literals,
+ * the root of the tree is defined by the trigger (type, functor and
+ * number of arguments), each path of the tree represents the preorder
+ * sequence of the literal arguments, so a lookup returns only the
+ * values which trigger can structurally match the searched trigger
+ *
+ * @tparam V value type
+ * @note the index is a superset filter of the unification, variables
+ * are used as wildcards, nested literals without arguments matches
+ * any arguments and raw values are compared by the hash value,
+ * the index is not synchronized, concurrent lookups are safe as
+ * long as the index is not modified
+ */
+public final class CTriggerIndex<V>
+{
+    /**
+     * arity of a literal without arguments
+     */
+    private static final int ANYARITY = -1;
+    /**
+     * tree roots
+     */
+    private final Map<ITrigger, CNode<V>> m_root = new HashMap<>();
+    /**
+     * map with value and triggers of the value, because
+     * equal triggers can be different literal structures
+     */
+    private final Map<V, List<ITrigger>> m_trigger = new HashMap<>();
+    /**
+     * number of values
+     */
+    private int m_size;
+
+
+    /**
+     * adds a value
+     *
+     * @param p_trigger trigger of the value
+     * @param p_value value
+     * @return flag if the value is added
+     */
+    public final boolean add( final ITrigger p_trigger, final V p_value )
+    {
+        CNode<V> l_node = m_root.computeIfAbsent( p_trigger, i -> new CNode<>() );
+        for ( final CSymbol l_symbol : CTriggerIndex.symbols( p_trigger.getLiteral() ) )
+            l_node = l_node.child( l_symbol, true );
+
+        if ( !l_node.m_values.add( p_value ) )
+            return false;
+
+        m_trigger.computeIfAbsent( p_value, i -> new ArrayList<>( 1 ) ).add( p_trigger );
+        m_size++;
+        return true;
+    }
+
+    /**
+     * removes a value
+     *
+     * @param p_trigger trigger of the value (an equal trigger can be used)
+     * @param p_value value
+     * @return flag if the value is removed
+     */
+    public final boolean remove( final ITrigger p_trigger, final V p_value )
+    {
+        final CNode<V> l_root = m_root.get( p_trigger );
+        final List<ITrigger> l_triggers = m_trigger.get( p_value );
+        if ( ( l_root == null ) || ( l_triggers == null ) )
+            return false;
+
+        // the trigger of the value defines the path within the tree
+        final int l_index = l_triggers.indexOf( p_trigger );
+        if ( l_index < 0 )
+            return false;
+
+        final ITrigger l_trigger = l_triggers.remove( l_index );
+        if ( l_triggers.isEmpty() )
+            m_trigger.remove( p_value );
+
+        final List<CSymbol> l_symbols = CTriggerIndex.symbols( l_trigger.getLiteral() );
+        final List<CNode<V>> l_path = new ArrayList<>( l_symbols.size() + 1 );
+        l_path.add( l_root );
+        for ( final CSymbol l_symbol : l_symbols )
+        {
+            final CNode<V> l_node = l_path.get( l_path.size() - 1 ).child( l_symbol, false );
+            if ( l_node == null )
+                return false;
+            l_path.add( l_node );
+        }
+
+        if ( !l_path.get( l_path.size() - 1 ).m_values.remove( p_value ) )
+            return false;
+        m_size--;
+
+        // remove empty nodes from the leaf to the root
+        for ( int i = l_symbols.size() - 1; ( i >= 0 ) && ( l_path.get( i + 1 ).empty() ); i-- )
+            l_path.get( i ).unlink( l_symbols.get( i ) );
+        if ( l_root.empty() )
+            m_root.remove( p_trigger );
+
+        return true;
+    }
+
+    /**
+     * removes all values
+     */
+    public final void clear()
+    {
+        m_root.clear();
+        m_trigger.clear();
+        m_size = 0;
+    }
+
+    /**
+     * returns the number of values
+     *
+     * @return number of values
+     */
+    public final int size()
+    {
+        return m_size;
+    }
+
+    /**
+     * returns all values which can match the trigger
+     *
+     * @param p_trigger trigger
+     * @return collection of values
+     */
+    public final Collection<V> match( final ITrigger p_trigger )
+    {
+        final CNode<V> l_root = m_root.get( p_trigger );
+        if ( l_root == null )
+            return Collections.emptySet();
+
+        final Set<V> l_result = new HashSet<>();
+
+        // a trigger with variables cannot be used for a lookup, so all values of the root are returned
+        if ( p_trigger.getLiteral().hasVariable() )
+            l_root.all( l_result );
+        else
+            CTriggerIndex.match( l_root, CTriggerIndex.symbols( p_trigger.getLiteral() ), 0, l_result );
+
+        return l_result;
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format( "{0} ( roots: {1} / values: {2} )", super.toString(), m_root.size(), m_size );
+    }
+
+    /**
+     * recursive tree matching
+     *
+     * @param p_node current node
+     * @param p_symbols symbols of the searched trigger
+     * @param p_position position within the symbols
+     * @param p_result result set
+     * @tparam V value type
+     */
+    private static <V> void match( final CNode<V> p_node, final List<CSymbol> p_symbols, final int p_position, final Set<V> p_result )
+    {
+        if ( p_position == p_symbols.size() )
+        {
+            p_result.addAll( p_node.m_values );
+            return;
+        }
+
+        // a variable of the tree matches the whole subterm
+        final CSymbol l_symbol = p_symbols.get( p_position );
+        if ( p_node.m_wildcard != null )
+            CTriggerIndex.match( p_node.m_wildcard, p_symbols, l_symbol.m_end, p_result );
+
+        if ( l_symbol.m_type == ESymbol.CONSTANT )
+        {
+            final CNode<V> l_node = p_node.m_constant.get( l_symbol.m_hash );
+            if ( l_node != null )
+                CTriggerIndex.match( l_node, p_symbols, p_position + 1, p_result );
+            return;
+        }
+
+        final Map<Integer, CNode<V>> l_literal = p_node.m_literal.get( l_symbol.m_functor );
+        if ( l_literal == null )
+            return;
+
+        // a literal of the tree without arguments matches any arguments
+        final CNode<V> l_any = l_literal.get( ANYARITY );
+        if ( l_any != null )
+            CTriggerIndex.match( l_any, p_symbols, l_symbol.m_end, p_result );
+
+        if ( l_symbol.m_arity != ANYARITY )
+        {
+            final CNode<V> l_node = l_literal.get( l_symbol.m_arity );
+            if ( l_node != null )
+                CTriggerIndex.match( l_node, p_symbols, p_position + 1, p_result );
+            return;
+        }
+
+        // a literal without arguments matches any literal of the tree with equal functor
+        l_literal.entrySet()
+                 .stream()
+                 .filter( i -> i.getKey() != ANYARITY )
+                 .flatMap( i -> CTriggerIndex.skip( i.getValue(), i.getKey() ) )
+                 .forEach( i -> CTriggerIndex.match( i, p_symbols, p_position + 1, p_result ) );
+    }
+
+    /**
+     * skips subterms of the tree
+     *
+     * @param p_node start node
+     * @param p_count number of subterms
+     * @return stream of nodes after the subterms
+     * @tparam V value type
+     */
+    private static <V> Stream<CNode<V>> skip( final CNode<V> p_node, final int p_count )
+    {
+        if ( p_count == 0 )
+            return Stream.of( p_node );
+
+        return Stream.of(
+            p_node.m_wildcard == null ? Stream.<CNode<V>>empty() : Stream.of( p_node.m_wildcard ),
+            p_node.m_constant.values().stream(),
+            p_node.m_literal.values().stream().flatMap( i -> i.entrySet().stream() ).flatMap( i -> CTriggerIndex.skip( i.getValue(), Math.max( 0, i.getKey() ) ) )
+        )
+                     .flatMap( i -> i )
+                     .flatMap( i -> CTriggerIndex.skip( i, p_count - 1 ) );
+    }
+
+    /**
+     * builds the preorder symbol list of the literal arguments
+     *
+     * @param p_literal literal
+     * @return symbol list
+     */
+    private static List<CSymbol> symbols( final ILiteral p_literal )
+    {
+        final List<CSymbol> l_symbols = new ArrayList<>();
+        CTriggerIndex.symbols( p_literal.orderedvalues(), l_symbols );
+        return l_symbols;
+    }
+
+    /**
+     * builds the preorder symbol list of terms
+     *
+     * @param p_terms term stream
+     * @param p_symbols symbol list
+     */
+    private static void symbols( final Stream<ITerm> p_terms, final List<CSymbol> p_symbols )
+    {
+        p_terms.forEachOrdered( i -> {
+            if ( i instanceof IVariable<?> )
+            {
+                p_symbols.add( new CSymbol( ESymbol.WILDCARD, 0, null, 0, p_symbols.size() + 1 ) );
+                return;
+            }
+
+            if ( !( i instanceof ILiteral ) )
+            {
+                p_symbols.add( new CSymbol( ESymbol.CONSTANT, i.hashCode(), null, 0, p_symbols.size() + 1 ) );
+                return;
+            }
+
+            final ILiteral l_literal = (ILiteral) i;
+            if ( l_literal.emptyValues() )
+            {
+                p_symbols.add( new CSymbol( ESymbol.LITERAL, 0, l_literal.fqnfunctor(), ANYARITY, p_symbols.size() + 1 ) );
+                return;
+            }
+
+            final int l_position = p_symbols.size();
+            p_symbols.add( null );
+
+            final int l_arity = (int) l_literal.orderedvalues().count();
+            CTriggerIndex.symbols( l_literal.orderedvalues(), p_symbols );
+            p_symbols.set( l_position, new CSymbol( ESymbol.LITERAL, 0, l_literal.fqnfunctor(), l_arity, p_symbols.size() ) );
+        } );
+    }
+
+
+    /**
+     * symbol types
+     */
+    private enum ESymbol
+    {
+        CONSTANT,
+        LITERAL,
+        WILDCARD;
+    }
+
+
+    /**
+     * symbol of a term
+     */
+    private static final class CSymbol
+    {
+        /**
+         * symbol type
+         */
+        private final ESymbol m_type;
+        /**
+         * hash of a constant
+         */
+        private final int m_hash;
+        /**
+         * functor of a literal
+         */
+        private final IPath m_functor;
+        /**
+         * arity of a literal
+         */
+        private final int m_arity;
+        /**
+         * position after the subterm of the symbol
+         */
+        private final int m_end;
+
+        /**
+         * ctor
+         *
+         * @param p_type symbol type
+         * @param p_hash hash of a constant
+         * @param p_functor functor of a literal
+         * @param p_arity arity of a literal
+         * @param p_end position after the subterm
+         */
+        CSymbol( final ESymbol p_type, final int p_hash, final IPath p_functor, final int p_arity, final int p_end )
+        {
+            m_type = p_type;
+            m_hash = p_hash;
+            m_functor = p_functor;
+            m_arity = p_arity;
+            m_end = p_end;
+        }
+    }
+
+
+    /**
+     * tree node
+     *
+     * @tparam V value type
+     */
+    private static final class CNode<V>
+    {
+        /**
+         * values of the node
+         */
+        private final Set<V> m_values = new HashSet<>();
+        /**
+         * constant children
+         */
+        private final Map<Integer, CNode<V>> m_constant = new HashMap<>();
+        /**
+         * literal children with functor and arity
+         */
+        private final Map<IPath, Map<Integer, CNode<V>>> m_literal = new HashMap<>();
+        /**
+         * variable child
+         */
+        private CNode<V> m_wildcard;
+
+        /**
+         * returns the child of a symbol
+         *
+         * @param p_symbol symbol
+         * @param p_create creates a non-existing child
+         * @return child or null
+         */
+        final CNode<V> child( final CSymbol p_symbol, final boolean p_create )
+        {
+            switch ( p_symbol.m_type )
+            {
+                case WILDCARD:
+                    if ( ( m_wildcard == null ) && p_create )
+                        m_wildcard = new CNode<>();
+                    return m_wildcard;
+
+                case CONSTANT:
+                    return p_create
+                           ? m_constant.computeIfAbsent( p_symbol.m_hash, i -> new CNode<>() )
+                           : m_constant.get( p_symbol.m_hash );
+
+                default:
+                    if ( p_create )
+                        return m_literal.computeIfAbsent( p_symbol.m_functor, i -> new HashMap<>() ).computeIfAbsent( p_symbol.m_arity, i -> new CNode<>() );
+
+                    final Map<Integer, CNode<V>> l_arity = m_literal.get( p_symbol.m_functor );
+                    return l_arity == null ? null : l_arity.get( p_symbol.m_arity );
+            }
+        }
+
+        /**
+         * removes the child of a symbol
+         *
+         * @param p_symbol symbol
+         */
+        final void unlink( final CSymbol p_symbol )
+        {
+            switch ( p_symbol.m_type )
+            {
+                case WILDCARD:
+                    m_wildcard = null;
+                    return;
+
+                case CONSTANT:
+                    m_constant.remove( p_symbol.m_hash );
+                    return;
+
+                default:
+                    final Map<Integer, CNode<V>> l_arity = m_literal.get( p_symbol.m_functor );
+                    if ( l_arity == null )
+                        return;
+
+                    l_arity.remove( p_symbol.m_arity );
+                    if ( l_arity.isEmpty() )
+                        m_literal.remove( p_symbol.m_functor );
+            }
+        }
+
+        /**
+         * checks if the node is empty
+         *
+         * @return empty flag
+         */
+        final boolean empty()
+        {
+            return m_values.isEmpty() && ( m_wildcard == null ) && m_constant.isEmpty() && m_literal.isEmpty();
+        }
+
+        /**
+         * collects all values of the subtree
+         *
+         * @param p_result result set
+         */
+        final void all( final Set<V> p_result )
+        {
+            p_result.addAll( m_values );
+            if ( m_wildcard != null )
+                m_wildcard.all( p_result );
+            m_constant.values().forEach( i -> i.all( p_result ) );
+            m_literal.values().forEach( i -> i.values().forEach( j -> j.all( p_result ) ) );
+        }
+    }
+
+}
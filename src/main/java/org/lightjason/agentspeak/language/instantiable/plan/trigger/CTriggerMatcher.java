@@ -0,0 +1,236 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.instantiable.plan.trigger;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.IRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.action.unify.IUnifier;
+import org.lightjason.agentspeak.language.variable.CRelocateMutexVariable;
+import org.lightjason.agentspeak.language.variable.CRelocateVariable;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * compiled matcher of a plan trigger, the trigger literal is
+ * checked once, so the matching walks the value lists of the plan
+ * trigger and of the incoming trigger without a deep-copy, fresh
+ * variables are created only if the match succeeds, trigger with
+ * annotations or not supported terms are matched by the unifier
+ */
+public final class CTriggerMatcher
+{
+    /**
+     * plan trigger
+     */
+    private final ITrigger m_trigger;
+    /**
+     * number of distinct variables of the trigger literal
+     */
+    private final int m_variables;
+    /**
+     * compiled flag
+     */
+    private final boolean m_compiled;
+
+    /**
+     * ctor
+     *
+     * @param p_trigger plan trigger
+     */
+    public CTriggerMatcher( final ITrigger p_trigger )
+    {
+        m_trigger = p_trigger;
+        m_variables = CCommon.variablefrequency( p_trigger.getLiteral() ).size();
+        m_compiled = p_trigger.getLiteral().emptyAnnotations() && compilable( p_trigger.getLiteral().orderedvaluelist() );
+    }
+
+    /**
+     * returns the plan trigger
+     *
+     * @return trigger
+     */
+    public final ITrigger trigger()
+    {
+        return m_trigger;
+    }
+
+    /**
+     * returns the number of distinct variables
+     *
+     * @return variable number
+     */
+    public final int variables()
+    {
+        return m_variables;
+    }
+
+    /**
+     * matches an incoming trigger
+     *
+     * @param p_unifier unifier, which is used for not compiled trigger
+     * @param p_source incoming trigger
+     * @return pair of match flag and instantiated variables
+     */
+    public final Pair<Boolean, Set<IVariable<?>>> match( final IUnifier p_unifier, final ITrigger p_source )
+    {
+        if ( !m_compiled )
+            return CCommon.unifytrigger( p_unifier, p_source, m_trigger );
+
+        final ILiteral l_target = m_trigger.getLiteral();
+        final ILiteral l_source = p_source.getLiteral();
+        if ( ( l_source.emptyValues() != l_target.emptyValues() ) || ( !l_source.emptyAnnotations() ) )
+            return new ImmutablePair<>( false, Collections.emptySet() );
+
+        // check constant values and functors first, so a failing match does not allocate
+        if ( !check( l_source.orderedvaluelist(), l_target.orderedvaluelist() ) )
+            return new ImmutablePair<>( false, Collections.emptySet() );
+
+        final Set<IVariable<?>> l_variables = new HashSet<>();
+        bind( l_variables, l_source.orderedvaluelist(), l_target.orderedvaluelist() );
+
+        return l_variables.size() == m_variables
+               ? new ImmutablePair<>( true, l_variables )
+               : new ImmutablePair<>( false, Collections.emptySet() );
+    }
+
+    @Override
+    public final int hashCode()
+    {
+        return m_trigger.hashCode();
+    }
+
+    @Override
+    public final boolean equals( final Object p_object )
+    {
+        return ( p_object instanceof CTriggerMatcher ) && ( m_trigger.equals( ( (CTriggerMatcher) p_object ).m_trigger ) );
+    }
+
+    @Override
+    public final String toString()
+    {
+        return m_trigger.toString();
+    }
+
+    /**
+     * checks if the terms can be compiled
+     *
+     * @param p_terms terms
+     * @return compilable flag
+     */
+    private static boolean compilable( final List<ITerm> p_terms )
+    {
+        return p_terms.stream().allMatch(
+            i -> ( i instanceof IVariable<?> )
+                 || ( i instanceof IRawTerm<?> )
+                 || ( ( i instanceof ILiteral ) && ( compilable( ( (ILiteral) i ).orderedvaluelist() ) ) )
+        );
+    }
+
+    /**
+     * checks the constant values and the functors of
+     * the target with the source, equal to the recursive unification
+     *
+     * @param p_source source values
+     * @param p_target target values
+     * @return match flag
+     */
+    private static boolean check( final List<ITerm> p_source, final List<ITerm> p_target )
+    {
+        if ( ( p_source.isEmpty() ) || ( p_target.isEmpty() ) )
+            return true;
+        if ( p_source.size() != p_target.size() )
+            return false;
+
+        for ( int i = 0; i < p_target.size(); i++ )
+        {
+            final ITerm l_source = p_source.get( i );
+            final ITerm l_target = p_target.get( i );
+
+            if ( l_target instanceof IVariable<?> )
+                continue;
+
+            if ( ( l_source instanceof IRawTerm<?> ) || ( l_target instanceof IRawTerm<?> ) )
+            {
+                if ( !l_source.equals( l_target ) )
+                    return false;
+                continue;
+            }
+
+            if ( !( ( l_source instanceof ILiteral )
+                    && ( l_source.fqnfunctor().equals( l_target.fqnfunctor() ) )
+                    && ( check( ( (ILiteral) l_source ).orderedvaluelist(), ( (ILiteral) l_target ).orderedvaluelist() ) ) ) )
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * binds the variables of the target with the source values,
+     * must be called after a successful check
+     *
+     * @param p_variables variable set
+     * @param p_source source values
+     * @param p_target target values
+     */
+    @SuppressWarnings( "unchecked" )
+    private static void bind( final Set<IVariable<?>> p_variables, final List<ITerm> p_source, final List<ITerm> p_target )
+    {
+        if ( ( p_source.isEmpty() ) || ( p_target.isEmpty() ) )
+            return;
+
+        for ( int i = 0; i < p_target.size(); i++ )
+        {
+            final ITerm l_source = p_source.get( i );
+            final ITerm l_target = p_target.get( i );
+
+            if ( l_target instanceof IVariable<?> )
+            {
+                // if source and target are variables, a relocated variable is created for backtracking
+                if ( l_source instanceof IVariable<?> )
+                    p_variables.add(
+                        ( (IVariable<?>) l_target ).mutex()
+                        ? new CRelocateMutexVariable<>( l_target.fqnfunctor(), (IVariable<?>) l_source )
+                        : new CRelocateVariable<>( l_target.fqnfunctor(), (IVariable<?>) l_source )
+                    );
+                else
+                    p_variables.add( ( (IVariable<Object>) ( (IVariable<?>) l_target ).shallowcopy() ).set( l_source ) );
+                continue;
+            }
+
+            if ( l_target instanceof ILiteral )
+                bind( p_variables, ( (ILiteral) l_source ).orderedvaluelist(), ( (ILiteral) l_target ).orderedvaluelist() );
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.instantiable.plan.trigger;
+
+import com.google.common.collect.ForwardingSetMultimap;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
+import com.google.common.collect.SetMultimap;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * multimap with trigger keys, all modifications are
+ * synchronized with a discrimination tree, so the values
+ * which can match a trigger are found without unification,
+ * views of the multimap are read-only
+ *
+ * @tparam V value type
+ */
+public final class CTriggerMultimap<V> extends ForwardingSetMultimap<ITrigger, V>
+{
+    /**
+     * multimap
+     */
+    private final SetMultimap<ITrigger, V> m_multimap = Multimaps.synchronizedSetMultimap( HashMultimap.create() );
+    /**
+     * read-only view
+     */
+    private final SetMultimap<ITrigger, V> m_view = Multimaps.unmodifiableSetMultimap( m_multimap );
+    /**
+     * trigger index
+     */
+    private final CTriggerIndex<V> m_index = new CTriggerIndex<>();
+
+
+    /**
+     * returns all values which can match the trigger
+     *
+     * @param p_trigger trigger
+     * @return collection of values
+     */
+    public final synchronized Collection<V> match( final ITrigger p_trigger )
+    {
+        return m_index.match( p_trigger );
+    }
+
+    @Override
+    public final synchronized boolean put( final ITrigger p_key, final V p_value )
+    {
+        if ( !m_multimap.put( p_key, p_value ) )
+            return false;
+
+        m_index.add( p_key, p_value );
+        return true;
+    }
+
+    @Override
+    public final synchronized boolean putAll( final ITrigger p_key, final Iterable<? extends V> p_values )
+    {
+        boolean l_changed = false;
+        for ( final V l_value : p_values )
+            l_changed |= this.put( p_key, l_value );
+        return l_changed;
+    }
+
+    @Override
+    public final synchronized boolean putAll( final Multimap<? extends ITrigger, ? extends V> p_multimap )
+    {
+        boolean l_changed = false;
+        for ( final Map.Entry<? extends ITrigger, ? extends V> l_entry : p_multimap.entries() )
+            l_changed |= this.put( l_entry.getKey(), l_entry.getValue() );
+        return l_changed;
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public final synchronized boolean remove( final Object p_key, final Object p_value )
+    {
+        if ( ( !( p_key instanceof ITrigger ) ) || ( !m_multimap.remove( p_key, p_value ) ) )
+            return false;
+
+        m_index.remove( (ITrigger) p_key, (V) p_value );
+        return true;
+    }
+
+    @Override
+    public final synchronized Set<V> removeAll( final Object p_key )
+    {
+        final Set<V> l_values = m_multimap.removeAll( p_key );
+        if ( p_key instanceof ITrigger )
+            l_values.forEach( i -> m_index.remove( (ITrigger) p_key, i ) );
+        return l_values;
+    }
+
+    @Override
+    public final synchronized Set<V> replaceValues( final ITrigger p_key, final Iterable<? extends V> p_values )
+    {
+        final Set<V> l_values = this.removeAll( p_key );
+        this.putAll( p_key, p_values );
+        return l_values;
+    }
+
+    @Override
+    public final synchronized void clear()
+    {
+        m_multimap.clear();
+        m_index.clear();
+    }
+
+    @Override
+    protected final SetMultimap<ITrigger, V> delegate()
+    {
+        return m_view;
+    }
+
+}
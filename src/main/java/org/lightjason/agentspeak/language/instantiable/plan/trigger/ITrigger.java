@@ -28,6 +28,7 @@ import org.lightjason.agentspeak.error.CIllegalArgumentException;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.IShallowCopy;
 
+import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
@@ -41,7 +42,7 @@ import java.util.stream.Collectors;
  * and number of arguments are equal, otherwise unification is used
  * to define the literal variables
  */
-public interface ITrigger extends IShallowCopy<ITrigger>, Comparable<ITrigger>
+public interface ITrigger extends Serializable, IShallowCopy<ITrigger>, Comparable<ITrigger>
 {
 
     /**
@@ -31,11 +31,14 @@ import org.lightjason.agentspeak.language.execution.IExecution;
 import org.lightjason.agentspeak.language.execution.action.achievement_test.CAchievementRuleLiteral;
 import org.lightjason.agentspeak.language.execution.annotation.IAnnotation;
 import org.lightjason.agentspeak.language.instantiable.IBaseInstantiable;
+import org.lightjason.agentspeak.language.instantiable.IInstantiable;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
 import java.text.MessageFormat;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -45,6 +48,10 @@ import java.util.stream.Stream;
  */
 public final class CRule extends IBaseInstantiable implements IRule
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 9102983242343296724L;
     /**
      * identifier of the rule
      */
@@ -57,22 +64,61 @@ public final class CRule extends IBaseInstantiable implements IRule
      * @param p_action action list
      */
     public CRule( final ILiteral p_id, final List<IExecution> p_action )
+    {
+        this( p_id, p_action, Collections.<IAnnotation<?>>emptySet() );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_id literal with signature
+     * @param p_action action list
+     * @param p_annotation annotations
+     */
+    public CRule( final ILiteral p_id, final List<IExecution> p_action, final Set<IAnnotation<?>> p_annotation )
     {
         super(
             p_action,
-            Collections.<IAnnotation<?>>emptySet(),
+            p_annotation,
             p_id.hashCode()
             + p_action.stream().mapToInt( Object::hashCode ).sum()
+            + p_annotation.stream().mapToInt( Object::hashCode ).sum()
         );
         m_id = p_id;
     }
 
+    /**
+     * rebuilds the rule on deserialization for
+     * recalculating the cached hash value
+     *
+     * @return new rule
+     */
+    private Object readResolve()
+    {
+        return new CRule( m_id, m_action, new HashSet<>( m_annotation.values() ) );
+    }
+
+    @Override
+    protected final boolean equalstructure( final IInstantiable p_instantiable )
+    {
+        return ( p_instantiable instanceof CRule )
+               && ( m_id.equals( ( (CRule) p_instantiable ).m_id ) )
+               && ( m_action.equals( ( (CRule) p_instantiable ).m_action ) )
+               && ( m_annotation.equals( ( (CRule) p_instantiable ).m_annotation ) );
+    }
+
     @Override
     public final ILiteral getIdentifier()
     {
         return m_id;
     }
 
+    @Override
+    public final boolean tabling()
+    {
+        return m_annotation.containsKey( IAnnotation.EType.TABLING );
+    }
+
     @Override
     @SuppressWarnings( "unchecked" )
     public final IRule replaceplaceholder( final Multimap<IPath, IRule> p_rules )
@@ -85,7 +131,8 @@ public final class CRule extends IBaseInstantiable implements IRule
                                        // behaviour on rule unification
                                        ? new CAchievementRuleLiteral( (ILiteral) ( (CRulePlaceholder) i ).getIdentifier().deepcopy() )
                                        : i
-            ).collect( Collectors.toList() )
+            ).collect( Collectors.toList() ),
+            new HashSet<>( m_annotation.values() )
         );
     }
 
@@ -0,0 +1,258 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.instantiable.rule;
+
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Multimap;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.IRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * immutable clause index of rules, the clauses of each functor are
+ * indexed by the constant (raw value or literal functor) of the first
+ * argument, clauses with a variable as first argument are part of
+ * each bucket, so a lookup returns the clauses in definition order,
+ * which can unify the call
+ *
+ * @note the index is a superset filter of the unification and it
+ * is not modified after construction, so lookups are thread-safe
+ */
+public final class CRuleIndex
+{
+    /**
+     * empty index
+     */
+    public static final CRuleIndex EMPTY = new CRuleIndex( ImmutableSetMultimap.of() );
+    /**
+     * rules with identifier
+     */
+    private final ImmutableSetMultimap<IPath, IRule> m_rules;
+    /**
+     * clauses of each functor
+     */
+    private final Map<IPath, CClauses> m_clauses;
+    /**
+     * number of distinct variables within the rule identifier
+     */
+    private final Map<IRule, Integer> m_variables;
+
+
+    /**
+     * ctor
+     *
+     * @param p_rules multimap with rule identifier and rules
+     */
+    public CRuleIndex( final Multimap<IPath, IRule> p_rules )
+    {
+        m_rules = ImmutableSetMultimap.copyOf( p_rules );
+
+        final Map<IPath, CClauses> l_clauses = new HashMap<>();
+        m_rules.asMap().forEach( ( k, v ) -> l_clauses.put( k, new CClauses( v ) ) );
+        m_clauses = Collections.unmodifiableMap( l_clauses );
+
+        final Map<IRule, Integer> l_variables = new HashMap<>();
+        m_rules.values().forEach( i -> l_variables.put( i, CCommon.variablefrequency( i.getIdentifier() ).size() ) );
+        m_variables = Collections.unmodifiableMap( l_variables );
+    }
+
+    /**
+     * returns the rules
+     *
+     * @return multimap with rule identifier and rules
+     */
+    public final ImmutableSetMultimap<IPath, IRule> rules()
+    {
+        return m_rules;
+    }
+
+    /**
+     * returns the clauses which can unify the call
+     *
+     * @param p_call allocated call literal
+     * @return clauses in definition order
+     */
+    public final List<IRule> candidates( final ILiteral p_call )
+    {
+        final CClauses l_clauses = m_clauses.get( p_call.fqnfunctor() );
+        return l_clauses == null
+               ? Collections.emptyList()
+               : l_clauses.candidates( p_call.emptyValues() ? null : CRuleIndex.key( p_call.orderedvaluelist().get( 0 ), true ) );
+    }
+
+    /**
+     * returns the tabling flag of a functor, tabling applies
+     * per functor, so a call of a functor with a tabled clause
+     * is tabled with the answer of all clauses
+     *
+     * @param p_functor rule functor
+     * @return flag, that any clause of the functor is tabled
+     */
+    public final boolean tabling( final IPath p_functor )
+    {
+        final CClauses l_clauses = m_clauses.get( p_functor );
+        return ( l_clauses != null ) && ( l_clauses.m_tabling );
+    }
+
+    /**
+     * returns the number of distinct variables within the rule identifier
+     *
+     * @param p_rule rule
+     * @return number of variables
+     */
+    public final int variables( final IRule p_rule )
+    {
+        final Integer l_variables = m_variables.get( p_rule );
+        return l_variables == null ? CCommon.variablefrequency( p_rule.getIdentifier() ).size() : l_variables;
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format( "rule index ( functors: {0} / rules: {1} )", m_clauses.size(), m_rules.size() );
+    }
+
+    /**
+     * returns the index key of an argument
+     *
+     * @param p_term argument
+     * @param p_call flag, that the argument is part of the call, so allocated variables are resolved
+     * @return key or null if the argument matches any constant
+     */
+    private static Object key( final ITerm p_term, final boolean p_call )
+    {
+        if ( p_term instanceof IVariable<?> )
+            return p_call && ( (IVariable<?>) p_term ).allocated() ? CRuleIndex.value( ( (IVariable<?>) p_term ).raw() ) : null;
+
+        if ( p_term instanceof IRawTerm<?> )
+            return CRuleIndex.value( p_term.raw() );
+
+        if ( p_term instanceof ILiteral )
+            return p_term.fqnfunctor();
+
+        return null;
+    }
+
+    /**
+     * returns the index key of a raw value,
+     * numbers are equal on equal numeric value
+     *
+     * @param p_value raw value
+     * @return key
+     */
+    private static Object value( final Object p_value )
+    {
+        if ( p_value instanceof Number )
+            return ( (Number) p_value ).doubleValue();
+
+        if ( p_value instanceof ILiteral )
+            return ( (ILiteral) p_value ).fqnfunctor();
+
+        return p_value;
+    }
+
+
+    /**
+     * clauses of a functor
+     */
+    private static final class CClauses
+    {
+        /**
+         * all clauses
+         */
+        private final List<IRule> m_all;
+        /**
+         * clauses, which first argument matches any constant
+         */
+        private final List<IRule> m_any;
+        /**
+         * clauses of each constant including the clauses, which matches any constant
+         */
+        private final Map<Object, List<IRule>> m_bucket;
+        /**
+         * tabling flag, which is set if any clause is tabled
+         */
+        private final boolean m_tabling;
+
+        /**
+         * ctor
+         *
+         * @param p_rules clauses in definition order
+         */
+        CClauses( final Collection<IRule> p_rules )
+        {
+            m_all = Collections.unmodifiableList( new ArrayList<>( p_rules ) );
+            m_tabling = m_all.stream().anyMatch( IRule::tabling );
+
+            final List<Object> l_keys = new ArrayList<>( m_all.size() );
+            m_all.forEach( i -> l_keys.add( i.getIdentifier().emptyValues() ? null : CRuleIndex.key( i.getIdentifier().orderedvaluelist().get( 0 ), false ) ) );
+
+            final List<IRule> l_any = new ArrayList<>();
+            final Map<Object, List<IRule>> l_bucket = new LinkedHashMap<>();
+            for ( int i = 0; i < m_all.size(); i++ )
+            {
+                final IRule l_rule = m_all.get( i );
+                final Object l_key = l_keys.get( i );
+                if ( l_key == null )
+                {
+                    // clauses without a constant are added to all buckets, so the definition order is kept
+                    l_any.add( l_rule );
+                    l_bucket.values().forEach( j -> j.add( l_rule ) );
+                    continue;
+                }
+
+                l_bucket.computeIfAbsent( l_key, j -> new ArrayList<>( l_any ) ).add( l_rule );
+            }
+
+            m_any = Collections.unmodifiableList( l_any );
+            l_bucket.replaceAll( ( k, v ) -> Collections.unmodifiableList( v ) );
+            m_bucket = Collections.unmodifiableMap( l_bucket );
+        }
+
+        /**
+         * returns the candidate clauses
+         *
+         * @param p_key index key of the call or null
+         * @return clauses
+         */
+        final List<IRule> candidates( final Object p_key )
+        {
+            return p_key == null ? m_all : m_bucket.getOrDefault( p_key, m_any );
+        }
+    }
+
+}
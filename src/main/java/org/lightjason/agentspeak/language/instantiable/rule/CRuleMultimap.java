@@ -0,0 +1,149 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.instantiable.rule;
+
+import com.google.common.collect.ForwardingSetMultimap;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.SetMultimap;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.ILiteral;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+
+/**
+ * rule multimap of an agent, the rules are read from an immutable
+ * snapshot with clause index, so the rule execution does not need
+ * a lock, a modification creates a new snapshot, because rules
+ * are rarely changed at runtime, views of the multimap are read-only
+ */
+public final class CRuleMultimap extends ForwardingSetMultimap<IPath, IRule>
+{
+    /**
+     * current snapshot
+     */
+    private volatile CRuleIndex m_index;
+
+
+    /**
+     * ctor
+     *
+     * @param p_index initial snapshot, which can be shared
+     */
+    public CRuleMultimap( final CRuleIndex p_index )
+    {
+        m_index = p_index;
+    }
+
+    /**
+     * returns the current snapshot
+     *
+     * @return rule index
+     */
+    public final CRuleIndex index()
+    {
+        return m_index;
+    }
+
+    /**
+     * returns the clauses which can unify the call
+     *
+     * @param p_call allocated call literal
+     * @return clauses in definition order
+     */
+    public final List<IRule> candidates( final ILiteral p_call )
+    {
+        return m_index.candidates( p_call );
+    }
+
+    @Override
+    public final boolean put( final IPath p_key, final IRule p_value )
+    {
+        return this.modify( i -> i.put( p_key, p_value ) );
+    }
+
+    @Override
+    public final boolean putAll( final IPath p_key, final Iterable<? extends IRule> p_values )
+    {
+        return this.modify( i -> i.putAll( p_key, p_values ) );
+    }
+
+    @Override
+    public final boolean putAll( final Multimap<? extends IPath, ? extends IRule> p_multimap )
+    {
+        return this.modify( i -> i.putAll( p_multimap ) );
+    }
+
+    @Override
+    public final boolean remove( final Object p_key, final Object p_value )
+    {
+        return this.modify( i -> i.remove( p_key, p_value ) );
+    }
+
+    @Override
+    public final Set<IRule> removeAll( final Object p_key )
+    {
+        return this.modify( i -> i.removeAll( p_key ) );
+    }
+
+    @Override
+    public final Set<IRule> replaceValues( final IPath p_key, final Iterable<? extends IRule> p_values )
+    {
+        return this.modify( i -> i.replaceValues( p_key, p_values ) );
+    }
+
+    @Override
+    public final void clear()
+    {
+        this.modify( i -> {
+            i.clear();
+            return null;
+        } );
+    }
+
+    @Override
+    protected final SetMultimap<IPath, IRule> delegate()
+    {
+        return m_index.rules();
+    }
+
+    /**
+     * modifies a copy of the snapshot and replaces the snapshot
+     *
+     * @param p_modification modification
+     * @return modification result
+     * @tparam R result type
+     */
+    private synchronized <R> R modify( final Function<SetMultimap<IPath, IRule>, R> p_modification )
+    {
+        final SetMultimap<IPath, IRule> l_copy = LinkedHashMultimap.create( m_index.rules() );
+        final R l_result = p_modification.apply( l_copy );
+        m_index = new CRuleIndex( l_copy );
+        return l_result;
+    }
+
+}
@@ -49,6 +49,10 @@ import java.util.stream.Stream;
  */
 public final class CRulePlaceholder implements IRule
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 7552730301035383937L;
     /**
      * identifier of the rule
      */
@@ -71,6 +75,12 @@ public final class CRulePlaceholder implements IRule
         return m_id;
     }
 
+    @Override
+    public final boolean tabling()
+    {
+        return false;
+    }
+
     @Override
     public final IRule replaceplaceholder( final Multimap<IPath, IRule> p_rules )
     {
@@ -114,7 +124,8 @@ public final class CRulePlaceholder implements IRule
     @Override
     public final boolean equals( final Object p_object )
     {
-        return ( p_object != null ) && ( p_object instanceof IRule ) && ( this.hashCode() == p_object.hashCode() );
+        return ( this == p_object )
+               || ( p_object instanceof IRule ) && ( this.hashCode() == p_object.hashCode() ) && ( m_id.equals( ( (IRule) p_object ).getIdentifier() ) );
     }
 
     @Override
@@ -0,0 +1,182 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.instantiable.rule;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.lightjason.agentspeak.agent.metric.ICycleMetric;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.IRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.variable.CVariable;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+
+/**
+ * table of rule answers, the answer is memoized per call pattern,
+ * which is defined by the functor and the bound arguments, the unbound
+ * variables of the call are normalized by their position, so p(X, Y)
+ * and p(A, B) share the answer, the table is cleared by the agent
+ * on each cycle and on each belief modification of the agent
+ *
+ * @note tabling applies per functor, the answer is the result of all
+ * clauses of the functor, so a single tabled clause tables the functor
+ */
+public final class CRuleTable
+{
+    /**
+     * map with call pattern and answer (fuzzy result and values of the unbound variables)
+     */
+    private final Map<Pair<IPath, List<ITerm>>, Pair<IFuzzyValue<Boolean>, List<Object>>> m_table = new ConcurrentHashMap<>();
+
+    /**
+     * executes a rule call with tabling, on a table hit the stored
+     * answer is allocated to the unbound variables of the call
+     *
+     * @param p_context execution context
+     * @param p_call allocated call literal
+     * @param p_execution rule execution
+     * @return execution result
+     */
+    @SuppressWarnings( "unchecked" )
+    public final IFuzzyValue<Boolean> execute( final IContext p_context, final ILiteral p_call, final Supplier<IFuzzyValue<Boolean>> p_execution )
+    {
+        // calls with annotations or unbound variables within nested literals are not tabled
+        final List<IVariable<?>> l_unbound = new ArrayList<>();
+        final List<ITerm> l_pattern = p_call.emptyAnnotations() ? CRuleTable.pattern( p_call.orderedvaluelist(), l_unbound ) : null;
+        if ( l_pattern == null )
+            return p_execution.get();
+
+        final Pair<IPath, List<ITerm>> l_key = new ImmutablePair<>( p_call.fqnfunctor(), l_pattern );
+        final Pair<IFuzzyValue<Boolean>, List<Object>> l_answer = m_table.get( l_key );
+        if ( l_answer != null )
+        {
+            p_context.agent().metric().count( ICycleMetric.ECounter.TABLEHIT, 1 );
+            for ( int i = 0; i < l_answer.getRight().size(); i++ )
+                ( (IVariable<Object>) l_unbound.get( i ) ).set( l_answer.getRight().get( i ) );
+            return l_answer.getLeft();
+        }
+
+        p_context.agent().metric().count( ICycleMetric.ECounter.TABLEMISS, 1 );
+        final IFuzzyValue<Boolean> l_result = p_execution.get();
+
+        // on success the unbound variables are allocated by the rule, so the values are stored
+        m_table.putIfAbsent(
+            l_key,
+            new ImmutablePair<>(
+                l_result,
+                p_context.agent().fuzzy().getDefuzzyfication().defuzzify( l_result )
+                ? l_unbound.stream().map( IVariable::raw ).collect( Collectors.toList() )
+                : Collections.emptyList()
+            )
+        );
+
+        return l_result;
+    }
+
+    /**
+     * clears the table
+     *
+     * @return self reference
+     */
+    public final CRuleTable clear()
+    {
+        m_table.clear();
+        return this;
+    }
+
+    /**
+     * returns the number of tabled call patterns
+     *
+     * @return size
+     */
+    public final int size()
+    {
+        return m_table.size();
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format( "rule table: {0}", m_table.size() );
+    }
+
+    /**
+     * builds the call pattern of the arguments
+     *
+     * @param p_arguments arguments
+     * @param p_unbound list with unbound variables in order of their first occurrence
+     * @return pattern or null if the call cannot be tabled
+     */
+    private static List<ITerm> pattern( final List<ITerm> p_arguments, final List<IVariable<?>> p_unbound )
+    {
+        final List<ITerm> l_pattern = new ArrayList<>( p_arguments.size() );
+        for ( final ITerm l_term : p_arguments )
+        {
+            if ( l_term instanceof IVariable<?> )
+            {
+                final IVariable<?> l_variable = (IVariable<?>) l_term;
+                if ( l_variable.allocated() )
+                {
+                    l_pattern.add( CRawTerm.from( l_variable.raw() ) );
+                    continue;
+                }
+
+                // unbound variables are normalized by the index of their first occurrence
+                int l_index = p_unbound.indexOf( l_variable );
+                if ( l_index < 0 )
+                {
+                    l_index = p_unbound.size();
+                    p_unbound.add( l_variable );
+                }
+                l_pattern.add( new CVariable<>( "_" + l_index ) );
+                continue;
+            }
+
+            if ( ( l_term instanceof IRawTerm<?> ) || ( ( l_term instanceof ILiteral ) && ( !( (ILiteral) l_term ).hasVariable() ) ) )
+            {
+                l_pattern.add( l_term );
+                continue;
+            }
+
+            return null;
+        }
+
+        return l_pattern;
+    }
+
+}
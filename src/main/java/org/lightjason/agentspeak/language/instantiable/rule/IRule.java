@@ -42,6 +42,18 @@ public interface IRule extends IInstantiable
      */
     ILiteral getIdentifier();
 
+    /**
+     * returns the tabling flag, so the
+     * answers of the rule are memoized
+     *
+     * @note tabling applies per functor like a Prolog
+     * table declaration, so if any clause of the functor is
+     * tabled, all calls of the functor use the rule table
+     *
+     * @return tabling flag
+     */
+    boolean tabling();
+
     /**
      * replaces all placeholder objects and reinstantiate object
      *
@@ -35,6 +35,10 @@ import org.lightjason.agentspeak.error.CIllegalStateException;
  */
 public final class CConstant<T> extends CVariable<T>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 8202219046875001578L;
 
     /**
      * ctor
@@ -33,6 +33,10 @@ import org.lightjason.agentspeak.common.IPath;
  */
 public class CMutexVariable<T> extends CVariable<T>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3105114082020602521L;
 
     /**
      * ctor
@@ -36,6 +36,10 @@ import org.lightjason.agentspeak.language.ITerm;
  */
 public final class CRelocateMutexVariable<T> extends CMutexVariable<T> implements IRelocateVariable
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4844658803106698534L;
     /**
      * reference to relocated variable
      */
@@ -38,6 +38,10 @@ import java.text.MessageFormat;
  */
 public final class CRelocateVariable<T> extends CVariable<T> implements IRelocateVariable
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5525283166023546469L;
     /**
      * reference to relocated variable
      */
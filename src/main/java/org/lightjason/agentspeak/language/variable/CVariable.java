@@ -42,6 +42,10 @@ import java.util.Arrays;
  */
 public class CVariable<T> implements IVariable<T>
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2663960691843323596L;
     /**
      * variable / functor name
      */
@@ -158,7 +162,8 @@ public class CVariable<T> implements IVariable<T>
     @Override
     public final boolean equals( final Object p_object )
     {
-        return ( p_object != null ) && ( p_object instanceof IVariable<?> ) && ( this.hashCode() == p_object.hashCode() );
+        return ( this == p_object )
+               || ( p_object instanceof IVariable<?> ) && ( this.hashCode() == p_object.hashCode() ) && ( m_functor.equals( ( (IVariable<?>) p_object ).fqnfunctor() ) );
     }
 
     @Override
@@ -42,6 +42,10 @@ import java.util.stream.Stream;
  */
 public final class CVariableEvaluate implements IVariableEvaluate
 {
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1283149877957401242L;
     /**
      * content variable with a string or literal
      */
@@ -24,12 +24,16 @@
 package org.lightjason.agentspeak.agent;
 
 import org.junit.Test;
+import org.lightjason.agentspeak.agent.unify.CArray;
 import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CLiteral;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.variable.IVariable;
 
 import java.text.MessageFormat;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.Stack;
@@ -37,6 +41,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -169,6 +174,35 @@ public final class TestCUnifier
     }
 
 
+    /**
+     * test the array-based unify, variables are bound as copies
+     * and a failed unification does not return or modify variables
+     *
+     * @throws Exception parser exception
+     */
+    @Test
+    public final void testArrayUnify() throws Exception
+    {
+        final ILiteral l_target = CLiteral.parse( "foo(X, bar(Y))" );
+        final Set<IVariable<?>> l_variables = new HashSet<>();
+
+        assertTrue( new CArray().unify( l_variables, CLiteral.parse( "foo(1, bar(2))" ).orderedvalues(), l_target.orderedvalues() ) );
+        assertEquals(
+            Stream.of( "X", "Y" ).collect( Collectors.toSet() ),
+            l_variables.stream().map( i -> i.fqnfunctor().toString() ).collect( Collectors.toSet() )
+        );
+        assertTrue( l_variables.stream().allMatch( IVariable::allocated ) );
+        assertTrue( CCommon.recursiveterm( l_target.orderedvalues() ).noneMatch( i -> ( i instanceof IVariable<?> ) && ( (IVariable<?>) i ).allocated() ) );
+
+        l_variables.clear();
+        assertFalse( new CArray().unify( l_variables, CLiteral.parse( "foo(1, baz(2))" ).orderedvalues(), l_target.orderedvalues() ) );
+        assertFalse( new CArray().unify( l_variables, CLiteral.parse( "foo(1, bar(2, 3))" ).orderedvalues(), l_target.orderedvalues() ) );
+        assertFalse( new CArray().unify( l_variables, CLiteral.parse( "foo(1, bar(2), 3)" ).orderedvalues(), l_target.orderedvalues() ) );
+        assertTrue( l_variables.isEmpty() );
+        assertTrue( CCommon.recursiveterm( l_target.orderedvalues() ).noneMatch( i -> ( i instanceof IVariable<?> ) && ( (IVariable<?>) i ).allocated() ) );
+    }
+
+
     /**
      * manuell running test
      *
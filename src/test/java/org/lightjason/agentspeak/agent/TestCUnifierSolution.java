@@ -0,0 +1,243 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.fuzzy.CBoolFuzzy;
+import org.lightjason.agentspeak.agent.policy.CParallelPolicy;
+import org.lightjason.agentspeak.agent.policy.IExecutionPolicy;
+import org.lightjason.agentspeak.agent.unify.CHash;
+import org.lightjason.agentspeak.agent.unify.CRecursive;
+import org.lightjason.agentspeak.agent.unify.CUnifier;
+import org.lightjason.agentspeak.agent.unify.IAlgorithm;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.configuration.CAgentOptions;
+import org.lightjason.agentspeak.configuration.CDefaultAgentConfiguration;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.grammar.CAgentImage;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.score.IAggregation;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test for the first solution semantic of the
+ * unification with the beliefbase
+ */
+public final class TestCUnifierSolution
+{
+    /**
+     * number of candidate beliefs
+     */
+    private static final int BELIEFS = 100;
+    /**
+     * number of algorithm calls of each candidate, values and annotations are unified separately
+     */
+    private static final int CALLS = 2;
+    /**
+     * agent script
+     */
+    private static final String SCRIPT = "+!unify <- >>foo(X); +result(X).\n"
+                                         + "+!sequential <- >>( foo(X), X > 0 ); +result(X).\n"
+                                         + "+!single <- >>( foo(X), X == 42 ); +result(X).\n"
+                                         + "+!none <- >>( foo(X), X > 1000 ); +result(X).\n"
+                                         + "+!concurrent <- @>>( foo(X), X > 0 ); +result(X).\n"
+                                         + "+!concurrentsingle <- @>>( foo(X), X == 42 ); +result(X).\n"
+                                         + "+!concurrentnone <- @>>( foo(X), X > 1000 ); +result(X).\n";
+
+    /**
+     * test that the unification without constraint
+     * stops at the first candidate
+     *
+     * @throws Exception on agent execution
+     */
+    @Test
+    public final void unify() throws Exception
+    {
+        final AtomicLong l_counter = new AtomicLong();
+        final List<Number> l_result = TestCUnifierSolution.run( "unify", IExecutionPolicy.SEQUENTIAL, l_counter );
+
+        assertEquals( 1, l_result.size() );
+        assertEquals( CALLS, l_counter.get() );
+    }
+
+    /**
+     * test that the sequential unification stops at the
+     * first candidate, which passes the constraint
+     *
+     * @throws Exception on agent execution
+     */
+    @Test
+    public final void sequential() throws Exception
+    {
+        final AtomicLong l_counter = new AtomicLong();
+        final List<Number> l_result = TestCUnifierSolution.run( "sequential", IExecutionPolicy.SEQUENTIAL, l_counter );
+
+        assertEquals( 1, l_result.size() );
+        assertTrue( l_result.get( 0 ).doubleValue() > 0 );
+        assertEquals( CALLS, l_counter.get() );
+
+        l_counter.set( 0 );
+        assertEquals( Collections.singletonList( 42.0 ), TestCUnifierSolution.run( "single", IExecutionPolicy.SEQUENTIAL, l_counter ) );
+        assertTrue( l_counter.get() <= CALLS * BELIEFS );
+    }
+
+    /**
+     * test that the parallel unification binds
+     * exactly one solution, which passes the constraint
+     *
+     * @throws Exception on agent execution
+     */
+    @Test
+    public final void parallel() throws Exception
+    {
+        final AtomicLong l_counter = new AtomicLong();
+        final List<Number> l_result = TestCUnifierSolution.run( "concurrent", new CParallelPolicy(), l_counter );
+
+        assertEquals( 1, l_result.size() );
+        assertTrue( l_result.get( 0 ).doubleValue() > 0 );
+        assertTrue( l_counter.get() <= CALLS * BELIEFS );
+
+        assertEquals( Collections.singletonList( 42.0 ), TestCUnifierSolution.run( "concurrentsingle", new CParallelPolicy(), l_counter ) );
+    }
+
+    /**
+     * test that all candidates are unified
+     * if no candidate passes the constraint
+     *
+     * @throws Exception on agent execution
+     */
+    @Test
+    public final void none() throws Exception
+    {
+        final AtomicLong l_counter = new AtomicLong();
+        assertTrue( TestCUnifierSolution.run( "none", IExecutionPolicy.SEQUENTIAL, l_counter ).isEmpty() );
+        assertEquals( CALLS * BELIEFS, l_counter.get() );
+
+        assertTrue( TestCUnifierSolution.run( "concurrentnone", new CParallelPolicy(), new AtomicLong() ).isEmpty() );
+    }
+
+
+    /**
+     * runs a goal on an agent with the candidate beliefs
+     *
+     * @param p_goal goal name
+     * @param p_policy execution policy
+     * @param p_counter counter of the unification algorithm calls
+     * @return values of the result beliefs
+     * @throws Exception on agent execution
+     */
+    private static List<Number> run( final String p_goal, final IExecutionPolicy p_policy, final AtomicLong p_counter ) throws Exception
+    {
+        final CAgentImage l_image = CAgentImage.parse( new ByteArrayInputStream( SCRIPT.getBytes( StandardCharsets.UTF_8 ) ), Collections.emptySet() );
+        final IAgent<?> l_agent = new CAgent(
+            new CDefaultAgentConfiguration<>(
+                new CBoolFuzzy<>(),
+                IntStream.rangeClosed( 1, BELIEFS ).mapToObj( i -> CLiteral.from( "foo", CRawTerm.from( (double) i ) ) ).collect( Collectors.toList() ),
+                l_image.plans(), l_image.rules(),
+                null, new CUnifier( new CCounter( new CHash(), p_counter ), new CCounter( new CRecursive(), p_counter ) ), IAggregation.EMPTY, IVariableBuilder.EMPTY,
+                new CAgentOptions<CAgent>().executionpolicy( p_policy )
+            )
+        );
+
+        l_agent.trigger( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( p_goal ) ) );
+        l_agent.call();
+        l_agent.call();
+
+        return l_agent.beliefbase()
+                      .stream( CPath.from( "result" ) )
+                      .map( i -> i.orderedvaluelist().get( 0 ).<Number>raw() )
+                      .collect( Collectors.toList() );
+    }
+
+
+    /**
+     * unify algorithm, which counts the calls
+     */
+    private static final class CCounter implements IAlgorithm
+    {
+        /**
+         * unify algorithm
+         */
+        private final IAlgorithm m_algorithm;
+        /**
+         * call counter
+         */
+        private final AtomicLong m_counter;
+
+        /**
+         * ctor
+         *
+         * @param p_algorithm unify algorithm
+         * @param p_counter call counter
+         */
+        CCounter( final IAlgorithm p_algorithm, final AtomicLong p_counter )
+        {
+            m_algorithm = p_algorithm;
+            m_counter = p_counter;
+        }
+
+        @Override
+        public final <T extends ITerm> boolean unify( final Set<IVariable<?>> p_variables, final Stream<T> p_source, final Stream<T> p_target )
+        {
+            m_counter.incrementAndGet();
+            return m_algorithm.unify( p_variables, p_source, p_target );
+        }
+    }
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<CAgent>
+    {
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( final IAgentConfiguration<CAgent> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.metric;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.configuration.CAgentOptions;
+import org.lightjason.agentspeak.configuration.CDefaultAgentConfiguration;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.agent.fuzzy.CBoolFuzzy;
+import org.lightjason.agentspeak.agent.unify.CUnifier;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.score.IAggregation;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test for the cycle metric
+ */
+public final class TestCCycleMetric
+{
+
+    /**
+     * test counters and phase histograms
+     */
+    @Test
+    public final void record()
+    {
+        final ICycleMetric l_metric = new CCycleMetric();
+
+        l_metric.count( ICycleMetric.ECounter.MATCHED, 3 ).count( ICycleMetric.ECounter.MATCHED, 2 );
+        l_metric.record( ICycleMetric.EPhase.UNIFY, l_metric.start() ).record( ICycleMetric.EPhase.UNIFY, l_metric.start() );
+
+        assertEquals( 5, l_metric.counter( ICycleMetric.ECounter.MATCHED ) );
+        assertEquals( 0, l_metric.counter( ICycleMetric.ECounter.FAILED ) );
+        assertEquals( 2, l_metric.histogram( ICycleMetric.EPhase.UNIFY ).count() );
+        assertEquals( 0, l_metric.histogram( ICycleMetric.EPhase.CYCLE ).count() );
+
+        l_metric.clear();
+        assertEquals( 0, l_metric.counter( ICycleMetric.ECounter.MATCHED ) );
+        assertEquals( 0, l_metric.histogram( ICycleMetric.EPhase.UNIFY ).count() );
+    }
+
+    /**
+     * test that the empty metric does not
+     * record and shares the empty histogram
+     */
+    @Test
+    public final void empty()
+    {
+        ICycleMetric.EMPTY.count( ICycleMetric.ECounter.TRIGGER, 5 ).record( ICycleMetric.EPhase.CYCLE, 0 );
+
+        assertEquals( 0, ICycleMetric.EMPTY.start() );
+        assertEquals( 0, ICycleMetric.EMPTY.counter( ICycleMetric.ECounter.TRIGGER ) );
+        assertSame( ICycleMetric.EMPTY.histogram( ICycleMetric.EPhase.CYCLE ), ICycleMetric.EMPTY.histogram( ICycleMetric.EPhase.UNIFY ) );
+        assertEquals( 0, ICycleMetric.EMPTY.histogram( ICycleMetric.EPhase.CYCLE ).count() );
+    }
+
+    /**
+     * test the phases of agent cycles, the cycle, update and trigger
+     * phases are recorded once for each cycle, the trigger are counted
+     *
+     * @throws Exception on agent execution
+     */
+    @Test
+    public final void cycle() throws Exception
+    {
+        final ICycleMetric l_metric = new CCycleMetric();
+        final IAgent<?> l_agent = new CAgent(
+            new CDefaultAgentConfiguration<>(
+                new CBoolFuzzy<>(), Collections.emptyList(), Collections.emptySet(), Collections.emptySet(),
+                null, new CUnifier(), IAggregation.EMPTY, IVariableBuilder.EMPTY,
+                new CAgentOptions<CAgent>().metric( l_metric )
+            )
+        );
+
+        l_agent.trigger( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "foo" ) ) );
+        l_agent.trigger( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "bar" ) ) );
+        l_agent.call();
+        l_agent.call();
+
+        assertEquals( 2, l_metric.histogram( ICycleMetric.EPhase.CYCLE ).count() );
+        assertEquals( 2, l_metric.histogram( ICycleMetric.EPhase.UPDATE ).count() );
+        assertEquals( 2, l_metric.histogram( ICycleMetric.EPhase.TRIGGER ).count() );
+        assertEquals( 2, l_metric.counter( ICycleMetric.ECounter.TRIGGER ) );
+        assertEquals( 0, l_metric.counter( ICycleMetric.ECounter.MATCHED ) );
+        assertTrue( l_metric.histogram( ICycleMetric.EPhase.CYCLE ).max() >= l_metric.histogram( ICycleMetric.EPhase.TRIGGER ).max() );
+    }
+
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<CAgent>
+    {
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( final IAgentConfiguration<CAgent> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.metric;
+
+import org.junit.Test;
+
+import java.util.stream.LongStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * test for the cumulative histogram
+ */
+public final class TestCHistogram
+{
+
+    /**
+     * test bucket assignment of the power-of-two buckets
+     */
+    @Test
+    public final void buckets()
+    {
+        final CHistogram l_histogram = new CHistogram().record( 0 ).record( 1 ).record( 2 ).record( 3 ).record( 4 ).record( -5 );
+        final long[] l_buckets = l_histogram.buckets();
+
+        assertEquals( CHistogram.BUCKETS, l_buckets.length );
+        assertEquals( 2, l_buckets[0] );
+        assertEquals( 1, l_buckets[1] );
+        assertEquals( 2, l_buckets[2] );
+        assertEquals( 1, l_buckets[3] );
+
+        assertEquals( 0, CHistogram.upperbound( 0 ) );
+        assertEquals( 3, CHistogram.upperbound( 2 ) );
+        assertEquals( Long.MAX_VALUE, CHistogram.upperbound( CHistogram.BUCKETS - 1 ) );
+    }
+
+    /**
+     * test cumulative counts and statistic values
+     */
+    @Test
+    public final void statistic()
+    {
+        final CHistogram l_histogram = new CHistogram();
+        LongStream.rangeClosed( 1, 100 ).forEach( l_histogram::record );
+
+        assertEquals( 100, l_histogram.count() );
+        assertEquals( 5050, l_histogram.sum() );
+        assertEquals( 100, l_histogram.max() );
+        assertEquals( 50.5, l_histogram.mean(), 0 );
+
+        final long[] l_cumulative = l_histogram.cumulative();
+        assertEquals( 1, l_cumulative[1] );
+        assertEquals( 3, l_cumulative[2] );
+        assertEquals( 100, l_cumulative[CHistogram.BUCKETS - 1] );
+
+        // percentile returns the upper bound of the bucket, bounded by the maximum
+        assertEquals( 63, l_histogram.percentile( 0.5 ) );
+        assertEquals( 100, l_histogram.percentile( 1 ) );
+        assertEquals( 1, l_histogram.percentile( 0 ) );
+    }
+
+    /**
+     * test clearing
+     */
+    @Test
+    public final void clear()
+    {
+        final CHistogram l_histogram = new CHistogram().record( 10 ).record( 1000 ).clear();
+
+        assertEquals( 0, l_histogram.count() );
+        assertEquals( 0, l_histogram.sum() );
+        assertEquals( 0, l_histogram.max() );
+        assertEquals( 0, l_histogram.percentile( 0.5 ) );
+        assertArrayEquals( new long[CHistogram.BUCKETS], l_histogram.cumulative() );
+    }
+
+    /**
+     * test that the shared empty histogram does not record
+     */
+    @Test
+    public final void empty()
+    {
+        CHistogram.EMPTY.record( 5 ).record( 7 );
+
+        assertEquals( 0, CHistogram.EMPTY.count() );
+        assertEquals( 0, CHistogram.EMPTY.max() );
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.policy;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.error.CIllegalArgumentException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test of the execution policies
+ */
+public final class TestCExecutionPolicy
+{
+    /**
+     * test elements
+     */
+    private static final List<Integer> ELEMENTS = IntStream.range( 0, 100 ).boxed().collect( Collectors.toList() );
+
+    /**
+     * test sequential policy
+     */
+    @Test
+    public final void sequential()
+    {
+        final IExecutionPolicy l_policy = new CSequentialPolicy();
+        final Thread l_thread = Thread.currentThread();
+
+        assertFalse( l_policy.stream( ELEMENTS ).isParallel() );
+        assertFalse( l_policy.stream( ELEMENTS.parallelStream() ).isParallel() );
+        assertSame( l_thread, l_policy.evaluate( Thread::currentThread ) );
+        assertEquals( ELEMENTS, l_policy.stream( ELEMENTS ).collect( Collectors.toList() ) );
+    }
+
+    /**
+     * test parallel policy on a dedicated pool,
+     * the task runs within the pool
+     */
+    @Test
+    public final void parallel()
+    {
+        final ForkJoinPool l_pool = new ForkJoinPool( 2 );
+        try
+        {
+            final IExecutionPolicy l_policy = new CParallelPolicy( l_pool );
+
+            assertTrue( l_policy.stream( ELEMENTS ).isParallel() );
+            assertTrue( l_policy.stream( ELEMENTS.stream() ).isParallel() );
+            assertSame( l_pool, l_policy.evaluate( ForkJoinTask::getPool ) );
+            assertEquals(
+                ELEMENTS.stream().mapToInt( i -> i ).sum(),
+                (int) l_policy.evaluate( () -> l_policy.stream( ELEMENTS ).mapToInt( i -> i ).sum() )
+            );
+        }
+        finally
+        {
+            l_pool.shutdown();
+        }
+    }
+
+    /**
+     * test parallel policy on the common pool, the
+     * task runs within the calling thread
+     */
+    @Test
+    public final void parallelcommon()
+    {
+        final Thread l_thread = Thread.currentThread();
+        assertSame( l_thread, new CParallelPolicy().evaluate( Thread::currentThread ) );
+    }
+
+    /**
+     * test that a pool is required
+     */
+    @Test( expected = CIllegalArgumentException.class )
+    public final void parallelnopool()
+    {
+        new CParallelPolicy( null );
+    }
+
+    /**
+     * test adaptive policy threshold
+     */
+    @Test
+    public final void adaptive()
+    {
+        final IExecutionPolicy l_policy = new CAdaptivePolicy( 10 );
+
+        assertFalse( l_policy.stream( ELEMENTS.subList( 0, 9 ) ).isParallel() );
+        assertTrue( l_policy.stream( ELEMENTS.subList( 0, 10 ) ).isParallel() );
+        assertFalse( l_policy.stream( ELEMENTS.subList( 0, 9 ).parallelStream() ).isParallel() );
+        assertTrue( l_policy.stream( ELEMENTS.stream() ).isParallel() );
+        assertFalse( l_policy.stream( Collections.<Integer>emptyList() ).isParallel() );
+    }
+
+    /**
+     * test adaptive policy on streams with unknown
+     * size, the execution mode is kept
+     */
+    @Test
+    public final void adaptiveunknownsize()
+    {
+        final IExecutionPolicy l_policy = new CAdaptivePolicy( 10 );
+
+        assertFalse( l_policy.stream( Stream.iterate( 0, i -> i + 1 ).limit( 100 ) ).isParallel() );
+        assertTrue( l_policy.stream( Stream.iterate( 0, i -> i + 1 ).limit( 100 ).parallel() ).isParallel() );
+        assertEquals( ELEMENTS, l_policy.stream( ELEMENTS.stream().filter( i -> true ) ).collect( Collectors.toList() ) );
+    }
+
+    /**
+     * test adaptive policy evaluation on a dedicated pool
+     */
+    @Test
+    public final void adaptivepool()
+    {
+        final ForkJoinPool l_pool = new ForkJoinPool( 2 );
+        try
+        {
+            assertSame( l_pool, new CAdaptivePolicy( 10, l_pool ).evaluate( ForkJoinTask::getPool ) );
+        }
+        finally
+        {
+            l_pool.shutdown();
+        }
+    }
+
+    /**
+     * test invalid threshold
+     */
+    @Test( expected = CIllegalArgumentException.class )
+    public final void adaptivethreshold()
+    {
+        new CAdaptivePolicy( 0 );
+    }
+
+}
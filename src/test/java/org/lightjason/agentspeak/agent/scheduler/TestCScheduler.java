@@ -0,0 +1,260 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.scheduler;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.configuration.CDefaultAgentConfiguration;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogManager;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test of the population scheduler
+ */
+public final class TestCScheduler
+{
+    /**
+     * agent configuration
+     */
+    private static final IAgentConfiguration<CAgent> CONFIGURATION = new CDefaultAgentConfiguration<>();
+
+    static
+    {
+        // disable logger
+        LogManager.getLogManager().reset();
+    }
+
+
+    /**
+     * test stepping of a population
+     */
+    @Test
+    public final void step()
+    {
+        final List<CAgent> l_agents = IntStream.range( 0, 1000 ).mapToObj( i -> new CAgent() ).collect( Collectors.toList() );
+        final IScheduler<CAgent> l_scheduler = new CScheduler<CAgent>( 3, 16, 0, TimeUnit.NANOSECONDS ).add( l_agents.stream() );
+
+        IntStream.range( 0, 10 ).forEach( i -> l_scheduler.step() );
+        l_scheduler.stop();
+
+        assertEquals( l_agents.size(), l_scheduler.size() );
+        assertEquals( 10, l_scheduler.cycle() );
+        assertEquals( 10, l_scheduler.statistic().count() );
+        assertTrue( l_agents.stream().allMatch( i -> i.cycle() == 10 ) );
+    }
+
+    /**
+     * test removing agents
+     */
+    @Test
+    public final void remove()
+    {
+        final List<CAgent> l_agents = IntStream.range( 0, 100 ).mapToObj( i -> new CAgent() ).collect( Collectors.toList() );
+        final IScheduler<CAgent> l_scheduler = new CScheduler<CAgent>( 2, 8, 0, TimeUnit.NANOSECONDS ).add( l_agents.stream() );
+
+        l_scheduler.step();
+        l_scheduler.remove( l_agents.stream().limit( 50 ) ).step();
+        l_scheduler.stop();
+
+        assertEquals( 50, l_scheduler.size() );
+        assertTrue( l_agents.stream().limit( 50 ).allMatch( i -> i.cycle() == 1 ) );
+        assertTrue( l_agents.stream().skip( 50 ).allMatch( i -> i.cycle() == 2 ) );
+    }
+
+    /**
+     * test parking of sleeping agents, the cycles
+     * must be equal to a sequential execution
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void sleeping() throws Exception
+    {
+        final CAgent l_sequential = new CAgent();
+        final CAgent l_parked = new CAgent();
+        final IScheduler<CAgent> l_scheduler = new CScheduler<CAgent>( 1, 8, 0, TimeUnit.NANOSECONDS ).add( Stream.of( l_parked ) );
+
+        l_sequential.sleep( 5 );
+        l_parked.sleep( 5 );
+
+        for ( int i = 0; i < 10; i++ )
+        {
+            l_sequential.call();
+            l_scheduler.step();
+            assertEquals( l_sequential.cycle(), l_parked.cycle() );
+        }
+
+        assertEquals( 6, l_parked.cycle() );
+        assertEquals( 0, l_scheduler.sleeping() );
+        l_scheduler.stop();
+    }
+
+    /**
+     * test wake-up of an infinity sleeping agent
+     */
+    @Test
+    public final void wakeup()
+    {
+        final CAgent l_agent = new CAgent();
+        final IScheduler<CAgent> l_scheduler = new CScheduler<CAgent>( 1, 8, 0, TimeUnit.NANOSECONDS ).add( Stream.of( l_agent ) );
+
+        l_agent.sleep( Long.MAX_VALUE );
+        IntStream.range( 0, 100 ).forEach( i -> l_scheduler.step() );
+
+        assertEquals( 1, l_scheduler.sleeping() );
+        assertEquals( 0, l_agent.cycle() );
+
+        l_agent.wakeup();
+        l_scheduler.step();
+        l_scheduler.stop();
+
+        assertEquals( 0, l_scheduler.sleeping() );
+        assertEquals( 1, l_agent.cycle() );
+    }
+
+    /**
+     * test that a trigger wakes up
+     * an infinity sleeping agent
+     */
+    @Test
+    public final void trigger()
+    {
+        final CAgent l_agent = new CAgent();
+        final IScheduler<CAgent> l_scheduler = new CScheduler<CAgent>( 1, 8, 0, TimeUnit.NANOSECONDS ).add( Stream.of( l_agent ) );
+
+        l_agent.sleep( Long.MAX_VALUE );
+        IntStream.range( 0, 10 ).forEach( i -> l_scheduler.step() );
+        assertEquals( 1, l_scheduler.sleeping() );
+
+        l_agent.trigger( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "foo" ) ) );
+        l_scheduler.step();
+        l_scheduler.stop();
+
+        assertFalse( l_agent.sleeping() );
+        assertEquals( 0, l_scheduler.sleeping() );
+        assertEquals( 1, l_agent.cycle() );
+    }
+
+    /**
+     * test continuous execution
+     *
+     * @throws InterruptedException on sleeping interrupt
+     */
+    @Test
+    public final void continuous() throws InterruptedException
+    {
+        final IScheduler<CAgent> l_scheduler = new CScheduler<CAgent>( 1, TimeUnit.MILLISECONDS )
+            .add( IntStream.range( 0, 100 ).mapToObj( i -> new CAgent() ) )
+            .start();
+
+        Thread.sleep( 100 );
+        l_scheduler.stop();
+
+        assertTrue( !l_scheduler.running() );
+        assertTrue( l_scheduler.cycle() > 0 );
+        assertTrue( l_scheduler.statistic().percentile( 0.99 ) >= l_scheduler.statistic().percentile( 0.5 ) );
+    }
+
+    /**
+     * test that a stop call within an agent
+     * cycle shuts down the loop and the workers
+     *
+     * @throws InterruptedException on sleeping interrupt
+     */
+    @Test
+    public final void stopwithincycle() throws InterruptedException
+    {
+        final CStopAgent l_agent = new CStopAgent();
+        final IScheduler<CAgent> l_scheduler = new CScheduler<CAgent>( 2, 8, 0, TimeUnit.NANOSECONDS ).add( Stream.of( l_agent ) );
+        l_agent.m_scheduler = l_scheduler;
+        l_scheduler.start();
+
+        for ( int i = 0; ( i < 500 ) && ( TestCScheduler.threads() > 0 ); i++ )
+            Thread.sleep( 10 );
+
+        assertTrue( !l_scheduler.running() );
+        assertEquals( 0, TestCScheduler.threads() );
+    }
+
+    /**
+     * returns the number of living scheduler threads
+     *
+     * @return number of loop and worker threads
+     */
+    private static long threads()
+    {
+        return Thread.getAllStackTraces().keySet().stream()
+                     .filter( i -> i.getName().startsWith( CScheduler.class.getSimpleName() + "-" ) )
+                     .filter( Thread::isAlive )
+                     .count();
+    }
+
+
+    /**
+     * agent class
+     */
+    private static class CAgent extends IBaseAgent<CAgent>
+    {
+        /**
+         * ctor
+         */
+        CAgent()
+        {
+            super( CONFIGURATION );
+        }
+    }
+
+    /**
+     * agent class, which stops the scheduler within the cycle
+     */
+    private static final class CStopAgent extends CAgent
+    {
+        /**
+         * scheduler
+         */
+        private volatile IScheduler<CAgent> m_scheduler;
+
+        @Override
+        public final CAgent call() throws Exception
+        {
+            final CAgent l_agent = super.call();
+            m_scheduler.stop();
+            return l_agent;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.scheduler;
+
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test of the timing wheel
+ */
+public final class TestCTimingWheel
+{
+
+    /**
+     * test expiration of random deadlines
+     * over multiple levels
+     */
+    @Test
+    public final void expiration()
+    {
+        final Random l_random = new Random( 42 );
+        final CTimingWheel<Integer> l_wheel = new CTimingWheel<>( 17 );
+        final Map<Integer, Long> l_deadline = new HashMap<>();
+
+        IntStream.range( 0, 2000 ).forEach( i -> {
+            final long l_value = 18 + l_random.nextInt( i % 2 == 0 ? 100 : 300000 );
+            l_deadline.put( i, l_value );
+            l_wheel.schedule( i, l_value );
+        } );
+        assertEquals( l_deadline.size(), l_wheel.size() );
+
+        while ( l_wheel.size() > 0 )
+        {
+            final Collection<Integer> l_expired = l_wheel.advance();
+            l_expired.forEach( i -> assertEquals( l_deadline.remove( i ).longValue(), l_wheel.time() ) );
+        }
+
+        assertTrue( l_deadline.isEmpty() );
+    }
+
+    /**
+     * test cancel and infinity deadline
+     */
+    @Test
+    public final void cancel()
+    {
+        final CTimingWheel<String> l_wheel = new CTimingWheel<>();
+
+        l_wheel.schedule( "a", 5000 ).schedule( "b", CTimingWheel.INFINITY ).schedule( "c", 3 );
+        assertTrue( l_wheel.cancel( "a" ) );
+        assertFalse( l_wheel.cancel( "a" ) );
+
+        IntStream.range( 0, 10000 ).forEach( i -> {
+            final Collection<String> l_expired = l_wheel.advance();
+            assertTrue( l_wheel.time() == 3 ? l_expired.contains( "c" ) : l_expired.isEmpty() );
+        } );
+
+        assertTrue( l_wheel.contains( "b" ) );
+        assertEquals( 1, l_wheel.size() );
+    }
+
+}
@@ -0,0 +1,288 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.beliefbase;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.beliefbase.storage.CConcurrentMultiStorage;
+import org.lightjason.agentspeak.beliefbase.storage.CMultiStorage;
+import org.lightjason.agentspeak.beliefbase.view.IView;
+import org.lightjason.agentspeak.error.CIllegalArgumentException;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.variable.CVariable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+
+/**
+ * test for the argument index of literals
+ */
+public final class TestCArgumentIndex
+{
+    /**
+     * functor of the literals
+     */
+    private static final String FUNCTOR = "foo";
+    /**
+     * literal with the arguments 1 and a
+     */
+    private static final String FOO1A = "foo(1, 'a')";
+    /**
+     * literal with the arguments 1 and b
+     */
+    private static final String FOO1B = "foo(1, 'b')";
+    /**
+     * number of threads of the concurrent test
+     */
+    private static final int THREADS = 4;
+    /**
+     * number of modifications of each thread
+     */
+    private static final int MODIFICATIONS = 5000;
+    /**
+     * number of distinct first arguments of the concurrent test
+     */
+    private static final int ARGUMENTS = 10;
+
+    /**
+     * test narrowing by the first argument, literals
+     * without a raw first argument are always candidates
+     *
+     * @throws Exception on parsing exception
+     */
+    @Test
+    public final void firstargument() throws Exception
+    {
+        final CArgumentIndex l_index = new CArgumentIndex();
+        TestCArgumentIndex.add( l_index, FOO1A, FOO1B, "foo(2, 'a')", "foo(bar(1), 'c')" );
+
+        assertEquals(
+            TestCArgumentIndex.literals( FOO1A, FOO1B, "foo(bar(1), 'c')" ),
+            TestCArgumentIndex.candidates( l_index, "foo(1, X)" )
+        );
+        assertEquals(
+            TestCArgumentIndex.literals( "foo(bar(1), 'c')" ),
+            TestCArgumentIndex.candidates( l_index, "foo(3, X)" )
+        );
+    }
+
+    /**
+     * test that the default is returned if no
+     * index can be used
+     *
+     * @throws Exception on parsing exception
+     */
+    @Test
+    public final void fallback() throws Exception
+    {
+        final CArgumentIndex l_index = new CArgumentIndex();
+        final Collection<ILiteral> l_default = Collections.emptyList();
+        TestCArgumentIndex.add( l_index, FOO1A );
+
+        assertSame( l_default, l_index.candidates( FUNCTOR, CLiteral.parse( "foo(X, 'a')" ), l_default ) );
+        assertSame( l_default, l_index.candidates( FUNCTOR, CLiteral.parse( FUNCTOR ), l_default ) );
+        assertSame( l_default, l_index.candidates( "bar", CLiteral.parse( "bar(1)" ), l_default ) );
+    }
+
+    /**
+     * test composite index, which is used if all
+     * arguments are bound, otherwise the first argument
+     * index is used
+     *
+     * @throws Exception on parsing exception
+     */
+    @Test
+    public final void composite() throws Exception
+    {
+        final CArgumentIndex l_index = new CArgumentIndex( ImmutableMap.of( FUNCTOR, Collections.singletonList( Arrays.asList( 0, 1 ) ) ) );
+        TestCArgumentIndex.add( l_index, FOO1A, FOO1B, "foo(2, 'a')" );
+
+        assertEquals( TestCArgumentIndex.literals( FOO1B ), TestCArgumentIndex.candidates( l_index, FOO1B ) );
+        assertEquals( TestCArgumentIndex.literals( FOO1A, FOO1B ), TestCArgumentIndex.candidates( l_index, "foo(1, X)" ) );
+        assertEquals( Collections.emptySet(), TestCArgumentIndex.candidates( l_index, "foo(2, 'b')" ) );
+    }
+
+    /**
+     * test index maintenance on remove and clear
+     *
+     * @throws Exception on parsing exception
+     */
+    @Test
+    public final void maintenance() throws Exception
+    {
+        final CArgumentIndex l_index = new CArgumentIndex( ImmutableMap.of( FUNCTOR, Collections.singletonList( Arrays.asList( 0, 1 ) ) ) );
+        TestCArgumentIndex.add( l_index, FOO1A, FOO1B, "foo(bar, 'c')" );
+
+        l_index.remove( CLiteral.parse( FOO1A ) );
+        l_index.remove( CLiteral.parse( "foo(bar, 'c')" ) );
+        assertEquals( TestCArgumentIndex.literals( FOO1B ), TestCArgumentIndex.candidates( l_index, "foo(1, X)" ) );
+        assertEquals( Collections.emptySet(), TestCArgumentIndex.candidates( l_index, FOO1A ) );
+
+        l_index.clear();
+        final Collection<ILiteral> l_default = Collections.emptyList();
+        assertSame( l_default, l_index.candidates( FUNCTOR, CLiteral.parse( "foo(1, X)" ), l_default ) );
+    }
+
+    /**
+     * test invalid index positions
+     */
+    @Test( expected = CIllegalArgumentException.class )
+    public final void position()
+    {
+        new CArgumentIndex( ImmutableMap.of( FUNCTOR, Collections.singletonList( Arrays.asList( 0, -1 ) ) ) );
+    }
+
+    /**
+     * test that the composite index of the options
+     * is used by the beliefbase
+     *
+     * @throws Exception on parsing exception
+     */
+    @Test
+    public final void beliefbase() throws Exception
+    {
+        final IView<IAgent<?>> l_beliefbase = new CBeliefbasePersistent<>(
+            new CMultiStorage<>(), CBeliefbaseOptions.DEFAULT.composite( FUNCTOR, 0, 1 )
+        ).create( "root" );
+        Stream.of( FOO1A, FOO1B, "foo(2, 'a')" ).map( TestCArgumentIndex::parse ).forEach( l_beliefbase::add );
+
+        assertEquals(
+            TestCArgumentIndex.literals( FOO1A ),
+            new HashSet<>( l_beliefbase.beliefbase().literal( FUNCTOR, CLiteral.parse( FOO1A ) ) )
+        );
+
+        l_beliefbase.remove( CLiteral.parse( FOO1A ) );
+        assertEquals( Collections.emptySet(), new HashSet<>( l_beliefbase.beliefbase().literal( FUNCTOR, CLiteral.parse( FOO1A ) ) ) );
+    }
+
+
+    /**
+     * test that concurrent add and remove of equal literals
+     * keeps the index equal to the storage
+     *
+     * @throws Exception on parsing or thread exception
+     */
+    @Test
+    public final void concurrent() throws Exception
+    {
+        final IView<IAgent<?>> l_beliefbase = new CBeliefbasePersistent<>( new CConcurrentMultiStorage<>() ).create( "root" );
+        final ExecutorService l_executor = Executors.newFixedThreadPool( THREADS );
+
+        final List<Future<?>> l_futures = IntStream.range( 0, THREADS ).mapToObj( i -> l_executor.submit( () -> {
+            for ( int j = 0; j < MODIFICATIONS; j++ )
+            {
+                final ILiteral l_literal = CLiteral.from( FUNCTOR, CRawTerm.from( j % ARGUMENTS ), CRawTerm.from( "a" ) );
+                if ( ( i + j ) % 2 == 0 )
+                    l_beliefbase.add( l_literal );
+                else
+                    l_beliefbase.remove( l_literal );
+            }
+        } ) ).collect( Collectors.toList() );
+        for ( final Future<?> l_future : l_futures )
+            l_future.get();
+        l_executor.shutdown();
+
+        for ( int i = 0; i < ARGUMENTS; i++ )
+        {
+            final int l_argument = i;
+            assertEquals(
+                l_beliefbase.beliefbase().literal( FUNCTOR ).stream()
+                            .filter( j -> j.orderedvaluelist().get( 0 ).<Number>raw().intValue() == l_argument )
+                            .collect( Collectors.toSet() ),
+                new HashSet<>( l_beliefbase.beliefbase().literal( FUNCTOR, CLiteral.from( FUNCTOR, CRawTerm.from( i ), new CVariable<>( "X" ) ) ) )
+            );
+        }
+    }
+
+    /**
+     * adds literals to the index
+     *
+     * @param p_index index
+     * @param p_literals literal strings
+     */
+    private static void add( final CArgumentIndex p_index, final String... p_literals )
+    {
+        Arrays.stream( p_literals ).map( TestCArgumentIndex::parse ).forEach( p_index::add );
+    }
+
+    /**
+     * returns the candidates of a literal
+     *
+     * @param p_index index
+     * @param p_literal literal string
+     * @return candidate set
+     * @throws Exception on parsing exception
+     */
+    private static Set<ILiteral> candidates( final CArgumentIndex p_index, final String p_literal ) throws Exception
+    {
+        return new HashSet<>( p_index.candidates( FUNCTOR, CLiteral.parse( p_literal ), Collections.emptyList() ) );
+    }
+
+    /**
+     * parses literals
+     *
+     * @param p_literals literal strings
+     * @return literal set
+     */
+    private static Set<ILiteral> literals( final String... p_literals )
+    {
+        return Arrays.stream( p_literals ).map( TestCArgumentIndex::parse ).collect( Collectors.toSet() );
+    }
+
+    /**
+     * parses a literal
+     *
+     * @param p_literal literal string
+     * @return literal
+     */
+    private static ILiteral parse( final String p_literal )
+    {
+        try
+        {
+            return CLiteral.parse( p_literal );
+        }
+        catch ( final Exception l_exception )
+        {
+            throw new RuntimeException( l_exception );
+        }
+    }
+
+}
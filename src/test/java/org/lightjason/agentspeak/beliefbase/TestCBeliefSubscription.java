@@ -0,0 +1,143 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.beliefbase;
+
+import org.apache.commons.lang3.tuple.ImmutableTriple;
+import org.junit.Test;
+import org.lightjason.agentspeak.grammar.CAgentImage;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.instantiable.CLibrary;
+import org.lightjason.agentspeak.language.instantiable.plan.CPlanMultimap;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test for the belief subscription of the plan triggers
+ */
+public final class TestCBeliefSubscription
+{
+    /**
+     * agent script
+     */
+    private static final String SCRIPT = "+foo <- +bar.\n-foo/bar <- +baz.\n+!goal <- +bar.\n";
+    /**
+     * functor foo
+     */
+    private static final String FOO = "foo";
+    /**
+     * functor bar
+     */
+    private static final String BAR = "bar";
+
+    /**
+     * test that events are subscribed on equal
+     * event type and functor only
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void subscribed() throws Exception
+    {
+        final IBeliefSubscription l_subscription = new CBeliefSubscription( TestCBeliefSubscription.plans( SCRIPT ) );
+
+        assertTrue( l_subscription.subscribed( ITrigger.EType.ADDBELIEF, CLiteral.from( FOO ) ) );
+        assertFalse( l_subscription.subscribed( ITrigger.EType.DELETEBELIEF, CLiteral.from( FOO ) ) );
+        assertFalse( l_subscription.subscribed( ITrigger.EType.ADDBELIEF, CLiteral.from( BAR ) ) );
+        assertFalse( l_subscription.subscribed( ITrigger.EType.ADDBELIEF, CLiteral.from( "goal" ) ) );
+    }
+
+    /**
+     * test that the functor name without path is
+     * subscribed, so view relative literals pass
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void path() throws Exception
+    {
+        final IBeliefSubscription l_subscription = new CBeliefSubscription( TestCBeliefSubscription.plans( SCRIPT ) );
+
+        assertTrue( l_subscription.subscribed( ITrigger.EType.DELETEBELIEF, CLiteral.from( BAR ) ) );
+        assertTrue( l_subscription.subscribed( ITrigger.EType.DELETEBELIEF, CLiteral.from( "foo/bar" ) ) );
+        assertTrue( l_subscription.subscribed( ITrigger.EType.DELETEBELIEF, CLiteral.from( "other/bar" ) ) );
+        assertFalse( l_subscription.subscribed( ITrigger.EType.DELETEBELIEF, CLiteral.from( "bar/foo" ) ) );
+    }
+
+    /**
+     * test that the subscription is rebuilt
+     * on a modification of the plans
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void modification() throws Exception
+    {
+        final CPlanMultimap l_plans = TestCBeliefSubscription.plans( SCRIPT );
+        final IBeliefSubscription l_subscription = new CBeliefSubscription( l_plans );
+        assertFalse( l_subscription.subscribed( ITrigger.EType.ADDBELIEF, CLiteral.from( BAR ) ) );
+
+        final IPlan l_plan = TestCBeliefSubscription.image( "+bar <- +foo.\n" ).plans().iterator().next();
+        l_plans.put( l_plan.getTrigger(), new ImmutableTriple<>( l_plan, new AtomicLong(), new AtomicLong() ) );
+        assertTrue( l_subscription.subscribed( ITrigger.EType.ADDBELIEF, CLiteral.from( BAR ) ) );
+
+        l_plans.removeAll( l_plan.getTrigger() );
+        assertFalse( l_subscription.subscribed( ITrigger.EType.ADDBELIEF, CLiteral.from( BAR ) ) );
+        assertTrue( l_subscription.subscribed( ITrigger.EType.ADDBELIEF, CLiteral.from( FOO ) ) );
+    }
+
+
+    /**
+     * parses a script
+     *
+     * @param p_script script
+     * @return image
+     * @throws Exception on parsing error
+     */
+    private static CAgentImage image( final String p_script ) throws Exception
+    {
+        return CAgentImage.parse( new ByteArrayInputStream( p_script.getBytes( StandardCharsets.UTF_8 ) ), Collections.emptySet() );
+    }
+
+    /**
+     * creates the plan multimap of a script
+     *
+     * @param p_script script
+     * @return plan multimap
+     * @throws Exception on parsing error
+     */
+    private static CPlanMultimap plans( final String p_script ) throws Exception
+    {
+        return new CPlanMultimap( new CLibrary( TestCBeliefSubscription.image( p_script ).plans(), Collections.emptySet() ) );
+    }
+
+}
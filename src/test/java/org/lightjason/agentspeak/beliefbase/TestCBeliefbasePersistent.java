@@ -0,0 +1,179 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.beliefbase;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.fuzzy.CBoolFuzzy;
+import org.lightjason.agentspeak.agent.unify.CUnifier;
+import org.lightjason.agentspeak.beliefbase.storage.CConcurrentMultiStorage;
+import org.lightjason.agentspeak.beliefbase.storage.CMultiStorage;
+import org.lightjason.agentspeak.beliefbase.storage.IStorage;
+import org.lightjason.agentspeak.beliefbase.view.IView;
+import org.lightjason.agentspeak.configuration.CAgentOptions;
+import org.lightjason.agentspeak.configuration.CDefaultAgentConfiguration;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.score.IAggregation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test of the persistent beliefbase events
+ */
+public final class TestCBeliefbasePersistent
+{
+    /**
+     * test literal
+     */
+    private static final ILiteral LITERAL = CLiteral.from( "foo" );
+
+    /**
+     * test that an existing literal is not reported as stored
+     */
+    @Test
+    public final void storage()
+    {
+        Arrays.<IStorage<ILiteral, IView<IAgent<?>>, IAgent<?>>>asList( new CMultiStorage<>(), new CConcurrentMultiStorage<>() )
+              .forEach( i ->
+              {
+                  assertTrue( i.putMultiElement( LITERAL.functor(), LITERAL ) );
+                  assertFalse( i.putMultiElement( LITERAL.functor(), LITERAL ) );
+                  assertTrue( i.removeMultiElement( LITERAL.functor(), LITERAL ) );
+                  assertFalse( i.removeMultiElement( LITERAL.functor(), LITERAL ) );
+              } );
+    }
+
+    /**
+     * test that all events are triggered without coalescing
+     */
+    @Test
+    public final void events()
+    {
+        final IView<IAgent<?>> l_beliefbase = new CBeliefbasePersistent<>( new CMultiStorage<>() ).create( "root" );
+
+        l_beliefbase.add( LITERAL );
+        l_beliefbase.remove( LITERAL );
+        assertEquals(
+            Arrays.asList( ITrigger.EType.ADDBELIEF, ITrigger.EType.DELETEBELIEF ),
+            TestCBeliefbasePersistent.trigger( l_beliefbase ).stream().sorted().collect( Collectors.toList() )
+        );
+    }
+
+    /**
+     * test that adding and deleting a new literal cancels out
+     */
+    @Test
+    public final void coalesceadddelete()
+    {
+        final IView<IAgent<?>> l_beliefbase = TestCBeliefbasePersistent.coalescing();
+
+        l_beliefbase.add( LITERAL );
+        l_beliefbase.remove( LITERAL );
+        assertEquals( Collections.emptyList(), TestCBeliefbasePersistent.trigger( l_beliefbase ) );
+    }
+
+    /**
+     * test that re-adding and deleting an existing
+     * literal triggers the deletion
+     */
+    @Test
+    public final void coalesceexisting()
+    {
+        final IView<IAgent<?>> l_beliefbase = TestCBeliefbasePersistent.coalescing();
+        l_beliefbase.add( LITERAL );
+        assertEquals( Collections.singletonList( ITrigger.EType.ADDBELIEF ), TestCBeliefbasePersistent.trigger( l_beliefbase ) );
+
+        l_beliefbase.add( LITERAL );
+        l_beliefbase.remove( LITERAL );
+        assertEquals( Collections.singletonList( ITrigger.EType.DELETEBELIEF ), TestCBeliefbasePersistent.trigger( l_beliefbase ) );
+        assertFalse( l_beliefbase.containsLiteral( LITERAL.fqnfunctor() ) );
+    }
+
+    /**
+     * test that deleting and adding an existing literal cancels out
+     */
+    @Test
+    public final void coalescedeleteadd()
+    {
+        final IView<IAgent<?>> l_beliefbase = TestCBeliefbasePersistent.coalescing();
+        l_beliefbase.add( LITERAL );
+        TestCBeliefbasePersistent.trigger( l_beliefbase );
+
+        l_beliefbase.remove( LITERAL );
+        l_beliefbase.add( LITERAL );
+        assertEquals( Collections.emptyList(), TestCBeliefbasePersistent.trigger( l_beliefbase ) );
+        assertTrue( l_beliefbase.containsLiteral( LITERAL.fqnfunctor() ) );
+    }
+
+    /**
+     * test that coalescing is set by the agent configuration
+     */
+    @Test
+    public final void configuration()
+    {
+        final IView<IAgent<?>> l_beliefbase = new CDefaultAgentConfiguration<>(
+            new CBoolFuzzy<>(), Collections.emptyList(), Collections.emptySet(), Collections.emptySet(),
+            null, new CUnifier(), IAggregation.EMPTY, IVariableBuilder.EMPTY,
+            new CAgentOptions<>().beliefbase( CBeliefbaseOptions.DEFAULT.coalesce( true ) )
+        ).beliefbase();
+
+        l_beliefbase.add( LITERAL );
+        l_beliefbase.remove( LITERAL );
+        assertEquals( Collections.emptyList(), TestCBeliefbasePersistent.trigger( l_beliefbase ) );
+    }
+
+
+    /**
+     * creates a coalescing beliefbase
+     *
+     * @return beliefbase view
+     */
+    private static IView<IAgent<?>> coalescing()
+    {
+        return new CBeliefbasePersistent<>( new CMultiStorage<>(), CBeliefbaseOptions.DEFAULT.coalesce( true ) ).create( "root" );
+    }
+
+    /**
+     * reads the trigger types of a view
+     *
+     * @param p_view view
+     * @return trigger types
+     */
+    private static List<ITrigger.EType> trigger( final IView<IAgent<?>> p_view )
+    {
+        return p_view.trigger().map( ITrigger::getType ).collect( Collectors.toList() );
+    }
+
+}
@@ -31,10 +31,14 @@ import org.lightjason.agentspeak.beliefbase.view.IView;
 import org.lightjason.agentspeak.beliefbase.view.IViewGenerator;
 import org.lightjason.agentspeak.common.CPath;
 import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.ILiteral;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 
 /**
@@ -90,6 +94,66 @@ public final class TestCView
     }
 
 
+    /**
+     * test that a repeated path lookup is served by the
+     * path cache, the storage is changed without the beliefbase,
+     * so only a cached lookup returns the previous view
+     */
+    @Test
+    public final void testPathCache()
+    {
+        final CMultiStorage<ILiteral, IView<IAgent<?>>, IAgent<?>> l_storage = new CMultiStorage<>();
+        final IView<IAgent<?>> l_beliefbase = new CBeliefbasePersistent<>( l_storage ).create( "root" );
+        final IViewGenerator<IAgent<?>> l_gen = new CGenerator();
+
+        l_beliefbase.generate( l_gen, CPath.from( "cache" ) ).add( CLiteral.from( "cache/sub" ) );
+        assertEquals( 1, l_beliefbase.stream( CPath.from( "cache/sub" ) ).count() );
+
+        l_storage.putSingleElement( "cache", l_gen.apply( "cache", l_beliefbase ) );
+        assertEquals( "path lookup is not cached", 1, l_beliefbase.stream( CPath.from( "cache/sub" ) ).count() );
+
+        // a structural change of the beliefbase invalidates the cache
+        l_beliefbase.remove( l_storage.getSingleElement( "cache" ) );
+        l_beliefbase.generate( l_gen, CPath.from( "cache" ) );
+        assertEquals( 0, l_beliefbase.stream( CPath.from( "cache/sub" ) ).count() );
+    }
+
+    /**
+     * test that path-qualified reads do not mark the
+     * beliefbase dirty and that on-demand views are polled
+     * on each update
+     */
+    @Test
+    @SuppressWarnings( "unchecked" )
+    public final void testDirty()
+    {
+        final IView<IAgent<?>> l_beliefbase = new CBeliefbasePersistent<>( new CMultiStorage<>() ).create( "root" );
+        l_beliefbase.generate( new CGenerator(), CPath.from( "dirty/sub" ) ).add( CLiteral.from( "dirty/sub/foo" ) );
+
+        l_beliefbase.update( null );
+        assertFalse( l_beliefbase.dirty() );
+
+        assertEquals( 1, l_beliefbase.stream( CPath.from( "dirty/sub/foo" ) ).count() );
+        assertTrue( l_beliefbase.containsLiteral( CPath.from( "dirty/sub/foo" ) ) );
+        l_beliefbase.generate( new CGenerator(), CPath.from( "dirty/sub" ) );
+        l_beliefbase.add( l_beliefbase.beliefbase().view( "dirty" ) );
+        assertFalse( "read marks the beliefbase dirty", l_beliefbase.dirty() );
+
+        l_beliefbase.add( CLiteral.from( "dirty/sub/bar" ) );
+        assertTrue( l_beliefbase.dirty() );
+        l_beliefbase.update( null );
+        assertFalse( l_beliefbase.dirty() );
+
+        // on-demand views are always dirty, so they are polled on each update
+        final COnDemand l_ondemand = new COnDemand();
+        l_beliefbase.add( l_ondemand.create( "ondemand", l_beliefbase ) );
+        l_beliefbase.update( null );
+        l_beliefbase.update( null );
+
+        assertEquals( 2, l_ondemand.updates() );
+        assertTrue( l_beliefbase.dirty() );
+    }
+
     /**
      * manuell running test
      *
@@ -104,6 +168,34 @@ public final class TestCView
     }
 
 
+    /**
+     * on-demand beliefbase, which counts the updates
+     */
+    private static final class COnDemand extends IBeliefbaseOnDemand<IAgent<?>>
+    {
+        /**
+         * number of updates
+         */
+        private final AtomicInteger m_updates = new AtomicInteger();
+
+        @Override
+        public final IAgent<?> update( final IAgent<?> p_agent )
+        {
+            m_updates.incrementAndGet();
+            return super.update( p_agent );
+        }
+
+        /**
+         * returns the number of updates
+         *
+         * @return updates
+         */
+        final int updates()
+        {
+            return m_updates.get();
+        }
+    }
+
     /**
      * test belief generator
      */
@@ -0,0 +1,134 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.beliefbase.storage;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.IAgent;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test of the concurrent multi-element storage
+ */
+public final class TestCConcurrentMultiStorage
+{
+    /**
+     * number of keys
+     */
+    private static final int KEYS = 10;
+    /**
+     * number of elements
+     */
+    private static final int ELEMENTS = 10000;
+    /**
+     * key
+     */
+    private static final String KEY = "key";
+
+    /**
+     * test the result of put and remove, existing elements
+     * are not stored again and empty keys are removed
+     */
+    @Test
+    public final void putremove()
+    {
+        final IStorage<String, String, IAgent<?>> l_storage = new CConcurrentMultiStorage<>();
+
+        assertTrue( l_storage.putMultiElement( KEY, "a" ) );
+        assertFalse( l_storage.putMultiElement( KEY, "a" ) );
+        assertTrue( l_storage.putMultiElement( KEY, "b" ) );
+        assertEquals( 2, l_storage.size() );
+
+        assertTrue( l_storage.removeMultiElement( KEY, "a" ) );
+        assertFalse( l_storage.removeMultiElement( KEY, "a" ) );
+        assertFalse( l_storage.removeMultiElement( "unknown", "a" ) );
+        assertTrue( l_storage.containsMultiElement( KEY ) );
+
+        assertTrue( l_storage.removeMultiElement( KEY, "b" ) );
+        assertFalse( l_storage.containsMultiElement( KEY ) );
+        assertTrue( l_storage.empty() );
+    }
+
+    /**
+     * test concurrent put and remove of different elements
+     * on shared keys, each element is added and removed once
+     */
+    @Test
+    public final void concurrentdistinct()
+    {
+        final IStorage<Integer, String, IAgent<?>> l_storage = new CConcurrentMultiStorage<>();
+
+        assertEquals(
+            ELEMENTS,
+            IntStream.range( 0, ELEMENTS ).parallel().filter( i -> l_storage.putMultiElement( KEY + ( i % KEYS ), i ) ).count()
+        );
+        assertEquals( ELEMENTS, l_storage.size() );
+        IntStream.range( 0, KEYS ).forEach( i -> assertEquals( ELEMENTS / KEYS, l_storage.getMultiElement( KEY + i ).size() ) );
+
+        final List<Integer> l_elements = l_storage.streamMultiElements().sorted().collect( Collectors.toList() );
+        assertEquals( IntStream.range( 0, ELEMENTS ).boxed().collect( Collectors.toList() ), l_elements );
+
+        assertEquals(
+            ELEMENTS,
+            IntStream.range( 0, ELEMENTS ).parallel().filter( i -> l_storage.removeMultiElement( KEY + ( i % KEYS ), i ) ).count()
+        );
+        assertTrue( l_storage.empty() );
+        IntStream.range( 0, KEYS ).forEach( i -> assertFalse( l_storage.containsMultiElement( KEY + i ) ) );
+    }
+
+    /**
+     * test concurrent put and remove of equal elements,
+     * the number of successful puts minus the number of
+     * successful removes is the number of stored elements
+     */
+    @Test
+    public final void concurrentequal()
+    {
+        final IStorage<Integer, String, IAgent<?>> l_storage = new CConcurrentMultiStorage<>();
+        final AtomicInteger l_put = new AtomicInteger();
+        final AtomicInteger l_remove = new AtomicInteger();
+
+        IntStream.range( 0, ELEMENTS ).parallel().forEach( i -> {
+            if ( i % 2 == 0 )
+            {
+                if ( l_storage.putMultiElement( KEY, i % 4 ) )
+                    l_put.incrementAndGet();
+            }
+            else if ( l_storage.removeMultiElement( KEY, ( i - 1 ) % 4 ) )
+                l_remove.incrementAndGet();
+        } );
+
+        assertEquals( l_put.get() - l_remove.get(), l_storage.size() );
+        assertEquals( l_storage.size() > 0, l_storage.containsMultiElement( KEY ) );
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.common;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test for the immutable path
+ */
+public final class TestCPath
+{
+    /**
+     * test path
+     */
+    private static final String PATH = "a/b/c";
+
+    /**
+     * test that changing methods return a copy
+     * and do not modify the source path
+     */
+    @Test
+    public final void immutable()
+    {
+        final IPath l_path = new CPath( PATH );
+
+        assertEquals( "a/b/c/d", l_path.append( "d" ).getPath() );
+        assertEquals( "x/a/b/c", l_path.pushfront( "x" ).getPath() );
+        assertEquals( "a/c", l_path.remove( 1 ).getPath() );
+        assertEquals( "c/b/a", l_path.reverse().getPath() );
+        assertEquals( "A/B/C", l_path.toUpper().getPath() );
+        assertEquals( "a.b.c", l_path.setSeparator( "." ).getPath() );
+
+        assertEquals( PATH, l_path.getPath() );
+        assertEquals( 3, l_path.size() );
+    }
+
+    /**
+     * test suffix removing returns the
+     * path without the last element
+     */
+    @Test
+    public final void removesuffix()
+    {
+        final IPath l_path = new CPath( PATH );
+
+        assertEquals( "c", l_path.getSuffix() );
+        assertEquals( new CPath( "a/b" ), l_path.removeSuffix() );
+        assertEquals( "b", l_path.removeSuffix().getSuffix() );
+        assertEquals( PATH, l_path.getPath() );
+
+        assertTrue( new CPath( "a" ).removeSuffix().isEmpty() );
+        assertSame( CPath.EMPTY, CPath.EMPTY.removeSuffix() );
+    }
+
+    /**
+     * test sub-paths, which share the elements
+     * of the source path
+     */
+    @Test
+    public final void subpath()
+    {
+        final IPath l_path = new CPath( "a/b/c/d" );
+
+        assertEquals( new CPath( "b/c" ), l_path.getSubPath( 1, 3 ) );
+        assertEquals( new CPath( PATH ), l_path.getSubPath( 0, -1 ) );
+        assertEquals( "d", l_path.getSubPath( 1 ).get( -1 ) );
+        assertTrue( l_path.getSubPath( 2, 2 ).isEmpty() );
+
+        assertTrue( l_path.startsWith( new CPath( "a/b" ) ) );
+        assertTrue( l_path.endsWith( l_path.getSubPath( 2 ) ) );
+        assertFalse( l_path.endsWith( new CPath( "b/c" ) ) );
+    }
+
+    /**
+     * test structural equality of paths
+     */
+    @Test
+    public final void equality()
+    {
+        final IPath l_path = new CPath( PATH );
+
+        assertEquals( l_path, new CPath( "a", "b", "c" ) );
+        assertEquals( l_path.hashCode(), new CPath( "x/a/b/c" ).getSubPath( 1 ).hashCode() );
+        assertEquals( l_path, new CPath( "x/a/b/c" ).getSubPath( 1 ) );
+        assertTrue( l_path.equals( PATH ) );
+
+        // equal segment hash sums must not be equal paths
+        assertEquals( l_path.hashCode(), new CPath( "c/b/a" ).hashCode() );
+        assertNotEquals( l_path, new CPath( "c/b/a" ) );
+    }
+
+    /**
+     * test the factory returns shared instances
+     */
+    @Test
+    public final void from()
+    {
+        assertSame( CPath.from( "foo/bar" ), CPath.from( "foo/bar" ) );
+        assertSame( CPath.EMPTY, CPath.from( "" ) );
+        assertTrue( CPath.EMPTY.isEmpty() );
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.common;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.error.CIllegalArgumentException;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+
+/**
+ * test of the symbol table
+ */
+public final class TestCSymbolTable
+{
+    /**
+     * number of symbols
+     */
+    private static final int SYMBOLS = 1000;
+
+    /**
+     * test that equal names get the same
+     * identifier and identifiers are dense
+     */
+    @Test
+    public final void symbol()
+    {
+        final CSymbolTable l_table = new CSymbolTable( SYMBOLS );
+        final int l_foo = l_table.symbol( "foo" );
+        final int l_bar = l_table.symbol( "bar" );
+
+        assertEquals( 1, l_foo );
+        assertEquals( 2, l_bar );
+        assertEquals( l_foo, l_table.symbol( new String( "foo" ) ) );
+        assertEquals( "foo", l_table.name( l_foo ) );
+        assertEquals( "bar", l_table.name( l_bar ) );
+        assertEquals( 2, l_table.size() );
+    }
+
+    /**
+     * test that unknown identifiers are rejected
+     */
+    @Test( expected = CIllegalArgumentException.class )
+    public final void unknown()
+    {
+        new CSymbolTable( SYMBOLS ).name( 1 );
+    }
+
+    /**
+     * test that the identifier of a path is the
+     * identifier of its name within the global table
+     */
+    @Test
+    public final void path()
+    {
+        final IPath l_path = CPath.from( "symboltable/path/test" );
+
+        assertEquals( CSymbolTable.INSTANCE.symbol( "symboltable/path/test" ), l_path.symbol() );
+        assertEquals( l_path.symbol(), CPath.createPath( "symboltable", "path", "test" ).symbol() );
+        assertNotEquals( l_path.symbol(), CPath.from( "symboltable/path" ).symbol() );
+        assertEquals( "symboltable/path/test", CSymbolTable.INSTANCE.name( l_path.symbol() ) );
+    }
+
+    /**
+     * test that concurrent registrations
+     * get unique and dense identifiers
+     */
+    @Test
+    public final void concurrent()
+    {
+        final CSymbolTable l_table = new CSymbolTable( SYMBOLS );
+        final List<Integer> l_symbols = IntStream.range( 0, SYMBOLS * 4 )
+                                                 .parallel()
+                                                 .mapToObj( i -> l_table.symbol( "symbol" + ( i % SYMBOLS ) ) )
+                                                 .collect( Collectors.toList() );
+        final Set<Integer> l_unique = l_symbols.stream().collect( Collectors.toSet() );
+
+        assertEquals( SYMBOLS, l_table.size() );
+        assertEquals( IntStream.rangeClosed( 1, SYMBOLS ).boxed().collect( Collectors.toSet() ), l_unique );
+        IntStream.range( 0, SYMBOLS ).forEach( i -> assertEquals( "symbol" + i, l_table.name( l_table.symbol( "symbol" + i ) ) ) );
+    }
+
+    /**
+     * test that the table is bounded, names
+     * after the capacity get the unknown identifier
+     */
+    @Test
+    public final void capacity()
+    {
+        final CSymbolTable l_table = new CSymbolTable( 2 );
+        final int l_first = l_table.symbol( "first" );
+        final int l_second = l_table.symbol( "second" );
+
+        assertNotEquals( CSymbolTable.UNKNOWN, l_first );
+        assertNotEquals( CSymbolTable.UNKNOWN, l_second );
+        assertEquals( CSymbolTable.UNKNOWN, l_table.symbol( "third" ) );
+        assertEquals( CSymbolTable.UNKNOWN, l_table.symbol( "fourth" ) );
+
+        assertEquals( l_first, l_table.symbol( "first" ) );
+        assertEquals( "second", l_table.name( l_second ) );
+        assertEquals( 2, l_table.size() );
+    }
+
+}
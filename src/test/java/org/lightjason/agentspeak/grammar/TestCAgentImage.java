@@ -0,0 +1,315 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.grammar;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.execution.action.CActionInputStream;
+import org.lightjason.agentspeak.language.score.IAggregation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.LogManager;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+
+
+/**
+ * test of the agent image
+ */
+public final class TestCAgentImage
+{
+    /**
+     * agent script
+     */
+    private static final Path SCRIPT = Paths.get( "src/test/resources/agent/complete.asl" );
+    /**
+     * actions
+     */
+    private static final Set<IAction> ACTIONS;
+
+    static
+    {
+        // disable logger
+        LogManager.getLogManager().reset();
+
+        ACTIONS = CCommon.actionsFromPackage().collect( Collectors.toSet() );
+    }
+
+    /**
+     * test that an agent of a stored image is
+     * structural equal to an agent of the parsed script
+     *
+     * @throws Exception on parsing or file error
+     */
+    @Test
+    public final void roundtrip() throws Exception
+    {
+        final Path l_image = Files.createTempFile( "agent", ".image" );
+        try
+        {
+            final CAgentImage l_parsed = CAgentImage.parse( Files.newInputStream( SCRIPT ), ACTIONS );
+            l_parsed.write( l_image );
+
+            final CAgentImage l_read = CAgentImage.load( Files.newInputStream( SCRIPT ), ACTIONS, l_image );
+            assertEquals( l_parsed.hash(), l_read.hash() );
+            assertEquals( String.valueOf( l_parsed.initialgoal() ), String.valueOf( l_read.initialgoal() ) );
+            assertEquals( TestCAgentImage.structure( l_parsed.initialbeliefs() ), TestCAgentImage.structure( l_read.initialbeliefs() ) );
+            assertEquals( TestCAgentImage.structure( l_parsed.plans() ), TestCAgentImage.structure( l_read.plans() ) );
+            assertEquals( TestCAgentImage.structure( l_parsed.rules() ), TestCAgentImage.structure( l_read.rules() ) );
+            assertFalse( l_read.plans().isEmpty() );
+
+            try ( final InputStream l_stream = Files.newInputStream( l_image ) )
+            {
+                assertEquals( TestCAgentImage.structure( l_parsed.plans() ), TestCAgentImage.structure( CAgentImage.read( l_stream, ACTIONS ).plans() ) );
+            }
+
+            final IAgent<?> l_agentparsed = new CGenerator( Files.newInputStream( SCRIPT ), null ).generatesingle();
+            final IAgent<?> l_agentimage = new CGenerator( Files.newInputStream( SCRIPT ), l_image ).generatesingle();
+
+            assertEquals(
+                TestCAgentImage.structure( l_agentparsed.plans().values().stream().map( i -> i.getLeft() ).collect( Collectors.toList() ) ),
+                TestCAgentImage.structure( l_agentimage.plans().values().stream().map( i -> i.getLeft() ).collect( Collectors.toList() ) )
+            );
+            assertEquals( TestCAgentImage.structure( l_agentparsed.rules().values() ), TestCAgentImage.structure( l_agentimage.rules().values() ) );
+            assertEquals(
+                TestCAgentImage.structure( l_agentparsed.beliefbase().stream().collect( Collectors.toList() ) ),
+                TestCAgentImage.structure( l_agentimage.beliefbase().stream().collect( Collectors.toList() ) )
+            );
+        }
+        finally
+        {
+            Files.deleteIfExists( l_image );
+        }
+    }
+
+    /**
+     * test that the actions of a stored image are
+     * bound again and executed by the agent
+     *
+     * @throws Exception on parsing, file or execution error
+     */
+    @Test
+    public final void action() throws Exception
+    {
+        final byte[] l_script = "!main.\n+!main <- generic/print(\"image\"); +done.\n".getBytes( StandardCharsets.UTF_8 );
+        final Path l_image = Files.createTempFile( "agent", ".image" );
+        try
+        {
+            CAgentImage.load( new ByteArrayInputStream( l_script ), ACTIONS, l_image );
+
+            final IAgent<?> l_agent = new CGenerator( new ByteArrayInputStream( l_script ), l_image ).generatesingle();
+            l_agent.call();
+            l_agent.call();
+
+            assertEquals( 1, l_agent.beliefbase().stream().filter( i -> "done".equals( i.functor() ) ).count() );
+        }
+        finally
+        {
+            Files.deleteIfExists( l_image );
+        }
+    }
+
+    /**
+     * test that an image of a changed script
+     * is not used and the image is rebuild
+     *
+     * @throws Exception on parsing or file error
+     */
+    @Test
+    public final void stale() throws Exception
+    {
+        final byte[] l_first = "+!foo <- +bar.\n".getBytes( StandardCharsets.UTF_8 );
+        final byte[] l_second = "+!foo <- +baz.\n".getBytes( StandardCharsets.UTF_8 );
+        final Path l_image = Files.createTempFile( "agent", ".image" );
+        try
+        {
+            CAgentImage.load( new ByteArrayInputStream( l_first ), Collections.emptySet(), l_image );
+            assertEquals( CAgentImage.hash( l_first, Collections.emptySet() ), TestCAgentImage.read( l_image ).hash() );
+
+            final CAgentImage l_rebuild = CAgentImage.load( new ByteArrayInputStream( l_second ), Collections.emptySet(), l_image );
+            assertEquals( CAgentImage.hash( l_second, Collections.emptySet() ), l_rebuild.hash() );
+            assertNotEquals( CAgentImage.hash( l_first, Collections.emptySet() ), l_rebuild.hash() );
+            assertEquals( TestCAgentImage.structure( CAgentImage.parse( new ByteArrayInputStream( l_second ), Collections.emptySet() ).plans() ),
+                          TestCAgentImage.structure( l_rebuild.plans() ) );
+
+            final CAgentImage l_stored = TestCAgentImage.read( l_image );
+            assertEquals( l_rebuild.hash(), l_stored.hash() );
+            assertEquals( TestCAgentImage.structure( l_rebuild.plans() ), TestCAgentImage.structure( l_stored.plans() ) );
+        }
+        finally
+        {
+            Files.deleteIfExists( l_image );
+        }
+    }
+
+    /**
+     * test that an invalid image is rebuild
+     *
+     * @throws Exception on parsing or file error
+     */
+    @Test
+    public final void invalid() throws Exception
+    {
+        final byte[] l_script = "+!foo <- +bar.\n".getBytes( StandardCharsets.UTF_8 );
+        final Path l_image = Files.createTempFile( "agent", ".image" );
+        try
+        {
+            Files.write( l_image, "no image".getBytes( StandardCharsets.UTF_8 ) );
+
+            final CAgentImage l_rebuild = CAgentImage.load( new ByteArrayInputStream( l_script ), Collections.emptySet(), l_image );
+            assertEquals( 1, l_rebuild.plans().size() );
+            assertEquals( l_rebuild.hash(), TestCAgentImage.read( l_image ).hash() );
+        }
+        finally
+        {
+            Files.deleteIfExists( l_image );
+        }
+    }
+
+    /**
+     * test that the image stream deserializes
+     * allowed classes only
+     *
+     * @throws Exception on stream error
+     */
+    @Test( expected = InvalidClassException.class )
+    public final void filter() throws Exception
+    {
+        final ByteArrayOutputStream l_buffer = new ByteArrayOutputStream();
+        try ( final ObjectOutputStream l_stream = new ObjectOutputStream( l_buffer ) )
+        {
+            l_stream.writeObject( new ArrayList<>( Arrays.asList( "foo", new int[]{1, 2}, new String[]{"bar"} ) ) );
+            l_stream.writeObject( BigInteger.ONE );
+        }
+
+        try ( final ObjectInputStream l_stream = new CActionInputStream( new ByteArrayInputStream( l_buffer.toByteArray() ), Collections.emptySet() ) )
+        {
+            assertEquals( 3, ( (List<?>) l_stream.readObject() ).size() );
+            l_stream.readObject();
+        }
+    }
+
+
+    /**
+     * reads a stored image
+     *
+     * @param p_image image file
+     * @return image
+     * @throws Exception on reading error
+     */
+    private static CAgentImage read( final Path p_image ) throws Exception
+    {
+        try ( final InputStream l_stream = Files.newInputStream( p_image ) )
+        {
+            return CAgentImage.read( l_stream, Collections.emptySet() );
+        }
+    }
+
+    /**
+     * returns the sorted structure of language elements, the
+     * object identity prefix of plans and rules is removed
+     *
+     * @param p_elements elements
+     * @return sorted list of string representations
+     */
+    private static List<String> structure( final Collection<?> p_elements )
+    {
+        return p_elements.stream()
+                         .map( Object::toString )
+                         .map( i -> i.contains( "@" ) && i.contains( " (" ) ? StringUtils.substringAfter( i, " " ) : i )
+                         .sorted()
+                         .collect( Collectors.toList() );
+    }
+
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( final IAgentConfiguration<IAgent<?>> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+    /**
+     * agent generator, which uses an image if a path is set
+     */
+    private static final class CGenerator extends IBaseAgentGenerator<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_stream script stream
+         * @param p_image image file or null
+         * @throws Exception on parsing or file error
+         */
+        CGenerator( final InputStream p_stream, final Path p_image ) throws Exception
+        {
+            super(
+                p_image == null ? CAgentImage.parse( p_stream, ACTIONS ) : CAgentImage.load( p_stream, ACTIONS, p_image ),
+                IAggregation.EMPTY, Collections.emptySet(), IVariableBuilder.EMPTY
+            );
+        }
+
+        @Override
+        public final IAgent<?> generatesingle( final Object... p_data )
+        {
+            return new CAgent( m_configuration );
+        }
+    }
+
+}
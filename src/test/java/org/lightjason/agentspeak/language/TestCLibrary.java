@@ -0,0 +1,222 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language;
+
+import org.apache.commons.lang3.tuple.ImmutableTriple;
+import org.apache.commons.lang3.tuple.Triple;
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.agent.fuzzy.CBoolFuzzy;
+import org.lightjason.agentspeak.agent.unify.CUnifier;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.configuration.CDefaultAgentConfiguration;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.grammar.CAgentImage;
+import org.lightjason.agentspeak.language.instantiable.CLibrary;
+import org.lightjason.agentspeak.language.instantiable.plan.CPlanMultimap;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.score.IAggregation;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test for the shared plan and rule library
+ */
+public final class TestCLibrary
+{
+    /**
+     * agent script
+     */
+    private static final String SCRIPT = "big(X) :- X > 10.\n+!foo <- +bar.\n+!foo <- +baz.\n";
+
+    /**
+     * test that structural equal plans are stored once
+     * and different plans with equal trigger are kept
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void distinct() throws Exception
+    {
+        final List<IPlan> l_plans = new ArrayList<>( TestCLibrary.image( SCRIPT ).plans() );
+        l_plans.addAll( TestCLibrary.image( SCRIPT ).plans() );
+        assertEquals( 4, l_plans.size() );
+
+        final CLibrary l_library = new CLibrary( l_plans, Collections.emptySet() );
+        assertEquals( 2, l_library.plans().size() );
+        assertEquals( 2, l_library.trigger().size() );
+        assertEquals( 1, l_library.trigger().keySet().size() );
+    }
+
+    /**
+     * test that agents of one configuration share the
+     * plan instances of the library
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void shared() throws Exception
+    {
+        final IAgentConfiguration<CAgent> l_configuration = TestCLibrary.configuration();
+        final IAgent<?> l_first = new CAgent( l_configuration );
+        final IAgent<?> l_second = new CAgent( l_configuration );
+
+        assertTrue( ( (CPlanMultimap) l_first.plans() ).shared() );
+        assertTrue( ( (CPlanMultimap) l_second.plans() ).shared() );
+        assertEquals( l_configuration.library().plans().size(), l_first.plans().size() );
+
+        l_first.plans().values().forEach( i -> assertTrue( l_configuration.library().plans().stream().anyMatch( j -> j == i.getLeft() ) ) );
+        l_second.plans().values().forEach( i -> assertTrue( l_configuration.library().plans().stream().anyMatch( j -> j == i.getLeft() ) ) );
+        assertSame( l_first.rules().index(), l_second.rules().index() );
+    }
+
+    /**
+     * test that modifications of the plans and rules of
+     * one agent are not visible at other agents or the library
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void copyonwrite() throws Exception
+    {
+        final IAgentConfiguration<CAgent> l_configuration = TestCLibrary.configuration();
+        final IAgent<?> l_first = new CAgent( l_configuration );
+        final IAgent<?> l_second = new CAgent( l_configuration );
+
+        final IPlan l_plan = TestCLibrary.image( "+!other <- +bar.\n" ).plans().iterator().next();
+        l_first.plans().put( l_plan.getTrigger(), new ImmutableTriple<>( l_plan, new AtomicLong(), new AtomicLong() ) );
+
+        assertFalse( ( (CPlanMultimap) l_first.plans() ).shared() );
+        assertTrue( ( (CPlanMultimap) l_second.plans() ).shared() );
+        assertEquals( 3, l_first.plans().size() );
+        assertEquals( 2, l_second.plans().size() );
+        assertEquals( 2, l_configuration.library().plans().size() );
+
+        final IPath l_rule = l_first.rules().keySet().iterator().next();
+        l_first.rules().removeAll( l_rule );
+
+        assertTrue( l_first.rules().isEmpty() );
+        assertEquals( 1, l_second.rules().size() );
+        assertEquals( 1, l_configuration.library().rules().size() );
+    }
+
+
+    /**
+     * test that the overlay of added and removed plans
+     * is merged with the library on matching
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void overlay() throws Exception
+    {
+        final IAgentConfiguration<CAgent> l_configuration = TestCLibrary.configuration();
+        final CPlanMultimap l_plans = (CPlanMultimap) new CAgent( l_configuration ).plans();
+        final ITrigger l_trigger = l_configuration.library().plans().get( 0 ).getTrigger();
+        final List<Triple<IPlan, AtomicLong, AtomicLong>> l_library = new ArrayList<>( l_plans.match( l_trigger ) );
+        assertEquals( 2, l_library.size() );
+
+        final IPlan l_plan = TestCLibrary.image( "+!foo <- +other.\n" ).plans().iterator().next();
+        final Triple<IPlan, AtomicLong, AtomicLong> l_added = new ImmutableTriple<>( l_plan, new AtomicLong(), new AtomicLong() );
+        assertTrue( l_plans.put( l_plan.getTrigger(), l_added ) );
+        assertTrue( l_plans.remove( l_trigger, l_library.get( 0 ) ) );
+        assertFalse( l_plans.shared() );
+
+        assertEquals( new HashSet<>( Arrays.asList( l_library.get( 1 ), l_added ) ), new HashSet<>( l_plans.match( l_trigger ) ) );
+        assertEquals( new HashSet<>( Arrays.asList( l_library.get( 1 ), l_added ) ), new HashSet<>( l_plans.get( l_trigger ) ) );
+        assertEquals( 2, l_plans.size() );
+
+        // a removed library plan is restored with its statistic
+        assertTrue( l_plans.put( l_trigger, l_library.get( 0 ) ) );
+        assertFalse( l_plans.put( l_trigger, l_library.get( 0 ) ) );
+        assertTrue( l_plans.remove( l_plan.getTrigger(), l_added ) );
+        assertTrue( l_plans.shared() );
+        assertEquals( new HashSet<>( l_library ), new HashSet<>( l_plans.match( l_trigger ) ) );
+
+        l_plans.removeAll( l_trigger );
+        assertTrue( l_plans.match( l_trigger ).isEmpty() );
+        assertFalse( l_plans.containsKey( l_trigger ) );
+        assertEquals( 2, l_configuration.library().plans().size() );
+    }
+
+    /**
+     * parses a script
+     *
+     * @param p_script script
+     * @return image
+     * @throws Exception on parsing error
+     */
+    private static CAgentImage image( final String p_script ) throws Exception
+    {
+        return CAgentImage.parse( new ByteArrayInputStream( p_script.getBytes( StandardCharsets.UTF_8 ) ), Collections.emptySet() );
+    }
+
+    /**
+     * creates the configuration of the test script
+     *
+     * @return configuration
+     * @throws Exception on parsing error
+     */
+    private static IAgentConfiguration<CAgent> configuration() throws Exception
+    {
+        final CAgentImage l_image = TestCLibrary.image( SCRIPT );
+        return new CDefaultAgentConfiguration<>(
+            new CBoolFuzzy<>(), Collections.emptyList(), l_image.plans(), l_image.rules(),
+            null, new CUnifier(), IAggregation.EMPTY
+        );
+    }
+
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<CAgent>
+    {
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( final IAgentConfiguration<CAgent> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+}
@@ -0,0 +1,205 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language;
+
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Multimap;
+import org.junit.Test;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.grammar.CAgentImage;
+import org.lightjason.agentspeak.language.instantiable.rule.CRuleIndex;
+import org.lightjason.agentspeak.language.instantiable.rule.IRule;
+import org.lightjason.agentspeak.language.variable.CVariable;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test for the clause index of rules
+ */
+public final class TestCRuleIndex
+{
+    /**
+     * clauses in definition order
+     */
+    private static final String[] CLAUSES = {
+        "p(1, R) :- R = 'one'.",
+        "p(X, R) :- R = 'two'.",
+        "p(2, R) :- R = 'three'.",
+        "p(foo(Y), R) :- R = 'four'.",
+        "p('a', R) :- R = 'five'.",
+        "@tabling q(X) :- X = 'one'."
+    };
+    /**
+     * plan of each script, because the grammar requires a plan
+     */
+    private static final String PLAN = "\n+!main <- +bar.\n";
+    /**
+     * functor of the indexed rule
+     */
+    private static final String FUNCTOR = "p";
+    /**
+     * result variable
+     */
+    private static final String RESULT = "R";
+
+    /**
+     * test that the candidates of a constant first argument
+     * are the clauses with equal constant and the clauses
+     * with a variable in definition order
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void constant() throws Exception
+    {
+        final List<IRule> l_rules = TestCRuleIndex.rules();
+        final CRuleIndex l_index = TestCRuleIndex.index( l_rules );
+
+        assertEquals( Arrays.asList( l_rules.get( 0 ), l_rules.get( 1 ) ), l_index.candidates( CLiteral.parse( "p(1, R)" ) ) );
+        assertEquals( Arrays.asList( l_rules.get( 1 ), l_rules.get( 2 ) ), l_index.candidates( CLiteral.parse( "p(2, R)" ) ) );
+        assertEquals( Arrays.asList( l_rules.get( 1 ), l_rules.get( 3 ) ), l_index.candidates( CLiteral.parse( "p(foo(1), R)" ) ) );
+        assertEquals( Arrays.asList( l_rules.get( 1 ), l_rules.get( 4 ) ), l_index.candidates( CLiteral.parse( "p('a', R)" ) ) );
+    }
+
+    /**
+     * test that constants without clause
+     * return the variable clauses only
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void unknown() throws Exception
+    {
+        final List<IRule> l_rules = TestCRuleIndex.rules();
+        final CRuleIndex l_index = TestCRuleIndex.index( l_rules );
+
+        assertEquals( Collections.singletonList( l_rules.get( 1 ) ), l_index.candidates( CLiteral.parse( "p(3, R)" ) ) );
+        assertEquals( Collections.singletonList( l_rules.get( 1 ) ), l_index.candidates( CLiteral.parse( "p(bar(1), R)" ) ) );
+        assertEquals( Collections.singletonList( l_rules.get( 1 ) ), l_index.candidates( CLiteral.parse( "p('b', R)" ) ) );
+        assertTrue( l_index.candidates( CLiteral.parse( "r(1, R)" ) ).isEmpty() );
+    }
+
+    /**
+     * test that a variable first argument returns all clauses
+     * and an allocated variable is resolved to its value
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void variable() throws Exception
+    {
+        final List<IRule> l_rules = TestCRuleIndex.rules();
+        final CRuleIndex l_index = TestCRuleIndex.index( l_rules );
+
+        assertEquals( l_rules.subList( 0, 5 ), l_index.candidates( CLiteral.parse( "p(X, R)" ) ) );
+        assertEquals(
+            Arrays.asList( l_rules.get( 1 ), l_rules.get( 2 ) ),
+            l_index.candidates( CLiteral.from( FUNCTOR, new CVariable<>( "X" ).set( 2 ), new CVariable<>( RESULT ) ) )
+        );
+    }
+
+    /**
+     * test that numeric constants are
+     * indexed by their numeric value
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void numeric() throws Exception
+    {
+        final List<IRule> l_rules = TestCRuleIndex.rules();
+        final CRuleIndex l_index = TestCRuleIndex.index( l_rules );
+
+        assertEquals(
+            Arrays.asList( l_rules.get( 0 ), l_rules.get( 1 ) ),
+            l_index.candidates( CLiteral.from( FUNCTOR, CRawTerm.from( 1L ), new CVariable<>( RESULT ) ) )
+        );
+        assertEquals(
+            Arrays.asList( l_rules.get( 1 ), l_rules.get( 2 ) ),
+            l_index.candidates( CLiteral.from( FUNCTOR, CRawTerm.from( 2 ), new CVariable<>( RESULT ) ) )
+        );
+    }
+
+    /**
+     * test the tabling flag and the variable number
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void functor() throws Exception
+    {
+        final List<IRule> l_rules = TestCRuleIndex.rules();
+        final CRuleIndex l_index = TestCRuleIndex.index( l_rules );
+
+        assertTrue( l_index.tabling( CPath.from( "q" ) ) );
+        assertFalse( l_index.tabling( CPath.from( FUNCTOR ) ) );
+        assertFalse( l_index.tabling( CPath.from( "r" ) ) );
+
+        assertEquals( 1, l_index.variables( l_rules.get( 0 ) ) );
+        assertEquals( 2, l_index.variables( l_rules.get( 1 ) ) );
+        assertEquals( 2, l_index.variables( l_rules.get( 3 ) ) );
+    }
+
+
+    /**
+     * parses the clauses
+     *
+     * @return rules in definition order
+     * @throws Exception on parsing error
+     */
+    private static List<IRule> rules() throws Exception
+    {
+        final List<IRule> l_rules = new ArrayList<>( CLAUSES.length );
+        for ( final String l_clause : CLAUSES )
+            l_rules.add(
+                CAgentImage.parse( new ByteArrayInputStream( ( l_clause + PLAN ).getBytes( StandardCharsets.UTF_8 ) ), Collections.emptySet() ).rules().iterator().next()
+            );
+        return l_rules;
+    }
+
+    /**
+     * creates the index of the rules
+     *
+     * @param p_rules rules in definition order
+     * @return index
+     */
+    private static CRuleIndex index( final List<IRule> p_rules )
+    {
+        final Multimap<IPath, IRule> l_rules = LinkedHashMultimap.create();
+        p_rules.forEach( i -> l_rules.put( i.getIdentifier().fqnfunctor(), i ) );
+        return new CRuleIndex( l_rules );
+    }
+
+}
@@ -0,0 +1,218 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.agent.fuzzy.CBoolFuzzy;
+import org.lightjason.agentspeak.agent.metric.CCycleMetric;
+import org.lightjason.agentspeak.agent.metric.ICycleMetric;
+import org.lightjason.agentspeak.agent.unify.CUnifier;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.configuration.CAgentOptions;
+import org.lightjason.agentspeak.configuration.CDefaultAgentConfiguration;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.grammar.CAgentImage;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.score.IAggregation;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * test for the tabling of rule answers
+ */
+public final class TestCRuleTable
+{
+    /**
+     * agent script
+     */
+    private static final String SCRIPT = "@tabling fib(X, R) :- X <= 2; R = 1 :- X > 2; TA = X - 1; TB = X - 2; $fib(TA, A); $fib(TB, B); R = A + B.\n"
+                                         + "slowfib(X, R) :- X <= 2; R = 1 :- X > 2; TA = X - 1; TB = X - 2; $slowfib(TA, A); $slowfib(TB, B); R = A + B.\n"
+                                         + "tablingcount(R) :- R = 'tabling'.\n"
+                                         + "+!hit <- $fib(10, F); $fib(10, G); +result(F, G).\n"
+                                         + "+!belief <- $fib(5, F); +other(1); $fib(5, G); +result(F, G).\n"
+                                         + "+!table <- $fib(10, F).\n"
+                                         + "+!untabled <- $slowfib(10, F); +result(F, F).\n"
+                                         + "+!atom <- $tablingcount(T); +tabling(T).\n";
+
+    /**
+     * test that each call pattern is executed once
+     * and all other calls are table hits
+     *
+     * @throws Exception on agent execution
+     */
+    @Test
+    public final void hit() throws Exception
+    {
+        final ICycleMetric l_metric = new CCycleMetric();
+        final IAgent<?> l_agent = TestCRuleTable.run( "hit", l_metric );
+
+        assertEquals( Arrays.asList( 55.0, 55.0 ), TestCRuleTable.result( l_agent ) );
+        assertEquals( 10, l_metric.counter( ICycleMetric.ECounter.TABLEMISS ) );
+        assertEquals( 8, l_metric.counter( ICycleMetric.ECounter.TABLEHIT ) );
+    }
+
+    /**
+     * test that rules without tabling annotation
+     * are not stored within the table
+     *
+     * @throws Exception on agent execution
+     */
+    @Test
+    public final void untabled() throws Exception
+    {
+        final ICycleMetric l_metric = new CCycleMetric();
+        final IAgent<?> l_agent = TestCRuleTable.run( "untabled", l_metric );
+
+        assertEquals( Arrays.asList( 55.0, 55.0 ), TestCRuleTable.result( l_agent ) );
+        assertEquals( 0, l_metric.counter( ICycleMetric.ECounter.TABLEMISS ) );
+        assertEquals( 0, l_metric.counter( ICycleMetric.ECounter.TABLEHIT ) );
+        assertEquals( 0, l_agent.ruletable().size() );
+    }
+
+    /**
+     * test that the tabling keyword is
+     * part of atoms and not an annotation
+     *
+     * @throws Exception on agent execution
+     */
+    @Test
+    public final void atom() throws Exception
+    {
+        final ICycleMetric l_metric = new CCycleMetric();
+        final IAgent<?> l_agent = TestCRuleTable.run( "atom", l_metric );
+
+        assertEquals(
+            Collections.singletonList( "tabling" ),
+            l_agent.beliefbase().stream( CPath.from( "tabling" ) ).map( i -> i.orderedvaluelist().get( 0 ).<String>raw() ).collect( Collectors.toList() )
+        );
+        assertEquals( 0, l_metric.counter( ICycleMetric.ECounter.TABLEMISS ) );
+    }
+
+    /**
+     * test that a belief modification invalidates the table
+     *
+     * @throws Exception on agent execution
+     */
+    @Test
+    public final void belief() throws Exception
+    {
+        final ICycleMetric l_metric = new CCycleMetric();
+        final IAgent<?> l_agent = TestCRuleTable.run( "belief", l_metric );
+
+        assertEquals( Arrays.asList( 5.0, 5.0 ), TestCRuleTable.result( l_agent ) );
+        assertEquals( 10, l_metric.counter( ICycleMetric.ECounter.TABLEMISS ) );
+        assertEquals( 4, l_metric.counter( ICycleMetric.ECounter.TABLEHIT ) );
+    }
+
+    /**
+     * test that the table is cleared on each cycle
+     *
+     * @throws Exception on agent execution
+     */
+    @Test
+    public final void cycle() throws Exception
+    {
+        final ICycleMetric l_metric = new CCycleMetric();
+        final IAgent<?> l_agent = TestCRuleTable.run( "table", l_metric );
+
+        // the goal runs in the first cycle and the table is cleared at the begin of the second cycle
+        assertEquals( 0, l_agent.ruletable().size() );
+
+        l_agent.trigger( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "table" ) ) );
+        l_agent.call();
+        assertEquals( 10, l_agent.ruletable().size() );
+        assertEquals( 20, l_metric.counter( ICycleMetric.ECounter.TABLEMISS ) );
+    }
+
+
+    /**
+     * runs a goal on an agent
+     *
+     * @param p_goal goal name
+     * @param p_metric cycle metric
+     * @return agent
+     * @throws Exception on agent execution
+     */
+    private static IAgent<?> run( final String p_goal, final ICycleMetric p_metric ) throws Exception
+    {
+        final CAgentImage l_image = CAgentImage.parse( new ByteArrayInputStream( SCRIPT.getBytes( StandardCharsets.UTF_8 ) ), Collections.emptySet() );
+        final IAgent<?> l_agent = new CAgent(
+            new CDefaultAgentConfiguration<>(
+                new CBoolFuzzy<>(), Collections.emptyList(), l_image.plans(), l_image.rules(),
+                null, new CUnifier(), IAggregation.EMPTY, IVariableBuilder.EMPTY,
+                new CAgentOptions<CAgent>().metric( p_metric )
+            )
+        );
+
+        l_agent.trigger( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( p_goal ) ) );
+        l_agent.call();
+        l_agent.call();
+        return l_agent;
+    }
+
+    /**
+     * returns the values of the result belief
+     *
+     * @param p_agent agent
+     * @return values
+     */
+    private static List<Number> result( final IAgent<?> p_agent )
+    {
+        return p_agent.beliefbase()
+                      .stream( CPath.from( "result" ) )
+                      .findFirst()
+                      .map( i -> i.orderedvaluelist().stream().map( j -> j.<Number>raw() ).collect( Collectors.toList() ) )
+                      .orElse( Collections.emptyList() );
+    }
+
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<CAgent>
+    {
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( final IAgentConfiguration<CAgent> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+
+/**
+ * test of the structural equality of literals, raw terms and trigger,
+ * equal hash values must not be enough for equality
+ */
+public final class TestCStructuralEquality
+{
+    /**
+     * first functor, which has the same string hash as the second
+     */
+    private static final String FIRST = "Aa";
+    /**
+     * second functor, which has the same string hash as the first
+     */
+    private static final String SECOND = "BB";
+    /**
+     * functor of the value tests
+     */
+    private static final String FUNCTOR = "foo";
+
+    /**
+     * test literals with equal hash and different values
+     */
+    @Test
+    public final void literalvalues()
+    {
+        final ILiteral l_first = CLiteral.from( FUNCTOR, CRawTerm.from( 2 ), CRawTerm.from( 0 ) );
+        final ILiteral l_second = CLiteral.from( FUNCTOR, CRawTerm.from( 0 ), CRawTerm.from( 1 ) );
+
+        assertEquals( l_first.hashCode(), l_second.hashCode() );
+        assertNotEquals( l_first, l_second );
+        assertEquals( 2, new HashSet<>( Arrays.asList( l_first, l_second ) ).size() );
+    }
+
+    /**
+     * test literals with equal hash and different functor
+     */
+    @Test
+    public final void literalfunctor()
+    {
+        final ILiteral l_first = CLiteral.from( FIRST, CRawTerm.from( 1 ) );
+        final ILiteral l_second = CLiteral.from( SECOND, CRawTerm.from( 1 ) );
+
+        assertEquals( l_first.hashCode(), l_second.hashCode() );
+        assertNotEquals( l_first, l_second );
+    }
+
+    /**
+     * test equal and different literal structures
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void literalstructure() throws Exception
+    {
+        assertEquals( CLiteral.parse( "foo(1, bar(2))[ann(3)]" ), CLiteral.parse( "foo(1, bar(2))[ann(3)]" ) );
+        assertEquals( CLiteral.parse( "foo(1, bar(2))[ann(3)]" ).hashCode(), CLiteral.parse( "foo(1, bar(2))[ann(3)]" ).hashCode() );
+
+        assertNotEquals( CLiteral.parse( "foo(1, 2)" ), CLiteral.parse( "foo(2, 1)" ) );
+        assertNotEquals( CLiteral.parse( "foo(1)" ), CLiteral.parse( "~foo(1)" ) );
+        assertNotEquals( CLiteral.parse( "foo(1)[a]" ), CLiteral.parse( "foo(1)[b]" ) );
+        assertNotEquals( CLiteral.parse( "foo(1)" ), CLiteral.parse( "foo(1, 1)" ) );
+    }
+
+    /**
+     * test raw terms with equal hash
+     */
+    @Test
+    public final void rawterm()
+    {
+        assertEquals( CRawTerm.from( FIRST ).hashCode(), CRawTerm.from( SECOND ).hashCode() );
+        assertNotEquals( CRawTerm.from( FIRST ), CRawTerm.from( SECOND ) );
+
+        assertEquals( CRawTerm.from( FIRST ), CRawTerm.from( FIRST ) );
+        assertEquals( CRawTerm.from( 1 ), CRawTerm.from( 1L ) );
+        assertEquals( CRawTerm.from( 1 ).hashCode(), CRawTerm.from( 1L ).hashCode() );
+    }
+
+    /**
+     * test trigger equality, which is defined
+     * on type, functor and number of values
+     */
+    @Test
+    public final void trigger()
+    {
+        final ITrigger l_trigger = CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( FUNCTOR, CRawTerm.from( 1 ) ) );
+
+        assertEquals( l_trigger, CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( FUNCTOR, CRawTerm.from( 2 ) ) ) );
+        assertNotEquals( l_trigger, CTrigger.from( ITrigger.EType.DELETEGOAL, CLiteral.from( FUNCTOR, CRawTerm.from( 1 ) ) ) );
+        assertNotEquals( l_trigger, CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( FUNCTOR, CRawTerm.from( 1 ), CRawTerm.from( 2 ) ) ) );
+
+        final ITrigger l_first = CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( FIRST, CRawTerm.from( 1 ) ) );
+        final ITrigger l_second = CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( SECOND, CRawTerm.from( 1 ) ) );
+        assertEquals( l_first.hashCode(), l_second.hashCode() );
+        assertNotEquals( l_first, l_second );
+        assertEquals( 2, new HashSet<>( Arrays.asList( l_first, l_second ) ).size() );
+    }
+
+    /**
+     * test paths with equal hash
+     */
+    @Test
+    public final void path()
+    {
+        final IPath l_first = CPath.from( "a/b" );
+        final IPath l_second = CPath.from( "b/a" );
+
+        assertEquals( l_first.hashCode(), l_second.hashCode() );
+        assertNotEquals( l_first, l_second );
+        assertEquals( l_first, CPath.createPath( "a", "b" ) );
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.common.CPath;
+
+import java.util.ArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+
+/**
+ * test of the term pool
+ */
+public final class TestCTermPool
+{
+    /**
+     * ground literal
+     */
+    private static final String GROUND = "position(3, 4)[time(5)]";
+
+    /**
+     * test that equal ground literals and
+     * immutable raw terms are interned
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void ground() throws Exception
+    {
+        final ITermPool l_pool = new CTermPool();
+        final ILiteral l_literal = l_pool.intern( CLiteral.parse( GROUND ) );
+
+        assertSame( l_literal, l_pool.intern( CLiteral.parse( GROUND ) ) );
+        assertNotSame( l_literal, l_pool.intern( CLiteral.parse( "position(4, 3)[time(5)]" ) ) );
+        assertNotSame( l_literal, l_pool.intern( CLiteral.parse( "~position(3, 4)[time(5)]" ) ) );
+
+        final ITerm l_raw = l_pool.intern( CRawTerm.from( "text" ) );
+        assertSame( l_raw, l_pool.intern( CRawTerm.from( "text" ) ) );
+        assertEquals( 4, l_pool.size() );
+    }
+
+    /**
+     * test that non-ground literals and
+     * mutable raw terms are not interned
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void nonground() throws Exception
+    {
+        final ITermPool l_pool = new CTermPool();
+
+        final ILiteral l_variable = CLiteral.parse( "position(X, 4)" );
+        assertSame( l_variable, l_pool.intern( l_variable ) );
+        assertNotSame( l_pool.intern( CLiteral.parse( "position(X, 4)" ) ), l_pool.intern( CLiteral.parse( "position(X, 4)" ) ) );
+
+        final ILiteral l_annotation = CLiteral.parse( "position(3, 4)[time(T)]" );
+        assertSame( l_annotation, l_pool.intern( l_annotation ) );
+
+        final ITerm l_mutable = CRawTerm.from( new ArrayList<>() );
+        assertSame( l_mutable, l_pool.intern( l_mutable ) );
+        assertNotSame( l_mutable, l_pool.intern( CRawTerm.from( new ArrayList<>() ) ) );
+
+        assertEquals( 0, l_pool.size() );
+    }
+
+    /**
+     * test that literals, which are created from a
+     * pooled literal, are interned on creation
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void derived() throws Exception
+    {
+        final ITermPool l_pool = new CTermPool();
+        final ILiteral l_literal = l_pool.intern( CLiteral.parse( GROUND ) );
+
+        assertSame( l_literal, l_literal.shallowcopy() );
+        assertSame( l_literal.shallowcopy( CPath.from( "view" ) ), l_literal.shallowcopy( CPath.from( "view" ) ) );
+        assertSame( l_literal.shallowcopysuffix(), l_pool.intern( CLiteral.parse( GROUND ) ).shallowcopysuffix() );
+        assertNotSame( CLiteral.parse( GROUND ).shallowcopy(), CLiteral.parse( GROUND ).shallowcopy() );
+    }
+
+    /**
+     * test that numeric values of a different type are
+     * not interned into one instance, but are equal
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void numerictype() throws Exception
+    {
+        final ITermPool l_pool = new CTermPool();
+        final ILiteral l_integer = l_pool.intern( CLiteral.from( "value", CRawTerm.from( 1 ) ) );
+        final ILiteral l_long = l_pool.intern( CLiteral.from( "value", CRawTerm.from( 1L ) ) );
+
+        assertNotSame( l_integer, l_long );
+        assertEquals( l_integer, l_long );
+        assertEquals( 2, l_pool.size() );
+    }
+
+    /**
+     * test that terms are removed from the
+     * pool if they are not referenced anymore
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void expunge() throws Exception
+    {
+        final ITermPool l_pool = new CTermPool();
+        IntStream.range( 0, 100 ).forEach( i -> l_pool.intern( CLiteral.from( "weak", CRawTerm.from( i ) ) ) );
+
+        for ( int i = 0; ( i < 100 ) && ( l_pool.size() > 0 ); i++ )
+        {
+            System.gc();
+            Thread.sleep( 10 );
+        }
+
+        assertEquals( 0, l_pool.size() );
+
+        final ILiteral l_literal = l_pool.intern( CLiteral.parse( GROUND ) );
+        assertSame( l_literal, l_pool.intern( CLiteral.parse( GROUND ) ) );
+        assertEquals( 1, l_pool.size() );
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTriggerInbox;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test of the trigger inbox
+ */
+public final class TestCTriggerInbox
+{
+    /**
+     * number of producer threads
+     */
+    private static final int PRODUCER = 4;
+    /**
+     * number of trigger of each producer
+     */
+    private static final int TRIGGER = 2500;
+
+    /**
+     * test that equal trigger are removed on draining, the
+     * first pushed trigger is kept in insertion order
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void unique() throws Exception
+    {
+        final ITrigger l_first = TestCTriggerInbox.trigger( ITrigger.EType.ADDGOAL, "foo(1)" );
+        final ITrigger l_delete = TestCTriggerInbox.trigger( ITrigger.EType.DELETEGOAL, "foo(1)" );
+        final ITrigger l_other = TestCTriggerInbox.trigger( ITrigger.EType.ADDGOAL, "foo(2)" );
+
+        final CTriggerInbox l_inbox = new CTriggerInbox()
+            .push( l_first )
+            .push( TestCTriggerInbox.trigger( ITrigger.EType.ADDGOAL, "foo(1)" ) )
+            .push( l_delete )
+            .push( l_other )
+            .push( TestCTriggerInbox.trigger( ITrigger.EType.ADDGOAL, "foo(1)" ) );
+
+        assertEquals( Arrays.asList( l_first, l_delete, l_other ), new ArrayList<>( l_inbox.snapshot() ) );
+        assertFalse( l_inbox.isEmpty() );
+
+        final List<ITrigger> l_drained = new ArrayList<>( l_inbox.drain() );
+        assertEquals( Arrays.asList( l_first, l_delete, l_other ), l_drained );
+        assertSame( l_first, l_drained.get( 0 ) );
+        assertTrue( l_inbox.isEmpty() );
+        assertTrue( l_inbox.drain().isEmpty() );
+    }
+
+    /**
+     * test that trigger are not removed
+     * as duplicate over different batches
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void batch() throws Exception
+    {
+        final CTriggerInbox l_inbox = new CTriggerInbox();
+
+        l_inbox.push( TestCTriggerInbox.trigger( ITrigger.EType.ADDGOAL, "bar" ) );
+        assertEquals( 1, l_inbox.drain().size() );
+
+        l_inbox.push( TestCTriggerInbox.trigger( ITrigger.EType.ADDGOAL, "bar" ) );
+        assertEquals( 1, l_inbox.drain().size() );
+
+        l_inbox.push( TestCTriggerInbox.trigger( ITrigger.EType.ADDGOAL, "bar" ) ).clear();
+        assertTrue( l_inbox.isEmpty() );
+    }
+
+    /**
+     * test that no trigger is lost with concurrent producers and a
+     * draining consumer, and the order of each producer is kept
+     *
+     * @throws Exception on thread error
+     */
+    @Test
+    public final void concurrent() throws Exception
+    {
+        final CTriggerInbox l_inbox = new CTriggerInbox();
+        final ExecutorService l_executor = Executors.newFixedThreadPool( PRODUCER );
+        final CountDownLatch l_start = new CountDownLatch( 1 );
+        final CountDownLatch l_finish = new CountDownLatch( PRODUCER );
+
+        IntStream.range( 0, PRODUCER ).forEach( i -> l_executor.execute( () -> {
+            try
+            {
+                l_start.await();
+                IntStream.range( 0, TRIGGER ).forEach( j -> l_inbox.push(
+                    CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "producer", CRawTerm.from( i ), CRawTerm.from( j ) ) )
+                ) );
+            }
+            catch ( final InterruptedException l_exception )
+            {
+                Thread.currentThread().interrupt();
+            }
+            finally
+            {
+                l_finish.countDown();
+            }
+        } ) );
+
+        final List<ITrigger> l_result = new ArrayList<>();
+        l_start.countDown();
+        while ( !l_finish.await( 1, TimeUnit.MILLISECONDS ) )
+            l_result.addAll( l_inbox.drain() );
+        l_result.addAll( l_inbox.drain() );
+        l_executor.shutdown();
+
+        assertEquals( PRODUCER * TRIGGER, l_result.size() );
+        IntStream.range( 0, PRODUCER ).forEach( i -> assertEquals(
+            IntStream.range( 0, TRIGGER ).boxed().collect( Collectors.toList() ),
+            l_result.stream()
+                    .map( ITrigger::getLiteral )
+                    .filter( j -> j.orderedvalues().findFirst().get().<Number>raw().intValue() == i )
+                    .map( j -> j.orderedvalues().skip( 1 ).findFirst().get().<Number>raw().intValue() )
+                    .collect( Collectors.toList() )
+        ) );
+    }
+
+    /**
+     * creates a trigger
+     *
+     * @param p_type trigger type
+     * @param p_literal literal string
+     * @return trigger
+     * @throws Exception on parsing error
+     */
+    private static ITrigger trigger( final ITrigger.EType p_type, final String p_literal ) throws Exception
+    {
+        return CTrigger.from( p_type, CLiteral.parse( p_literal ) );
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTriggerMultimap;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * test for the trigger index
+ */
+public final class TestCTriggerIndex
+{
+
+    /**
+     * test structural matching of plan triggers
+     *
+     * @throws Exception on parsing exception
+     */
+    @Test
+    public final void match() throws Exception
+    {
+        final CTriggerMultimap<String> l_plans = new CTriggerMultimap<>();
+        l_plans.put( TestCTriggerIndex.trigger( "foo(1, X)" ), "a" );
+        l_plans.put( TestCTriggerIndex.trigger( "foo(2, X)" ), "b" );
+        l_plans.put( TestCTriggerIndex.trigger( "foo(Y, bar(3))" ), "c" );
+        l_plans.put( TestCTriggerIndex.trigger( "foo(Y, bar())" ), "d" );
+
+        assertEquals( new HashSet<>( Arrays.asList( "a" ) ), l_plans.match( TestCTriggerIndex.trigger( "foo(1, 5)" ) ) );
+        assertEquals( new HashSet<>( Arrays.asList( "b", "c", "d" ) ), l_plans.match( TestCTriggerIndex.trigger( "foo(2, bar(3))" ) ) );
+        assertEquals( new HashSet<>( Arrays.asList( "d" ) ), l_plans.match( TestCTriggerIndex.trigger( "foo(7, bar(4))" ) ) );
+        assertEquals( new HashSet<>( Arrays.asList( "c", "d" ) ), l_plans.match( TestCTriggerIndex.trigger( "foo(7, bar())" ) ) );
+        assertEquals( 0, l_plans.match( TestCTriggerIndex.trigger( "foo(1)" ) ).size() );
+    }
+
+    /**
+     * test removing of plan triggers
+     *
+     * @throws Exception on parsing exception
+     */
+    @Test
+    public final void remove() throws Exception
+    {
+        final CTriggerMultimap<String> l_plans = new CTriggerMultimap<>();
+        l_plans.put( TestCTriggerIndex.trigger( "foo(1, X)" ), "a" );
+        l_plans.put( TestCTriggerIndex.trigger( "foo(Y, 2)" ), "b" );
+
+        l_plans.remove( TestCTriggerIndex.trigger( "foo(Y, 2)" ), "b" );
+        assertEquals( new HashSet<>( Arrays.asList( "a" ) ), l_plans.match( TestCTriggerIndex.trigger( "foo(1, 2)" ) ) );
+
+        // equal trigger removes all plans of the trigger
+        l_plans.removeAll( TestCTriggerIndex.trigger( "foo(3, 3)" ) );
+        assertEquals( 0, l_plans.match( TestCTriggerIndex.trigger( "foo(1, 2)" ) ).size() );
+        assertEquals( 0, l_plans.size() );
+    }
+
+    /**
+     * creates an add-goal trigger
+     *
+     * @param p_literal literal string
+     * @return trigger
+     * @throws Exception on parsing exception
+     */
+    private static ITrigger trigger( final String p_literal ) throws Exception
+    {
+        return CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.parse( p_literal ) );
+    }
+
+}
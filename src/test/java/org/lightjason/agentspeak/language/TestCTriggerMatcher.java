@@ -0,0 +1,163 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.unify.CUnifier;
+import org.lightjason.agentspeak.language.execution.action.unify.IUnifier;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTriggerMatcher;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test for the compiled trigger matcher, which
+ * must match equal to the unifier
+ */
+public final class TestCTriggerMatcher
+{
+    /**
+     * plan trigger literal and incoming trigger literal
+     * with the expected match result, the literals of
+     * the values have equal arity, because the trigger
+     * index selects plans on equal value number only
+     */
+    private static final Object[][] TRIGGER = {
+        {"foo / foo", true},
+        {"foo / foo(1)", false},
+        {"foo(X) / foo", false},
+        {"foo(X) / foo(1)", true},
+        {"foo(X) / foo('text')", true},
+        {"foo(X) / foo(bar(1, 2))", true},
+        {"foo(X) / foo([1, 2])", true},
+        {"foo(X) / foo(1)[bar]", false},
+        {"foo(X, 3) / foo(1, 3)", true},
+        {"foo(X, 3) / foo(1, 4)", false},
+        {"foo(bar(X), Y) / foo(bar(5), 'a')", true},
+        {"foo(bar(X), Y) / foo(baz(5), 'a')", false},
+        {"foo(bar(X)) / foo(bar)", false},
+        {"foo(sub/bar(X)) / foo(sub/bar(1))", true},
+        {"foo(sub/bar(X)) / foo(other/bar(1))", false},
+        {"foo(X)[bar] / foo(1)[bar]", true},
+        {"foo(X)[bar(Y)] / foo(1)[bar(2)]", true},
+        {"foo(X)[bar] / foo(1)", false}
+    };
+
+    /**
+     * test that the matcher and the unifier
+     * create equal results
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void unifier() throws Exception
+    {
+        final IUnifier l_unifier = new CUnifier();
+
+        for ( final Object[] l_pair : TRIGGER )
+        {
+            final String[] l_literal = ( (String) l_pair[0] ).split( " / " );
+            final ITrigger l_target = CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.parse( l_literal[0] ) );
+            final ITrigger l_source = CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.parse( l_literal[1] ) );
+            final String l_message = (String) l_pair[0];
+
+            final Pair<Boolean, Set<IVariable<?>>> l_matcher = new CTriggerMatcher( l_target ).match( l_unifier, l_source );
+            final Pair<Boolean, Set<IVariable<?>>> l_unify = CCommon.unifytrigger( l_unifier, l_source, l_target );
+
+            assertEquals( l_message, l_pair[1], l_unify.getLeft() );
+            assertEquals( l_message, l_unify.getLeft(), l_matcher.getLeft() );
+            assertEquals( l_message, TestCTriggerMatcher.values( l_unify.getRight() ), TestCTriggerMatcher.values( l_matcher.getRight() ) );
+        }
+    }
+
+    /**
+     * test that trigger with different value number are not
+     * matched, the hash-based unifier zips the values, so it
+     * is not used as reference, the trigger index never
+     * selects these plans
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void arity() throws Exception
+    {
+        final ITrigger l_target = CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.parse( "foo(X)" ) );
+        final ITrigger l_source = CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.parse( "foo(1, 2)" ) );
+
+        assertNotEquals( l_target, l_source );
+        assertFalse( new CTriggerMatcher( l_target ).match( new CUnifier(), l_source ).getLeft() );
+        assertFalse( new CTriggerMatcher( l_source ).match( new CUnifier(), l_target ).getLeft() );
+    }
+
+    /**
+     * test that the plan trigger is not
+     * modified by the matching
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void unmodified() throws Exception
+    {
+        final ITrigger l_target = CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.parse( "foo(X, bar(Y))" ) );
+        final String l_literal = l_target.getLiteral().toString();
+        final CTriggerMatcher l_matcher = new CTriggerMatcher( l_target );
+
+        final Pair<Boolean, Set<IVariable<?>>> l_first = l_matcher.match(
+            new CUnifier(), CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.parse( "foo(1, bar(2))" ) )
+        );
+        final Pair<Boolean, Set<IVariable<?>>> l_second = l_matcher.match(
+            new CUnifier(), CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.parse( "foo(3, bar(4))" ) )
+        );
+
+        assertTrue( l_first.getLeft() );
+        assertTrue( l_second.getLeft() );
+        assertEquals( 2, l_matcher.variables() );
+        assertNotEquals( TestCTriggerMatcher.values( l_first.getRight() ), TestCTriggerMatcher.values( l_second.getRight() ) );
+        assertEquals( l_literal, l_target.getLiteral().toString() );
+    }
+
+
+    /**
+     * maps the variables to their values
+     *
+     * @param p_variables variables
+     * @return map with variable name and value
+     */
+    private static Map<String, Object> values( final Set<IVariable<?>> p_variables )
+    {
+        return p_variables.stream().collect( Collectors.toMap( i -> i.fqnfunctor().toString(), i -> i.raw().toString() ) );
+    }
+
+}